@@ -0,0 +1,17 @@
+package com.linkedin.datahub.graphql;
+
+import com.linkedin.metadata.query.RelationshipDirection;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+
+@Data
+@AllArgsConstructor
+public class EntityRelationshipsKey {
+  private String urn;
+  private List<String> types;
+  private RelationshipDirection direction;
+  private Integer start; // optional.
+  private Integer count; // optional.
+}
@@ -19,6 +19,7 @@ import com.linkedin.datahub.graphql.generated.Datasource;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.EntityRelationship;
 import com.linkedin.datahub.graphql.generated.EntityRelationshipLegacy;
+import com.linkedin.datahub.graphql.generated.EntityRelationshipsResult;
 import com.linkedin.datahub.graphql.generated.MLModelProperties;
 import com.linkedin.datahub.graphql.generated.RelatedDataset;
 import com.linkedin.datahub.graphql.generated.SearchResult;
@@ -42,11 +43,14 @@ import com.linkedin.datahub.graphql.resolvers.load.AspectResolver;
 import com.linkedin.datahub.graphql.resolvers.load.EntityTypeBatchResolver;
 import com.linkedin.datahub.graphql.resolvers.load.EntityTypeResolver;
 import com.linkedin.datahub.graphql.resolvers.load.LoadableTypeBatchResolver;
+import com.linkedin.datahub.graphql.resolvers.lineage.LineageGraphResolver;
 import com.linkedin.datahub.graphql.resolvers.load.EntityRelationshipsResultResolver;
 import com.linkedin.datahub.graphql.resolvers.load.TimeSeriesAspectResolver;
 import com.linkedin.datahub.graphql.resolvers.load.UsageTypeResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddTagResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.AddTermResolver;
+import com.linkedin.datahub.graphql.resolvers.mutate.BatchUpdateTagsResolver;
+import com.linkedin.datahub.graphql.resolvers.mutate.BatchUpdateTermsResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.MutableTypeResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.RemoveTagResolver;
 import com.linkedin.datahub.graphql.resolvers.mutate.RemoveTermResolver;
@@ -97,6 +101,7 @@ import com.linkedin.datahub.graphql.types.datajob.DataJobType;
 import com.linkedin.datahub.graphql.types.lineage.DataFlowDataJobsRelationshipsType;
 import com.linkedin.datahub.graphql.types.glossary.GlossaryTermType;
 
+import com.linkedin.datahub.graphql.types.relationships.EntityRelationshipsResultType;
 import com.linkedin.datahub.graphql.types.usage.UsageType;
 import com.linkedin.metadata.entity.EntityService;
 import graphql.execution.DataFetcherResult;
@@ -159,6 +164,7 @@ public class GmsGraphQLEngine {
     private final GlossaryTermType glossaryTermType;
     private final AspectType aspectType;
     private final UsageType usageType;
+    private final EntityRelationshipsResultType entityRelationshipsResultType;
     private final AllDatasourceCategories allDatasourceCategories;
 
     /**
@@ -207,10 +213,10 @@ public class GmsGraphQLEngine {
         this.dashboardType = new DashboardType(GmsClientFactory.getEntitiesClient());
         this.dataPlatformType = new DataPlatformType(GmsClientFactory.getEntitiesClient());
         this.downstreamLineageType = new DownstreamLineageType(
-            GmsClientFactory.getLineagesClient()
+            GmsClientFactory.getRelationshipsClient()
         );
         this.upstreamLineageType = new UpstreamLineageType(
-            GmsClientFactory.getLineagesClient()
+            GmsClientFactory.getRelationshipsClient()
         );
         this.sourceRelationshipsType = new SourceRelationshipsType(GmsClientFactory.getRelationshipsClient());
         this.tagType = new TagType(GmsClientFactory.getEntitiesClient());
@@ -227,6 +233,7 @@ public class GmsGraphQLEngine {
         this.glossaryTermType = new GlossaryTermType(GmsClientFactory.getEntitiesClient());
         this.aspectType = new AspectType(GmsClientFactory.getAspectsClient());
         this.usageType = new UsageType(GmsClientFactory.getUsageClient());
+        this.entityRelationshipsResultType = new EntityRelationshipsResultType(GmsClientFactory.getRelationshipsClient());
         this.datasourceCategoryType = new DatasourceCategoryType(GmsClientFactory.getEntitiesClient());
         this.allDatasourceCategories = new AllDatasourceCategories(GmsClientFactory.getEntitiesClient());
 
@@ -314,6 +321,7 @@ public class GmsGraphQLEngine {
             .addDataLoaders(loaderSuppliers(loadableTypes))
             .addDataLoader("Aspect", (context) -> createAspectLoader(context))
             .addDataLoader("UsageQueryResult", (context) -> createUsageLoader(context))
+            .addDataLoader("EntityRelationshipsResult", (context) -> createEntityRelationshipsLoader(context))
             .configureRuntimeWiring(this::configureRuntimeWiring);
     }
 
@@ -394,6 +402,8 @@ public class GmsGraphQLEngine {
                             (env) -> "all")))
             .dataFetcher("listPolicies",
                 new ListPoliciesResolver(GmsClientFactory.getEntitiesClient()))
+            .dataFetcher("lineageGraph", new AuthenticatedResolver<>(
+                    new LineageGraphResolver(GmsClientFactory.getLineagesClient())))
         );
     }
 
@@ -410,6 +420,10 @@ public class GmsGraphQLEngine {
             .dataFetcher("removeTag", new AuthenticatedResolver<>(new RemoveTagResolver(entityService)))
             .dataFetcher("addTerm", new AuthenticatedResolver<>(new AddTermResolver(entityService)))
             .dataFetcher("removeTerm", new AuthenticatedResolver<>(new RemoveTermResolver(entityService)))
+            .dataFetcher("batchAddTags", new AuthenticatedResolver<>(new BatchUpdateTagsResolver(entityService, true)))
+            .dataFetcher("batchRemoveTags", new AuthenticatedResolver<>(new BatchUpdateTagsResolver(entityService, false)))
+            .dataFetcher("batchAddTerms", new AuthenticatedResolver<>(new BatchUpdateTermsResolver(entityService, true)))
+            .dataFetcher("batchRemoveTerms", new AuthenticatedResolver<>(new BatchUpdateTermsResolver(entityService, false)))
             .dataFetcher("createPolicy", new UpsertPolicyResolver(GmsClientFactory.getAspectsClient()))
             .dataFetcher("updatePolicy", new UpsertPolicyResolver(GmsClientFactory.getAspectsClient()))
             .dataFetcher("deletePolicy", new DeletePolicyResolver(GmsClientFactory.getEntitiesClient()))
@@ -601,7 +615,7 @@ public class GmsGraphQLEngine {
     private void configureCorpUserResolvers(final RuntimeWiring.Builder builder) {
         builder.type("CorpUser", typeWiring -> typeWiring
             .dataFetcher("relationships", new AuthenticatedResolver<>(
-                new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                new EntityRelationshipsResultResolver()
             ))
         );
         builder.type("CorpUserInfo", typeWiring -> typeWiring
@@ -618,7 +632,7 @@ public class GmsGraphQLEngine {
     private void configureCorpGroupResolvers(final RuntimeWiring.Builder builder) {
         builder.type("CorpGroup", typeWiring -> typeWiring
             .dataFetcher("relationships", new AuthenticatedResolver<>(
-                new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                new EntityRelationshipsResultResolver()
             ))
         );
         builder.type("CorpGroupInfo", typeWiring -> typeWiring
@@ -640,7 +654,7 @@ public class GmsGraphQLEngine {
     private void configureTagAssociationResolver(final RuntimeWiring.Builder builder) {
         builder.type("Tag", typeWiring -> typeWiring
             .dataFetcher("relationships", new AuthenticatedResolver<>(
-                new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                new EntityRelationshipsResultResolver()
             ))
         );
         builder.type("TagAssociation", typeWiring -> typeWiring
@@ -657,7 +671,7 @@ public class GmsGraphQLEngine {
     private void configureDashboardResolvers(final RuntimeWiring.Builder builder) {
         builder.type("Dashboard", typeWiring -> typeWiring
             .dataFetcher("relationships", new AuthenticatedResolver<>(
-                new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                new EntityRelationshipsResultResolver()
             ))
             .dataFetcher("downstreamLineage", new AuthenticatedResolver<>(
                     new LoadableTypeResolver<>(downstreamLineageType,
@@ -684,7 +698,7 @@ public class GmsGraphQLEngine {
     private void configureChartResolvers(final RuntimeWiring.Builder builder) {
         builder.type("Chart", typeWiring -> typeWiring
             .dataFetcher("relationships", new AuthenticatedResolver<>(
-                new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                new EntityRelationshipsResultResolver()
             ))
             .dataFetcher("downstreamLineage", new AuthenticatedResolver<>(
                     new LoadableTypeResolver<>(downstreamLineageType,
@@ -754,7 +768,7 @@ public class GmsGraphQLEngine {
         builder
             .type("DataJob", typeWiring -> typeWiring
                 .dataFetcher("relationships", new AuthenticatedResolver<>(
-                    new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                    new EntityRelationshipsResultResolver()
                 ))
                 .dataFetcher("dataFlow", new AuthenticatedResolver<>(
                     new LoadableTypeResolver<>(dataFlowType,
@@ -805,7 +819,7 @@ public class GmsGraphQLEngine {
         builder
             .type("MLFeatureTable", typeWiring -> typeWiring
                 .dataFetcher("relationships", new AuthenticatedResolver<>(
-                    new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                    new EntityRelationshipsResultResolver()
                 ))
                 .dataFetcher("platform", new AuthenticatedResolver<>(
                         new LoadableTypeResolver<>(dataPlatformType,
@@ -844,7 +858,7 @@ public class GmsGraphQLEngine {
             )
             .type("MLModel", typeWiring -> typeWiring
                 .dataFetcher("relationships", new AuthenticatedResolver<>(
-                    new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                    new EntityRelationshipsResultResolver()
                 ))
                 .dataFetcher("platform", new AuthenticatedResolver<>(
                         new LoadableTypeResolver<>(dataPlatformType,
@@ -875,7 +889,7 @@ public class GmsGraphQLEngine {
             )
             .type("MLModelGroup", typeWiring -> typeWiring
                 .dataFetcher("relationships", new AuthenticatedResolver<>(
-                    new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                    new EntityRelationshipsResultResolver()
                 ))
                 .dataFetcher("platform", new AuthenticatedResolver<>(
                         new LoadableTypeResolver<>(dataPlatformType,
@@ -895,7 +909,7 @@ public class GmsGraphQLEngine {
     private static void configureGlossaryRelationshipResolvers(final RuntimeWiring.Builder builder) {
         builder.type("GlossaryTerm", typeWiring -> typeWiring
             .dataFetcher("relationships", new AuthenticatedResolver<>(
-                new EntityRelationshipsResultResolver(GmsClientFactory.getRelationshipsClient())
+                new EntityRelationshipsResultResolver()
             ))
         );
     }
@@ -940,4 +954,19 @@ public class GmsGraphQLEngine {
             }
         }), loaderOptions);
     }
+
+    private DataLoader<EntityRelationshipsKey, DataFetcherResult<EntityRelationshipsResult>> createEntityRelationshipsLoader(
+        final QueryContext queryContext) {
+        BatchLoaderContextProvider contextProvider = () -> queryContext;
+        DataLoaderOptions loaderOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
+        return DataLoader.newDataLoader((keys, context) -> CompletableFuture.supplyAsync(() -> {
+            try {
+                _logger.debug(String.format("Batch loading relationships with keys: %s", keys));
+                return entityRelationshipsResultType.batchLoad(keys, context.getContext());
+            } catch (Exception e) {
+                _logger.error(String.format("Failed to load relationships. keys: %s", keys) + " " + e.getMessage());
+                throw new RuntimeException("Failed to retrieve relationships", e);
+            }
+        }), loaderOptions);
+    }
 }
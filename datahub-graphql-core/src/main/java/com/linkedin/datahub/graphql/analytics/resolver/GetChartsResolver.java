@@ -18,6 +18,8 @@ import graphql.schema.DataFetchingEnvironment;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import org.joda.time.DateTime;
 
 
@@ -44,9 +46,10 @@ public final class GetChartsResolver implements DataFetcher<List<AnalyticsChartG
    * TODO: Config Driven Charts Instead of Hardcoded.
    */
   private List<AnalyticsChart> getProductAnalyticsCharts() {
-    final List<AnalyticsChart> charts = new ArrayList<>();
-    final DateTime endDate = DateTime.now();
-    final DateTime startDate = endDate.minusWeeks(1);
+    final List<CompletableFuture<AnalyticsChart>> charts = new ArrayList<>();
+    // The range ends with the current cache window, and starts on a day boundary so that closed days stay cached
+    final DateTime endDate = _analyticsService.getCacheWindowEnd();
+    final DateTime startDate = endDate.minusWeeks(1).withTimeAtStartOfDay();
     final DateRange dateRange =
         new DateRange(String.valueOf(startDate.getMillis()), String.valueOf(endDate.getMillis()));
 
@@ -55,50 +58,61 @@ public final class GetChartsResolver implements DataFetcher<List<AnalyticsChartG
     DateInterval granularity = DateInterval.DAY;
     String eventType = "SearchEvent";
 
-    final List<NamedLine> searchesTimeseries =
-        _analyticsService.getTimeseriesChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, dateRange, granularity,
-            Optional.empty(), ImmutableMap.of("type", ImmutableList.of("SearchEvent")), Optional.empty());
-    charts.add(TimeSeriesChart.builder()
-        .setTitle(title)
-        .setDateRange(dateRange)
-        .setInterval(granularity)
-        .setLines(searchesTimeseries)
-        .build());
+    charts.add(_analyticsService.supplyAsync(() -> {
+      final List<NamedLine> searchesTimeseries =
+          _analyticsService.getTimeseriesChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, dateRange, granularity,
+              Optional.empty(), ImmutableMap.of("type", ImmutableList.of("SearchEvent")), Optional.empty());
+      return TimeSeriesChart.builder()
+          .setTitle(title)
+          .setDateRange(dateRange)
+          .setInterval(granularity)
+          .setLines(searchesTimeseries)
+          .build();
+    }));
 
     // Chart 2: Table Chart
     final String title2 = "Top Search Queries";
     final List<String> columns = ImmutableList.of("Query", "Count");
 
-    final List<Row> topSearchQueries =
-        _analyticsService.getTopNTableChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
-            "query.keyword", ImmutableMap.of("type", ImmutableList.of(eventType)), Optional.empty(), 10);
-    charts.add(TableChart.builder().setTitle(title2).setColumns(columns).setRows(topSearchQueries).build());
+    charts.add(_analyticsService.supplyAsync(() -> {
+      final List<Row> topSearchQueries =
+          _analyticsService.getTopNTableChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
+              "query.keyword", ImmutableMap.of("type", ImmutableList.of(eventType)), Optional.empty(), 10);
+      return TableChart.builder().setTitle(title2).setColumns(columns).setRows(topSearchQueries).build();
+    }));
 
     // Chart 3: Bar Graph Chart
     final String title3 = "Section Views across Entity Types";
-    final List<NamedBar> sectionViewsPerEntityType =
-        _analyticsService.getBarChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
-            ImmutableList.of("entityType.keyword", "section.keyword"),
-            ImmutableMap.of("type", ImmutableList.of("EntitySectionViewEvent")), Optional.empty());
-    charts.add(BarChart.builder().setTitle(title3).setBars(sectionViewsPerEntityType).build());
+    charts.add(_analyticsService.supplyAsync(() -> {
+      final List<NamedBar> sectionViewsPerEntityType =
+          _analyticsService.getBarChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
+              ImmutableList.of("entityType.keyword", "section.keyword"),
+              ImmutableMap.of("type", ImmutableList.of("EntitySectionViewEvent")), Optional.empty());
+      return BarChart.builder().setTitle(title3).setBars(sectionViewsPerEntityType).build();
+    }));
 
     // Chart 4: Bar Graph Chart
     final String title4 = "Actions by Entity Type";
-    final List<NamedBar> eventsByEventType =
-        _analyticsService.getBarChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
-            ImmutableList.of("entityType.keyword", "actionType.keyword"),
-            ImmutableMap.of("type", ImmutableList.of("EntityActionEvent")), Optional.empty());
-    charts.add(BarChart.builder().setTitle(title4).setBars(eventsByEventType).build());
+    charts.add(_analyticsService.supplyAsync(() -> {
+      final List<NamedBar> eventsByEventType =
+          _analyticsService.getBarChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
+              ImmutableList.of("entityType.keyword", "actionType.keyword"),
+              ImmutableMap.of("type", ImmutableList.of("EntityActionEvent")), Optional.empty());
+      return BarChart.builder().setTitle(title4).setBars(eventsByEventType).build();
+    }));
 
     // Chart 5: Table Chart
     final String title5 = "Top Viewed Dataset";
     final List<String> columns5 = ImmutableList.of("Dataset", "#Views");
 
-    final List<Row> topViewedDatasets =
-        _analyticsService.getTopNTableChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
-            "dataset_name.keyword", ImmutableMap.of("type", ImmutableList.of("EntityViewEvent")), Optional.empty(), 10);
-    charts.add(TableChart.builder().setTitle(title5).setColumns(columns5).setRows(topViewedDatasets).build());
-    
-    return charts;
+    charts.add(_analyticsService.supplyAsync(() -> {
+      final List<Row> topViewedDatasets =
+          _analyticsService.getTopNTableChart(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
+              "dataset_name.keyword", ImmutableMap.of("type", ImmutableList.of("EntityViewEvent")), Optional.empty(),
+              10);
+      return TableChart.builder().setTitle(title5).setColumns(columns5).setRows(topViewedDatasets).build();
+    }));
+
+    return charts.stream().map(CompletableFuture::join).collect(Collectors.toList());
   }
 }
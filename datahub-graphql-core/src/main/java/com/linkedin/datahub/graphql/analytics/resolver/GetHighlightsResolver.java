@@ -10,6 +10,8 @@ import graphql.schema.DataFetchingEnvironment;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import org.joda.time.DateTime;
 
 
@@ -33,9 +35,9 @@ public final class GetHighlightsResolver implements DataFetcher<List<Highlight>>
    * TODO: Config Driven Charts Instead of Hardcoded.
    */
   private List<Highlight> getHighlights() {
-    final List<Highlight> highlights = new ArrayList<>();
+    final List<CompletableFuture<Highlight>> highlights = new ArrayList<>();
 
-    DateTime endDate = DateTime.now();
+    DateTime endDate = _analyticsService.getCacheWindowEnd();
     DateTime startDate = endDate.minusWeeks(1);
     DateTime lastWeekStartDate = startDate.minusWeeks(1);
     DateRange dateRange = new DateRange(String.valueOf(startDate.getMillis()), String.valueOf(endDate.getMillis()));
@@ -46,27 +48,30 @@ public final class GetHighlightsResolver implements DataFetcher<List<Highlight>>
     String title = "Weekly Active Users";
     String eventType = "SearchEvent";
 
-    int weeklyActiveUsers =
-        _analyticsService.getHighlights(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
-            ImmutableMap.of(), ImmutableMap.of(), Optional.of("browserId"));
+    final CompletableFuture<Integer> weeklyActiveUsersFuture = _analyticsService.supplyAsync(
+        () -> _analyticsService.getHighlights(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRange),
+            ImmutableMap.of(), ImmutableMap.of(), Optional.of("browserId")));
 
-    int weeklyActiveUsersLastWeek =
-        _analyticsService.getHighlights(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX, Optional.of(dateRangeLastWeek),
-            ImmutableMap.of(), ImmutableMap.of(), Optional.of("browserId"));
+    final CompletableFuture<Integer> weeklyActiveUsersLastWeekFuture = _analyticsService.supplyAsync(
+        () -> _analyticsService.getHighlights(AnalyticsService.DATAHUB_USAGE_EVENT_INDEX,
+            Optional.of(dateRangeLastWeek), ImmutableMap.of(), ImmutableMap.of(), Optional.of("browserId")));
 
-    String bodyText = "";
-    if (weeklyActiveUsersLastWeek > 0) {
-      Double percentChange =
-          (Double.valueOf(weeklyActiveUsers) - Double.valueOf(weeklyActiveUsersLastWeek)) / Double.valueOf(
-              weeklyActiveUsersLastWeek) * 100;
+    highlights.add(weeklyActiveUsersFuture.thenCombine(weeklyActiveUsersLastWeekFuture,
+        (weeklyActiveUsers, weeklyActiveUsersLastWeek) -> {
+          String bodyText = "";
+          if (weeklyActiveUsersLastWeek > 0) {
+            Double percentChange =
+                (Double.valueOf(weeklyActiveUsers) - Double.valueOf(weeklyActiveUsersLastWeek)) / Double.valueOf(
+                    weeklyActiveUsersLastWeek) * 100;
 
-      String directionChange = percentChange > 0 ? "increase" : "decrease";
+            String directionChange = percentChange > 0 ? "increase" : "decrease";
 
-      bodyText = Double.isInfinite(percentChange) ? ""
-          : String.format("%.2f%% %s from last week", percentChange, directionChange);
-    }
+            bodyText = Double.isInfinite(percentChange) ? ""
+                : String.format("%.2f%% %s from last week", percentChange, directionChange);
+          }
 
-    highlights.add(Highlight.builder().setTitle(title).setValue(weeklyActiveUsers).setBody(bodyText).build());
+          return Highlight.builder().setTitle(title).setValue(weeklyActiveUsers).setBody(bodyText).build();
+        }));
 
     // Entity metdata statistics
     highlights.add(getEntityMetadataStats("Datasets", AnalyticsService.DATASET_INDEX));
@@ -74,20 +79,24 @@ public final class GetHighlightsResolver implements DataFetcher<List<Highlight>>
     highlights.add(getEntityMetadataStats("Charts", AnalyticsService.CHART_INDEX));
     highlights.add(getEntityMetadataStats("Pipelines", AnalyticsService.DATA_FLOW_INDEX));
     highlights.add(getEntityMetadataStats("Tasks", AnalyticsService.DATA_JOB_INDEX));
-    return highlights;
+    return highlights.stream().map(CompletableFuture::join).collect(Collectors.toList());
   }
 
-  private Highlight getEntityMetadataStats(String title, String index) {
-    int numEntities = _analyticsService.getHighlights(index, Optional.empty(), ImmutableMap.of(),
-        ImmutableMap.of("removed", ImmutableList.of("true")), Optional.empty());
-    int numEntitiesWithOwners =
-        _analyticsService.getHighlights(index, Optional.empty(), ImmutableMap.of("hasOwners", ImmutableList.of("true")),
-            ImmutableMap.of("removed", ImmutableList.of("true")), Optional.empty());
-    String bodyText = "";
-    if (numEntities > 0) {
-      double percentChange = 100.0 * numEntitiesWithOwners / numEntities;
-      bodyText = String.format("%.2f%% have owners assigned!", percentChange);
-    }
-    return Highlight.builder().setTitle(title).setValue(numEntities).setBody(bodyText).build();
+  private CompletableFuture<Highlight> getEntityMetadataStats(String title, String index) {
+    final CompletableFuture<Integer> numEntitiesFuture = _analyticsService.supplyAsync(
+        () -> _analyticsService.getHighlights(index, Optional.empty(), ImmutableMap.of(),
+            ImmutableMap.of("removed", ImmutableList.of("true")), Optional.empty()));
+    final CompletableFuture<Integer> numEntitiesWithOwnersFuture = _analyticsService.supplyAsync(
+        () -> _analyticsService.getHighlights(index, Optional.empty(),
+            ImmutableMap.of("hasOwners", ImmutableList.of("true")), ImmutableMap.of("removed", ImmutableList.of("true")),
+            Optional.empty()));
+    return numEntitiesFuture.thenCombine(numEntitiesWithOwnersFuture, (numEntities, numEntitiesWithOwners) -> {
+      String bodyText = "";
+      if (numEntities > 0) {
+        double percentChange = 100.0 * numEntitiesWithOwners / numEntities;
+        bodyText = String.format("%.2f%% have owners assigned!", percentChange);
+      }
+      return Highlight.builder().setTitle(title).setValue(numEntities).setBody(bodyText).build();
+    });
   }
 }
@@ -1,7 +1,14 @@
 package com.linkedin.datahub.graphql.analytics.service;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.linkedin.datahub.graphql.generated.BarSegment;
 import com.linkedin.datahub.graphql.generated.DateInterval;
 import com.linkedin.datahub.graphql.generated.DateRange;
@@ -9,9 +16,16 @@ import com.linkedin.datahub.graphql.generated.NamedBar;
 import com.linkedin.datahub.graphql.generated.NamedLine;
 import com.linkedin.datahub.graphql.generated.NumericDataPoint;
 import com.linkedin.datahub.graphql.generated.Row;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
@@ -32,15 +46,30 @@ import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.elasticsearch.search.aggregations.metrics.Cardinality;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Computes the analytics charts and highlights from aggregations over the usage event and entity indices.
+ *
+ * Results are cached for a window of time. Resolvers end their date ranges at the end of the current window, see
+ * {@link #getCacheWindowEnd()}, so that all the requests of a window share the same results, which are never served
+ * after the window is over. The daily buckets of closed days are cached for the rest of the day, so that only the
+ * current day is aggregated again in every window. Independent charts can be computed in parallel on a bounded
+ * executor with {@link #supplyAsync(Supplier)}.
+ */
 public class AnalyticsService {
 
   private final Logger _logger = LoggerFactory.getLogger(AnalyticsService.class.getName());
 
   private final RestHighLevelClient _elasticClient;
   private final Optional<String> _indexPrefix;
+  private final ExecutorService _executor;
+  private final long _cacheWindowMillis;
+  private final Cache<String, Object> _chartCache;
+  private final Cache<String, List<NamedLine>> _closedDaysCache;
 
   private static final String FILTERED = "filtered";
   private static final String DATE_HISTOGRAM = "date_histogram";
@@ -56,9 +85,52 @@ public class AnalyticsService {
   public static final String DATA_JOB_INDEX = "datajobindex_v2";
   public static final String DATASET_INDEX = "datasetindex_v2";
 
+  public static final int DEFAULT_QUERY_CONCURRENCY = 4;
+  public static final long DEFAULT_CACHE_WINDOW_SECONDS = 300;
+  private static final long MAX_CACHED_CHARTS = 1000;
+
   public AnalyticsService(final RestHighLevelClient elasticClient, final Optional<String> indexPrefix) {
+    this(elasticClient, indexPrefix, DEFAULT_QUERY_CONCURRENCY, DEFAULT_CACHE_WINDOW_SECONDS);
+  }
+
+  public AnalyticsService(final RestHighLevelClient elasticClient, final Optional<String> indexPrefix,
+      final int queryConcurrency, final long cacheWindowSeconds) {
     _elasticClient = elasticClient;
     _indexPrefix = indexPrefix;
+    _executor = Executors.newFixedThreadPool(queryConcurrency,
+        new ThreadFactoryBuilder().setNameFormat("analytics-query-%d").setDaemon(true).build());
+    _cacheWindowMillis = TimeUnit.SECONDS.toMillis(cacheWindowSeconds);
+    _chartCache = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_CHARTS)
+        .expireAfterWrite(cacheWindowSeconds, TimeUnit.SECONDS)
+        .build();
+    _closedDaysCache = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_CHARTS)
+        .expireAfterWrite(1, TimeUnit.DAYS)
+        .build();
+  }
+
+  /**
+   * Returns the end of the current cache window, in UTC.
+   */
+  public DateTime getCacheWindowEnd() {
+    return getCacheWindowEnd(System.currentTimeMillis(), _cacheWindowMillis);
+  }
+
+  /**
+   * Returns the end of the window of the given length containing the given time, in UTC. Windows are aligned to the
+   * epoch and exclude their end, so a time on a boundary starts the next window.
+   */
+  @VisibleForTesting
+  static DateTime getCacheWindowEnd(long nowMillis, long cacheWindowMillis) {
+    return new DateTime(nowMillis - Math.floorMod(nowMillis, cacheWindowMillis) + cacheWindowMillis, DateTimeZone.UTC);
+  }
+
+  /**
+   * Runs the given computation on the executor of the analytics queries, which bounds their number in flight.
+   */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(supplier, _executor);
   }
 
   private String getIndexName(String baseIndexName) {
@@ -68,7 +140,38 @@ public class AnalyticsService {
   public List<NamedLine> getTimeseriesChart(String indexName, DateRange dateRange, DateInterval granularity,
       Optional<String> dimension, // Length 1 for now
       Map<String, List<String>> filters, Optional<String> uniqueOn) {
+    final String key = cacheKey("timeseries", indexName, Optional.of(dateRange), granularity, dimension, filters,
+        uniqueOn);
+    return getCached(key, () -> computeTimeseriesChart(indexName, dateRange, granularity, dimension, filters, uniqueOn));
+  }
+
+  private List<NamedLine> computeTimeseriesChart(String indexName, DateRange dateRange, DateInterval granularity,
+      Optional<String> dimension, Map<String, List<String>> filters, Optional<String> uniqueOn) {
+    // The daily buckets of closed days no longer change, so only the current day is aggregated again. Lines split by
+    // a dimension are not, since their top terms could differ between the two ranges.
+    final long startOfToday = DateTime.now(DateTimeZone.UTC).withTimeAtStartOfDay().getMillis();
+    if (granularity == DateInterval.DAY && !dimension.isPresent()
+        && Long.parseLong(dateRange.getStart()) < startOfToday && startOfToday < Long.parseLong(dateRange.getEnd())) {
+      final DateRange closedDays = new DateRange(dateRange.getStart(), String.valueOf(startOfToday));
+      final DateRange currentDay = new DateRange(String.valueOf(startOfToday), dateRange.getEnd());
+      final String closedDaysKey =
+          cacheKey("timeseries", indexName, Optional.of(closedDays), granularity, dimension, filters, uniqueOn);
+      final List<NamedLine> closedDaysLines;
+      try {
+        closedDaysLines = _closedDaysCache.get(closedDaysKey,
+            () -> queryTimeseriesChart(indexName, closedDays, granularity, dimension, filters, uniqueOn));
+      } catch (ExecutionException | UncheckedExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new RuntimeException(e.getCause());
+      }
+      return mergeLines(closedDaysLines,
+          queryTimeseriesChart(indexName, currentDay, granularity, dimension, filters, uniqueOn));
+    }
+    return queryTimeseriesChart(indexName, dateRange, granularity, dimension, filters, uniqueOn);
+  }
 
+  private List<NamedLine> queryTimeseriesChart(String indexName, DateRange dateRange, DateInterval granularity,
+      Optional<String> dimension, Map<String, List<String>> filters, Optional<String> uniqueOn) {
     String finalIndexName = getIndexName(indexName);
     _logger.debug(
         String.format("Invoked getTimeseriesChart with indexName: %s, dateRange: %s, granularity: %s, dimension: %s,",
@@ -108,6 +211,27 @@ public class AnalyticsService {
     }
   }
 
+  /**
+   * Merges the lines of two date ranges by name. The points of a date present in both ranges are summed, and a line or
+   * a date missing from one of the ranges keeps the points of the other.
+   */
+  @VisibleForTesting
+  static List<NamedLine> mergeLines(List<NamedLine> first, List<NamedLine> second) {
+    final Map<String, Map<String, Integer>> points = new LinkedHashMap<>();
+    for (NamedLine line : Iterables.concat(first, second)) {
+      final Map<String, Integer> linePoints = points.computeIfAbsent(line.getName(), name -> new LinkedHashMap<>());
+      line.getData().forEach(point -> linePoints.merge(point.getX(), point.getY(), Integer::sum));
+    }
+    return points.entrySet()
+        .stream()
+        .map(entry -> new NamedLine(entry.getKey(), entry.getValue()
+            .entrySet()
+            .stream()
+            .map(point -> new NumericDataPoint(point.getKey(), point.getValue()))
+            .collect(Collectors.toList())))
+        .collect(Collectors.toList());
+  }
+
   private int extractCount(MultiBucketsAggregation.Bucket bucket, boolean didUnique) {
     return didUnique ? (int) bucket.getAggregations().<Cardinality>get(UNIQUE).getValue() : (int) bucket.getDocCount();
   }
@@ -122,6 +246,12 @@ public class AnalyticsService {
   public List<NamedBar> getBarChart(String indexName, Optional<DateRange> dateRange, List<String> dimensions,
       // Length 1 or 2
       Map<String, List<String>> filters, Optional<String> uniqueOn) {
+    return getCached(cacheKey("bar", indexName, dateRange, dimensions, filters, uniqueOn),
+        () -> computeBarChart(indexName, dateRange, dimensions, filters, uniqueOn));
+  }
+
+  private List<NamedBar> computeBarChart(String indexName, Optional<DateRange> dateRange, List<String> dimensions,
+      Map<String, List<String>> filters, Optional<String> uniqueOn) {
     String finalIndexName = getIndexName(indexName);
     _logger.debug(
         String.format("Invoked getBarChart with indexName: %s, dateRange: %s, dimensions: %s,", finalIndexName,
@@ -174,6 +304,12 @@ public class AnalyticsService {
 
   public List<Row> getTopNTableChart(String indexName, Optional<DateRange> dateRange, String groupBy,
       Map<String, List<String>> filters, Optional<String> uniqueOn, int maxRows) {
+    return getCached(cacheKey("topN", indexName, dateRange, groupBy, filters, uniqueOn, maxRows),
+        () -> computeTopNTableChart(indexName, dateRange, groupBy, filters, uniqueOn, maxRows));
+  }
+
+  private List<Row> computeTopNTableChart(String indexName, Optional<DateRange> dateRange, String groupBy,
+      Map<String, List<String>> filters, Optional<String> uniqueOn, int maxRows) {
     String finalIndexName = getIndexName(indexName);
     _logger.debug(
         String.format("Invoked getTopNTableChart with indexName: %s, dateRange: %s, groupBy: %s", finalIndexName,
@@ -205,6 +341,12 @@ public class AnalyticsService {
 
   public int getHighlights(String indexName, Optional<DateRange> dateRange, Map<String, List<String>> filters,
       Map<String, List<String>> mustNotFilters, Optional<String> uniqueOn) {
+    return getCached(cacheKey("highlights", indexName, dateRange, filters, mustNotFilters, uniqueOn),
+        () -> computeHighlights(indexName, dateRange, filters, mustNotFilters, uniqueOn));
+  }
+
+  private int computeHighlights(String indexName, Optional<DateRange> dateRange, Map<String, List<String>> filters,
+      Map<String, List<String>> mustNotFilters, Optional<String> uniqueOn) {
     String finalIndexName = getIndexName(indexName);
     _logger.debug(String.format("Invoked getHighlights with indexName: %s, dateRange: %s", finalIndexName, dateRange)
         + String.format("filters: %s, uniqueOn: %s", filters, uniqueOn));
@@ -226,6 +368,25 @@ public class AnalyticsService {
     }
   }
 
+  private String cacheKey(String chart, String indexName, Optional<DateRange> dateRange, Object... parameters) {
+    final StringBuilder key = new StringBuilder(chart).append('|').append(indexName).append('|')
+        .append(dateRange.map(range -> range.getStart() + "-" + range.getEnd()).orElse("*"));
+    for (Object parameter : parameters) {
+      key.append('|').append(parameter);
+    }
+    return key.toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T getCached(String key, Supplier<T> supplier) {
+    try {
+      return (T) _chartCache.get(key, supplier::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
   private SearchRequest constructSearchRequest(String indexName, AggregationBuilder aggregationBuilder) {
     SearchRequest searchRequest = new SearchRequest(indexName);
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
@@ -0,0 +1,73 @@
+package com.linkedin.datahub.graphql.resolvers.lineage;
+
+import com.linkedin.common.EntityRelationshipEdge;
+import com.linkedin.common.EntityRelationshipGraph;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.LineageEdge;
+import com.linkedin.datahub.graphql.generated.LineageGraph;
+import com.linkedin.datahub.graphql.generated.LineageGraphInput;
+import com.linkedin.datahub.graphql.types.common.mappers.UrnToEntityMapper;
+import com.linkedin.lineage.client.Lineages;
+import com.linkedin.metadata.query.RelationshipDirection;
+import com.linkedin.r2.RemoteInvocationException;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static com.linkedin.datahub.graphql.resolvers.ResolverUtils.bindArgument;
+
+
+/**
+ * Resolver responsible for resolving the 'lineageGraph' field of the Query type. The whole multi-hop graph is fetched
+ * from GMS with a single traversal request.
+ */
+public class LineageGraphResolver implements DataFetcher<CompletableFuture<LineageGraph>> {
+
+  private static final int DEFAULT_HOPS = 1;
+
+  private final Lineages _client;
+
+  public LineageGraphResolver(final Lineages client) {
+    _client = client;
+  }
+
+  @Override
+  public CompletableFuture<LineageGraph> get(DataFetchingEnvironment environment) {
+    final QueryContext context = environment.getContext();
+    final LineageGraphInput input = bindArgument(environment.getArgument("input"), LineageGraphInput.class);
+    final RelationshipDirection direction = RelationshipDirection.valueOf(input.getDirection().name());
+    final int hops = input.getHops() != null ? input.getHops() : DEFAULT_HOPS;
+
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return mapLineageGraph(_client.getLineageGraph(
+            input.getUrns(),
+            direction,
+            hops,
+            input.getMaxNodes(),
+            input.getMaxEdges(),
+            context.getActor()));
+      } catch (RemoteInvocationException e) {
+        throw new RuntimeException(String.format("Failed to traverse lineage from entities %s", input.getUrns()), e);
+      }
+    });
+  }
+
+  private LineageGraph mapLineageGraph(final EntityRelationshipGraph graph) {
+    final LineageGraph result = new LineageGraph();
+    result.setEdges(graph.getEdges().stream().map(this::mapLineageEdge).collect(Collectors.toList()));
+    result.setNodeCount(graph.getNodeCount());
+    result.setTruncated(graph.isTruncated());
+    return result;
+  }
+
+  private LineageEdge mapLineageEdge(final EntityRelationshipEdge edge) {
+    final LineageEdge result = new LineageEdge();
+    result.setSource(UrnToEntityMapper.map(edge.getSource()));
+    result.setEntity(UrnToEntityMapper.map(edge.getEntity()));
+    result.setType(edge.getType());
+    result.setHop(edge.getHop());
+    return result;
+  }
+}
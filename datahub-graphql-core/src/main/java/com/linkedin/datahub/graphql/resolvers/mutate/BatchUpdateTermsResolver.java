@@ -0,0 +1,72 @@
+package com.linkedin.datahub.graphql.resolvers.mutate;
+
+import com.linkedin.common.urn.CorpuserUrn;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.exception.AuthorizationException;
+import com.linkedin.datahub.graphql.generated.TermUpdateInput;
+import com.linkedin.metadata.entity.EntityService;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.linkedin.datahub.graphql.resolvers.ResolverUtils.*;
+
+
+/**
+ * Adds or removes many glossary terms on entities or their subresources at once. See {@link LabelUtils#batchUpdateLabels}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BatchUpdateTermsResolver implements DataFetcher<CompletableFuture<Boolean>> {
+  private final EntityService _entityService;
+  private final boolean _add;
+
+  @Override
+  public CompletableFuture<Boolean> get(DataFetchingEnvironment environment) throws Exception {
+    final List<?> inputs = environment.getArgument("input");
+    final List<LabelUtils.LabelChange> changes = new ArrayList<>(inputs.size());
+    // The policy check depends only on the target and on whether it is a subresource, so it is done once per pair
+    final Set<List<Object>> authorizedTargets = new HashSet<>();
+    for (Object rawInput : inputs) {
+      final TermUpdateInput input = bindArgument(rawInput, TermUpdateInput.class);
+      final Urn termUrn = Urn.createFromString(input.getTermUrn());
+      final Urn targetUrn = Urn.createFromString(input.getTargetUrn());
+
+      final List<Object> target = Arrays.asList(targetUrn, input.getSubResource() == null || input.getSubResource().isEmpty());
+      if (authorizedTargets.add(target)
+          && !LabelUtils.isAuthorizedToUpdateTerms(environment.getContext(), targetUrn, input.getSubResource())) {
+        throw new AuthorizationException("Unauthorized to perform this action. Please contact your DataHub administrator.");
+      }
+      changes.add(new LabelUtils.LabelChange(termUrn, targetUrn, input.getSubResource(), _add));
+    }
+
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        for (LabelUtils.LabelChange change : changes) {
+          if (!change.getLabelUrn().getEntityType().equals("glossaryTerm")) {
+            log.error("Failed to update {}. It is not a glossary term urn.", change.getLabelUrn().toString());
+            return false;
+          }
+        }
+
+        log.info("{} {} glossary terms", _add ? "Adding" : "Removing", changes.size());
+        Urn actor = CorpuserUrn.createFromString(((QueryContext) environment.getContext()).getActor());
+        LabelUtils.batchUpdateLabels(changes, actor, _entityService);
+        return true;
+      } catch (Exception e) {
+        log.error("Failed to perform batch update of {} glossary terms, {}", changes.size(), e.getMessage());
+        throw new RuntimeException(
+            String.format("Failed to perform batch update of %d glossary terms: %s", changes.size(), e.getMessage()), e);
+      }
+    });
+  }
+}
@@ -18,15 +18,28 @@ import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
 import com.linkedin.datahub.graphql.authorization.ConjunctivePrivilegeGroup;
 import com.linkedin.datahub.graphql.authorization.DisjunctivePrivilegeGroup;
 import com.linkedin.entity.Entity;
+import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.authorization.PoliciesConfig;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.IngestProposalResult;
 import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.GenericAspectUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.schema.EditableSchemaFieldInfo;
 import com.linkedin.schema.EditableSchemaFieldInfoArray;
 import com.linkedin.schema.EditableSchemaMetadata;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -42,6 +55,155 @@ public class LabelUtils {
   public static final String SCHEMA_ASPECT_NAME = "editableSchemaMetadata";
   public static final String TAGS_ASPECT_NAME = "globalTags";
 
+  /**
+   * A tag or glossary term to add to or remove from an entity, or from one of its schema fields.
+   */
+  @Value
+  public static class LabelChange {
+    Urn labelUrn;
+    Urn targetUrn;
+    @Nullable
+    String subResource;
+    boolean add;
+  }
+
+  /**
+   * Applies many tag and glossary term changes at once. The changes are grouped by the aspect they update, and each
+   * aspect is read once, has all of its changes applied in order, and is written once. All the aspects are read with
+   * a single lookup that does not lag behind writes of other nodes, and all those of an entity are written in a single
+   * transaction.
+   *
+   * The batch is not atomic across entities: when the aspects of some entities fail to be written, those of the others
+   * are still updated, and the exception thrown lists the aspects that failed.
+   */
+  public static void batchUpdateLabels(
+      @Nonnull List<LabelChange> changes,
+      @Nonnull Urn actor,
+      @Nonnull EntityService entityService
+  ) throws URISyntaxException {
+    if (changes.isEmpty()) {
+      return;
+    }
+
+    final Set<Urn> targetUrns = changes.stream().map(LabelChange::getTargetUrn).collect(Collectors.toSet());
+    final Set<String> aspectNames = changes.stream().map(LabelUtils::getAspectName).collect(Collectors.toSet());
+    final Map<Urn, Map<String, RecordTemplate>> existingAspects =
+        entityService.getLatestAspectsByName(targetUrns, aspectNames);
+
+    final AuditStamp auditStamp = getAuditStamp(actor);
+    final Map<Urn, Map<String, RecordTemplate>> updatedAspects = new LinkedHashMap<>();
+    for (LabelChange change : changes) {
+      final String aspectName = getAspectName(change);
+      final RecordTemplate aspect = updatedAspects
+          .computeIfAbsent(change.getTargetUrn(), urn -> new LinkedHashMap<>())
+          .computeIfAbsent(aspectName, name -> existingAspects
+              .getOrDefault(change.getTargetUrn(), Collections.emptyMap())
+              .getOrDefault(name, createEmptyAspect(name)));
+      applyChange(aspect, change, auditStamp);
+    }
+
+    final List<MetadataChangeProposal> proposals = new ArrayList<>();
+    updatedAspects.forEach((urn, aspects) -> aspects.forEach((aspectName, aspect) -> {
+      final MetadataChangeProposal proposal = new MetadataChangeProposal();
+      proposal.setEntityUrn(urn);
+      proposal.setEntityType(urn.getEntityType());
+      proposal.setAspectName(aspectName);
+      proposal.setAspect(GenericAspectUtils.serializeAspect(aspect));
+      proposal.setChangeType(ChangeType.UPSERT);
+      proposals.add(proposal);
+    }));
+
+    final List<IngestProposalResult> results = entityService.batchIngestProposals(proposals, auditStamp);
+    final List<String> failures = new ArrayList<>();
+    Throwable firstError = null;
+    for (int i = 0; i < results.size(); i++) {
+      if (!results.get(i).isSuccess()) {
+        failures.add(String.format("%s of %s", proposals.get(i).getAspectName(), proposals.get(i).getEntityUrn()));
+        firstError = firstError == null ? results.get(i).getError() : firstError;
+      }
+    }
+    if (!failures.isEmpty()) {
+      throw new RuntimeException(String.format("Failed to update %d of %d aspects, the others were updated: %s",
+          failures.size(), proposals.size(), String.join(", ", failures)), firstError);
+    }
+  }
+
+  private static boolean isTargetingSchema(@Nullable String subResource) {
+    return subResource != null && subResource.length() > 0;
+  }
+
+  private static boolean isTag(@Nonnull Urn labelUrn) {
+    return labelUrn.getEntityType().equals("tag");
+  }
+
+  @Nonnull
+  private static String getAspectName(@Nonnull LabelChange change) {
+    if (isTargetingSchema(change.getSubResource())) {
+      return SCHEMA_ASPECT_NAME;
+    }
+    return isTag(change.getLabelUrn()) ? TAGS_ASPECT_NAME : GLOSSARY_TERM_ASPECT_NAME;
+  }
+
+  @Nonnull
+  private static RecordTemplate createEmptyAspect(@Nonnull String aspectName) {
+    switch (aspectName) {
+      case SCHEMA_ASPECT_NAME:
+        return new EditableSchemaMetadata();
+      case TAGS_ASPECT_NAME:
+        return new GlobalTags();
+      default:
+        return new GlossaryTerms();
+    }
+  }
+
+  private static void applyChange(
+      @Nonnull RecordTemplate aspect,
+      @Nonnull LabelChange change,
+      @Nonnull AuditStamp auditStamp
+  ) throws URISyntaxException {
+    final GlobalTags tags;
+    final GlossaryTerms terms;
+    if (aspect instanceof EditableSchemaMetadata) {
+      EditableSchemaFieldInfo editableFieldInfo =
+          getFieldInfoFromSchema((EditableSchemaMetadata) aspect, change.getSubResource());
+      if (isTag(change.getLabelUrn())) {
+        if (!editableFieldInfo.hasGlobalTags()) {
+          editableFieldInfo.setGlobalTags(new GlobalTags());
+        }
+        tags = editableFieldInfo.getGlobalTags();
+        terms = null;
+      } else {
+        if (!editableFieldInfo.hasGlossaryTerms()) {
+          editableFieldInfo.setGlossaryTerms(new GlossaryTerms().setAuditStamp(auditStamp));
+        }
+        tags = null;
+        terms = editableFieldInfo.getGlossaryTerms();
+        if (change.isAdd()) {
+          terms.setAuditStamp(auditStamp);
+        }
+      }
+    } else if (aspect instanceof GlobalTags) {
+      tags = (GlobalTags) aspect;
+      terms = null;
+    } else {
+      tags = null;
+      terms = (GlossaryTerms) aspect;
+      terms.setAuditStamp(auditStamp);
+    }
+
+    if (tags != null) {
+      if (change.isAdd()) {
+        addTagIfNotExists(tags, change.getLabelUrn());
+      } else {
+        removeTagIfExists(tags, change.getLabelUrn());
+      }
+    } else if (change.isAdd()) {
+      addTermIfNotExistsToEntity(terms, change.getLabelUrn());
+    } else {
+      removeTermIfExists(terms, change.getLabelUrn());
+    }
+  }
+
   public static void removeTermFromTarget(
       Urn labelUrn,
       Urn targetUrn,
@@ -0,0 +1,83 @@
+package com.linkedin.datahub.graphql.types.lineage;
+
+import com.linkedin.common.EntityRelationshipArray;
+import com.linkedin.common.EntityRelationships;
+import com.linkedin.lineage.client.RelationshipClient;
+import com.linkedin.metadata.query.RelationshipDirection;
+import com.linkedin.r2.RemoteInvocationException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+
+public class LineageUtils {
+
+    // Matches the lineage relationships followed by the lineage resource
+    private static final List<String> LINEAGE_RELATIONSHIP_TYPES = Arrays.asList(
+        "DownstreamOf", "Consumes", "Contains", "TrainedBy");
+    private static final List<String> INVERSE_LINEAGE_RELATIONSHIP_TYPES = Arrays.asList(
+        "Produces", "MemberOf");
+    private static final int MAX_LINEAGE_COUNT = 100;
+
+    private LineageUtils() { }
+
+    /**
+     * Gets the one-hop lineage of many urns with two batched relationship requests: lineage relationships in the given
+     * direction, and inverse lineage relationships in the opposite one. Each urn gets up to 100 relationships of each
+     * kind, and its total counts all of its relationships, including those beyond that limit.
+     */
+    @Nonnull
+    public static Map<String, EntityRelationships> batchGetLineage(
+        @Nonnull final RelationshipClient relationshipClient,
+        @Nonnull final List<String> urns,
+        @Nonnull final RelationshipDirection direction,
+        @Nonnull final String actor) throws RemoteInvocationException {
+        final Map<String, EntityRelationships> lineage = relationshipClient.batchGetRelationships(urns, direction,
+            LINEAGE_RELATIONSHIP_TYPES, 0, MAX_LINEAGE_COUNT, actor);
+        final Map<String, EntityRelationships> inverseLineage = relationshipClient.batchGetRelationships(urns,
+            getOppositeDirection(direction), INVERSE_LINEAGE_RELATIONSHIP_TYPES, 0, MAX_LINEAGE_COUNT, actor);
+
+        final Map<String, EntityRelationships> result = new HashMap<>();
+        for (String urn : urns) {
+            final EntityRelationships relationships = lineage.getOrDefault(urn, emptyRelationships());
+            final EntityRelationships inverseRelationships = inverseLineage.getOrDefault(urn, emptyRelationships());
+            final EntityRelationshipArray merged = new EntityRelationshipArray(relationships.getRelationships());
+            merged.addAll(inverseRelationships.getRelationships());
+            result.put(urn, new EntityRelationships()
+                .setRelationships(merged)
+                .setStart(0)
+                .setCount(merged.size())
+                .setTotal(getTotal(relationships) + getTotal(inverseRelationships)));
+        }
+        return result;
+    }
+
+    /**
+     * Result used for urns that are missing from a batch response.
+     */
+    @Nonnull
+    public static EntityRelationships emptyRelationships() {
+        return new EntityRelationships()
+            .setRelationships(new EntityRelationshipArray())
+            .setStart(0)
+            .setCount(0)
+            .setTotal(0);
+    }
+
+    private static int getTotal(@Nonnull final EntityRelationships relationships) {
+        return relationships.hasTotal() ? relationships.getTotal() : relationships.getRelationships().size();
+    }
+
+    @Nonnull
+    private static RelationshipDirection getOppositeDirection(@Nonnull final RelationshipDirection direction) {
+        if (direction == RelationshipDirection.INCOMING) {
+            return RelationshipDirection.OUTGOING;
+        }
+        if (direction == RelationshipDirection.OUTGOING) {
+            return RelationshipDirection.INCOMING;
+        }
+        return direction;
+    }
+}
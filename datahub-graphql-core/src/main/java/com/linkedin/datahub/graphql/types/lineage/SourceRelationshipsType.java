@@ -10,8 +10,8 @@ import com.linkedin.metadata.query.RelationshipDirection;
 import com.linkedin.r2.RemoteInvocationException;
 import graphql.execution.DataFetcherResult;
 
-import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class SourceRelationshipsType implements LoadableType<DatasourceDatasetsRelationships> {
@@ -31,24 +31,21 @@ public class SourceRelationshipsType implements LoadableType<DatasourceDatasetsR
     @Override
     public List<DataFetcherResult<DatasourceDatasetsRelationships>> batchLoad(final List<String> keys, final QueryContext context) {
         try {
-            return keys.stream().map(urn -> {
-                try {
-                    com.linkedin.common.EntityRelationships relationships =
-                            _relationshipClientClient.getRelationships(
-                                urn,
-                                _direction,
-                                ImmutableList.of("Sources"),
-                                null,
-                                null,
-                                context.getActor());
-                    return DataFetcherResult.<DatasourceDatasetsRelationships>newResult()
-                            .data(DatasourceDatasetsRelationshipsMapper.map(relationships)).build();
-                } catch (RemoteInvocationException | URISyntaxException e) {
-                    throw new RuntimeException(String.format("Failed to batch load DataJobs for DataFlow %s", urn), e);
-                }
-            }).collect(Collectors.toList());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to batch load DataJobs for DataFlow", e);
+            // One relationships request for the whole batch instead of one request per urn.
+            final Map<String, com.linkedin.common.EntityRelationships> relationshipsByUrn =
+                    _relationshipClientClient.batchGetRelationships(
+                        keys,
+                        _direction,
+                        ImmutableList.of("Sources"),
+                        null,
+                        null,
+                        context.getActor());
+            return keys.stream()
+                    .map(urn -> DataFetcherResult.<DatasourceDatasetsRelationships>newResult()
+                            .data(DatasourceDatasetsRelationshipsMapper.map(relationshipsByUrn.getOrDefault(urn, LineageUtils.emptyRelationships()))).build())
+                    .collect(Collectors.toList());
+        } catch (RemoteInvocationException e) {
+            throw new RuntimeException(String.format("Failed to batch load Datasets for DataSources %s", keys), e);
         }
     }
 }
@@ -0,0 +1,75 @@
+package com.linkedin.datahub.graphql.types.relationships;
+
+import com.linkedin.common.EntityRelationships;
+import com.linkedin.datahub.graphql.EntityRelationshipsKey;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.EntityRelationshipsResult;
+import com.linkedin.datahub.graphql.types.lineage.LineageUtils;
+import com.linkedin.datahub.graphql.types.relationships.mappers.EntityRelationshipsResultMapper;
+import com.linkedin.lineage.client.RelationshipClient;
+import com.linkedin.r2.RemoteInvocationException;
+import graphql.execution.DataFetcherResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+
+public class EntityRelationshipsResultType {
+
+  private final RelationshipClient _relationshipClient;
+
+  public EntityRelationshipsResultType(final RelationshipClient relationshipClient) {
+    _relationshipClient = relationshipClient;
+  }
+
+  /**
+   * Retrieves the relationships of a list of {@link EntityRelationshipsKey}s. Keys that share the same relationship
+   * types, direction and paging are fetched together with a single batch request, so a page of N entities costs one
+   * request per distinct relationships field instead of N. The list returned has the same length and order as the keys.
+   * @param keys to retrieve
+   * @param context the {@link QueryContext} corresponding to the request.
+   */
+  public List<DataFetcherResult<EntityRelationshipsResult>> batchLoad(
+      @Nonnull List<EntityRelationshipsKey> keys, @Nonnull QueryContext context
+  ) throws Exception {
+    final Map<EntityRelationshipsKey, List<String>> urnsByGroup = new LinkedHashMap<>();
+    for (EntityRelationshipsKey key : keys) {
+      urnsByGroup.computeIfAbsent(groupOf(key), group -> new ArrayList<>()).add(key.getUrn());
+    }
+
+    final Map<EntityRelationshipsKey, EntityRelationships> relationshipsByKey = new HashMap<>();
+    for (Map.Entry<EntityRelationshipsKey, List<String>> entry : urnsByGroup.entrySet()) {
+      final EntityRelationshipsKey group = entry.getKey();
+      try {
+        final Map<String, EntityRelationships> relationshipsByUrn = _relationshipClient.batchGetRelationships(
+            entry.getValue(),
+            group.getDirection(),
+            group.getTypes(),
+            group.getStart(),
+            group.getCount(),
+            context.getActor());
+        relationshipsByUrn.forEach((urn, relationships) -> relationshipsByKey.put(withUrn(group, urn), relationships));
+      } catch (RemoteInvocationException e) {
+        throw new RuntimeException(String.format("Failed to batch load relationships for entities %s", entry.getValue()), e);
+      }
+    }
+
+    return keys.stream()
+        .map(key -> DataFetcherResult.<EntityRelationshipsResult>newResult().data(EntityRelationshipsResultMapper.map(
+            relationshipsByKey.getOrDefault(key, LineageUtils.emptyRelationships()),
+            key.getDirection())).build())
+        .collect(Collectors.toList());
+  }
+
+  private static EntityRelationshipsKey groupOf(@Nonnull final EntityRelationshipsKey key) {
+    return withUrn(key, null);
+  }
+
+  private static EntityRelationshipsKey withUrn(@Nonnull final EntityRelationshipsKey key, final String urn) {
+    return new EntityRelationshipsKey(urn, key.getTypes(), key.getDirection(), key.getStart(), key.getCount());
+  }
+}
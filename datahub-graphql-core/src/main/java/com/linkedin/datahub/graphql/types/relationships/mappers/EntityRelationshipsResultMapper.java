@@ -0,0 +1,51 @@
+package com.linkedin.datahub.graphql.types.relationships.mappers;
+
+import com.linkedin.common.EntityRelationship;
+import com.linkedin.common.EntityRelationships;
+import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.generated.EntityRelationshipsResult;
+import com.linkedin.datahub.graphql.types.common.mappers.AuditStampMapper;
+import com.linkedin.datahub.graphql.types.common.mappers.UrnToEntityMapper;
+import com.linkedin.metadata.query.RelationshipDirection;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Maps GMS {@link EntityRelationships} fetched in the given direction to a GraphQL {@link EntityRelationshipsResult}.
+ */
+public class EntityRelationshipsResultMapper {
+
+  private EntityRelationshipsResultMapper() { }
+
+  public static EntityRelationshipsResult map(
+      @Nonnull final EntityRelationships entityRelationships,
+      @Nonnull final RelationshipDirection relationshipDirection
+  ) {
+    final EntityRelationshipsResult result = new EntityRelationshipsResult();
+    result.setStart(entityRelationships.getStart());
+    result.setCount(entityRelationships.getCount());
+    result.setTotal(entityRelationships.getTotal());
+    result.setRelationships(entityRelationships.getRelationships().stream().map(entityRelationship -> mapEntityRelationship(
+        com.linkedin.datahub.graphql.generated.RelationshipDirection.valueOf(relationshipDirection.name()),
+        entityRelationship)
+    ).collect(Collectors.toList()));
+    return result;
+  }
+
+  private static com.linkedin.datahub.graphql.generated.EntityRelationship mapEntityRelationship(
+      final com.linkedin.datahub.graphql.generated.RelationshipDirection direction,
+      final EntityRelationship entityRelationship) {
+    final com.linkedin.datahub.graphql.generated.EntityRelationship result = new com.linkedin.datahub.graphql.generated.EntityRelationship();
+    final Entity partialEntity = UrnToEntityMapper.map(entityRelationship.getEntity());
+    if (partialEntity != null) {
+      result.setEntity(partialEntity);
+    }
+    result.setType(entityRelationship.getType());
+    result.setDirection(direction);
+    if (entityRelationship.hasCreated()) {
+      result.setCreated(AuditStampMapper.map(entityRelationship.getCreated()));
+    }
+    return result;
+  }
+}
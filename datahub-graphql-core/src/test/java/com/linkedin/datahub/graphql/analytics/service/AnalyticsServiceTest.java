@@ -0,0 +1,83 @@
+package com.linkedin.datahub.graphql.analytics.service;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.graphql.generated.NamedLine;
+import com.linkedin.datahub.graphql.generated.NumericDataPoint;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+
+public class AnalyticsServiceTest {
+
+    private static final long WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(AnalyticsService.DEFAULT_CACHE_WINDOW_SECONDS);
+    private static final DateTime WINDOW_START = new DateTime(2021, 6, 1, 12, 5, DateTimeZone.UTC);
+
+    @Test
+    public void testCacheWindowEndWithinWindow() {
+        final DateTime windowEnd = WINDOW_START.plus(WINDOW_MILLIS);
+
+        assertEquals(AnalyticsService.getCacheWindowEnd(WINDOW_START.getMillis() + 1, WINDOW_MILLIS), windowEnd);
+        assertEquals(AnalyticsService.getCacheWindowEnd(windowEnd.getMillis() - 1, WINDOW_MILLIS), windowEnd);
+        assertEquals(AnalyticsService.getCacheWindowEnd(windowEnd.getMillis() - 1, WINDOW_MILLIS).getZone(),
+            DateTimeZone.UTC);
+    }
+
+    @Test
+    public void testCacheWindowEndOnBoundaryStartsNextWindow() {
+        assertEquals(AnalyticsService.getCacheWindowEnd(WINDOW_START.getMillis(), WINDOW_MILLIS),
+            WINDOW_START.plus(WINDOW_MILLIS));
+        assertEquals(AnalyticsService.getCacheWindowEnd(0, WINDOW_MILLIS).getMillis(), WINDOW_MILLIS);
+    }
+
+    @Test
+    public void testMergeLinesSumsOverlappingDates() {
+        final List<NamedLine> closedDays = ImmutableList.of(
+            new NamedLine("total", ImmutableList.of(point("2021-06-01", 3), point("2021-06-02", 5))));
+        final List<NamedLine> currentDay = ImmutableList.of(
+            new NamedLine("total", ImmutableList.of(point("2021-06-02", 2), point("2021-06-03", 7))));
+
+        final List<NamedLine> merged = AnalyticsService.mergeLines(closedDays, currentDay);
+
+        assertEquals(merged.size(), 1);
+        assertEquals(merged.get(0).getName(), "total");
+        assertPoints(merged.get(0).getData(),
+            ImmutableList.of(point("2021-06-01", 3), point("2021-06-02", 7), point("2021-06-03", 7)));
+    }
+
+    @Test
+    public void testMergeLinesKeepsMissingDatesAndLines() {
+        final List<NamedLine> closedDays = ImmutableList.of(
+            new NamedLine("total", ImmutableList.of(point("2021-06-01", 3), point("2021-06-02", 5))));
+
+        final List<NamedLine> withoutCurrentDay = AnalyticsService.mergeLines(closedDays, ImmutableList.of());
+        assertEquals(withoutCurrentDay.size(), 1);
+        assertPoints(withoutCurrentDay.get(0).getData(), closedDays.get(0).getData());
+
+        final List<NamedLine> withoutClosedDays = AnalyticsService.mergeLines(ImmutableList.of(),
+            ImmutableList.of(new NamedLine("total", ImmutableList.of(point("2021-06-03", 1)))));
+        assertEquals(withoutClosedDays.size(), 1);
+        assertPoints(withoutClosedDays.get(0).getData(), ImmutableList.of(point("2021-06-03", 1)));
+
+        final List<NamedLine> withEmptyCurrentDay = AnalyticsService.mergeLines(closedDays,
+            ImmutableList.of(new NamedLine("total", ImmutableList.of())));
+        assertEquals(withEmptyCurrentDay.size(), 1);
+        assertPoints(withEmptyCurrentDay.get(0).getData(), closedDays.get(0).getData());
+    }
+
+    private static NumericDataPoint point(String x, int y) {
+        return new NumericDataPoint(x, y);
+    }
+
+    private static void assertPoints(List<NumericDataPoint> actual, List<NumericDataPoint> expected) {
+        assertEquals(actual.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(actual.get(i).getX(), expected.get(i).getX());
+            assertEquals(actual.get(i).getY(), expected.get(i).getY());
+        }
+    }
+}
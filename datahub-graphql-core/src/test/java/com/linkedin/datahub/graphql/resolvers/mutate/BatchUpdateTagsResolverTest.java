@@ -0,0 +1,109 @@
+package com.linkedin.datahub.graphql.resolvers.mutate;
+
+import com.datahub.metadata.authorization.AuthorizationRequest;
+import com.datahub.metadata.authorization.AuthorizationResult;
+import com.datahub.metadata.authorization.Authorizer;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.exception.AuthorizationException;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.IngestProposalResult;
+import com.linkedin.mxe.MetadataChangeProposal;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+
+public class BatchUpdateTagsResolverTest {
+
+    private static final String ACTOR = "urn:li:corpuser:test";
+    private static final String DATASET1 = "urn:li:dataset:(urn:li:dataPlatform:hive,db.table1,PROD)";
+    private static final String DATASET2 = "urn:li:dataset:(urn:li:dataPlatform:hive,db.table2,PROD)";
+    private static final String TAG1 = "urn:li:tag:tag1";
+    private static final String TAG2 = "urn:li:tag:tag2";
+
+    private EntityService _entityService;
+    private Authorizer _authorizer;
+    private DataFetchingEnvironment _environment;
+
+    @BeforeMethod
+    public void setup() {
+        _entityService = mock(EntityService.class);
+        when(_entityService.getLatestAspectsByName(anySet(), anySet())).thenReturn(Collections.emptyMap());
+        when(_entityService.batchIngestProposals(anyList(), any())).thenAnswer(invocation ->
+            invocation.<List<MetadataChangeProposal>>getArgument(0)
+                .stream()
+                .map(proposal -> new IngestProposalResult(proposal.getEntityUrn(), null))
+                .collect(Collectors.toList()));
+
+        _authorizer = mock(Authorizer.class);
+        final QueryContext context = mock(QueryContext.class);
+        when(context.getActor()).thenReturn(ACTOR);
+        when(context.getAuthorizer()).thenReturn(_authorizer);
+        _environment = mock(DataFetchingEnvironment.class);
+        when(_environment.getContext()).thenReturn(context);
+    }
+
+    @Test
+    public void testPolicyIsCheckedOncePerTarget() throws Exception {
+        allow(true);
+        when(_environment.getArgument("input")).thenReturn(Arrays.asList(
+            input(TAG1, DATASET1, null),
+            input(TAG2, DATASET1, null),
+            input(TAG1, DATASET1, "field1"),
+            input(TAG1, DATASET1, "field2"),
+            input(TAG1, DATASET2, "")));
+
+        assertTrue(new BatchUpdateTagsResolver(_entityService, true).get(_environment).join());
+
+        // One check for the entity and one for its fields for the first dataset, and one for the second dataset
+        final ArgumentCaptor<AuthorizationRequest> requests = ArgumentCaptor.forClass(AuthorizationRequest.class);
+        verify(_authorizer, times(3)).authorize(requests.capture());
+        assertEquals(requests.getAllValues()
+            .stream()
+            .map(request -> request.resourceSpec().get().getResource())
+            .collect(Collectors.toList()), Arrays.asList(DATASET1, DATASET1, DATASET2));
+        verify(_entityService, times(1)).batchIngestProposals(anyList(), any());
+    }
+
+    @Test
+    public void testDeniedPolicyThrows() throws Exception {
+        allow(false);
+        when(_environment.getArgument("input")).thenReturn(Collections.singletonList(input(TAG1, DATASET1, null)));
+
+        assertThrows(AuthorizationException.class,
+            () -> new BatchUpdateTagsResolver(_entityService, true).get(_environment));
+        verifyZeroInteractions(_entityService);
+    }
+
+    private void allow(boolean allowed) {
+        when(_authorizer.authorize(any())).thenAnswer(invocation -> new AuthorizationResult(invocation.getArgument(0),
+            Optional.empty(), allowed ? AuthorizationResult.Type.ALLOW : AuthorizationResult.Type.DENY));
+    }
+
+    private static Map<String, String> input(String tagUrn, String targetUrn, String subResource) {
+        final Map<String, String> input = new HashMap<>(ImmutableMap.of("tagUrn", tagUrn, "targetUrn", targetUrn));
+        input.put("subResource", subResource);
+        return input;
+    }
+}
@@ -0,0 +1,182 @@
+package com.linkedin.datahub.graphql.resolvers.mutate;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.GlossaryTerms;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.IngestProposalResult;
+import com.linkedin.metadata.utils.GenericAspectUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.schema.EditableSchemaFieldInfo;
+import com.linkedin.schema.EditableSchemaMetadata;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.datahub.graphql.resolvers.mutate.LabelUtils.GLOSSARY_TERM_ASPECT_NAME;
+import static com.linkedin.datahub.graphql.resolvers.mutate.LabelUtils.SCHEMA_ASPECT_NAME;
+import static com.linkedin.datahub.graphql.resolvers.mutate.LabelUtils.TAGS_ASPECT_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+
+public class LabelUtilsTest {
+
+    private static final Urn ACTOR = Urn.createFromTuple("corpuser", "test");
+    private static final Urn DATASET1 = datasetUrn("db.table1");
+    private static final Urn DATASET2 = datasetUrn("db.table2");
+    private static final Urn TAG1 = Urn.createFromTuple("tag", "tag1");
+    private static final Urn TAG2 = Urn.createFromTuple("tag", "tag2");
+    private static final Urn TERM1 = Urn.createFromTuple("glossaryTerm", "term1");
+
+    private EntityService _entityService;
+
+    @BeforeMethod
+    public void setup() {
+        _entityService = mock(EntityService.class);
+        // Every proposal succeeds unless a test says otherwise
+        when(_entityService.batchIngestProposals(anyList(), any())).thenAnswer(invocation ->
+            invocation.<List<MetadataChangeProposal>>getArgument(0)
+                .stream()
+                .map(proposal -> new IngestProposalResult(proposal.getEntityUrn(), null))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testChangesAreGroupedByAspect() throws Exception {
+        when(_entityService.getLatestAspectsByName(anySet(), anySet()))
+            .thenReturn(ImmutableMap.of(DATASET1, ImmutableMap.of(TAGS_ASPECT_NAME, tags(TAG2))));
+
+        LabelUtils.batchUpdateLabels(Arrays.asList(
+            new LabelUtils.LabelChange(TAG1, DATASET1, null, true),
+            new LabelUtils.LabelChange(TERM1, DATASET1, null, true),
+            new LabelUtils.LabelChange(TAG1, DATASET2, "", true),
+            new LabelUtils.LabelChange(TAG2, DATASET1, null, true)), ACTOR, _entityService);
+
+        verify(_entityService, times(1)).getLatestAspectsByName(ImmutableSet.of(DATASET1, DATASET2),
+            ImmutableSet.of(TAGS_ASPECT_NAME, GLOSSARY_TERM_ASPECT_NAME));
+        final List<MetadataChangeProposal> proposals = captureProposals();
+        assertEquals(proposals.size(), 3);
+        // Existing tags are kept, and a tag that is already there is not added twice
+        assertEquals(proposals.get(0).getEntityUrn(), DATASET1);
+        assertEquals(proposals.get(0).getAspectName(), TAGS_ASPECT_NAME);
+        assertEquals(tagUrns(aspect(proposals.get(0), GlobalTags.class)), Arrays.asList(TAG2, TAG1));
+        assertEquals(proposals.get(1).getEntityUrn(), DATASET1);
+        assertEquals(proposals.get(1).getAspectName(), GLOSSARY_TERM_ASPECT_NAME);
+        assertEquals(aspect(proposals.get(1), GlossaryTerms.class).getTerms().get(0).getUrn(), TERM1);
+        assertEquals(aspect(proposals.get(1), GlossaryTerms.class).getAuditStamp().getActor(), ACTOR);
+        assertEquals(proposals.get(2).getEntityUrn(), DATASET2);
+        assertEquals(tagUrns(aspect(proposals.get(2), GlobalTags.class)), Collections.singletonList(TAG1));
+    }
+
+    @Test
+    public void testChangesAreAppliedInOrder() throws Exception {
+        when(_entityService.getLatestAspectsByName(anySet(), anySet()))
+            .thenReturn(ImmutableMap.of(DATASET1, ImmutableMap.of(TAGS_ASPECT_NAME, tags(TAG2))));
+
+        LabelUtils.batchUpdateLabels(Arrays.asList(
+            new LabelUtils.LabelChange(TAG1, DATASET1, null, true),
+            new LabelUtils.LabelChange(TAG1, DATASET1, null, false),
+            new LabelUtils.LabelChange(TAG2, DATASET1, null, false),
+            new LabelUtils.LabelChange(TAG2, DATASET1, null, true)), ACTOR, _entityService);
+
+        final List<MetadataChangeProposal> proposals = captureProposals();
+        assertEquals(proposals.size(), 1);
+        assertEquals(tagUrns(aspect(proposals.get(0), GlobalTags.class)), Collections.singletonList(TAG2));
+    }
+
+    @Test
+    public void testSchemaFieldTargets() throws Exception {
+        when(_entityService.getLatestAspectsByName(anySet(), anySet())).thenReturn(Collections.emptyMap());
+
+        LabelUtils.batchUpdateLabels(Arrays.asList(
+            new LabelUtils.LabelChange(TAG1, DATASET1, "field1", true),
+            new LabelUtils.LabelChange(TERM1, DATASET1, "field1", true),
+            new LabelUtils.LabelChange(TAG2, DATASET1, "field2", true),
+            new LabelUtils.LabelChange(TAG2, DATASET1, "field2", false)), ACTOR, _entityService);
+
+        verify(_entityService, times(1)).getLatestAspectsByName(Collections.singleton(DATASET1),
+            Collections.singleton(SCHEMA_ASPECT_NAME));
+        final List<MetadataChangeProposal> proposals = captureProposals();
+        assertEquals(proposals.size(), 1);
+        assertEquals(proposals.get(0).getAspectName(), SCHEMA_ASPECT_NAME);
+        final EditableSchemaMetadata schema = aspect(proposals.get(0), EditableSchemaMetadata.class);
+        assertEquals(schema.getEditableSchemaFieldInfo().size(), 2);
+        final EditableSchemaFieldInfo field1 = schema.getEditableSchemaFieldInfo().get(0);
+        assertEquals(field1.getFieldPath(), "field1");
+        assertEquals(tagUrns(field1.getGlobalTags()), Collections.singletonList(TAG1));
+        assertEquals(field1.getGlossaryTerms().getTerms().get(0).getUrn(), TERM1);
+        final EditableSchemaFieldInfo field2 = schema.getEditableSchemaFieldInfo().get(1);
+        assertEquals(field2.getFieldPath(), "field2");
+        assertTrue(field2.getGlobalTags().getTags().isEmpty());
+        assertNull(field2.getGlossaryTerms());
+    }
+
+    @Test
+    public void testFailedProposalsAreReported() throws Exception {
+        when(_entityService.getLatestAspectsByName(anySet(), anySet())).thenReturn(Collections.emptyMap());
+        final RuntimeException error = new RuntimeException("Failed to write");
+        when(_entityService.batchIngestProposals(anyList(), any())).thenReturn(Arrays.asList(
+            new IngestProposalResult(DATASET1, null), new IngestProposalResult(DATASET2, error)));
+
+        final RuntimeException thrown = expectThrows(RuntimeException.class, () -> LabelUtils.batchUpdateLabels(Arrays.asList(
+            new LabelUtils.LabelChange(TAG1, DATASET1, null, true),
+            new LabelUtils.LabelChange(TAG1, DATASET2, null, true)), ACTOR, _entityService));
+
+        // The other entities were still written
+        assertEquals(captureProposals().size(), 2);
+        assertEquals(thrown.getCause(), error);
+        assertTrue(thrown.getMessage().contains("Failed to update 1 of 2 aspects"));
+        assertTrue(thrown.getMessage().contains(TAGS_ASPECT_NAME + " of " + DATASET2));
+        assertFalse(thrown.getMessage().contains(DATASET1.toString()));
+    }
+
+    private List<MetadataChangeProposal> captureProposals() {
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<MetadataChangeProposal>> proposals = ArgumentCaptor.forClass(List.class);
+        verify(_entityService, times(1)).batchIngestProposals(proposals.capture(), any());
+        return proposals.getValue();
+    }
+
+    private static <T extends RecordTemplate> T aspect(MetadataChangeProposal proposal, Class<T> clazz) {
+        return GenericAspectUtils.deserializeAspect(proposal.getAspect().getValue(),
+            proposal.getAspect().getContentType(), clazz);
+    }
+
+    private static GlobalTags tags(Urn... tagUrns) throws Exception {
+        final TagAssociationArray associations = new TagAssociationArray();
+        for (Urn tagUrn : tagUrns) {
+            associations.add(new TagAssociation().setTag(TagUrn.createFromUrn(tagUrn)));
+        }
+        return new GlobalTags().setTags(associations);
+    }
+
+    private static List<Urn> tagUrns(GlobalTags tags) {
+        return tags.getTags().stream().map(TagAssociation::getTag).collect(Collectors.toList());
+    }
+
+    private static Urn datasetUrn(String name) {
+        return Urn.createFromTuple("dataset", "urn:li:dataPlatform:hive", name, "PROD");
+    }
+}
@@ -0,0 +1,79 @@
+package com.linkedin.datahub.graphql.types.lineage;
+
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.common.EntityRelationship;
+import com.linkedin.common.EntityRelationshipArray;
+import com.linkedin.common.EntityRelationships;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.lineage.client.RelationshipClient;
+import com.linkedin.metadata.query.RelationshipDirection;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+
+public class LineageUtilsTest {
+
+    private static final String ACTOR = "urn:li:corpuser:datahub";
+    private static final String KAFKA_DATASET = "urn:li:dataset:(urn:li:dataPlatform:kafka,SampleKafkaDataset,PROD)";
+    private static final String HIVE_DATASET = "urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)";
+    private static final String HDFS_DATASET = "urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleHdfsDataset,PROD)";
+    private static final String DATA_JOB = "urn:li:dataJob:(urn:li:dataFlow:(airflow,flow,PROD),job)";
+
+    @Test
+    public void testBatchGetLineageMergesTotalsPerUrn() throws Exception {
+        final RelationshipClient client = mock(RelationshipClient.class);
+        final List<String> urns = Arrays.asList(KAFKA_DATASET, HIVE_DATASET);
+        // A page of the 250 upstreams of the kafka dataset, and a job producing it
+        when(client.batchGetRelationships(eq(urns), eq(RelationshipDirection.OUTGOING), anyList(), eq(0), eq(100),
+            eq(ACTOR))).thenReturn(ImmutableMap.of(KAFKA_DATASET, relationships(250, HDFS_DATASET)));
+        when(client.batchGetRelationships(eq(urns), eq(RelationshipDirection.INCOMING), anyList(), eq(0), eq(100),
+            eq(ACTOR))).thenReturn(ImmutableMap.of(KAFKA_DATASET, relationships(1, DATA_JOB)));
+
+        final Map<String, EntityRelationships> lineage =
+            LineageUtils.batchGetLineage(client, urns, RelationshipDirection.OUTGOING, ACTOR);
+
+        assertEquals(lineage.size(), 2);
+        assertEquals(lineage.get(KAFKA_DATASET).getCount().intValue(), 2);
+        assertEquals(lineage.get(KAFKA_DATASET).getTotal().intValue(), 251);
+        assertEquals(lineage.get(KAFKA_DATASET).getRelationships().get(1).getEntity().toString(), DATA_JOB);
+        assertEquals(lineage.get(HIVE_DATASET).getCount().intValue(), 0);
+        assertEquals(lineage.get(HIVE_DATASET).getTotal().intValue(), 0);
+    }
+
+    @Test
+    public void testBatchGetLineageFollowsInverseTypesInOppositeDirection() throws Exception {
+        final RelationshipClient client = mock(RelationshipClient.class);
+        final List<String> urns = Arrays.asList(KAFKA_DATASET);
+        when(client.batchGetRelationships(eq(urns), any(), anyList(), eq(0), eq(100), eq(ACTOR)))
+            .thenReturn(ImmutableMap.of());
+        when(client.batchGetRelationships(urns, RelationshipDirection.OUTGOING, Arrays.asList("Produces", "MemberOf"), 0,
+            100, ACTOR)).thenReturn(ImmutableMap.of(KAFKA_DATASET, relationships(1, DATA_JOB)));
+
+        final Map<String, EntityRelationships> lineage =
+            LineageUtils.batchGetLineage(client, urns, RelationshipDirection.INCOMING, ACTOR);
+
+        assertEquals(lineage.get(KAFKA_DATASET).getTotal().intValue(), 1);
+        assertEquals(lineage.get(KAFKA_DATASET).getRelationships().get(0).getEntity().toString(), DATA_JOB);
+    }
+
+    private static EntityRelationships relationships(int total, String... urns) throws Exception {
+        final EntityRelationshipArray relationships = new EntityRelationshipArray();
+        for (String urn : urns) {
+            relationships.add(new EntityRelationship().setEntity(Urn.createFromString(urn)).setType("DownstreamOf"));
+        }
+        return new EntityRelationships()
+            .setRelationships(relationships)
+            .setStart(0)
+            .setCount(relationships.size())
+            .setTotal(total);
+    }
+}
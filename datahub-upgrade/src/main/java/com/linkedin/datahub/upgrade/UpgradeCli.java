@@ -1,6 +1,8 @@
 package com.linkedin.datahub.upgrade;
 
+import com.linkedin.datahub.upgrade.convertstorage.ConvertAspectStorage;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeManager;
+import com.linkedin.datahub.upgrade.metadatahash.AddMetadataHashColumn;
 import com.linkedin.datahub.upgrade.nocode.NoCodeUpgrade;
 import com.linkedin.datahub.upgrade.nocodecleanup.NoCodeCleanupUpgrade;
 import com.linkedin.datahub.upgrade.restorebackup.RestoreBackup;
@@ -44,12 +46,22 @@ public class UpgradeCli implements CommandLineRunner {
   @Named("restoreBackup")
   private RestoreBackup restoreBackup;
 
+  @Inject
+  @Named("convertAspectStorage")
+  private ConvertAspectStorage convertAspectStorage;
+
+  @Inject
+  @Named("addMetadataHashColumn")
+  private AddMetadataHashColumn addMetadataHashColumn;
+
   @Override
   public void run(String... cmdLineArgs) {
     _upgradeManager.register(noCodeUpgrade);
     _upgradeManager.register(noCodeCleanup);
     _upgradeManager.register(restoreIndices);
     _upgradeManager.register(restoreBackup);
+    _upgradeManager.register(convertAspectStorage);
+    _upgradeManager.register(addMetadataHashColumn);
 
     final Args args = new Args();
     new CommandLine(args).setCaseInsensitiveEnumValuesAllowed(true).parseArgs(cmdLineArgs);
@@ -0,0 +1,55 @@
+package com.linkedin.datahub.upgrade.common.steps;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.entity.AspectStorageValidationUtil;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.ebean.EbeanServer;
+import java.util.function.Function;
+
+
+/**
+ * Adds the nullable metadatahash column to a metadata_aspect_v2 table created before the column existed. GMS only
+ * checks for the column, since adding it needs DDL privileges and may lock the table.
+ */
+public class AddMetadataHashColumnStep implements UpgradeStep {
+
+  private final EbeanServer _server;
+
+  public AddMetadataHashColumnStep(final EbeanServer server) {
+    _server = server;
+  }
+
+  @Override
+  public String id() {
+    return "AddMetadataHashColumnStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 1;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      try {
+        if (AspectStorageValidationUtil.checkV2ColumnExists(_server, EbeanAspectV2.METADATA_HASH_COLUMN)) {
+          context.report().addLine("Column metadatahash already exists. Skipping...");
+          return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+        }
+        // Same statement on MySQL, MariaDB and Postgres. Appending a nullable column does not rewrite existing rows.
+        _server.execute(_server.createSqlUpdate("ALTER TABLE metadata_aspect_v2 ADD COLUMN metadatahash varchar(64)"));
+      } catch (Exception e) {
+        context.report().addLine(String.format("Failed to add column metadatahash to metadata_aspect_v2: %s", e.toString()));
+        return new DefaultUpgradeStepResult(
+            id(),
+            UpgradeStepResult.Result.FAILED);
+      }
+      context.report().addLine("Added column metadatahash to metadata_aspect_v2");
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+    };
+  }
+}
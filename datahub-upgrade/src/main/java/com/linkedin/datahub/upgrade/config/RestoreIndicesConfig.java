@@ -7,6 +7,7 @@ import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
 import com.linkedin.metadata.search.SearchService;
 import io.ebean.EbeanServerFactory;
 import io.ebean.config.ServerConfig;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
@@ -23,10 +24,12 @@ public class RestoreIndicesConfig {
   ApplicationContext applicationContext;
 
   @Bean(name = "restoreIndices")
-  @DependsOn({"gmsEbeanServiceConfig", "entityService", "searchService", "graphService"})
+  @DependsOn({"gmsEbeanServiceConfig", "gmsEbeanReadServiceConfig", "entityService", "searchService", "graphService"})
   @Nonnull
   public RestoreIndices createInstance() {
-    final ServerConfig serverConfig = applicationContext.getBean(ServerConfig.class);
+    // The aspect table is only scanned, so the scan runs on the read replica if there is one
+    final Optional<?> readServerConfig = applicationContext.getBean("gmsEbeanReadServiceConfig", Optional.class);
+    final ServerConfig serverConfig = (ServerConfig) readServerConfig.orElse(applicationContext.getBean(ServerConfig.class));
     final EntityService entityService = applicationContext.getBean(EntityService.class);
     final SearchService searchService = applicationContext.getBean(SearchService.class);
     final GraphService graphService = applicationContext.getBean(GraphService.class);
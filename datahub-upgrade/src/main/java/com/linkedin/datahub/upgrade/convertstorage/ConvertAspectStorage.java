@@ -0,0 +1,51 @@
+package com.linkedin.datahub.upgrade.convertstorage;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeCleanupStep;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.common.steps.AddMetadataHashColumnStep;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import io.ebean.EbeanServer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Rewrites the rows of the aspect table in another storage format, e.g. from JSON to deflated PSON. Rows are updated
+ * one at a time and only if they did not change since they were read, so GMS can keep serving writes meanwhile.
+ */
+public class ConvertAspectStorage implements Upgrade {
+  public static final String FORMAT_ARG_NAME = "format";
+  public static final String BATCH_SIZE_ARG_NAME = "batchSize";
+  public static final String BATCH_DELAY_MS_ARG_NAME = "batchDelayMs";
+
+  private final List<UpgradeStep> _steps;
+
+  public ConvertAspectStorage(final EbeanServer server) {
+    _steps = buildSteps(server);
+  }
+
+  @Override
+  public String id() {
+    return "ConvertAspectStorage";
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+
+  private List<UpgradeStep> buildSteps(final EbeanServer server) {
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(server);
+    final List<UpgradeStep> steps = new ArrayList<>();
+    steps.add(new AddMetadataHashColumnStep(server));
+    steps.add(new ConvertAspectStorageStep(server, aspectDao));
+    return steps;
+  }
+
+  @Override
+  public List<UpgradeCleanupStep> cleanupSteps() {
+    return ImmutableList.of();
+  }
+}
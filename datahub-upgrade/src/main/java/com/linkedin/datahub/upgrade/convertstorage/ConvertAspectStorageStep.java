@@ -0,0 +1,150 @@
+package com.linkedin.datahub.upgrade.convertstorage;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.entity.ebean.AspectStorageCodec;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.ebean.EbeanServer;
+import io.ebean.PagedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+
+public class ConvertAspectStorageStep implements UpgradeStep {
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final long DEFAULT_BATCH_DELAY_MS = 250;
+  private static final AspectStorageCodec.Format DEFAULT_FORMAT = AspectStorageCodec.Format.PSON_DEFLATE;
+
+  private final EbeanServer _server;
+  private final EbeanAspectDao _aspectDao;
+
+  public ConvertAspectStorageStep(final EbeanServer server, final EbeanAspectDao aspectDao) {
+    _server = server;
+    _aspectDao = aspectDao;
+  }
+
+  @Override
+  public String id() {
+    return "ConvertAspectStorageStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 0;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      final AspectStorageCodec codec;
+      try {
+        codec = new AspectStorageCodec(getFormat(context.parsedArgs()));
+      } catch (IllegalArgumentException e) {
+        context.report().addLine(String.format("Unknown storage format: %s", e.getMessage()));
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      }
+
+      context.report().addLine(String.format("Converting aspects to %s...", codec.getFormat()));
+      final int rowCount = _server.find(EbeanAspectV2.class).findCount();
+      context.report().addLine(String.format("Found %s rows in aspects table", rowCount));
+
+      long bytesBefore = 0;
+      long bytesAfter = 0;
+      int rowsConverted = 0;
+      int rowsSkipped = 0;
+      int start = 0;
+      final int count = getBatchSize(context.parsedArgs());
+      while (start < rowCount) {
+        context.report()
+            .addLine(String.format("Reading rows %s through %s from the aspects table.", start, start + count));
+        final PagedList<EbeanAspectV2> rows = getPagedAspects(start, count);
+
+        for (EbeanAspectV2 aspect : rows.getList()) {
+          final String metadata = aspect.getMetadata();
+          bytesBefore += metadata.length();
+          if (AspectStorageCodec.getFormat(metadata) == codec.getFormat()) {
+            bytesAfter += metadata.length();
+            continue;
+          }
+
+          final String converted;
+          try {
+            converted = codec.encodeData(AspectStorageCodec.decodeData(metadata));
+          } catch (Exception e) {
+            context.report()
+                .addLine(String.format("Failed to convert aspect %s of %s, version %s: %s", aspect.getKey().getAspect(),
+                    aspect.getKey().getUrn(), aspect.getKey().getVersion(), e));
+            return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+          }
+
+          // The row is left as is if it was rewritten since it was read; new writes already use the configured format
+          if (_aspectDao.replaceAspectMetadata(aspect.getKey(), metadata, converted)) {
+            bytesAfter += converted.length();
+            rowsConverted++;
+          } else {
+            bytesAfter += metadata.length();
+            rowsSkipped++;
+          }
+        }
+        context.report()
+            .addLine(String.format("Converted %s rows, skipped %s concurrently modified rows", rowsConverted, rowsSkipped));
+        start = start + count;
+        try {
+          TimeUnit.MILLISECONDS.sleep(getBatchDelayMs(context.parsedArgs()));
+        } catch (InterruptedException e) {
+          throw new RuntimeException("Thread interrupted while sleeping after successful batch conversion.");
+        }
+      }
+      context.report()
+          .addLine(String.format("Aspect metadata size went from %s to %s characters", bytesBefore, bytesAfter));
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+    };
+  }
+
+  private PagedList<EbeanAspectV2> getPagedAspects(final int start, final int pageSize) {
+    return _server.find(EbeanAspectV2.class)
+        .select(EbeanAspectV2.ALL_COLUMNS)
+        .orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.ASPECT_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.VERSION_COLUMN)
+        .setFirstRow(start)
+        .setMaxRows(pageSize)
+        .findPagedList();
+  }
+
+  private AspectStorageCodec.Format getFormat(final Map<String, Optional<String>> parsedArgs) {
+    AspectStorageCodec.Format resolvedFormat = DEFAULT_FORMAT;
+    if (parsedArgs.containsKey(ConvertAspectStorage.FORMAT_ARG_NAME) && parsedArgs.get(
+        ConvertAspectStorage.FORMAT_ARG_NAME).isPresent()) {
+      resolvedFormat = AspectStorageCodec.Format.valueOf(parsedArgs.get(ConvertAspectStorage.FORMAT_ARG_NAME).get());
+    }
+    return resolvedFormat;
+  }
+
+  private int getBatchSize(final Map<String, Optional<String>> parsedArgs) {
+    int resolvedBatchSize = DEFAULT_BATCH_SIZE;
+    if (parsedArgs.containsKey(ConvertAspectStorage.BATCH_SIZE_ARG_NAME) && parsedArgs.get(
+        ConvertAspectStorage.BATCH_SIZE_ARG_NAME).isPresent()) {
+      resolvedBatchSize = Integer.parseInt(parsedArgs.get(ConvertAspectStorage.BATCH_SIZE_ARG_NAME).get());
+    }
+    return resolvedBatchSize;
+  }
+
+  private long getBatchDelayMs(final Map<String, Optional<String>> parsedArgs) {
+    long resolvedBatchDelayMs = DEFAULT_BATCH_DELAY_MS;
+    if (parsedArgs.containsKey(ConvertAspectStorage.BATCH_DELAY_MS_ARG_NAME) && parsedArgs.get(
+        ConvertAspectStorage.BATCH_DELAY_MS_ARG_NAME).isPresent()) {
+      resolvedBatchDelayMs = Long.parseLong(parsedArgs.get(ConvertAspectStorage.BATCH_DELAY_MS_ARG_NAME).get());
+    }
+    return resolvedBatchDelayMs;
+  }
+}
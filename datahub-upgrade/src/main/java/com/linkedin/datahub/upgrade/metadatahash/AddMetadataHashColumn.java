@@ -0,0 +1,38 @@
+package com.linkedin.datahub.upgrade.metadatahash;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeCleanupStep;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.common.steps.AddMetadataHashColumnStep;
+import io.ebean.EbeanServer;
+import java.util.List;
+
+
+/**
+ * Adds the metadatahash column to an existing metadata_aspect_v2 table. Tables created by the init scripts or by the
+ * NoCodeDataMigration upgrade already have it.
+ */
+public class AddMetadataHashColumn implements Upgrade {
+
+  private final List<UpgradeStep> _steps;
+
+  public AddMetadataHashColumn(final EbeanServer server) {
+    _steps = ImmutableList.of(new AddMetadataHashColumnStep(server));
+  }
+
+  @Override
+  public String id() {
+    return "AddMetadataHashColumn";
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+
+  @Override
+  public List<UpgradeCleanupStep> cleanupSteps() {
+    return ImmutableList.of();
+  }
+}
@@ -54,6 +54,7 @@ public class CreateAspectTableStep implements UpgradeStep {
               + "  createdon                     timestamp not null,\n"
               + "  createdby                     varchar(255) not null,\n"
               + "  createdfor                    varchar(255),\n"
+              + "  metadatahash                  varchar(64),\n"
               + "  constraint pk_metadata_aspect_v2 primary key (urn,aspect,version)\n"
               + ")";
           break;
@@ -68,6 +69,7 @@ public class CreateAspectTableStep implements UpgradeStep {
               + "  createdon                     datetime(6) not null,\n"
               + "  createdby                     varchar(255) not null,\n"
               + "  createdfor                    varchar(255),\n"
+              + "  metadatahash                  varchar(64),\n"
               + "  constraint pk_metadata_aspect_v2 primary key (urn,aspect,version)\n"
               + ")";
           break;
@@ -15,11 +15,13 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.mxe.MetadataAuditOperation;
 import com.linkedin.mxe.SystemMetadata;
 import io.ebean.EbeanServer;
-import io.ebean.PagedList;
+import io.ebean.ExpressionList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 
 
 public class SendMAEStep implements UpgradeStep {
@@ -56,15 +58,17 @@ public class SendMAEStep implements UpgradeStep {
       context.report().addLine(String.format("Found %s latest aspects in aspects table", rowCount));
 
       int totalRowsMigrated = 0;
-      int start = 0;
       int count = getBatchSize(context.parsedArgs());
-      while (start < rowCount) {
+      EbeanAspectV2.PrimaryKey lastKey = null;
+      List<EbeanAspectV2> rows;
+      do {
 
         context.report()
-            .addLine(String.format("Reading rows %s through %s from the aspects table.", start, start + count));
-        PagedList<EbeanAspectV2> rows = getPagedAspects(start, count);
+            .addLine(String.format("Reading rows %s through %s from the aspects table.", totalRowsMigrated,
+                totalRowsMigrated + count));
+        rows = getAspectsAfter(lastKey, count);
 
-        for (EbeanAspectV2 aspect : rows.getList()) {
+        for (EbeanAspectV2 aspect : rows) {
           // 1. Extract an Entity type from the entity Urn
           Urn urn;
           try {
@@ -115,15 +119,15 @@ public class SendMAEStep implements UpgradeStep {
           );
 
           totalRowsMigrated++;
+          lastKey = aspect.getKey();
         }
         context.report().addLine(String.format("Successfully sent MAEs for %s rows", totalRowsMigrated));
-        start = start + count;
         try {
           TimeUnit.MILLISECONDS.sleep(getBatchDelayMs(context.parsedArgs()));
         } catch (InterruptedException e) {
           throw new RuntimeException("Thread interrupted while sleeping after successful batch migration.");
         }
-      }
+      } while (rows.size() == count);
       if (totalRowsMigrated != rowCount) {
         context.report()
             .addLine(
@@ -135,18 +139,32 @@ public class SendMAEStep implements UpgradeStep {
     };
   }
 
-  private PagedList<EbeanAspectV2> getPagedAspects(final int start, final int pageSize) {
-    return _server.find(EbeanAspectV2.class)
+  /**
+   * Reads the page of latest aspects that follows the given key in (urn, aspect) order. Seeking past the last key of the
+   * previous page rather than skipping over all previous pages keeps the pages at the end of the table as fast to read
+   * as the first ones.
+   */
+  private List<EbeanAspectV2> getAspectsAfter(@Nullable final EbeanAspectV2.PrimaryKey lastKey, final int pageSize) {
+    ExpressionList<EbeanAspectV2> expressions = _server.find(EbeanAspectV2.class)
+        .setBufferFetchSizeHint(pageSize)
         .select(EbeanAspectV2.ALL_COLUMNS)
         .where()
-        .eq(EbeanAspectV2.VERSION_COLUMN, 0)
-        .orderBy()
+        .eq(EbeanAspectV2.VERSION_COLUMN, 0);
+    if (lastKey != null) {
+      expressions = expressions.or()
+          .gt(EbeanAspectV2.URN_COLUMN, lastKey.getUrn())
+          .and()
+          .eq(EbeanAspectV2.URN_COLUMN, lastKey.getUrn())
+          .gt(EbeanAspectV2.ASPECT_COLUMN, lastKey.getAspect())
+          .endAnd()
+          .endOr();
+    }
+    return expressions.orderBy()
         .asc(EbeanAspectV2.URN_COLUMN)
         .orderBy()
         .asc(EbeanAspectV2.ASPECT_COLUMN)
-        .setFirstRow(start)
         .setMaxRows(pageSize)
-        .findPagedList();
+        .findList();
   }
 
   private int getBatchSize(final Map<String, Optional<String>> parsedArgs) {
@@ -12,9 +12,18 @@ create table if not exists metadata_aspect_v2 (
   createdon                     datetime(6) not null,
   createdby                     varchar(255) not null,
   createdfor                    varchar(255),
+  metadatahash                  varchar(64),
   constraint pk_metadata_aspect_v2 primary key (urn,aspect,version)
 );
 
+-- add the metadatahash column to tables created before it existed
+SET @add_metadatahash = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE metadata_aspect_v2 ADD COLUMN metadatahash varchar(64)', 'DO 0')
+  FROM INFORMATION_SCHEMA.COLUMNS
+  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'metadata_aspect_v2' AND COLUMN_NAME = 'metadatahash');
+PREPARE add_metadatahash FROM @add_metadatahash;
+EXECUTE add_metadatahash;
+DEALLOCATE PREPARE add_metadatahash;
+
 -- create default records for datahub user if not exists
 CREATE TABLE temp_metadata_aspect_v2 LIKE metadata_aspect_v2;
 INSERT INTO temp_metadata_aspect_v2 (urn, aspect, version, metadata, createdon, createdby) VALUES(
@@ -52,3 +61,21 @@ CREATE TABLE IF NOT EXISTS metadata_index (
  INDEX stringIndex (`urn`,`aspect`,`path`,`stringVal`),
  INDEX doubleIndex (`urn`,`aspect`,`path`,`doubleVal`)
 );
+
+-- create outbox table, which holds the events of aspect writes until they are relayed to kafka
+create table if not exists metadata_outbox (
+  id                            bigint(20) not null auto_increment,
+  urn                           varchar(500) not null,
+  eventtype                     varchar(20) not null,
+  payload                       longtext not null,
+  createdon                     datetime(6) not null,
+  constraint pk_metadata_outbox primary key (id)
+);
+
+-- create outbox lease table, which records the relay that sends the events of the outbox
+create table if not exists metadata_outbox_lease (
+  name                          varchar(50) not null,
+  owner                         varchar(100) not null,
+  expireson                     datetime(6) not null,
+  constraint pk_metadata_outbox_lease primary key (name)
+);
@@ -8,6 +8,7 @@ CREATE TABLE metadata_aspect_v2 (
   createdon                     datetime(6) NOT NULL,
   createdby                     VARCHAR(255) NOT NULL,
   createdfor                    VARCHAR(255),
+  metadatahash                  VARCHAR(64),
   CONSTRAINT pk_metadata_aspect_v2 PRIMARY KEY (urn,aspect,version)
 ) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
 
@@ -41,3 +42,21 @@ CREATE TABLE metadata_index (
  INDEX stringIndex (`urn`,`aspect`,`path`,`stringVal`),
  INDEX doubleIndex (`urn`,`aspect`,`path`,`doubleVal`)
 );
+
+-- create outbox table, which holds the events of aspect writes until they are relayed to kafka
+CREATE TABLE metadata_outbox (
+  id                            bigint(20) NOT NULL AUTO_INCREMENT,
+  urn                           VARCHAR(500) NOT NULL,
+  eventtype                     VARCHAR(20) NOT NULL,
+  payload                       longtext NOT NULL,
+  createdon                     datetime(6) NOT NULL,
+  CONSTRAINT pk_metadata_outbox PRIMARY KEY (id)
+) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+-- create outbox lease table, which records the relay that sends the events of the outbox
+CREATE TABLE metadata_outbox_lease (
+  name                          VARCHAR(50) NOT NULL,
+  owner                         VARCHAR(100) NOT NULL,
+  expireson                     datetime(6) NOT NULL,
+  CONSTRAINT pk_metadata_outbox_lease PRIMARY KEY (name)
+) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
@@ -8,9 +8,13 @@ CREATE TABLE IF NOT EXISTS metadata_aspect_v2 (
   createdon                     timestamp not null,
   createdby                     varchar(255) not null,
   createdfor                    varchar(255),
+  metadatahash                  varchar(64),
   CONSTRAINT pk_metadata_aspect_v2 PRIMARY KEY (urn, aspect, version)
 );
 
+-- add the metadatahash column to tables created before it existed
+ALTER TABLE metadata_aspect_v2 ADD COLUMN IF NOT EXISTS metadatahash varchar(64);
+
 -- create default records for datahub user if not exists
 CREATE TEMP TABLE temp_metadata_aspect_v2 AS TABLE metadata_aspect_v2;
 INSERT INTO temp_metadata_aspect_v2 (urn, aspect, version, metadata, createdon, createdby) VALUES(
@@ -33,3 +37,21 @@ INSERT INTO metadata_aspect_v2
 SELECT * FROM temp_metadata_aspect_v2
 WHERE NOT EXISTS (SELECT * from metadata_aspect_v2);
 DROP TABLE temp_metadata_aspect_v2;
+
+-- create outbox table, which holds the events of aspect writes until they are relayed to kafka
+create table if not exists metadata_outbox (
+  id                            bigserial not null,
+  urn                           varchar(500) not null,
+  eventtype                     varchar(20) not null,
+  payload                       text not null,
+  createdon                     timestamp not null,
+  constraint pk_metadata_outbox primary key (id)
+);
+
+-- create outbox lease table, which records the relay that sends the events of the outbox
+create table if not exists metadata_outbox_lease (
+  name                          varchar(50) not null,
+  owner                         varchar(100) not null,
+  expireson                     timestamp not null,
+  constraint pk_metadata_outbox_lease primary key (name)
+);
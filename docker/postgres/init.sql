@@ -8,6 +8,7 @@ create table metadata_aspect_v2 (
   createdon                     timestamp not null,
   createdby                     varchar(255) not null,
   createdfor                    varchar(255),
+  metadatahash                  varchar(64),
   constraint pk_metadata_aspect_v2 primary key (urn,aspect,version)
 );
 
@@ -26,3 +27,21 @@ insert into metadata_aspect_v2 (urn, aspect, version, metadata, createdon, creat
   now(),
   'urn:li:principal:datahub'
 );
+
+-- create outbox table, which holds the events of aspect writes until they are relayed to kafka
+create table metadata_outbox (
+  id                            bigserial not null,
+  urn                           varchar(500) not null,
+  eventtype                     varchar(20) not null,
+  payload                       text not null,
+  createdon                     timestamp not null,
+  constraint pk_metadata_outbox primary key (id)
+);
+
+-- create outbox lease table, which records the relay that sends the events of the outbox
+create table metadata_outbox_lease (
+  name                          varchar(50) not null,
+  owner                         varchar(100) not null,
+  expireson                     timestamp not null,
+  constraint pk_metadata_outbox_lease primary key (name)
+);
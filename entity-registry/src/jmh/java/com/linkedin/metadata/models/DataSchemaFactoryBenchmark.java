@@ -0,0 +1,27 @@
+package com.linkedin.metadata.models;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+
+/**
+ * Compares the startup of {@link DataSchemaFactory} from the schema index generated at build time against scanning the
+ * classpath for schemas.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataSchemaFactoryBenchmark {
+
+  @Benchmark
+  public DataSchemaFactory index() {
+    return new DataSchemaFactory();
+  }
+
+  @Benchmark
+  public DataSchemaFactory classpathScan() {
+    return new DataSchemaFactory("com.linkedin");
+  }
+}
@@ -1,7 +1,12 @@
 package com.linkedin.metadata.models;
 
+import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -14,10 +19,15 @@ public class AspectSpec {
   private final AspectAnnotation _aspectAnnotation;
   private final Map<String, SearchableFieldSpec> _searchableFieldSpecs;
   private final Map<String, RelationshipFieldSpec> _relationshipFieldSpecs;
+  private final FieldExtractionPlan _fieldExtractionPlan;
 
   // Classpath & Pegasus-specific: Temporary.
   private final RecordDataSchema _schema;
 
+  // Resolved on first use, since the template class may not be on the classpath of every registry user.
+  private volatile Class<? extends RecordTemplate> _dataTemplateClass;
+  private volatile MethodHandle _dataTemplateConstructor;
+
   public AspectSpec(@Nonnull final AspectAnnotation aspectAnnotation,
       @Nonnull final List<SearchableFieldSpec> searchableFieldSpecs,
       @Nonnull final List<RelationshipFieldSpec> relationshipFieldSpecs, final RecordDataSchema schema) {
@@ -27,6 +37,9 @@ public class AspectSpec {
     _relationshipFieldSpecs = relationshipFieldSpecs.stream()
         .collect(Collectors.toMap(spec -> spec.getPath().toString(), spec -> spec, (val1, val2) -> val1));
     _schema = schema;
+    final List<FieldSpec> fieldSpecs = new ArrayList<>(_searchableFieldSpecs.values());
+    fieldSpecs.addAll(_relationshipFieldSpecs.values());
+    _fieldExtractionPlan = FieldExtractionPlan.compile(schema, fieldSpecs);
   }
 
   public String getName() {
@@ -53,9 +66,58 @@ public class AspectSpec {
     return new ArrayList<>(_relationshipFieldSpecs.values());
   }
 
+  /**
+   * Returns the precompiled plan extracting the values of all searchable and relationship fields of this aspect.
+   */
+  public FieldExtractionPlan getFieldExtractionPlan() {
+    return _fieldExtractionPlan;
+  }
+
   public RecordDataSchema getPegasusSchema() {
     return _schema;
   }
-}
 
+  /**
+   * Returns the generated data template class of this aspect. The class is looked up once and cached.
+   */
+  public Class<? extends RecordTemplate> getDataTemplateClass() {
+    if (_dataTemplateClass == null) {
+      resolveDataTemplate();
+    }
+    return _dataTemplateClass;
+  }
 
+  /**
+   * Wraps the given data in a new instance of this aspect's data template, without any reflective lookup after the
+   * first call.
+   */
+  public RecordTemplate createDataTemplate(@Nonnull final DataMap data) {
+    if (_dataTemplateConstructor == null) {
+      resolveDataTemplate();
+    }
+    try {
+      return (RecordTemplate) _dataTemplateConstructor.invokeExact(data);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(String.format("Failed to instantiate data template of aspect %s", getName()), e);
+    }
+  }
+
+  private synchronized void resolveDataTemplate() {
+    if (_dataTemplateConstructor != null) {
+      return;
+    }
+    final Class<? extends RecordTemplate> dataTemplateClass;
+    try {
+      dataTemplateClass = Class.forName(_schema.getFullName()).asSubclass(RecordTemplate.class);
+      _dataTemplateConstructor = MethodHandles.publicLookup()
+          .findConstructor(dataTemplateClass, MethodType.methodType(void.class, DataMap.class))
+          .asType(MethodType.methodType(RecordTemplate.class, DataMap.class));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          String.format("Unable to find data template class for aspect schema %s", _schema.getFullName()), e);
+    }
+    _dataTemplateClass = dataTemplateClass;
+  }
+}
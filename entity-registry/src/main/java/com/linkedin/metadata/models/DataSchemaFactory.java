@@ -5,60 +5,153 @@ import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
 import com.linkedin.metadata.models.annotation.EntityAnnotation;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
 import org.reflections.Reflections;
 
 
 /**
  * Factory class to get a map of all entity schemas and aspect schemas under com.linkedin package
  * This lets us fetch the PDL data schema of an arbitrary entity or aspect based on their names
+ *
+ * The default instance reads the names and classes of the schemas from the index generated at build time by
+ * {@link DataSchemaIndexGenerator}, and only loads a schema class the first time it is looked up. The classpath is
+ * scanned with Reflections only if a name is missing from the index, e.g. for models added to the classpath at runtime.
  */
+@Slf4j
 public class DataSchemaFactory {
-  private final Map<String, DataSchema> entitySchemas;
-  private final Map<String, DataSchema> aspectSchemas;
+  public static final String INDEX_RESOURCE = "datahub/schema-index.properties";
+  static final String ENTITY_PREFIX = "entity.";
+  static final String ASPECT_PREFIX = "aspect.";
 
+  private final String classPath;
+  private final Map<String, String> entitySchemaClasses = new ConcurrentHashMap<>();
+  private final Map<String, String> aspectSchemaClasses = new ConcurrentHashMap<>();
+  private final Map<String, DataSchema> entitySchemas = new ConcurrentHashMap<>();
+  private final Map<String, DataSchema> aspectSchemas = new ConcurrentHashMap<>();
+  private volatile boolean scanned;
+
+  private static final String DEFAULT_CLASS_PATH = "com.linkedin";
   private static final String NAME_FIELD = "name";
   private static final DataSchemaFactory INSTANCE = new DataSchemaFactory();
 
   public DataSchemaFactory() {
-    this("com.linkedin");
+    this.classPath = DEFAULT_CLASS_PATH;
+    if (!loadIndex()) {
+      log.info("No schema index found on the classpath, schemas under {} will be scanned on first use", classPath);
+    }
   }
 
   public DataSchemaFactory(String classPath) {
-    entitySchemas = new HashMap<>();
-    aspectSchemas = new HashMap<>();
+    this.classPath = classPath;
+    scanClassPath();
+  }
 
+  /**
+   * Finds every entity and aspect schema under the given package, keyed by the name in its annotation.
+   */
+  static void scan(String classPath, Map<String, String> entitySchemaClasses, Map<String, String> aspectSchemaClasses) {
     Reflections reflections = new Reflections(classPath);
     Set<Class<? extends RecordTemplate>> classes = reflections.getSubTypesOf(RecordTemplate.class);
 
-    classes.stream().map(recordClass -> {
+    classes.forEach(recordClass -> {
+      final DataSchema schema;
       try {
-        return DataTemplateUtil.getSchema(recordClass);
+        schema = DataTemplateUtil.getSchema(recordClass);
       } catch (Exception e) {
-        return null;
+        return;
       }
-    }).filter(Objects::nonNull).forEach(schema -> {
-      getName(schema, EntityAnnotation.ANNOTATION_NAME).ifPresent(entityName -> entitySchemas.put(entityName, schema));
-      getName(schema, AspectAnnotation.ANNOTATION_NAME).ifPresent(aspectName -> aspectSchemas.put(aspectName, schema));
+      getName(schema, EntityAnnotation.ANNOTATION_NAME)
+          .ifPresent(entityName -> entitySchemaClasses.put(entityName, recordClass.getName()));
+      getName(schema, AspectAnnotation.ANNOTATION_NAME)
+          .ifPresent(aspectName -> aspectSchemaClasses.put(aspectName, recordClass.getName()));
     });
   }
 
-  private Optional<String> getName(DataSchema dataSchema, String annotationName) {
+  private boolean loadIndex() {
+    boolean found = false;
+    try {
+      Enumeration<URL> indexes = DataSchemaFactory.class.getClassLoader().getResources(INDEX_RESOURCE);
+      while (indexes.hasMoreElements()) {
+        URL index = indexes.nextElement();
+        Properties properties = new Properties();
+        try (InputStream inputStream = index.openStream()) {
+          properties.load(inputStream);
+        }
+        for (String key : properties.stringPropertyNames()) {
+          if (key.startsWith(ENTITY_PREFIX)) {
+            entitySchemaClasses.putIfAbsent(key.substring(ENTITY_PREFIX.length()), properties.getProperty(key));
+          } else if (key.startsWith(ASPECT_PREFIX)) {
+            aspectSchemaClasses.putIfAbsent(key.substring(ASPECT_PREFIX.length()), properties.getProperty(key));
+          }
+        }
+        found = true;
+      }
+    } catch (IOException e) {
+      log.warn("Failed to read schema index, falling back to classpath scanning", e);
+      return false;
+    }
+    return found;
+  }
+
+  private synchronized void scanClassPath() {
+    if (scanned) {
+      return;
+    }
+    long startTime = System.currentTimeMillis();
+    Map<String, String> scannedEntities = new ConcurrentHashMap<>();
+    Map<String, String> scannedAspects = new ConcurrentHashMap<>();
+    scan(classPath, scannedEntities, scannedAspects);
+    scannedEntities.forEach(entitySchemaClasses::putIfAbsent);
+    scannedAspects.forEach(aspectSchemaClasses::putIfAbsent);
+    scanned = true;
+    log.info("Scanned {} for schemas in {} ms", classPath, System.currentTimeMillis() - startTime);
+  }
+
+  private Optional<DataSchema> getSchema(String name, Map<String, String> schemaClasses,
+      Map<String, DataSchema> schemas) {
+    DataSchema schema = schemas.get(name);
+    if (schema != null) {
+      return Optional.of(schema);
+    }
+    if (!schemaClasses.containsKey(name) && !scanned) {
+      log.warn("Schema {} is missing from the schema index, scanning {}", name, classPath);
+      scanClassPath();
+    }
+    String className = schemaClasses.get(name);
+    if (className == null) {
+      return Optional.empty();
+    }
+    try {
+      schema = DataTemplateUtil.getSchema(Class.forName(className, true, DataSchemaFactory.class.getClassLoader()));
+    } catch (Exception e) {
+      log.error("Failed to load schema {} from class {}", name, className, e);
+      return Optional.empty();
+    }
+    schemas.put(name, schema);
+    return Optional.of(schema);
+  }
+
+  private static Optional<String> getName(DataSchema dataSchema, String annotationName) {
     return Optional.ofNullable(dataSchema.getProperties().get(annotationName))
         .filter(obj -> Map.class.isAssignableFrom(obj.getClass()))
         .flatMap(obj -> Optional.ofNullable(((Map) obj).get(NAME_FIELD)).map(Object::toString));
   }
 
   public Optional<DataSchema> getEntitySchema(String entityName) {
-    return Optional.ofNullable(entitySchemas.get(entityName));
+    return getSchema(entityName, entitySchemaClasses, entitySchemas);
   }
 
   public Optional<DataSchema> getAspectSchema(String aspectName) {
-    return Optional.ofNullable(aspectSchemas.get(aspectName));
+    return getSchema(aspectName, aspectSchemaClasses, aspectSchemas);
   }
 
   public static DataSchemaFactory getInstance() {
@@ -0,0 +1,48 @@
+package com.linkedin.metadata.models;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Build-time entry point that scans the classpath for entity and aspect schemas and writes the index read by
+ * {@link DataSchemaFactory}, so that services do not have to scan the classpath on startup.
+ *
+ * Usage: DataSchemaIndexGenerator &lt;output file&gt; [package]
+ */
+@Slf4j
+public class DataSchemaIndexGenerator {
+
+  private DataSchemaIndexGenerator() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1 || args.length > 2) {
+      throw new IllegalArgumentException("Usage: DataSchemaIndexGenerator <output file> [package]");
+    }
+    final File outputFile = new File(args[0]);
+    final String classPath = args.length > 1 ? args[1] : "com.linkedin";
+
+    // Sorted so that the generated file is stable across builds
+    final Map<String, String> entitySchemaClasses = new TreeMap<>();
+    final Map<String, String> aspectSchemaClasses = new TreeMap<>();
+    DataSchemaFactory.scan(classPath, entitySchemaClasses, aspectSchemaClasses);
+
+    final File parent = outputFile.getParentFile();
+    if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+      throw new IOException(String.format("Failed to create directory %s", parent));
+    }
+    try (PrintWriter writer = new PrintWriter(outputFile, StandardCharsets.ISO_8859_1.name())) {
+      writer.println("# Generated by " + DataSchemaIndexGenerator.class.getName() + ". Do not edit.");
+      entitySchemaClasses.forEach((name, className) -> writer.println(DataSchemaFactory.ENTITY_PREFIX + name + "=" + className));
+      aspectSchemaClasses.forEach((name, className) -> writer.println(DataSchemaFactory.ASPECT_PREFIX + name + "=" + className));
+    }
+    log.info("Indexed {} entity and {} aspect schemas under {} into {}", entitySchemaClasses.size(),
+        aspectSchemaClasses.size(), classPath, outputFile);
+  }
+}
@@ -0,0 +1,263 @@
+package com.linkedin.metadata.models;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.ArrayDataSchema;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.MapDataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.schema.TyperefDataSchema;
+import com.linkedin.data.schema.UnionDataSchema;
+import com.linkedin.data.template.Custom;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.data.template.TemplateOutputCastException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Precompiled plan that extracts the values of a set of {@link FieldSpec}s from an aspect's {@link DataMap} in a single
+ * pass.
+ *
+ * The paths of all field specs are merged into a trie keyed by path component, so shared prefixes are walked once and
+ * each value is appended directly to the result list of the spec it belongs to. Every node also records which kinds of
+ * field specs live below it, which lets a caller interested in only one kind skip the rest of the tree.
+ */
+@Slf4j
+public class FieldExtractionPlan {
+
+  private static final String ARRAY_WILDCARD = "*";
+  private static final String JAVA_PROPERTY = "java";
+  private static final String CLASS_PROPERTY = "class";
+  private static final int MAX_VALUE_LENGTH = 200;
+
+  private final Node _root;
+  private final List<FieldSpec> _fieldSpecs;
+
+  private FieldExtractionPlan(@Nonnull final Node root, @Nonnull final List<FieldSpec> fieldSpecs) {
+    _root = root;
+    _fieldSpecs = fieldSpecs;
+  }
+
+  /**
+   * Compiles a plan for the given field specs, all of which must be relative to the given aspect schema. The schema is
+   * only used to resolve custom Java classes of the extracted values.
+   */
+  @Nonnull
+  public static FieldExtractionPlan compile(@Nullable final RecordDataSchema aspectSchema,
+      @Nonnull final List<? extends FieldSpec> fieldSpecs) {
+    final Node root = new Node();
+    for (final FieldSpec fieldSpec : fieldSpecs) {
+      final List<String> components = fieldSpec.getPath().getPathComponents();
+      Node node = root;
+      node._specClasses.add(fieldSpec.getClass());
+      for (final String component : components) {
+        node = node._children.computeIfAbsent(component, key -> new Node());
+        node._specClasses.add(fieldSpec.getClass());
+      }
+      node._leaves.add(new Leaf(fieldSpec, components.contains(ARRAY_WILDCARD),
+          fieldSpec.getPegasusSchema().getDereferencedType(),
+          getCustomClass(resolveSchema(aspectSchema, components))));
+    }
+    return new FieldExtractionPlan(root, new ArrayList<>(fieldSpecs));
+  }
+
+  /**
+   * Extracts the values of every field spec of the given kind. Each spec maps to a flat list of its values, which is
+   * empty when the field is not present in the data.
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public <T extends FieldSpec> Map<T, List<Object>> extract(@Nonnull final DataMap data,
+      @Nonnull final Class<T> specClass) {
+    final Map<FieldSpec, List<Object>> extractedFields = new HashMap<>();
+    if (_root.contains(specClass)) {
+      visit(_root, data, specClass, extractedFields);
+    }
+    for (final FieldSpec fieldSpec : _fieldSpecs) {
+      if (specClass.isInstance(fieldSpec)) {
+        extractedFields.putIfAbsent(fieldSpec, Collections.emptyList());
+      }
+    }
+    return (Map<T, List<Object>>) (Map<?, ?>) extractedFields;
+  }
+
+  private static void visit(@Nonnull final Node node, @Nonnull final Object value, @Nonnull final Class<?> specClass,
+      @Nonnull final Map<FieldSpec, List<Object>> extractedFields) {
+    for (final Leaf leaf : node._leaves) {
+      if (specClass.isInstance(leaf._fieldSpec)) {
+        leaf.collect(value, extractedFields);
+      }
+    }
+    if (node._children.isEmpty()) {
+      return;
+    }
+    if (value instanceof DataMap) {
+      final DataMap dataMap = (DataMap) value;
+      for (final Map.Entry<String, Node> child : node._children.entrySet()) {
+        if (!child.getValue().contains(specClass)) {
+          continue;
+        }
+        final Object childValue = dataMap.get(child.getKey());
+        if (childValue != null) {
+          visit(child.getValue(), childValue, specClass, extractedFields);
+        }
+      }
+    } else if (value instanceof DataList) {
+      final Node items = node._children.get(ARRAY_WILDCARD);
+      if (items != null && items.contains(specClass)) {
+        for (final Object item : (DataList) value) {
+          visit(items, item, specClass, extractedFields);
+        }
+      }
+    }
+  }
+
+  /**
+   * Walks the aspect schema along the given path and returns the (non-dereferenced) schema of the leaf, or null if the
+   * path cannot be resolved.
+   */
+  @Nullable
+  private static DataSchema resolveSchema(@Nullable final RecordDataSchema aspectSchema,
+      @Nonnull final List<String> components) {
+    DataSchema current = aspectSchema;
+    for (final String component : components) {
+      if (current == null) {
+        return null;
+      }
+      final DataSchema dereferenced = current.getDereferencedDataSchema();
+      switch (dereferenced.getType()) {
+        case RECORD:
+          final RecordDataSchema.Field field = ((RecordDataSchema) dereferenced).getField(component);
+          if (field == null) {
+            return null;
+          }
+          current = field.getType();
+          break;
+        case ARRAY:
+          current = ((ArrayDataSchema) dereferenced).getItems();
+          break;
+        case MAP:
+          current = ((MapDataSchema) dereferenced).getValues();
+          break;
+        case UNION:
+          current = ((UnionDataSchema) dereferenced).getTypeByMemberKey(component);
+          if (current == null) {
+            return null;
+          }
+          break;
+        default:
+          return null;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Returns the custom Java class bound to a typeref (e.g. Urn), so that extracted values have the same type as the
+   * ones returned by the generated record getters.
+   */
+  @Nullable
+  private static Class<?> getCustomClass(@Nullable final DataSchema schema) {
+    DataSchema current = schema;
+    while (current instanceof TyperefDataSchema) {
+      final Object javaProperty = current.getProperties().get(JAVA_PROPERTY);
+      if (javaProperty instanceof Map && ((Map<?, ?>) javaProperty).get(CLASS_PROPERTY) instanceof String) {
+        final String className = (String) ((Map<?, ?>) javaProperty).get(CLASS_PROPERTY);
+        try {
+          final Class<?> customClass = Class.forName(className, true, FieldExtractionPlan.class.getClassLoader());
+          Custom.initializeCustomClass(customClass);
+          return customClass;
+        } catch (ClassNotFoundException e) {
+          log.warn("Failed to load custom class {}. Values will be extracted as raw data", className);
+          return null;
+        }
+      }
+      current = ((TyperefDataSchema) current).getRef();
+    }
+    return null;
+  }
+
+  private static class Node {
+    private final Map<String, Node> _children = new LinkedHashMap<>();
+    private final List<Leaf> _leaves = new ArrayList<>();
+    private final Set<Class<?>> _specClasses = new HashSet<>();
+
+    private boolean contains(@Nonnull final Class<?> specClass) {
+      for (final Class<?> nodeSpecClass : _specClasses) {
+        if (specClass.isAssignableFrom(nodeSpecClass)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static class Leaf {
+    private final FieldSpec _fieldSpec;
+    private final boolean _isArray;
+    private final DataSchema.Type _type;
+    private final Class<?> _customClass;
+
+    private Leaf(@Nonnull final FieldSpec fieldSpec, final boolean isArray, @Nonnull final DataSchema.Type type,
+        @Nullable final Class<?> customClass) {
+      _fieldSpec = fieldSpec;
+      _isArray = isArray;
+      _type = type;
+      _customClass = customClass;
+    }
+
+    private void collect(@Nonnull final Object value, @Nonnull final Map<FieldSpec, List<Object>> extractedFields) {
+      if (_isArray) {
+        // The trie visits array elements one at a time, so values of nested arrays are appended already flattened.
+        extractedFields.computeIfAbsent(_fieldSpec, key -> new ArrayList<>()).add(coerce(value));
+      } else if (_type == DataSchema.Type.MAP && value instanceof DataMap) {
+        // For maps, convert it into a list of the form key=value (Filter out long values)
+        final List<Object> values = new ArrayList<>(((DataMap) value).size());
+        for (final Map.Entry<String, Object> entry : ((DataMap) value).entrySet()) {
+          final String entryValue = entry.getValue().toString();
+          if (entryValue.length() < MAX_VALUE_LENGTH) {
+            values.add(entry.getKey() + "=" + entryValue);
+          }
+        }
+        extractedFields.put(_fieldSpec, values);
+      } else {
+        extractedFields.put(_fieldSpec, Collections.singletonList(coerce(value)));
+      }
+    }
+
+    private Object coerce(@Nonnull final Object value) {
+      if (_customClass != null) {
+        try {
+          return DataTemplateUtil.coerceOutput(value, _customClass);
+        } catch (TemplateOutputCastException e) {
+          return value;
+        }
+      }
+      if (!(value instanceof Number)) {
+        return value;
+      }
+      switch (_type) {
+        case INT:
+          return ((Number) value).intValue();
+        case LONG:
+          return ((Number) value).longValue();
+        case FLOAT:
+          return ((Number) value).floatValue();
+        case DOUBLE:
+          return ((Number) value).doubleValue();
+        default:
+          return value;
+      }
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.linkedin.metadata.models;
+
+import com.linkedin.data.schema.DataSchema;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests that the schema index generated at build time resolves the same schemas as scanning the classpath.
+ */
+public class DataSchemaFactoryTest {
+
+  @Test
+  public void testIndexMatchesClasspathScan() {
+    assertNotNull(DataSchemaFactory.class.getClassLoader().getResource(DataSchemaFactory.INDEX_RESOURCE));
+
+    DataSchemaFactory indexed = new DataSchemaFactory();
+    Optional<DataSchema> datasetSchema = indexed.getEntitySchema("dataset");
+    DataSchemaFactory scanned = new DataSchemaFactory("com.linkedin");
+
+    assertTrue(datasetSchema.isPresent());
+    assertEquals(datasetSchema, scanned.getEntitySchema("dataset"));
+    for (String aspectName : new String[]{"datasetKey", "datasetProperties", "schemaMetadata", "status"}) {
+      assertTrue(indexed.getAspectSchema(aspectName).isPresent());
+      assertEquals(indexed.getAspectSchema(aspectName), scanned.getAspectSchema(aspectName));
+    }
+  }
+
+  @Test
+  public void testUnknownName() {
+    DataSchemaFactory scanned = new DataSchemaFactory("com.linkedin");
+    assertFalse(scanned.getAspectSchema("notAnAspect").isPresent());
+    assertFalse(scanned.getEntitySchema("notAnEntity").isPresent());
+  }
+}
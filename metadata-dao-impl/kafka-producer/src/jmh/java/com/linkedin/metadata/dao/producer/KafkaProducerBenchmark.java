@@ -0,0 +1,111 @@
+package com.linkedin.metadata.dao.producer;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.mxe.TopicConventionImpl;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Measures the change logs acknowledged per second by a single broker with each {@link KafkaProducerProfile}. The
+ * bytes sent per record are printed at teardown.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class KafkaProducerBenchmark {
+
+  private static final String IMAGE_NAME = "confluentinc/cp-kafka:5.5.1";
+  private static final int NUM_RECORDS = 5000;
+  private static final int NUM_DATASETS = 500;
+
+  @Param({"DEFAULT", "THROUGHPUT"})
+  public KafkaProducerProfile profile;
+
+  private KafkaContainer _kafkaContainer;
+  private KafkaProducer<String, IndexedRecord> _producer;
+  private AspectSpec _aspectSpec;
+  private Urn[] _urns;
+  private long _numProduced;
+
+  @Setup
+  public void setup() throws URISyntaxException {
+    _kafkaContainer = new KafkaContainer(DockerImageName.parse(IMAGE_NAME));
+    _kafkaContainer.start();
+
+    final Map<String, Object> props = new HashMap<>();
+    props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, _kafkaContainer.getBootstrapServers());
+    profile.apply(props, KafkaProducerProfile.DEFAULT_LINGER_MS, KafkaProducerProfile.DEFAULT_BATCH_SIZE,
+        KafkaProducerProfile.DEFAULT_COMPRESSION_TYPE);
+    _producer = new KafkaProducer<>(props, new StringSerializer(), new AvroBinarySerializer());
+
+    _aspectSpec = mock(AspectSpec.class);
+    when(_aspectSpec.isTimeseries()).thenReturn(false);
+    _urns = new Urn[NUM_DATASETS];
+    for (int i = 0; i < NUM_DATASETS; i++) {
+      _urns[i] = Urn.createFromString(String.format("urn:li:dataset:(urn:li:dataPlatform:hive,table_%d,PROD)", i));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    System.out.printf("%s: %.0f bytes sent per record%n", profile,
+        EntityKafkaMetadataEventProducerTest.getOutgoingBytes(_producer) / _numProduced);
+    _producer.close();
+    _kafkaContainer.stop();
+  }
+
+  /**
+   * Sends a stream of change logs, and waits until the broker acknowledged all of them.
+   */
+  @Benchmark
+  @OperationsPerInvocation(NUM_RECORDS)
+  public void produceMetadataChangeLogs() throws InterruptedException {
+    final CountDownLatch acknowledged = new CountDownLatch(NUM_RECORDS);
+    final AtomicInteger failures = new AtomicInteger();
+    final EntityKafkaMetadataEventProducer eventProducer =
+        new EntityKafkaMetadataEventProducer(_producer, new TopicConventionImpl(), (metadata, e) -> {
+          if (e != null) {
+            failures.incrementAndGet();
+          }
+          acknowledged.countDown();
+        });
+
+    for (int i = 0; i < NUM_RECORDS; i++) {
+      final Urn urn = _urns[i % NUM_DATASETS];
+      eventProducer.produceMetadataChangeLog(urn, _aspectSpec,
+          EntityKafkaMetadataEventProducerTest.createChangeLog(urn, i));
+    }
+    acknowledged.await();
+    if (failures.get() > 0) {
+      throw new IllegalStateException(String.format("Failed to produce %d change logs", failures.get()));
+    }
+    _numProduced += NUM_RECORDS;
+  }
+}
@@ -1,5 +1,7 @@
 package com.linkedin.metadata.dao.producer;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.EventUtils;
@@ -7,6 +9,7 @@ import com.linkedin.metadata.dao.exception.ModelConversionException;
 import com.linkedin.metadata.event.EntityEventProducer;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.MetadataAuditEvent;
 import com.linkedin.mxe.MetadataAuditOperation;
 import com.linkedin.mxe.MetadataChangeLog;
@@ -18,6 +21,9 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -26,11 +32,17 @@ import org.apache.avro.generic.IndexedRecord;
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 
 
 /**
  * <p>The topic names that this emits to can be controlled by constructing this with a {@link TopicConvention}.
  * If none is given, defaults to a {@link TopicConventionImpl} with the default delimiter of an underscore (_).
+ *
+ * <p>At most a fixed number of records are in flight. Once that limit is reached, producing an event blocks until the
+ * broker acknowledges earlier records, so that a slow broker pushes back on the ingest path instead of filling the
+ * producer buffer. The time each record waits to be handed to the producer, and the time until it is acknowledged, are
+ * measured per topic.
  */
 @Slf4j
 public class EntityKafkaMetadataEventProducer implements EntityEventProducer {
@@ -38,6 +50,9 @@ public class EntityKafkaMetadataEventProducer implements EntityEventProducer {
   private final Producer<String, ? extends IndexedRecord> _producer;
   private final Optional<Callback> _callback;
   private final TopicConvention _topicConvention;
+  private final Semaphore _inFlightRecords;
+
+  public static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 10000;
 
   /**
    * Constructor.
@@ -59,14 +74,28 @@ public class EntityKafkaMetadataEventProducer implements EntityEventProducer {
    */
   public EntityKafkaMetadataEventProducer(@Nonnull final Producer<String, ? extends IndexedRecord> producer,
       @Nonnull final TopicConvention topicConvention, @Nullable final Callback callback) {
+    this(producer, topicConvention, callback, DEFAULT_MAX_IN_FLIGHT_RECORDS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param producer The Kafka {@link Producer} to use
+   * @param topicConvention the convention to use to get kafka topic names
+   * @param callback The {@link Callback} to invoke when the request is completed
+   * @param maxInFlightRecords the maximum number of records sent but not acknowledged yet
+   */
+  public EntityKafkaMetadataEventProducer(@Nonnull final Producer<String, ? extends IndexedRecord> producer,
+      @Nonnull final TopicConvention topicConvention, @Nullable final Callback callback, final int maxInFlightRecords) {
     _producer = producer;
     _callback = Optional.ofNullable(callback);
     _topicConvention = topicConvention;
+    _inFlightRecords = new Semaphore(maxInFlightRecords);
   }
 
   @Override
   @WithSpan
-  public void produceMetadataAuditEvent(@Nonnull Urn urn, @Nullable Snapshot oldSnapshot, @Nonnull Snapshot newSnapshot,
+  public Future<?> produceMetadataAuditEvent(@Nonnull Urn urn, @Nullable Snapshot oldSnapshot, @Nonnull Snapshot newSnapshot,
       @Nullable SystemMetadata oldSystemMetadata, @Nullable SystemMetadata newSystemMetadata,
       MetadataAuditOperation operation) {
     final MetadataAuditEvent metadataAuditEvent = new MetadataAuditEvent();
@@ -96,28 +125,22 @@ public class EntityKafkaMetadataEventProducer implements EntityEventProducer {
       throw new ModelConversionException("Failed to convert Pegasus MAE to Avro", e);
     }
 
-    if (_callback.isPresent()) {
-      _producer.send(new ProducerRecord(_topicConvention.getMetadataAuditEventTopicName(), urn.toString(), record),
-          _callback.get());
-    } else {
-      _producer.send(new ProducerRecord(_topicConvention.getMetadataAuditEventTopicName(), urn.toString(), record),
-          (metadata, e) -> {
-            if (e != null) {
-              log.error(String.format("Failed to emit MAE for entity with urn %s", urn), e);
-            } else {
-              log.debug(String.format("Successfully emitted MAE for entity with urn %s at offset %s, partition %s, topic %s",
-                  urn,
-                  metadata.offset(),
-                  metadata.partition(),
-                  metadata.topic()));
-            }
-          });
-    }
+    return send(_topicConvention.getMetadataAuditEventTopicName(), urn, record, _callback.orElse((metadata, e) -> {
+      if (e != null) {
+        log.error(String.format("Failed to emit MAE for entity with urn %s", urn), e);
+      } else {
+        log.debug(String.format("Successfully emitted MAE for entity with urn %s at offset %s, partition %s, topic %s",
+            urn,
+            metadata.offset(),
+            metadata.partition(),
+            metadata.topic()));
+      }
+    }));
   }
 
   @Override
   @WithSpan
-  public void produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull AspectSpec aspectSpec,
+  public Future<?> produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog) {
     GenericRecord record;
     try {
@@ -134,23 +157,53 @@ public class EntityKafkaMetadataEventProducer implements EntityEventProducer {
       topic = _topicConvention.getMetadataChangeLogTimeseriesTopicName();
     }
 
-    if (_callback.isPresent()) {
-      _producer.send(new ProducerRecord(topic, urn.toString(), record), _callback.get());
-    } else {
-      _producer.send(new ProducerRecord(topic, urn.toString(), record), (metadata, e) -> {
+    return send(topic, urn, record, _callback.orElse((metadata, e) -> {
+      if (e != null) {
+        log.error(String.format("Failed to emit MCL for entity with urn %s", urn), e);
+      } else {
+        log.debug(String.format("Successfully emitted MCL for entity with urn %s at offset %s, partition %s, topic %s",
+            urn,
+            metadata.offset(),
+            metadata.partition(),
+            metadata.topic()));
+      }
+    }));
+  }
+
+  @Nonnull
+  private Future<RecordMetadata> send(@Nonnull final String topic, @Nonnull final Urn urn, @Nonnull final GenericRecord record,
+      @Nonnull final Callback callback) {
+    // Covers the wait for a free slot, and for the producer to accept the record into its buffer
+    final Timer.Context queueTimer = topicTimer(topic, "queueTime").time();
+    _inFlightRecords.acquireUninterruptibly();
+    final long sendStartNanos = System.nanoTime();
+    try {
+      return _producer.send(new ProducerRecord(topic, urn.toString(), record), (metadata, e) -> {
+        _inFlightRecords.release();
+        topicTimer(topic, "sendLatency").update(System.nanoTime() - sendStartNanos, TimeUnit.NANOSECONDS);
         if (e != null) {
-          log.error(String.format("Failed to emit MCL for entity with urn %s", urn), e);
-        } else {
-          log.debug(String.format("Successfully emitted MCL for entity with urn %s at offset %s, partition %s, topic %s",
-              urn,
-              metadata.offset(),
-              metadata.partition(),
-              metadata.topic()));
+          MetricUtils.get().counter(MetricRegistry.name(EntityKafkaMetadataEventProducer.class, topic, "sendFailures")).inc();
         }
+        callback.onCompletion(metadata, e);
       });
+    } catch (RuntimeException e) {
+      _inFlightRecords.release();
+      throw e;
+    } finally {
+      queueTimer.stop();
     }
   }
 
+  @Override
+  public void flush() {
+    _producer.flush();
+  }
+
+  @Nonnull
+  private static Timer topicTimer(@Nonnull final String topic, @Nonnull final String metricName) {
+    return MetricUtils.get().timer(MetricRegistry.name(EntityKafkaMetadataEventProducer.class, topic, metricName));
+  }
+
   @VisibleForTesting
   static boolean isValidAspectSpecificTopic(@Nonnull String topic) {
     return Arrays.stream(Topics.class.getFields()).anyMatch(field -> field.getName().equals(topic));
@@ -0,0 +1,43 @@
+package com.linkedin.metadata.dao.producer;
+
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+
+/**
+ * Sets of producer settings tuned for a kind of workload. Settings given explicitly to the producer take precedence
+ * over those of the profile.
+ */
+public enum KafkaProducerProfile {
+  /**
+   * The defaults of the Kafka client, which send every record as soon as possible.
+   */
+  DEFAULT,
+
+  /**
+   * Tuned for bulk ingestion. Records are held for a short time to fill large batches, which are compressed, and
+   * retries cannot duplicate or reorder records.
+   */
+  THROUGHPUT;
+
+  public static final int DEFAULT_LINGER_MS = 20;
+  public static final int DEFAULT_BATCH_SIZE = 256 * 1024;
+  public static final String DEFAULT_COMPRESSION_TYPE = "lz4";
+
+  /**
+   * Adds the settings of this profile to the given producer properties, unless they are already set.
+   */
+  public void apply(@Nonnull Map<String, Object> props, int lingerMs, int batchSize,
+      @Nonnull String compressionType) {
+    if (this != THROUGHPUT) {
+      return;
+    }
+    props.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+    props.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+    props.putIfAbsent(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+    props.putIfAbsent(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    props.putIfAbsent(ProducerConfig.ACKS_CONFIG, "all");
+    props.putIfAbsent(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+  }
+}
@@ -0,0 +1,38 @@
+package com.linkedin.metadata.dao.producer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+
+/**
+ * Writes records in the Avro binary encoding, without a schema registry.
+ */
+class AvroBinarySerializer implements Serializer<IndexedRecord> {
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+  }
+
+  @Override
+  public byte[] serialize(String topic, IndexedRecord record) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    try {
+      new GenericDatumWriter<IndexedRecord>(record.getSchema()).write(record, encoder);
+      encoder.flush();
+    } catch (IOException e) {
+      throw new SerializationException("Failed to serialize record to Avro", e);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,273 @@
+package com.linkedin.metadata.dao.producer;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.ByteString;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.identity.CorpUserInfo;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanEntityService;
+import com.linkedin.metadata.entity.ebean.EbeanOutboxEventProducer;
+import com.linkedin.metadata.entity.ebean.EbeanOutboxRelay;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
+import com.linkedin.metadata.utils.GenericAspectUtils;
+import com.linkedin.mxe.GenericAspect;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.TopicConventionImpl;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests {@link EntityKafkaMetadataEventProducer} against a single broker, with each {@link KafkaProducerProfile}, and
+ * as the producer of an {@link EbeanOutboxRelay}.
+ */
+public class EntityKafkaMetadataEventProducerTest {
+
+  private static final String IMAGE_NAME = "confluentinc/cp-kafka:5.5.1";
+  private static final int NUM_RECORDS = 20000;
+  private static final int NUM_DATASETS = 500;
+  private static final int NUM_PROPOSALS = 5000;
+  private static final int NUM_USERS = 100;
+
+  private KafkaContainer _kafkaContainer;
+  private AspectSpec _aspectSpec;
+
+  @BeforeTest
+  public void setup() {
+    _kafkaContainer = new KafkaContainer(DockerImageName.parse(IMAGE_NAME));
+    _kafkaContainer.start();
+    _aspectSpec = mock(AspectSpec.class);
+    when(_aspectSpec.isTimeseries()).thenReturn(false);
+  }
+
+  @AfterTest
+  public void tearDown() {
+    _kafkaContainer.stop();
+  }
+
+  /**
+   * Produces the same stream of change logs with each profile, and checks that every record is acknowledged, and that
+   * the compressed batches of the throughput profile send fewer bytes to the broker. The throughput of the profiles is
+   * measured by KafkaProducerBenchmark.
+   */
+  @Test
+  public void testThroughputProfile() throws Exception {
+    final double defaultBytes = produce(KafkaProducerProfile.DEFAULT);
+    final double throughputBytes = produce(KafkaProducerProfile.THROUGHPUT);
+
+    assertTrue(throughputBytes < defaultBytes);
+  }
+
+  /**
+   * Ingests proposals with the change logs sent on the request path, and through the outbox. Checks that the relay
+   * delivers every change log of the outbox once, and those of an urn in the order they were ingested.
+   */
+  @Test
+  public void testOutboxRelay() throws Exception {
+    final EntityRegistry entityRegistry = SnapshotEntityRegistry.getInstance();
+    try (KafkaProducer<String, IndexedRecord> producer = createProducer(KafkaProducerProfile.THROUGHPUT)) {
+      final EntityKafkaMetadataEventProducer kafkaEventProducer =
+          new EntityKafkaMetadataEventProducer(producer, new TopicConventionImpl());
+
+      final EbeanAspectDao directDao = createAspectDao("direct");
+      ingest(new EbeanEntityService(directDao, kafkaEventProducer, entityRegistry), "direct");
+      kafkaEventProducer.flush();
+
+      final EbeanAspectDao outboxDao = createAspectDao("outbox");
+      ingest(new EbeanEntityService(outboxDao, new EbeanOutboxEventProducer(outboxDao), entityRegistry), "outbox");
+
+      final Map<String, List<Integer>> received;
+      try (EbeanOutboxRelay relay = new EbeanOutboxRelay(outboxDao, kafkaEventProducer, entityRegistry)) {
+        relay.start();
+        received = consume("outbox");
+      }
+
+      assertTrue(outboxDao.getOutboxEvents(1).isEmpty());
+      assertEquals(received.size(), NUM_USERS);
+      for (List<Integer> sequence : received.values()) {
+        final List<Integer> sorted = new ArrayList<>(sequence);
+        Collections.sort(sorted);
+        assertEquals(sequence, sorted);
+      }
+    }
+  }
+
+  private void ingest(@Nonnull EbeanEntityService entityService, @Nonnull String prefix) throws Exception {
+    final AuditStamp auditStamp =
+        new AuditStamp().setTime(123L).setActor(Urn.createFromString("urn:li:corpuser:tester"));
+    for (int i = 0; i < NUM_PROPOSALS; i++) {
+      final MetadataChangeProposal proposal = new MetadataChangeProposal();
+      proposal.setEntityUrn(Urn.createFromString(String.format("urn:li:corpuser:%s_%d", prefix, i % NUM_USERS)));
+      proposal.setChangeType(ChangeType.UPSERT);
+      proposal.setEntityType("corpuser");
+      proposal.setAspectName("corpUserInfo");
+      proposal.setAspect(
+          GenericAspectUtils.serializeAspect(new CorpUserInfo().setActive(true).setEmail(i + "@test.com")));
+      entityService.ingestProposal(proposal, auditStamp);
+    }
+  }
+
+  /**
+   * Reads the versioned change logs of the urns with the given prefix, and returns the sequence numbers of the emails
+   * of each urn in the order they were received.
+   */
+  @Nonnull
+  private Map<String, List<Integer>> consume(@Nonnull String prefix) throws Exception {
+    final Map<String, Object> props = new HashMap<>();
+    props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, _kafkaContainer.getBootstrapServers());
+    props.put(ConsumerConfig.GROUP_ID_CONFIG, "outbox-relay-test");
+    props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+    final GenericDatumReader<GenericRecord> reader =
+        new GenericDatumReader<>(com.linkedin.pegasus2avro.mxe.MetadataChangeLog.SCHEMA$);
+    final Map<String, List<Integer>> received = new HashMap<>();
+    int numReceived = 0;
+    final long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2);
+    try (KafkaConsumer<String, byte[]> consumer =
+        new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer())) {
+      consumer.subscribe(Collections.singletonList(new TopicConventionImpl().getMetadataChangeLogVersionedTopicName()));
+      while (numReceived < NUM_PROPOSALS && System.currentTimeMillis() < deadline) {
+        for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(500))) {
+          if (!record.key().startsWith("urn:li:corpuser:" + prefix)) {
+            continue;
+          }
+          final MetadataChangeLog metadataChangeLog =
+              EventUtils.avroToPegasusMCL(reader.read(null, DecoderFactory.get().binaryDecoder(record.value(), null)));
+          final String email = GenericAspectUtils.deserializeAspect(metadataChangeLog.getAspect().getValue(),
+              "application/json", CorpUserInfo.class).getEmail();
+          received.computeIfAbsent(record.key(), ignored -> new ArrayList<>())
+              .add(Integer.parseInt(email.substring(0, email.indexOf('@'))));
+          numReceived++;
+        }
+      }
+    }
+    assertEquals(numReceived, NUM_PROPOSALS);
+    return received;
+  }
+
+  @Nonnull
+  private static EbeanAspectDao createAspectDao(@Nonnull String name) {
+    final DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    // Named and kept open, since the relay reads it from another connection
+    dataSourceConfig.setUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;IGNORECASE=TRUE;");
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    final ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName(name);
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(EbeanServerFactory.create(serverConfig));
+    aspectDao.setConnectionValidated(true);
+    return aspectDao;
+  }
+
+  @Nonnull
+  private KafkaProducer<String, IndexedRecord> createProducer(@Nonnull KafkaProducerProfile profile) {
+    final Map<String, Object> props = new HashMap<>();
+    props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, _kafkaContainer.getBootstrapServers());
+    profile.apply(props, KafkaProducerProfile.DEFAULT_LINGER_MS, KafkaProducerProfile.DEFAULT_BATCH_SIZE,
+        KafkaProducerProfile.DEFAULT_COMPRESSION_TYPE);
+    return new KafkaProducer<>(props, new StringSerializer(), new AvroBinarySerializer());
+  }
+
+  private double produce(@Nonnull KafkaProducerProfile profile) throws Exception {
+    final CountDownLatch acknowledged = new CountDownLatch(NUM_RECORDS);
+    final AtomicInteger failures = new AtomicInteger();
+    try (KafkaProducer<String, IndexedRecord> producer = createProducer(profile)) {
+      final EntityKafkaMetadataEventProducer eventProducer =
+          new EntityKafkaMetadataEventProducer(producer, new TopicConventionImpl(), (metadata, e) -> {
+            if (e != null) {
+              failures.incrementAndGet();
+            }
+            acknowledged.countDown();
+          });
+
+      for (int i = 0; i < NUM_RECORDS; i++) {
+        final Urn urn = Urn.createFromString(
+            String.format("urn:li:dataset:(urn:li:dataPlatform:hive,%s_table_%d,PROD)", profile, i % NUM_DATASETS));
+        eventProducer.produceMetadataChangeLog(urn, _aspectSpec, createChangeLog(urn, i));
+      }
+      assertTrue(acknowledged.await(2, TimeUnit.MINUTES));
+
+      assertEquals(failures.get(), 0);
+      return getOutgoingBytes(producer);
+    }
+  }
+
+  @Nonnull
+  static MetadataChangeLog createChangeLog(@Nonnull Urn urn, int version) {
+    // About a kilobyte of JSON, as repetitive as the properties of real datasets
+    final StringBuilder customProperties = new StringBuilder();
+    for (int i = 0; i < 20; i++) {
+      customProperties.append(String.format("%s\"property_%d\": \"value of property %d\"", i == 0 ? "" : ", ", i, i));
+    }
+    final String value = String.format("{\"description\": \"Version %d of the table, owned by the data platform team\", "
+        + "\"customProperties\": {%s}}", version, customProperties);
+
+    final GenericAspect aspect = new GenericAspect();
+    aspect.setValue(ByteString.unsafeWrap(value.getBytes(StandardCharsets.UTF_8)));
+    aspect.setContentType("application/json");
+
+    final MetadataChangeLog metadataChangeLog = new MetadataChangeLog();
+    metadataChangeLog.setEntityType("dataset");
+    metadataChangeLog.setEntityUrn(urn);
+    metadataChangeLog.setChangeType(ChangeType.UPSERT);
+    metadataChangeLog.setAspectName("datasetProperties");
+    metadataChangeLog.setAspect(aspect);
+    return metadataChangeLog;
+  }
+
+  static double getOutgoingBytes(@Nonnull KafkaProducer<String, IndexedRecord> producer) {
+    for (Map.Entry<MetricName, ? extends Metric> metric : producer.metrics().entrySet()) {
+      if (metric.getKey().name().equals("outgoing-byte-total") && metric.getKey().group().equals("producer-metrics")) {
+        return ((Number) metric.getValue().metricValue()).doubleValue();
+      }
+    }
+    throw new IllegalStateException("Producer metric outgoing-byte-total not found");
+  }
+}
@@ -0,0 +1,88 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.entity.ebean.AspectStorageCodec;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpecBuilder;
+import com.linkedin.schema.KafkaSchema;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures the encode and decode time of a wide schema in each {@link AspectStorageCodec.Format}. The stored size of
+ * each format is printed once at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AspectStorageCodecBenchmark {
+
+  @Param({"JSON", "PSON", "PSON_DEFLATE"})
+  public AspectStorageCodec.Format format;
+
+  @Param({"2000"})
+  public int numFields;
+
+  private SchemaMetadata _aspect;
+  private AspectSpec _aspectSpec;
+  private AspectStorageCodec _codec;
+  private String _metadata;
+
+  @Setup
+  public void setup() throws Exception {
+    _aspect = createSchemaMetadata(numFields);
+    _aspectSpec = new EntitySpecBuilder().buildAspectSpec(_aspect.schema());
+    _codec = new AspectStorageCodec(format);
+    _metadata = _codec.encode(_aspect);
+    System.out.printf("%s: %d fields stored in %d chars%n", format, numFields, _metadata.length());
+  }
+
+  @Benchmark
+  public String encode() {
+    return _codec.encode(_aspect);
+  }
+
+  @Benchmark
+  public RecordTemplate decode() {
+    return AspectStorageCodec.decode(_metadata, _aspectSpec);
+  }
+
+  private static SchemaMetadata createSchemaMetadata(int numFields) throws Exception {
+    final AuditStamp auditStamp = new AuditStamp().setTime(123L).setActor(Urn.createFromString("urn:li:corpuser:tester"));
+    final SchemaMetadata.PlatformSchema platformSchema = new SchemaMetadata.PlatformSchema();
+    platformSchema.setKafkaSchema(new KafkaSchema().setDocumentSchema("{}"));
+
+    final SchemaFieldArray fields = new SchemaFieldArray();
+    for (int i = 0; i < numFields; i++) {
+      fields.add(new SchemaField().setFieldPath("record.nested_struct.column_" + i)
+          .setDescription("Description of column " + i + " of a wide table")
+          .setNativeDataType("varchar(255)")
+          .setNullable(true)
+          .setType(new SchemaFieldDataType().setType(SchemaFieldDataType.Type.create(new StringType()))));
+    }
+    return new SchemaMetadata().setSchemaName("wide_table")
+        .setPlatform(new DataPlatformUrn("hive"))
+        .setCreated(auditStamp)
+        .setLastModified(auditStamp)
+        .setVersion(0L)
+        .setHash("")
+        .setPlatformSchema(platformSchema)
+        .setFields(fields);
+  }
+}
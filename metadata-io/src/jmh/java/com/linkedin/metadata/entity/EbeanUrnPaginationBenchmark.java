@@ -0,0 +1,103 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+
+/**
+ * Measures the latency of reading the last page of urns with {@link EbeanAspectDao#listUrns}, which skips the rows of
+ * all previous pages and counts all urns, and with {@link EbeanAspectDao#streamUrns}, which starts from the last urn of
+ * the previous page. The database is kept on disk, so that the dataset does not have to fit in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class EbeanUrnPaginationBenchmark {
+
+  private static final int PAGE_SIZE = 1000;
+  private static final String ASPECT_NAME = "corpUserKey";
+  private static final String URN_PREFIX = "urn:li:corpuser:user";
+
+  @Param({"1000000"})
+  public int numRows;
+
+  private Path _databaseDir;
+  private EbeanServer _server;
+  private EbeanAspectDao _aspectDao;
+  private int _start;
+  private String _lastUrn;
+
+  @Setup
+  public void setup() throws IOException {
+    _databaseDir = Files.createTempDirectory("gma-pagination");
+    final DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl(String.format("jdbc:h2:file:%s;IGNORECASE=TRUE;", _databaseDir.resolve("gma")));
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    final ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gmaPaginationBenchmark");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDefaultServer(false);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+
+    _server = EbeanServerFactory.create(serverConfig);
+    _aspectDao = new EbeanAspectDao(_server);
+    _aspectDao.setConnectionValidated(true);
+
+    _server.createSqlUpdate("INSERT INTO metadata_aspect_v2 (urn, aspect, version, metadata, createdOn, createdBy) "
+        + "SELECT CONCAT('" + URN_PREFIX + "', LPAD(CAST(X AS VARCHAR), 7, '0')), :aspect, 0, '{}', "
+        + "CURRENT_TIMESTAMP, 'urn:li:principal:tester' FROM SYSTEM_RANGE(1, :rows)")
+        .setParameter("aspect", ASPECT_NAME)
+        .setParameter("rows", numRows)
+        .execute();
+
+    _start = numRows - PAGE_SIZE;
+    _lastUrn = String.format("%s%07d", URN_PREFIX, _start);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    _server.shutdown(true, false);
+    try (Stream<Path> paths = Files.walk(_databaseDir)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public List<String> offsetLastPage() {
+    return _aspectDao.listUrns(ASPECT_NAME, _start, PAGE_SIZE).getValues();
+  }
+
+  @Benchmark
+  public List<String> keysetLastPage() {
+    final List<String> page = new ArrayList<>(PAGE_SIZE);
+    _aspectDao.streamUrns(ASPECT_NAME, _lastUrn, PAGE_SIZE, page::add);
+    return page;
+  }
+}
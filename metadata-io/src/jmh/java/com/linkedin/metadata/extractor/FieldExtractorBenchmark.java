@@ -0,0 +1,43 @@
+package com.linkedin.metadata.extractor;
+
+import com.datahub.test.TestEntitySnapshot;
+import com.linkedin.metadata.TestEntitySpecBuilder;
+import com.linkedin.metadata.TestEntityUtil;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.RelationshipFieldSpec;
+import com.linkedin.metadata.models.SearchableFieldSpec;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Measures search and relationship field extraction over the test snapshot, the work done by the MAE consumer per
+ * event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FieldExtractorBenchmark {
+
+  private EntitySpec _entitySpec;
+  private TestEntitySnapshot _snapshot;
+
+  @Setup
+  public void setup() {
+    _entitySpec = TestEntitySpecBuilder.getSpec();
+    _snapshot = TestEntityUtil.getSnapshot();
+  }
+
+  @Benchmark
+  public void extractFieldsFromSnapshot(Blackhole blackhole) {
+    blackhole.consume(FieldExtractor.extractFieldsFromSnapshot(_snapshot, _entitySpec, SearchableFieldSpec.class));
+    blackhole.consume(FieldExtractor.extractFieldsFromSnapshot(_snapshot, _entitySpec, RelationshipFieldSpec.class));
+  }
+}
@@ -0,0 +1,102 @@
+package com.linkedin.metadata.graph;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.query.RelationshipDirection;
+import com.linkedin.metadata.query.RelationshipFilter;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.linkedin.metadata.dao.utils.QueryUtils.EMPTY_FILTER;
+import static com.linkedin.metadata.dao.utils.QueryUtils.newFilter;
+
+
+/**
+ * Measures the throughput of {@link Neo4jGraphService} against an in-process Neo4j server. Run with several threads,
+ * e.g. `-t 8`, to measure the contention on the shared downstream node that lineage ingestion produces, and the
+ * connection pool use of concurrent readers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class Neo4jGraphServiceBenchmark {
+
+  private static final int EDGES_PER_BATCH = 100;
+  private static final int READ_EDGES = 1000;
+
+  private final AtomicInteger _nextTable = new AtomicInteger();
+  private Neo4jTestServerBuilder _serverBuilder;
+  private Driver _driver;
+  private Neo4jGraphService _client;
+  private Urn _sharedDestination;
+  private Urn _readDestination;
+  private RelationshipFilter _incomingFilter;
+
+  @Setup
+  public void setup() throws URISyntaxException {
+    _serverBuilder = new Neo4jTestServerBuilder();
+    _serverBuilder.newServer();
+    _driver = GraphDatabase.driver(_serverBuilder.boltURI(), Config.builder().withDriverMetrics().build());
+    _client = new Neo4jGraphService(_driver);
+    _sharedDestination = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:kafka,SharedDataset,PROD)");
+
+    _readDestination = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:kafka,ReadDataset,PROD)");
+    final List<Edge> readEdges = new ArrayList<>(READ_EDGES);
+    for (int i = 0; i < READ_EDGES; i++) {
+      readEdges.add(new Edge(Urn.createFromTuple("dataset", "urn:li:dataPlatform:hive", "read" + i, "PROD"),
+          _readDestination, "DownstreamOf"));
+    }
+    _client.addEdges(readEdges);
+    _incomingFilter = new RelationshipFilter();
+    _incomingFilter.setDirection(RelationshipDirection.INCOMING);
+    _incomingFilter.setCriteria(EMPTY_FILTER.getCriteria());
+  }
+
+  @TearDown
+  public void tearDown() {
+    _driver.close();
+    _serverBuilder.shutdown();
+  }
+
+  /**
+   * Batched edge writes from new upstream datasets into a single shared downstream dataset.
+   */
+  @Benchmark
+  @OperationsPerInvocation(EDGES_PER_BATCH)
+  public void addEdges() {
+    final List<Edge> batch = new ArrayList<>(EDGES_PER_BATCH);
+    for (int i = 0; i < EDGES_PER_BATCH; i++) {
+      batch.add(new Edge(
+          Urn.createFromTuple("dataset", "urn:li:dataPlatform:hive", "table" + _nextTable.incrementAndGet(), "PROD"),
+          _sharedDestination,
+          "DownstreamOf"));
+    }
+    _client.addEdges(batch);
+  }
+
+  /**
+   * Reads of the first page of the upstreams of a dataset, which run in read transactions.
+   */
+  @Benchmark
+  public RelatedEntitiesResult findRelatedEntities() {
+    return _client.findRelatedEntities("", newFilter("urn", _readDestination.toString()), "", EMPTY_FILTER,
+        Collections.singletonList("DownstreamOf"), _incomingFilter, 0, 10);
+  }
+}
@@ -0,0 +1,57 @@
+package com.linkedin.metadata.search.transformer;
+
+import com.datahub.test.TestEntitySnapshot;
+import com.linkedin.metadata.TestEntitySpecBuilder;
+import com.linkedin.metadata.TestEntityUtil;
+import com.linkedin.metadata.models.EntitySpec;
+import java.util.concurrent.TimeUnit;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Compares building the bulk update request of a search document from a String document, as the write path used to,
+ * against handing the streamed document bytes to the request. Run with `-prof gc` to compare the bytes allocated per
+ * event (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchDocumentTransformerBenchmark {
+
+  private static final String INDEX_NAME = "testentityindex_v2";
+
+  private TestEntitySnapshot _snapshot;
+  private EntitySpec _entitySpec;
+  private String _docId;
+
+  @Setup
+  public void setup() {
+    _snapshot = TestEntityUtil.getSnapshot();
+    _entitySpec = TestEntitySpecBuilder.getSpec();
+    _docId = _snapshot.getUrn().toString();
+  }
+
+  @Benchmark
+  public UpdateRequest stringDocument() {
+    final String document = SearchDocumentTransformer.transformSnapshot(_snapshot, _entitySpec, false).get();
+    final IndexRequest indexRequest = new IndexRequest(INDEX_NAME).id(_docId).source(document, XContentType.JSON);
+    return new UpdateRequest(INDEX_NAME, _docId).doc(document, XContentType.JSON).detectNoop(false).upsert(indexRequest);
+  }
+
+  @Benchmark
+  public UpdateRequest streamedDocument() {
+    final BytesReference document = SearchDocumentTransformer.writeSnapshot(_snapshot, _entitySpec, false).get();
+    final IndexRequest indexRequest = new IndexRequest(INDEX_NAME).id(_docId).source(document, XContentType.JSON);
+    return new UpdateRequest(INDEX_NAME, _docId).doc(indexRequest).detectNoop(false).upsert(indexRequest);
+  }
+}
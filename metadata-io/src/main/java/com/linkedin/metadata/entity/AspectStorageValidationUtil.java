@@ -5,6 +5,9 @@ import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import io.ebean.EbeanServer;
 import io.ebean.SqlQuery;
 import io.ebean.SqlRow;
+import io.ebean.Transaction;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.List;
 
 
@@ -41,4 +44,49 @@ public class AspectStorageValidationUtil {
     final List<SqlRow> rows = query.findList();
     return rows.size() > 0;
   }
+
+  public static boolean checkOutboxTableExists(EbeanServer server) {
+    final String queryStr =
+        "SELECT * FROM INFORMATION_SCHEMA.TABLES \n"
+            + "WHERE TABLE_NAME = 'metadata_outbox'";
+
+    final SqlQuery query = server.createSqlQuery(queryStr);
+    final List<SqlRow> rows = query.findList();
+    return rows.size() > 0;
+  }
+
+  public static boolean checkOutboxLeaseTableExists(EbeanServer server) {
+    final String queryStr =
+        "SELECT * FROM INFORMATION_SCHEMA.TABLES \n"
+            + "WHERE TABLE_NAME = 'metadata_outbox_lease'";
+
+    final SqlQuery query = server.createSqlQuery(queryStr);
+    final List<SqlRow> rows = query.findList();
+    return rows.size() > 0;
+  }
+
+  public static boolean checkV2ColumnExists(EbeanServer server, String columnName) {
+    final String queryStr =
+        "SELECT * FROM INFORMATION_SCHEMA.COLUMNS \n"
+            + "WHERE TABLE_SCHEMA = :schema AND TABLE_NAME = 'metadata_aspect_v2' AND COLUMN_NAME = :columnName";
+
+    final SqlQuery query = server.createSqlQuery(queryStr)
+        .setParameter("schema", getCurrentSchema(server))
+        .setParameter("columnName", columnName);
+    final List<SqlRow> rows = query.findList();
+    return rows.size() > 0;
+  }
+
+  /**
+   * Returns the schema the server connects to, as named by INFORMATION_SCHEMA. MySQL and MariaDB drivers expose the
+   * database as the catalog of the connection, while Postgres and H2 expose the current schema.
+   */
+  private static String getCurrentSchema(EbeanServer server) {
+    try (Transaction transaction = server.beginTransaction()) {
+      final Connection connection = transaction.getConnection();
+      return connection.getSchema() != null ? connection.getSchema() : connection.getCatalog();
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to read the schema of the connection", e);
+    }
+  }
 }
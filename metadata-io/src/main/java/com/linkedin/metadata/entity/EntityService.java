@@ -3,6 +3,7 @@ package com.linkedin.metadata.entity;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Streams;
 import com.linkedin.common.AuditStamp;
+import com.linkedin.common.BrowsePaths;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.schema.TyperefDataSchema;
@@ -19,7 +20,9 @@ import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.ListUrnsResult;
+import com.linkedin.metadata.query.ScrollUrnsResult;
 import com.linkedin.metadata.run.AspectRowSummary;
+import com.linkedin.metadata.search.utils.BrowsePathUtils;
 import com.linkedin.metadata.snapshot.Snapshot;
 import com.linkedin.mxe.MetadataAuditOperation;
 import com.linkedin.mxe.MetadataChangeLog;
@@ -27,7 +30,10 @@ import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.util.Pair;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -101,6 +107,28 @@ public abstract class EntityService {
   protected abstract Map<Urn, List<RecordTemplate>> getLatestAspects(@Nonnull final Set<Urn> urns,
       @Nonnull final Set<String> aspectNames);
 
+  /**
+   * Same as {@link #getLatestAspects}, but never reads copies of the aspects that may lag behind their latest writes,
+   * such as those of a read replica. Used by callers that modify the aspects and write them back.
+   *
+   * @param urns set of urns to fetch aspects for
+   * @param aspectNames aspects to fetch for each urn in urns set
+   * @return a map of provided {@link Urn} to a List containing the requested aspects.
+   */
+  protected abstract Map<Urn, List<RecordTemplate>> getLatestAspectsForUpdate(@Nonnull final Set<Urn> urns,
+      @Nonnull final Set<String> aspectNames);
+
+  /**
+   * Checks which of the given aspects have a latest version for a batch of {@link Urn}s, without reading them.
+   *
+   * @param urns set of urns to check
+   * @param aspectNames aspects to check for each urn in urns set
+   * @return a map of each provided {@link Urn} to the names of its aspects that exist
+   */
+  @Nonnull
+  protected abstract Map<Urn, Set<String>> getExistingAspectNames(@Nonnull final Set<Urn> urns,
+      @Nonnull final Set<String> aspectNames);
+
   /**
    * Retrieves an aspect having a specific {@link Urn}, name, & version.
    *
@@ -185,6 +213,19 @@ public abstract class EntityService {
    */
   public abstract ListUrnsResult listUrns(@Nonnull final String entityName, final int start, final int count);
 
+  /**
+   * Scrolls through the entity URNs found in storage in urn order, one page at a time. Unlike
+   * {@link #listUrns(String, int, int)}, pages are fetched from where the previous one ended, so that deep pages cost
+   * no more than the first one.
+   *
+   * @param entityName the name associated with the entity
+   * @param continuation the continuation token returned with the previous page, or null to get the first page
+   * @param count the maximum number of urns to return
+   * @param includeTotal whether to also count all the urns of the entity, which requires a scan of all of them
+   */
+  public abstract ScrollUrnsResult scrollUrns(@Nonnull final String entityName, @Nullable final String continuation,
+      final int count, final boolean includeTotal);
+
   /**
    * Default implementations. Subclasses should feel free to override if it's more efficient to do so.
    */
@@ -209,6 +250,33 @@ public abstract class EntityService {
         .collect(Collectors.toMap(Map.Entry::getKey, entry -> toEntity(entry.getValue())));
   }
 
+  /**
+   * Retrieves the latest values of the given aspects for a batch of {@link Urn}s with a single read, keyed by aspect
+   * name. Aspects that do not exist are left out. The aspects are read as {@link #getLatestAspectsForUpdate} does, so
+   * that they can be modified and written back without losing concurrent updates made on other nodes.
+   *
+   * @param urns set of urns to fetch aspects for
+   * @param aspectNames non-empty set of aspects to fetch for each urn
+   * @return a map of {@link Urn} to the existing aspects among those requested
+   */
+  @Nonnull
+  public Map<Urn, Map<String, RecordTemplate>> getLatestAspectsByName(@Nonnull final Set<Urn> urns,
+      @Nonnull final Set<String> aspectNames) {
+    final Map<Urn, Map<String, RecordTemplate>> aspectsByName = new HashMap<>();
+    getLatestAspectsForUpdate(urns, aspectNames).forEach((urn, aspects) -> {
+      final Map<String, RecordTemplate> urnAspects = new HashMap<>();
+      for (RecordTemplate aspect : aspects) {
+        // The key aspect is always returned, whether or not it was requested
+        final String aspectName = PegasusUtils.getAspectNameFromSchema(aspect.schema());
+        if (aspectNames.contains(aspectName)) {
+          urnAspects.put(aspectName, aspect);
+        }
+      }
+      aspectsByName.put(urn, urnAspects);
+    });
+    return aspectsByName;
+  }
+
   /**
    * Produce metadata audit event and push.
    *
@@ -242,6 +310,14 @@ public abstract class EntityService {
     _producer.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
   }
 
+  /**
+   * Whether events are produced from within the transaction that writes the change they describe. See
+   * {@link EntityEventProducer#isTransactional()}.
+   */
+  protected boolean isProducerTransactional() {
+    return _producer.isTransactional();
+  }
+
   public void produceMetadataAuditEventForKey(@Nonnull final Urn urn,
       @Nullable final SystemMetadata newSystemMetadata) {
 
@@ -257,9 +333,34 @@ public abstract class EntityService {
 
   public void ingestEntities(@Nonnull final List<Entity> entities, @Nonnull final AuditStamp auditStamp,
       @Nonnull final List<SystemMetadata> systemMetadata) {
+    ingestEntities(entities, auditStamp, systemMetadata, false);
+  }
+
+  /**
+   * Ingests a batch of entities. Which of them still need a key aspect, and a default browse path if requested, is
+   * determined with a single existence check for the whole batch.
+   *
+   * @param addDefaultBrowsePaths whether to add the default browse path of an entity's urn to entities that do not
+   *                              have browse paths yet, neither stored nor in the entity being ingested
+   */
+  public void ingestEntities(@Nonnull final List<Entity> entities, @Nonnull final AuditStamp auditStamp,
+      @Nonnull final List<SystemMetadata> systemMetadata, final boolean addDefaultBrowsePaths) {
     log.debug(String.format("Invoked ingestEntities with entities %s, audit stamp %s", entities, auditStamp));
+    final Set<Urn> urns = new HashSet<>();
+    final Set<String> aspectNamesToCheck = new HashSet<>();
+    for (Entity entity : entities) {
+      final Urn urn = getUrnFromSnapshotUnion(entity.getValue());
+      urns.add(urn);
+      aspectNamesToCheck.add(getKeyAspectName(urn));
+    }
+    if (addDefaultBrowsePaths) {
+      aspectNamesToCheck.add(BROWSE_PATHS_ASPECT_NAME);
+    }
+    final Map<Urn, Set<String>> existingAspectNames = getExistingAspectNames(urns, aspectNamesToCheck);
+
     Streams.zip(entities.stream(), systemMetadata.stream(), (a, b) -> new Pair<Entity, SystemMetadata>(a, b))
-        .forEach(pair -> ingestEntity(pair.getFirst(), auditStamp, pair.getSecond()));
+        .forEach(pair -> ingestSnapshotUnion(pair.getFirst().getValue(), auditStamp, pair.getSecond(),
+            existingAspectNames, addDefaultBrowsePaths));
   }
 
   public void ingestEntity(Entity entity, AuditStamp auditStamp) {
@@ -274,7 +375,7 @@ public abstract class EntityService {
       @Nonnull SystemMetadata systemMetadata) {
     log.debug(String.format("Invoked ingestEntity with entity %s, audit stamp %s systemMetadata %s", entity, auditStamp,
         systemMetadata.toString()));
-    ingestSnapshotUnion(entity.getValue(), auditStamp, systemMetadata);
+    ingestEntities(Collections.singletonList(entity), auditStamp, Collections.singletonList(systemMetadata));
   }
 
   @Nonnull
@@ -306,23 +407,52 @@ public abstract class EntityService {
   private void ingestSnapshotUnion(
       @Nonnull final Snapshot snapshotUnion,
       @Nonnull final AuditStamp auditStamp,
-      SystemMetadata systemMetadata) {
+      SystemMetadata systemMetadata,
+      @Nonnull final Map<Urn, Set<String>> existingAspectNames,
+      final boolean addDefaultBrowsePaths) {
     final RecordTemplate snapshotRecord = RecordUtils.getSelectedRecordTemplateFromUnion(snapshotUnion);
     final Urn urn = com.linkedin.metadata.dao.utils.ModelUtils.getUrnFromSnapshot(snapshotRecord);
     final List<RecordTemplate> aspectRecordsToIngest =
         com.linkedin.metadata.dao.utils.ModelUtils.getAspectsFromSnapshot(snapshotRecord);
+    final Set<String> existing = existingAspectNames.getOrDefault(urn, Collections.emptySet());
 
-    final String keyAspectName = getKeyAspectName(urn);
-    if (getLatestAspect(urn, keyAspectName) == null) {
+    if (!existing.contains(getKeyAspectName(urn))) {
       aspectRecordsToIngest.add(buildKeyAspect(urn));
     }
 
+    if (addDefaultBrowsePaths && !existing.contains(BROWSE_PATHS_ASPECT_NAME)
+        && _entityRegistry.getEntitySpec(urnToEntityName(urn)).hasAspect(BROWSE_PATHS_ASPECT_NAME)
+        && aspectRecordsToIngest.stream().noneMatch(aspect -> aspect instanceof BrowsePaths)) {
+      final BrowsePaths defaultBrowsePaths = buildDefaultBrowsePaths(urn);
+      if (defaultBrowsePaths != null) {
+        aspectRecordsToIngest.add(defaultBrowsePaths);
+      }
+    }
+
     aspectRecordsToIngest.forEach(aspect -> {
       final String aspectName = PegasusUtils.getAspectNameFromSchema(aspect.schema());
       ingestAspect(urn, aspectName, aspect, auditStamp, systemMetadata);
     });
   }
 
+  @Nullable
+  private BrowsePaths buildDefaultBrowsePaths(@Nonnull final Urn urn) {
+    try {
+      // Entity types without a default browse path get an empty one, which is not worth storing
+      final String defaultBrowsePath = BrowsePathUtils.getDefaultBrowsePath(urn);
+      return defaultBrowsePath.isEmpty() ? null : BrowsePathUtils.buildBrowsePath(urn);
+    } catch (URISyntaxException e) {
+      log.warn(String.format("Failed to build the default browse path for urn %s", urn), e);
+      return null;
+    }
+  }
+
+  @Nonnull
+  private static Urn getUrnFromSnapshotUnion(@Nonnull final Snapshot snapshotUnion) {
+    return com.linkedin.metadata.dao.utils.ModelUtils.getUrnFromSnapshot(
+        RecordUtils.getSelectedRecordTemplateFromUnion(snapshotUnion));
+  }
+
   public Snapshot buildSnapshot(@Nonnull final Urn urn, @Nonnull final RecordTemplate aspectValue) {
     // if the aspect value is the key, we do not need to include the key a second time
     if (PegasusUtils.getAspectNameFromSchema(aspectValue.schema()).equals(getKeyAspectName(urn))) {
@@ -433,6 +563,25 @@ public abstract class EntityService {
 
   public abstract Urn ingestProposal(MetadataChangeProposal metadataChangeProposal, AuditStamp auditStamp);
 
+  /**
+   * Ingests a batch of proposals. A failing proposal does not fail the others; its error is returned instead.
+   *
+   * @return one result per proposal, in the order of the input
+   */
+  @Nonnull
+  public List<IngestProposalResult> batchIngestProposals(@Nonnull final List<MetadataChangeProposal> proposals,
+      @Nonnull final AuditStamp auditStamp) {
+    final List<IngestProposalResult> results = new ArrayList<>(proposals.size());
+    for (MetadataChangeProposal proposal : proposals) {
+      try {
+        results.add(new IngestProposalResult(ingestProposal(proposal, auditStamp), null));
+      } catch (RuntimeException e) {
+        results.add(new IngestProposalResult(null, e));
+      }
+    }
+    return results;
+  }
+
   public abstract RollbackRunResult rollbackRun(List<AspectRowSummary> aspectRows, String runId);
 
   public abstract RollbackRunResult deleteUrn(Urn urn);
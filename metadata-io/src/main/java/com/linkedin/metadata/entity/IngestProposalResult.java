@@ -0,0 +1,22 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.common.urn.Urn;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+
+/**
+ * The outcome of ingesting one proposal of a batch. Exactly one of the urn and the error is set, except that a failed
+ * proposal also carries its urn when it could be resolved.
+ */
+@Value
+public class IngestProposalResult {
+  @Nullable
+  Urn urn;
+  @Nullable
+  Throwable error;
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
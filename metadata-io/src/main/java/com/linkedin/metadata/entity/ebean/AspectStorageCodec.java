@@ -0,0 +1,191 @@
+package com.linkedin.metadata.entity.ebean;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.PsonDataCodec;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.dao.exception.ModelConversionException;
+import com.linkedin.metadata.models.AspectSpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Encodes aspects into, and decodes them from, the metadata column of {@link EbeanAspectV2}.
+ *
+ * Rows written in the original JSON format are stored as-is. Binary rows hold Pegasus PSON, optionally deflated, and
+ * are Base64 encoded behind a short prefix identifying the format, so that the column type does not change and rows
+ * in different formats can coexist in the same table. Decoding always looks at the row itself, so the configured
+ * format only affects new writes.
+ */
+public class AspectStorageCodec {
+
+  /**
+   * The supported storage formats.
+   */
+  public enum Format {
+    JSON(""),
+    PSON("pson:"),
+    PSON_DEFLATE("psonz:");
+
+    private final String _prefix;
+
+    Format(@Nonnull final String prefix) {
+      _prefix = prefix;
+    }
+
+    public String getPrefix() {
+      return _prefix;
+    }
+  }
+
+  private static final JacksonDataCodec JSON_CODEC = new JacksonDataCodec();
+  private static final PsonDataCodec PSON_CODEC = new PsonDataCodec();
+  private static final JacksonDataCodec CANONICAL_CODEC = createCanonicalCodec();
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int BUFFER_SIZE = 4096;
+
+  private final Format _format;
+
+  public AspectStorageCodec(@Nonnull final Format format) {
+    _format = format;
+  }
+
+  @Nonnull
+  public Format getFormat() {
+    return _format;
+  }
+
+  /**
+   * Encodes the given aspect in the configured format.
+   */
+  @Nonnull
+  public String encode(@Nonnull final RecordTemplate aspect) {
+    return encodeData(aspect.data());
+  }
+
+  @Nonnull
+  public String encodeData(@Nonnull final DataMap data) {
+    try {
+      switch (_format) {
+        case PSON:
+          return _format.getPrefix() + Base64.getEncoder().encodeToString(PSON_CODEC.mapToBytes(data));
+        case PSON_DEFLATE:
+          return _format.getPrefix() + Base64.getEncoder().encodeToString(deflate(PSON_CODEC.mapToBytes(data)));
+        default:
+          return JSON_CODEC.mapToString(data);
+      }
+    } catch (IOException e) {
+      throw new ModelConversionException(String.format("Failed to encode aspect as %s", _format), e);
+    }
+  }
+
+  /**
+   * Returns the format of a stored row. JSON rows always start with an opening brace, which no binary prefix does.
+   */
+  @Nonnull
+  public static Format getFormat(@Nonnull final String metadata) {
+    if (metadata.startsWith(Format.PSON_DEFLATE.getPrefix())) {
+      return Format.PSON_DEFLATE;
+    }
+    if (metadata.startsWith(Format.PSON.getPrefix())) {
+      return Format.PSON;
+    }
+    return Format.JSON;
+  }
+
+  /**
+   * Decodes a stored row, in any format, into the data template of the given aspect.
+   */
+  @Nonnull
+  public static RecordTemplate decode(@Nonnull final String metadata, @Nonnull final AspectSpec aspectSpec) {
+    return aspectSpec.createDataTemplate(decodeData(metadata));
+  }
+
+  @Nonnull
+  public static DataMap decodeData(@Nonnull final String metadata) {
+    final Format format = getFormat(metadata);
+    try {
+      switch (format) {
+        case PSON:
+          return PSON_CODEC.bytesToMap(Base64.getDecoder().decode(metadata.substring(format.getPrefix().length())));
+        case PSON_DEFLATE:
+          return PSON_CODEC.bytesToMap(
+              inflate(Base64.getDecoder().decode(metadata.substring(format.getPrefix().length()))));
+        default:
+          return JSON_CODEC.bytesToMap(metadata.getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (IOException | DataFormatException e) {
+      throw new ModelConversionException(String.format("Failed to decode aspect stored as %s", format), e);
+    }
+  }
+
+  /**
+   * Returns a hex encoded SHA-256 of the aspect, serialized as JSON with sorted keys. The hash is independent of the
+   * storage format and of field order, so equal aspects always hash equally.
+   */
+  @Nonnull
+  public static String hash(@Nonnull final RecordTemplate aspect) {
+    try {
+      final byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(CANONICAL_CODEC.mapToBytes(aspect.data()));
+      final char[] hex = new char[digest.length * 2];
+      for (int i = 0; i < digest.length; i++) {
+        hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+        hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+      }
+      return new String(hex);
+    } catch (IOException | NoSuchAlgorithmException e) {
+      throw new ModelConversionException("Failed to hash aspect", e);
+    }
+  }
+
+  private static JacksonDataCodec createCanonicalCodec() {
+    final JacksonDataCodec codec = new JacksonDataCodec();
+    codec.setSortKeys(true);
+    return codec;
+  }
+
+  private static byte[] deflate(@Nonnull final byte[] bytes) {
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4 + 16);
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        outputStream.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return outputStream.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(@Nonnull final byte[] bytes) throws DataFormatException {
+    final Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes);
+      final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      while (!inflater.finished()) {
+        final int inflated = inflater.inflate(buffer);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new DataFormatException("Truncated deflate stream");
+        }
+        outputStream.write(buffer, 0, inflated);
+      }
+      return outputStream.toByteArray();
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -1,6 +1,11 @@
 package com.linkedin.metadata.entity.ebean;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
@@ -16,25 +21,32 @@ import com.linkedin.metadata.dao.utils.QueryUtils;
 import com.linkedin.metadata.query.ExtraInfo;
 import com.linkedin.metadata.query.ExtraInfoArray;
 import com.linkedin.metadata.query.ListResultMetadata;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.ebean.DuplicateKeyException;
 import io.ebean.EbeanServer;
 import io.ebean.EbeanServerFactory;
+import io.ebean.ExpressionList;
 import io.ebean.PagedList;
 import io.ebean.Query;
 import io.ebean.RawSql;
 import io.ebean.RawSqlBuilder;
+import io.ebean.SqlUpdate;
 import io.ebean.Transaction;
 import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourcePool;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -49,9 +61,18 @@ import static com.linkedin.metadata.Constants.*;
 public class EbeanAspectDao {
 
   public static final String EBEAN_MODEL_PACKAGE = EbeanAspectV2.class.getPackage().getName();
+  public static final long DEFAULT_READ_STALENESS_MILLIS = 5000;
   private static final IndefiniteRetention INDEFINITE_RETENTION = new IndefiniteRetention();
+  private static final String PRIMARY_POOL = "primary";
+  private static final String REPLICA_POOL = "replica";
+  // Rows fetched from the database per round trip when streaming results
+  private static final int MAX_FETCH_SIZE = 1000;
 
   private final EbeanServer _server;
+  // Optional read replica that read-only queries are routed to, with the urns this node wrote too recently to trust
+  // the replica to have caught up with
+  private final EbeanServer _readServer;
+  private final Cache<String, Boolean> _recentlyWrittenUrns;
   private boolean _connectionValidated = false;
   private final Map<String, Retention> _aspectRetentionMap = new HashMap<>();
   private final Clock _clock = Clock.systemUTC();
@@ -64,12 +85,39 @@ public class EbeanAspectDao {
    * @param serverConfig {@link ServerConfig} that defines the configuration of EbeanServer instances
    */
   public EbeanAspectDao(@Nonnull final ServerConfig serverConfig) {
-    this(createServer(serverConfig));
+    this(serverConfig, null, DEFAULT_READ_STALENESS_MILLIS);
+  }
+
+  /**
+   * Constructor for EntityEbeanDao with a read replica.
+   *
+   * @param serverConfig {@link ServerConfig} of the primary database, which all writes and read-your-writes queries use
+   * @param readServerConfig {@link ServerConfig} of the read replica that read-only queries are routed to, if any
+   * @param readStalenessMillis how long after this node writes an urn its reads keep going to the primary, to cover
+   *                            the replication lag of the replica
+   */
+  public EbeanAspectDao(@Nonnull final ServerConfig serverConfig, @Nullable final ServerConfig readServerConfig,
+      final long readStalenessMillis) {
+    this(createServer(serverConfig), readServerConfig == null ? null : createServer(readServerConfig),
+        readStalenessMillis);
+    registerPoolGauges(PRIMARY_POOL, serverConfig);
+    if (readServerConfig != null) {
+      registerPoolGauges(REPLICA_POOL, readServerConfig);
+    }
   }
 
   @VisibleForTesting
   public EbeanAspectDao(@Nonnull final EbeanServer server) {
+    this(server, null, DEFAULT_READ_STALENESS_MILLIS);
+  }
+
+  @VisibleForTesting
+  public EbeanAspectDao(@Nonnull final EbeanServer server, @Nullable final EbeanServer readServer,
+      final long readStalenessMillis) {
     _server = server;
+    _readServer = readServer;
+    _recentlyWrittenUrns = readServer == null ? null
+        : CacheBuilder.newBuilder().expireAfterWrite(readStalenessMillis, TimeUnit.MILLISECONDS).build();
   }
 
   public void setWritable(boolean canWrite) {
@@ -102,6 +150,13 @@ public class EbeanAspectDao {
       _canWrite = false;
       return false;
     } else {
+      // Every query of the aspect table selects the column, so neither reads nor writes can work without it. Failing
+      // here stops GMS at its first query, during bootstrap, with a message saying how to fix the storage layer.
+      if (!AspectStorageValidationUtil.checkV2ColumnExists(_server, EbeanAspectV2.METADATA_HASH_COLUMN)) {
+        throw new IllegalStateException(String.format("The aspect table is missing the %s column. Please run the "
+            + "AddMetadataHashColumn upgrade, see https://datahubproject.io/docs/docker/datahub-upgrade.",
+            EbeanAspectV2.METADATA_HASH_COLUMN));
+      }
       _connectionValidated = true;
       return true;
     }
@@ -111,33 +166,40 @@ public class EbeanAspectDao {
       @Nonnull final String urn,
       @Nonnull final String aspectName,
       @Nullable final String oldAspectMetadata,
+      @Nullable final String oldMetadataHash,
       @Nullable final String oldActor,
       @Nullable final String oldImpersonator,
       @Nullable final Timestamp oldTime,
       @Nullable final String oldSystemMetadata,
       @Nonnull final String newAspectMetadata,
+      @Nonnull final String newMetadataHash,
       @Nonnull final String newActor,
       @Nullable final String newImpersonator,
       @Nonnull final Timestamp newTime,
       @Nullable final String newSystemMetadata
   ) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "saveLatestAspect").time();
     validateConnection();
     if (!_canWrite) {
+      timer.stop();
       return 0;
     }
     // Save oldValue as the largest version + 1
     long largestVersion = 0;
     if (oldAspectMetadata != null && oldTime != null) {
       largestVersion = getNextVersion(urn, aspectName);
-      saveAspect(urn, aspectName, oldAspectMetadata, oldActor, oldImpersonator, oldTime, oldSystemMetadata, largestVersion, true);
+      saveAspect(urn, aspectName, oldAspectMetadata, oldMetadataHash, oldActor, oldImpersonator, oldTime, oldSystemMetadata,
+          largestVersion, true);
     }
 
     // Save newValue as the latest version (v0)
-    saveAspect(urn, aspectName, newAspectMetadata, newActor, newImpersonator, newTime, newSystemMetadata, ASPECT_LATEST_VERSION, oldAspectMetadata == null);
+    saveAspect(urn, aspectName, newAspectMetadata, newMetadataHash, newActor, newImpersonator, newTime, newSystemMetadata,
+        ASPECT_LATEST_VERSION, oldAspectMetadata == null);
 
     // Apply retention policy
     applyRetention(urn, aspectName, getRetention(aspectName), largestVersion);
 
+    timer.stop();
     return largestVersion;
   }
 
@@ -145,6 +207,7 @@ public class EbeanAspectDao {
       @Nonnull final String urn,
       @Nonnull final String aspectName,
       @Nonnull final String aspectMetadata,
+      @Nullable final String metadataHash,
       @Nonnull final String actor,
       @Nullable final String impersonator,
       @Nonnull final Timestamp timestamp,
@@ -156,6 +219,7 @@ public class EbeanAspectDao {
     final EbeanAspectV2 aspect = new EbeanAspectV2();
     aspect.setKey(new EbeanAspectV2.PrimaryKey(urn, aspectName, version));
     aspect.setMetadata(aspectMetadata);
+    aspect.setMetadataHash(metadataHash);
     aspect.setSystemMetadata(systemMetadata);
     aspect.setCreatedOn(timestamp);
     aspect.setCreatedBy(actor);
@@ -167,23 +231,88 @@ public class EbeanAspectDao {
   }
 
   protected void saveAspect(@Nonnull final EbeanAspectV2 ebeanAspect, final boolean insert) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "saveAspect").time();
     validateConnection();
+    markWritten(ebeanAspect.getKey().getUrn());
     if (insert) {
       _server.insert(ebeanAspect);
     } else {
       _server.update(ebeanAspect);
     }
+    timer.stop();
+  }
+
+  /**
+   * Replaces the stored metadata of a single row, but only if it still holds the expected value. This is used to
+   * rewrite rows in place, e.g. when converting them to another storage format, without clobbering a concurrent write.
+   *
+   * @return whether the row was updated
+   */
+  public boolean replaceAspectMetadata(@Nonnull final EbeanAspectV2.PrimaryKey key,
+      @Nonnull final String expectedMetadata, @Nonnull final String newMetadata) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "replaceAspectMetadata").time()) {
+      validateConnection();
+      if (!_canWrite) {
+        return false;
+      }
+      markWritten(key.getUrn());
+      return _server.createSqlUpdate(String.format("UPDATE %s SET %s = :newMetadata WHERE %s = :urn AND %s = :aspect "
+              + "AND %s = :version AND %s = :expectedMetadata",
+          EbeanAspectV2.class.getAnnotation(Table.class).name(), EbeanAspectV2.METADATA_COLUMN, EbeanAspectV2.URN_COLUMN,
+          EbeanAspectV2.ASPECT_COLUMN, EbeanAspectV2.VERSION_COLUMN, EbeanAspectV2.METADATA_COLUMN))
+          .setParameter("newMetadata", newMetadata)
+          .setParameter("urn", key.getUrn())
+          .setParameter("aspect", key.getAspect())
+          .setParameter("version", key.getVersion())
+          .setParameter("expectedMetadata", expectedMetadata)
+          .execute() > 0;
+    }
+  }
+
+  /**
+   * Updates only the system metadata of a row, and its content hash if one is given, without rewriting the aspect
+   * itself. This is used when an ingested aspect is unchanged.
+   */
+  public void updateSystemMetadata(@Nonnull final EbeanAspectV2.PrimaryKey key, @Nonnull final String systemMetadata,
+      @Nullable final String metadataHash) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "updateSystemMetadata").time()) {
+      validateConnection();
+      if (!_canWrite) {
+        return;
+      }
+      markWritten(key.getUrn());
+      final String setClause = metadataHash == null
+          ? String.format("%s = :systemMetadata", EbeanAspectV2.SYSTEM_METADATA_COLUMN)
+          : String.format("%s = :systemMetadata, %s = :metadataHash", EbeanAspectV2.SYSTEM_METADATA_COLUMN,
+              EbeanAspectV2.METADATA_HASH_COLUMN);
+      final SqlUpdate update = _server.createSqlUpdate(
+          String.format("UPDATE %s SET %s WHERE %s = :urn AND %s = :aspect AND %s = :version",
+              EbeanAspectV2.class.getAnnotation(Table.class).name(), setClause, EbeanAspectV2.URN_COLUMN,
+              EbeanAspectV2.ASPECT_COLUMN, EbeanAspectV2.VERSION_COLUMN))
+          .setParameter("systemMetadata", systemMetadata)
+          .setParameter("urn", key.getUrn())
+          .setParameter("aspect", key.getAspect())
+          .setParameter("version", key.getVersion());
+      if (metadataHash != null) {
+        update.setParameter("metadataHash", metadataHash);
+      }
+      update.execute();
+    }
   }
 
   @Nullable
   protected EbeanAspectV2 getLatestAspect(@Nonnull final String urn, @Nonnull final String aspectName) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "getLatestAspect").time();
     validateConnection();
     final EbeanAspectV2.PrimaryKey key = new EbeanAspectV2.PrimaryKey(urn, aspectName, 0L);
-    return _server.find(EbeanAspectV2.class, key);
+    final EbeanAspectV2 aspect = _server.find(EbeanAspectV2.class, key);
+    timer.stop();
+    return aspect;
   }
 
   @Nullable
   public long getMaxVersion(@Nonnull final String urn, @Nonnull final String aspectName) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "getMaxVersion").time();
     validateConnection();
     List<EbeanAspectV2> result = _server.find(EbeanAspectV2.class)
         .where()
@@ -191,6 +320,7 @@ public class EbeanAspectDao {
         .orderBy()
         .desc("version")
         .findList();
+    timer.stop();
     if (result.size() == 0) {
       return -1;
     }
@@ -205,43 +335,74 @@ public class EbeanAspectDao {
 
   @Nullable
   public EbeanAspectV2 getAspect(@Nonnull final EbeanAspectV2.PrimaryKey primaryKey) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "getAspect").time();
     validateConnection();
-    return _server.find(EbeanAspectV2.class, primaryKey);
+    final EbeanAspectV2 aspect = _server.find(EbeanAspectV2.class, primaryKey);
+    timer.stop();
+    return aspect;
   }
 
   @Nullable
   public boolean deleteAspect(@Nonnull final EbeanAspectV2 aspect) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "deleteAspect").time();
     validateConnection();
-    return _server.delete(aspect);
+    markWritten(aspect.getKey().getUrn());
+    final boolean deleted = _server.delete(aspect);
+    timer.stop();
+    return deleted;
   }
 
   @Nullable
   public int deleteUrn(@Nonnull final String urn) {
-    return _server.createQuery(EbeanAspectV2.class).where().eq("urn", urn).delete();
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "deleteUrn").time();
+    markWritten(urn);
+    final int deleted = _server.createQuery(EbeanAspectV2.class).where().eq("urn", urn).delete();
+    timer.stop();
+    return deleted;
   }
 
   @Nullable
   public Optional<EbeanAspectV2> getEarliestAspect(@Nonnull final String urn) {
-    return _server.createQuery(EbeanAspectV2.class).where().eq("urn", urn)
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "getEarliestAspect").time();
+    final Optional<EbeanAspectV2> aspect = _server.createQuery(EbeanAspectV2.class).where().eq("urn", urn)
         .orderBy()
         .asc(EbeanAspectV2.CREATED_ON_COLUMN)
         .setMaxRows(1)
         .findList().stream().findFirst();
+    timer.stop();
+    return aspect;
   }
 
   @Nonnull
   public Map<EbeanAspectV2.PrimaryKey, EbeanAspectV2> batchGet(@Nonnull final Set<EbeanAspectV2.PrimaryKey> keys) {
+    return batchGet(keys, false);
+  }
+
+  /**
+   * Reads the given aspects, from the primary if requested, so that callers writing them back do not read copies that
+   * lag behind the writes of other nodes. Otherwise the read replica is used, if there is one.
+   */
+  @Nonnull
+  public Map<EbeanAspectV2.PrimaryKey, EbeanAspectV2> batchGet(@Nonnull final Set<EbeanAspectV2.PrimaryKey> keys,
+      final boolean fromPrimary) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "batchGet").time();
     validateConnection();
     if (keys.isEmpty()) {
+      timer.stop();
       return Collections.emptyMap();
     }
 
+    final EbeanServer server = fromPrimary ? _server
+        : getReadServer(keys.stream().map(EbeanAspectV2.PrimaryKey::getUrn).collect(Collectors.toSet()));
     final List<EbeanAspectV2> records;
+    Timer.Context queryTimer = poolTimer(server).time();
     if (_queryKeysCount == 0) {
-      records = batchGet(keys, keys.size());
+      records = batchGet(server, keys, keys.size());
     } else {
-      records = batchGet(keys, _queryKeysCount);
+      records = batchGet(server, keys, _queryKeysCount);
     }
+    queryTimer.stop();
+    timer.stop();
     return records.stream().collect(Collectors.toMap(EbeanAspectV2::getKey, record -> record));
   }
 
@@ -249,21 +410,23 @@ public class EbeanAspectDao {
    * BatchGet that allows pagination on keys to avoid large queries.
    * TODO: can further improve by running the sub queries in parallel
    *
+   * @param server the server to run the sub queries on
    * @param keys a set of keys with urn, aspect and version
    * @param keysCount the max number of keys for each sub query
    */
   @Nonnull
-  private List<EbeanAspectV2> batchGet(@Nonnull final Set<EbeanAspectV2.PrimaryKey> keys, final int keysCount) {
+  private List<EbeanAspectV2> batchGet(@Nonnull final EbeanServer server,
+      @Nonnull final Set<EbeanAspectV2.PrimaryKey> keys, final int keysCount) {
     validateConnection();
 
     int position = 0;
 
     final int totalPageCount = QueryUtils.getTotalPageCount(keys.size(), keysCount);
-    final List<EbeanAspectV2> finalResult = batchGetUnion(new ArrayList<>(keys), keysCount, position);
+    final List<EbeanAspectV2> finalResult = batchGetUnion(server, new ArrayList<>(keys), keysCount, position);
 
     while (QueryUtils.hasMore(position, keysCount, totalPageCount)) {
       position += keysCount;
-      final List<EbeanAspectV2> oneStatementResult = batchGetUnion(new ArrayList<>(keys), keysCount, position);
+      final List<EbeanAspectV2> oneStatementResult = batchGetUnion(server, new ArrayList<>(keys), keysCount, position);
       finalResult.addAll(oneStatementResult);
     }
 
@@ -297,6 +460,7 @@ public class EbeanAspectDao {
 
   @Nonnull
   private List<EbeanAspectV2> batchGetUnion(
+      @Nonnull final EbeanServer server,
       @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
       final int keysCount,
       final int position) {
@@ -333,7 +497,7 @@ public class EbeanAspectDao {
         .columnMapping(EbeanAspectV2.VERSION_COLUMN, "key.version")
         .create();
 
-    final Query<EbeanAspectV2> query = _server.find(EbeanAspectV2.class).setRawSql(rawSql);
+    final Query<EbeanAspectV2> query = server.find(EbeanAspectV2.class).setRawSql(rawSql);
 
     for (Map.Entry<String, Object> param : params.entrySet()) {
       query.setParameter(param.getKey(), param.getValue());
@@ -342,15 +506,43 @@ public class EbeanAspectDao {
     return query.findList();
   }
 
+  /**
+   * Returns the keys of the latest versions that exist for the given urns and aspects, without reading the rows.
+   * Always reads the primary, since writes use it to decide which aspects they still have to add, and a replica that
+   * has not caught up with another node's writes would have them overwritten with defaults.
+   */
+  @Nonnull
+  public List<EbeanAspectV2.PrimaryKey> getLatestKeys(@Nonnull final Set<String> urns,
+      @Nonnull final Set<String> aspectNames) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getLatestKeys").time()) {
+      validateConnection();
+      if (urns.isEmpty() || aspectNames.isEmpty()) {
+        return Collections.emptyList();
+      }
+
+      try (Timer.Context ignored2 = poolTimer(_server).time()) {
+        return _server.find(EbeanAspectV2.class)
+            .where()
+            .in(EbeanAspectV2.URN_COLUMN, urns)
+            .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
+            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+            .findIds();
+      }
+    }
+  }
+
   @Nonnull
   public ListResult<Long> listVersions(
       @Nonnull final String urn,
       @Nonnull final String aspectName,
       final int start,
       final int pageSize) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "listVersions").time();
     validateConnection();
 
-    final PagedList<EbeanAspectV2> pagedList = _server.find(EbeanAspectV2.class)
+    final EbeanServer server = getReadServer(Collections.singleton(urn));
+    Timer.Context queryTimer = poolTimer(server).time();
+    final PagedList<EbeanAspectV2> pagedList = server.find(EbeanAspectV2.class)
         .select(EbeanAspectV2.KEY_ID)
         .where()
         .eq(EbeanAspectV2.URN_COLUMN, urn)
@@ -362,6 +554,8 @@ public class EbeanAspectDao {
         .findPagedList();
 
     List<Long> versions = pagedList.getList().stream().map(a -> a.getKey().getVersion()).collect(Collectors.toList());
+    queryTimer.stop();
+    timer.stop();
     return toListResult(versions, null, pagedList, start);
   }
 
@@ -370,9 +564,12 @@ public class EbeanAspectDao {
       @Nonnull final String aspectName,
       final int start,
       final int pageSize) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "listUrns").time();
     validateConnection();
 
-    final PagedList<EbeanAspectV2> pagedList = _server.find(EbeanAspectV2.class)
+    final EbeanServer server = getReadServer(Collections.emptySet());
+    Timer.Context queryTimer = poolTimer(server).time();
+    final PagedList<EbeanAspectV2> pagedList = server.find(EbeanAspectV2.class)
         .select(EbeanAspectV2.KEY_ID)
         .where()
         .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
@@ -389,18 +586,79 @@ public class EbeanAspectDao {
         .map(entry -> entry.getKey().getUrn())
         .collect(Collectors.toList());
 
+    queryTimer.stop();
+    timer.stop();
     return toListResult(urns, null, pagedList, start);
   }
 
+  /**
+   * Streams the urns that have the latest version of the given aspect to the consumer, in urn order, starting after the
+   * given urn. Unlike {@link #listUrns(String, int, int)}, the page is a range scan of the primary key from the last urn
+   * of the previous page instead of skipping over all previous pages, so deep pages are as fast as the first one, and no
+   * total count is run.
+   *
+   * @param aspectName the aspect the urns must have
+   * @param lastUrn the last urn of the previous page, or null to start from the first urn
+   * @param limit the maximum number of urns to stream
+   * @param consumer the consumer of the urns
+   */
+  public void streamUrns(
+      @Nonnull final String aspectName,
+      @Nullable final String lastUrn,
+      final int limit,
+      @Nonnull final Consumer<String> consumer) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "streamUrns").time()) {
+      validateConnection();
+
+      final EbeanServer server = getReadServer(Collections.emptySet());
+      try (Timer.Context ignored2 = poolTimer(server).time()) {
+        ExpressionList<EbeanAspectV2> expressions = server.find(EbeanAspectV2.class)
+            .setBufferFetchSizeHint(Math.min(limit, MAX_FETCH_SIZE))
+            .select(EbeanAspectV2.KEY_ID)
+            .where()
+            .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
+        if (lastUrn != null) {
+          expressions = expressions.gt(EbeanAspectV2.URN_COLUMN, lastUrn);
+        }
+        expressions.setMaxRows(limit)
+            .orderBy()
+            .asc(EbeanAspectV2.URN_COLUMN)
+            .findEach(entry -> consumer.accept(entry.getKey().getUrn()));
+      }
+    }
+  }
+
+  /**
+   * Counts the urns that have the latest version of the given aspect.
+   */
+  public int countUrns(@Nonnull final String aspectName) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "countUrns").time()) {
+      validateConnection();
+
+      final EbeanServer server = getReadServer(Collections.emptySet());
+      try (Timer.Context ignored2 = poolTimer(server).time()) {
+        return server.find(EbeanAspectV2.class)
+            .where()
+            .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+            .findCount();
+      }
+    }
+  }
+
   @Nonnull
   public ListResult<String> listAspectMetadata(
       @Nonnull final Urn urn,
       @Nonnull final String aspectName,
       final int start,
       final int pageSize) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "listAspectMetadata").time();
     validateConnection();
 
-    final PagedList<EbeanAspectV2> pagedList = _server.find(EbeanAspectV2.class)
+    final EbeanServer server = getReadServer(Collections.singleton(urn.toString()));
+    Timer.Context queryTimer = poolTimer(server).time();
+    final PagedList<EbeanAspectV2> pagedList = server.find(EbeanAspectV2.class)
         .select(EbeanAspectV2.ALL_COLUMNS)
         .where()
         .eq(EbeanAspectV2.URN_COLUMN, urn.toString())
@@ -414,6 +672,8 @@ public class EbeanAspectDao {
     final List<String> aspects = pagedList.getList().stream().map(EbeanAspectV2::getMetadata).collect(Collectors.toList());
     final ListResultMetadata listResultMetadata = toListResultMetadata(pagedList.getList().stream().map(
         EbeanAspectDao::toExtraInfo).collect(Collectors.toList()));
+    queryTimer.stop();
+    timer.stop();
     return toListResult(aspects, listResultMetadata, pagedList, start);
   }
 
@@ -433,10 +693,13 @@ public class EbeanAspectDao {
       final long version,
       final int start,
       final int pageSize) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "listEntityAspectMetadata").time();
     validateConnection();
 
     final String urnPrefixMatcher = "urn:li:" + entityName + ":%";
-    final PagedList<EbeanAspectV2> pagedList = _server.find(EbeanAspectV2.class)
+    final EbeanServer server = getReadServer(Collections.emptySet());
+    Timer.Context queryTimer = poolTimer(server).time();
+    final PagedList<EbeanAspectV2> pagedList = server.find(EbeanAspectV2.class)
         .select(EbeanAspectV2.ALL_COLUMNS)
         .where()
         .like(EbeanAspectV2.URN_COLUMN, urnPrefixMatcher)
@@ -451,6 +714,8 @@ public class EbeanAspectDao {
     final List<String> aspects = pagedList.getList().stream().map(EbeanAspectV2::getMetadata).collect(Collectors.toList());
     final ListResultMetadata listResultMetadata = toListResultMetadata(pagedList.getList().stream().map(
         EbeanAspectDao::toExtraInfo).collect(Collectors.toList()));
+    queryTimer.stop();
+    timer.stop();
     return toListResult(aspects, listResultMetadata, pagedList, start);
   }
 
@@ -465,6 +730,7 @@ public class EbeanAspectDao {
 
   @Nonnull
   public <T> T runInTransactionWithRetry(@Nonnull final Supplier<T> block, final int maxTransactionRetry) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "runInTransactionWithRetry").time();
     validateConnection();
     int retryCount = 0;
     Exception lastException;
@@ -485,9 +751,105 @@ public class EbeanAspectDao {
       throw new RetryLimitReached("Failed to add after " + maxTransactionRetry + " retries", lastException);
     }
 
+    timer.stop();
     return result;
   }
 
+  /**
+   * Adds an event to the outbox, as part of the current transaction if there is one.
+   */
+  public void saveOutboxEvent(@Nonnull final String urn, @Nonnull final EbeanOutboxEvent.EventType eventType,
+      @Nonnull final String payload) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "saveOutboxEvent").time()) {
+      validateConnection();
+      final EbeanOutboxEvent event = new EbeanOutboxEvent();
+      event.setUrn(urn);
+      event.setEventType(eventType);
+      event.setPayload(payload);
+      event.setCreatedOn(new Timestamp(_clock.millis()));
+      _server.insert(event);
+    }
+  }
+
+  /**
+   * Returns the oldest events of the outbox, in the order they were written.
+   */
+  @Nonnull
+  public List<EbeanOutboxEvent> getOutboxEvents(final int limit) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "getOutboxEvents").time()) {
+      validateConnection();
+      return _server.find(EbeanOutboxEvent.class)
+          .orderBy()
+          .asc(EbeanOutboxEvent.ID_COLUMN)
+          .setMaxRows(limit)
+          .findList();
+    }
+  }
+
+  public int deleteOutboxEvents(@Nonnull final List<Long> ids) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "deleteOutboxEvents").time()) {
+      validateConnection();
+      if (ids.isEmpty()) {
+        return 0;
+      }
+      return _server.find(EbeanOutboxEvent.class).where().in(EbeanOutboxEvent.ID_COLUMN, ids).delete();
+    }
+  }
+
+  /**
+   * Acquires or renews the given lease for the given owner, for the given duration from now. A lease held by another
+   * owner is only taken over once it has expired.
+   *
+   * @return true if the owner holds the lease
+   */
+  public boolean acquireOutboxLease(@Nonnull final String name, @Nonnull final String owner, final long leaseMillis) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "acquireOutboxLease").time()) {
+      validateConnection();
+      final long now = _clock.millis();
+      final int updated = _server.createSqlUpdate(String.format("UPDATE %s SET %s = :owner, %s = :expiresOn "
+              + "WHERE %s = :name AND (%s = :owner OR %s < :now)",
+          EbeanOutboxLease.class.getAnnotation(Table.class).name(), EbeanOutboxLease.OWNER_COLUMN,
+          EbeanOutboxLease.EXPIRES_ON_COLUMN, EbeanOutboxLease.NAME_COLUMN, EbeanOutboxLease.OWNER_COLUMN,
+          EbeanOutboxLease.EXPIRES_ON_COLUMN))
+          .setParameter("owner", owner)
+          .setParameter("expiresOn", new Timestamp(now + leaseMillis))
+          .setParameter("name", name)
+          .setParameter("now", new Timestamp(now))
+          .execute();
+      if (updated > 0) {
+        return true;
+      }
+      if (_server.find(EbeanOutboxLease.class, name) != null) {
+        return false;
+      }
+
+      final EbeanOutboxLease lease = new EbeanOutboxLease();
+      lease.setName(name);
+      lease.setOwner(owner);
+      lease.setExpiresOn(new Timestamp(now + leaseMillis));
+      try {
+        _server.insert(lease);
+        return true;
+      } catch (DuplicateKeyException e) {
+        // Another owner created the lease first
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Releases the given lease if it is held by the given owner, so that another owner can acquire it right away.
+   */
+  public void releaseOutboxLease(@Nonnull final String name, @Nonnull final String owner) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "releaseOutboxLease").time()) {
+      validateConnection();
+      _server.find(EbeanOutboxLease.class)
+          .where()
+          .eq(EbeanOutboxLease.NAME_COLUMN, name)
+          .eq(EbeanOutboxLease.OWNER_COLUMN, owner)
+          .delete();
+    }
+  }
 
   private void applyRetention(
       @Nonnull final String urn,
@@ -611,6 +973,55 @@ public class EbeanAspectDao {
     return listResultMetadata;
   }
 
+  /**
+   * Returns the server to run a read-only query on. This is the read replica if there is one, unless the query runs in
+   * a transaction or reads an urn that this node wrote too recently for the replica to be trusted to have caught up.
+   * Writes of other nodes are not tracked, so reads of them may lag behind by the replication delay.
+   */
+  @Nonnull
+  private EbeanServer getReadServer(@Nonnull final Collection<String> urns) {
+    if (_readServer == null || _server.currentTransaction() != null) {
+      return _server;
+    }
+    for (String urn : urns) {
+      if (_recentlyWrittenUrns.getIfPresent(urn) != null) {
+        MetricUtils.counter(this.getClass(), "replicaStalenessFallback").inc();
+        return _server;
+      }
+    }
+    return _readServer;
+  }
+
+  private void markWritten(@Nonnull final String urn) {
+    if (_recentlyWrittenUrns != null) {
+      _recentlyWrittenUrns.put(urn, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * Returns the timer of the queries run on the connection pool of the given server, which includes the time spent
+   * waiting for a connection.
+   */
+  @Nonnull
+  private Timer poolTimer(@Nonnull final EbeanServer server) {
+    return MetricUtils.get()
+        .timer(MetricRegistry.name(this.getClass(), server == _server ? PRIMARY_POOL : REPLICA_POOL, "queryTime"));
+  }
+
+  private void registerPoolGauges(@Nonnull final String poolName, @Nonnull final ServerConfig serverConfig) {
+    if (!(serverConfig.getDataSource() instanceof DataSourcePool)) {
+      return;
+    }
+    final DataSourcePool pool = (DataSourcePool) serverConfig.getDataSource();
+    final MetricRegistry registry = MetricUtils.get();
+    registry.gauge(MetricRegistry.name(this.getClass(), poolName, "busy"),
+        () -> (Gauge<Integer>) () -> pool.getStatus(false).getBusy());
+    registry.gauge(MetricRegistry.name(this.getClass(), poolName, "waiting"),
+        () -> (Gauge<Integer>) () -> pool.getStatus(false).getWaiting());
+    registry.gauge(MetricRegistry.name(this.getClass(), poolName, "waitCount"),
+        () -> (Gauge<Integer>) () -> pool.getStatus(false).getWaitCount());
+  }
+
   @Nonnull
   private static EbeanServer createServer(@Nonnull final ServerConfig serverConfig) {
     // Make sure that the serverConfig includes the package that contains DAO's Ebean model.
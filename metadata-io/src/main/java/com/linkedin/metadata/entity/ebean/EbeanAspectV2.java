@@ -41,6 +41,7 @@ public class EbeanAspectV2 extends Model {
   public static final String CREATED_FOR_COLUMN = "createdFor";
 
   public static final String SYSTEM_METADATA_COLUMN = "systemmetadata";
+  public static final String METADATA_HASH_COLUMN = "metadatahash";
 
   /**
    * Key for an aspect in the table.
@@ -92,4 +93,11 @@ public class EbeanAspectV2 extends Model {
 
   @Column(name = SYSTEM_METADATA_COLUMN, nullable = true)
   protected String systemMetadata;
+
+  /**
+   * Hash of the canonical form of the aspect in {@link #metadata}, independent of its storage format. Null for rows
+   * written before the column was introduced.
+   */
+  @Column(name = METADATA_HASH_COLUMN, length = 64, nullable = true)
+  protected String metadataHash;
 }
@@ -13,6 +13,7 @@ import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.dao.exception.ModelConversionException;
 import com.linkedin.metadata.dao.utils.RecordUtils;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.IngestProposalResult;
 import com.linkedin.metadata.entity.ListResult;
 import com.linkedin.metadata.entity.RollbackResult;
 import com.linkedin.metadata.entity.RollbackRunResult;
@@ -21,6 +22,7 @@ import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.query.ListUrnsResult;
+import com.linkedin.metadata.query.ScrollUrnsResult;
 import com.linkedin.metadata.run.AspectRowSummary;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericAspectUtils;
@@ -31,15 +33,21 @@ import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.SystemMetadata;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -63,12 +71,36 @@ public class EbeanEntityService extends EntityService {
 
   private final EbeanAspectDao _entityDao;
   private final JacksonDataTemplateCodec _dataTemplateCodec = new JacksonDataTemplateCodec();
+  private final AspectStorageCodec _aspectCodec;
   private Boolean _alwaysEmitAuditEvent = false;
 
   public EbeanEntityService(@Nonnull final EbeanAspectDao entityDao, @Nonnull final EntityEventProducer eventProducer,
       @Nonnull final EntityRegistry entityRegistry) {
+    this(entityDao, eventProducer, entityRegistry, AspectStorageCodec.Format.JSON);
+  }
+
+  /**
+   * @param storageFormat format in which new aspect rows are written. Rows are always read in the format they were
+   *                      written in, so changing it does not require converting existing rows.
+   */
+  public EbeanEntityService(@Nonnull final EbeanAspectDao entityDao, @Nonnull final EntityEventProducer eventProducer,
+      @Nonnull final EntityRegistry entityRegistry, @Nonnull final AspectStorageCodec.Format storageFormat) {
     super(eventProducer, entityRegistry);
     _entityDao = entityDao;
+    _aspectCodec = new AspectStorageCodec(storageFormat);
+  }
+
+  @Override
+  @Nonnull
+  protected Map<Urn, Set<String>> getExistingAspectNames(@Nonnull final Set<Urn> urns,
+      @Nonnull final Set<String> aspectNames) {
+    final Map<String, Set<String>> existingByUrn = new HashMap<>();
+    for (Urn urn : urns) {
+      existingByUrn.put(urn.toString(), new HashSet<>());
+    }
+    _entityDao.getLatestKeys(existingByUrn.keySet(), aspectNames)
+        .forEach(key -> existingByUrn.get(key.getUrn()).add(key.getAspect()));
+    return urns.stream().collect(Collectors.toMap(urn -> urn, urn -> existingByUrn.get(urn.toString())));
   }
 
   @Override
@@ -76,6 +108,22 @@ public class EbeanEntityService extends EntityService {
   public Map<Urn, List<RecordTemplate>> getLatestAspects(
       @Nonnull final Set<Urn> urns,
       @Nonnull final Set<String> aspectNames) {
+    return getLatestAspects(urns, aspectNames, false);
+  }
+
+  @Override
+  @Nonnull
+  protected Map<Urn, List<RecordTemplate>> getLatestAspectsForUpdate(
+      @Nonnull final Set<Urn> urns,
+      @Nonnull final Set<String> aspectNames) {
+    return getLatestAspects(urns, aspectNames, true);
+  }
+
+  @Nonnull
+  private Map<Urn, List<RecordTemplate>> getLatestAspects(
+      @Nonnull final Set<Urn> urns,
+      @Nonnull final Set<String> aspectNames,
+      final boolean fromPrimary) {
 
     log.debug(String.format("Invoked getLatestAspects with urns: %s, aspectNames: %s", urns, aspectNames));
 
@@ -101,7 +149,7 @@ public class EbeanEntityService extends EntityService {
       urnToAspects.get(key).add(keyAspect);
     });
 
-    _entityDao.batchGet(dbKeys).forEach((key, aspectEntry) -> {
+    _entityDao.batchGet(dbKeys, fromPrimary).forEach((key, aspectEntry) -> {
       final Urn urn = toUrn(key.getUrn());
       final String aspectName = key.getAspect();
       // for now, don't add the key aspect here- we have already added it above
@@ -206,10 +254,18 @@ public class EbeanEntityService extends EntityService {
 
     log.debug("Invoked ingestAspect with urn: {}, aspectName: {}, newValue: {}", urn, aspectName, newValue);
     Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestAspectToLocalDB").time();
-    UpdateAspectResult result = ingestAspectToLocalDB(urn, aspectName, ignored -> newValue, auditStamp, systemMetadata,
-        DEFAULT_MAX_TRANSACTION_RETRY);
+    UpdateAspectResult result = ingestAspectToLocalDB(urn, aspectName, newValue, auditStamp, systemMetadata,
+        DEFAULT_MAX_TRANSACTION_RETRY, updateResult -> produceMetadataAuditEvent(aspectName, updateResult));
     ingestToLocalDBTimer.stop();
 
+    return result.getNewValue();
+  }
+
+  /**
+   * Produces the audit event of an ingested aspect, unless it has not changed.
+   */
+  private void produceMetadataAuditEvent(@Nonnull final String aspectName, @Nonnull final UpdateAspectResult result) {
+    final Urn urn = result.getUrn();
     final RecordTemplate oldValue = result.getOldValue();
     final RecordTemplate updatedValue = result.getNewValue();
 
@@ -229,55 +285,92 @@ public class EbeanEntityService extends EntityService {
           String.format("Skipped producing MetadataAuditEvent for ingested aspect %s, urn %s. Aspect has not changed.",
               aspectName, urn));
     }
-
-    return updatedValue;
   }
 
   @Nonnull
   private UpdateAspectResult ingestAspectToLocalDB(@Nonnull final Urn urn, @Nonnull final String aspectName,
-      @Nonnull final Function<Optional<RecordTemplate>, RecordTemplate> updateLambda,
-      @Nonnull final AuditStamp auditStamp, @Nonnull final SystemMetadata providedSystemMetadata,
-      final int maxTransactionRetry) {
-
-    return _entityDao.runInTransactionWithRetry(() -> {
-
-      // 1. Fetch the latest existing version of the aspect.
-      final EbeanAspectV2 latest = _entityDao.getLatestAspect(urn.toString(), aspectName);
-      final EbeanAspectV2 keyAspect = _entityDao.getLatestAspect(urn.toString(), getKeyAspectName(urn));
-
-      // 2. Compare the latest existing and new.
-      final RecordTemplate oldValue =
-          latest == null ? null : toAspectRecord(urn, aspectName, latest.getMetadata(), getEntityRegistry());
-      final RecordTemplate newValue = updateLambda.apply(Optional.ofNullable(oldValue));
-
-      // 3. If there is no difference between existing and new, we just update
-      // the lastObserved in system metadata. RunId should stay as the original runId
-      if (oldValue != null && DataTemplateUtil.areEqual(oldValue, newValue)) {
-        SystemMetadata latestSystemMetadata = EbeanUtils.parseSystemMetadata(latest.getSystemMetadata());
-        latestSystemMetadata.setLastObserved(providedSystemMetadata.getLastObserved());
+      @Nonnull final RecordTemplate newValue, @Nonnull final AuditStamp auditStamp,
+      @Nonnull final SystemMetadata providedSystemMetadata, final int maxTransactionRetry,
+      @Nonnull final Consumer<UpdateAspectResult> eventProducer) {
 
-        latest.setSystemMetadata(RecordUtils.toJsonString(latestSystemMetadata));
+    // Hashed outside of the transaction so that retries do not pay for it again
+    final String newHash = AspectStorageCodec.hash(newValue);
 
-        _entityDao.saveAspect(latest, false);
+    return runInTransactionWithEvents(
+        () -> ingestAspectInTransaction(urn, aspectName, newValue, newHash, auditStamp, providedSystemMetadata),
+        eventProducer, maxTransactionRetry);
+  }
 
-        return new UpdateAspectResult(urn, oldValue, oldValue,
-            EbeanUtils.parseSystemMetadata(latest.getSystemMetadata()), latestSystemMetadata,
-            MetadataAuditOperation.UPDATE);
+  /**
+   * Runs a write in a transaction and produces its events. A transactional producer is called within the
+   * transaction, so that the events are only kept if the write commits; any other producer once it has committed,
+   * so that the events of a rolled back attempt are not sent.
+   */
+  @Nonnull
+  private <T> T runInTransactionWithEvents(@Nonnull final Supplier<T> write, @Nonnull final Consumer<T> eventProducer,
+      final int maxTransactionRetry) {
+    final boolean transactional = isProducerTransactional();
+    final T result = _entityDao.runInTransactionWithRetry(() -> {
+      final T written = write.get();
+      if (transactional) {
+        eventProducer.accept(written);
       }
+      return written;
+    }, maxTransactionRetry);
+    if (!transactional) {
+      eventProducer.accept(result);
+    }
+    return result;
+  }
 
-      // 4. Save the newValue as the latest version
-      log.debug(String.format("Ingesting aspect with name %s, urn %s", aspectName, urn));
-      _entityDao.saveLatestAspect(urn.toString(), aspectName, latest == null ? null : toJsonAspect(oldValue),
-          latest == null ? null : latest.getCreatedBy(), latest == null ? null : latest.getCreatedFor(),
-          latest == null ? null : latest.getCreatedOn(), latest == null ? null : latest.getSystemMetadata(),
-          toJsonAspect(newValue), auditStamp.getActor().toString(),
-          auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
-          new Timestamp(auditStamp.getTime()), toJsonAspect(providedSystemMetadata));
-
-      return new UpdateAspectResult(urn, oldValue, newValue,
-          latest == null ? null : EbeanUtils.parseSystemMetadata(latest.getSystemMetadata()), providedSystemMetadata,
+  /**
+   * Writes an aspect as part of the current transaction. See {@link #ingestAspectToLocalDB}.
+   */
+  @Nonnull
+  private UpdateAspectResult ingestAspectInTransaction(@Nonnull final Urn urn, @Nonnull final String aspectName,
+      @Nonnull final RecordTemplate newValue, @Nonnull final String newHash, @Nonnull final AuditStamp auditStamp,
+      @Nonnull final SystemMetadata providedSystemMetadata) {
+
+    // 1. Fetch the latest existing version of the aspect.
+    final EbeanAspectV2 latest = _entityDao.getLatestAspect(urn.toString(), aspectName);
+
+    // 2. Compare the latest existing and new. Rows that already carry a hash are compared without decoding them;
+    // older rows are decoded and compared, and get their hash filled in if they turn out to be unchanged.
+    final boolean hashMatches = latest != null && newHash.equals(latest.getMetadataHash());
+    final RecordTemplate oldValue = latest == null || hashMatches
+        ? null : toAspectRecord(urn, aspectName, latest.getMetadata(), getEntityRegistry());
+
+    // 3. If there is no difference between existing and new, we just update
+    // the lastObserved in system metadata. RunId should stay as the original runId
+    if (hashMatches || (oldValue != null && latest.getMetadataHash() == null
+        && DataTemplateUtil.areEqual(oldValue, newValue))) {
+      final SystemMetadata oldSystemMetadata = EbeanUtils.parseSystemMetadata(latest.getSystemMetadata());
+      final SystemMetadata latestSystemMetadata = EbeanUtils.parseSystemMetadata(latest.getSystemMetadata());
+      latestSystemMetadata.setLastObserved(providedSystemMetadata.getLastObserved());
+
+      _entityDao.updateSystemMetadata(latest.getKey(), RecordUtils.toJsonString(latestSystemMetadata),
+          hashMatches ? null : newHash);
+      MetricUtils.counter(this.getClass(), "ingestAspectSkipped").inc();
+
+      // The same instance is returned as the old and new value, which tells callers that nothing changed
+      final RecordTemplate unchangedValue = hashMatches ? newValue : oldValue;
+      return new UpdateAspectResult(urn, unchangedValue, unchangedValue, oldSystemMetadata, latestSystemMetadata,
           MetadataAuditOperation.UPDATE);
-    }, maxTransactionRetry);
+    }
+
+    // 4. Save the newValue as the latest version. The previous row is archived as stored, without re-encoding it.
+    log.debug(String.format("Ingesting aspect with name %s, urn %s", aspectName, urn));
+    _entityDao.saveLatestAspect(urn.toString(), aspectName, latest == null ? null : latest.getMetadata(),
+        latest == null ? null : latest.getMetadataHash(),
+        latest == null ? null : latest.getCreatedBy(), latest == null ? null : latest.getCreatedFor(),
+        latest == null ? null : latest.getCreatedOn(), latest == null ? null : latest.getSystemMetadata(),
+        _aspectCodec.encode(newValue), newHash, auditStamp.getActor().toString(),
+        auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
+        new Timestamp(auditStamp.getTime()), toJsonAspect(providedSystemMetadata));
+
+    return new UpdateAspectResult(urn, oldValue, newValue,
+        latest == null ? null : EbeanUtils.parseSystemMetadata(latest.getSystemMetadata()), providedSystemMetadata,
+        MetadataAuditOperation.UPDATE);
   }
 
   @Override
@@ -296,7 +389,7 @@ public class EbeanEntityService extends EntityService {
       @Nonnull final RecordTemplate value, @Nonnull final AuditStamp auditStamp, @Nonnull final long version,
       @Nonnull final boolean emitMae, final int maxTransactionRetry) {
 
-    final UpdateAspectResult result = _entityDao.runInTransactionWithRetry(() -> {
+    final UpdateAspectResult result = runInTransactionWithEvents(() -> {
 
       final EbeanAspectV2 oldAspect = _entityDao.getAspect(urn.toString(), aspectName, version);
       final RecordTemplate oldValue =
@@ -310,27 +403,25 @@ public class EbeanEntityService extends EntityService {
       newSystemMetadata.setLastObserved(System.currentTimeMillis());
 
       log.debug(String.format("Updating aspect with name %s, urn %s", aspectName, urn));
-      _entityDao.saveAspect(urn.toString(), aspectName, toJsonAspect(value), auditStamp.getActor().toString(),
+      _entityDao.saveAspect(urn.toString(), aspectName, _aspectCodec.encode(value), AspectStorageCodec.hash(value),
+          auditStamp.getActor().toString(),
           auditStamp.hasImpersonator() ? auditStamp.getImpersonator().toString() : null,
           new Timestamp(auditStamp.getTime()), toJsonAspect(newSystemMetadata), version, oldAspect == null);
 
       return new UpdateAspectResult(urn, oldValue, value, oldSystemMetadata, newSystemMetadata,
           MetadataAuditOperation.UPDATE);
+    }, updateResult -> {
+      if (emitMae) {
+        log.debug(String.format("Producing MetadataAuditEvent for updated aspect %s, urn %s", aspectName, urn));
+        produceMetadataAuditEvent(urn, updateResult.getOldValue(), updateResult.getNewValue(),
+            updateResult.getOldSystemMetadata(), updateResult.getNewSystemMetadata(), MetadataAuditOperation.UPDATE);
+      } else {
+        log.debug(String.format("Skipped producing MetadataAuditEvent for updated aspect %s, urn %s. emitMAE is false.",
+            aspectName, urn));
+      }
     }, maxTransactionRetry);
 
-    final RecordTemplate oldValue = result.getOldValue();
-    final RecordTemplate newValue = result.getNewValue();
-
-    if (emitMae) {
-      log.debug(String.format("Producing MetadataAuditEvent for updated aspect %s, urn %s", aspectName, urn));
-      produceMetadataAuditEvent(urn, oldValue, newValue, result.getOldSystemMetadata(), result.getNewSystemMetadata(),
-          MetadataAuditOperation.UPDATE);
-    } else {
-      log.debug(String.format("Skipped producing MetadataAuditEvent for updated aspect %s, urn %s. emitMAE is false.",
-          aspectName, urn));
-    }
-
-    return newValue;
+    return result.getNewValue();
   }
 
   public Boolean getAlwaysEmitAuditEvent() {
@@ -348,6 +439,105 @@ public class EbeanEntityService extends EntityService {
 
   @Override
   public Urn ingestProposal(@Nonnull MetadataChangeProposal metadataChangeProposal, AuditStamp auditStamp) {
+    final ProposedAspect proposed = toProposedAspect(metadataChangeProposal);
+
+    if (proposed.getAspectSpec().isTimeseries()) {
+      produceMetadataChangeLog(proposed, null);
+    } else {
+      Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestProposalToLocalDB").time();
+      ingestAspectToLocalDB(proposed.getUrn(), metadataChangeProposal.getAspectName(), proposed.getAspect(),
+          auditStamp, proposed.getSystemMetadata(), DEFAULT_MAX_TRANSACTION_RETRY,
+          updateResult -> produceMetadataChangeLog(proposed, updateResult));
+      ingestToLocalDBTimer.stop();
+    }
+    return proposed.getUrn();
+  }
+
+  /**
+   * Ingests a batch of proposals. The proposals of each urn are written in a single transaction, in the order they
+   * were given, and the change logs are produced once that transaction has committed, or within it if the producer is
+   * transactional. If the transaction of an urn fails, all proposals of that urn fail with the same error, while other
+   * urns are unaffected.
+   */
+  @Override
+  @Nonnull
+  public List<IngestProposalResult> batchIngestProposals(@Nonnull final List<MetadataChangeProposal> proposals,
+      @Nonnull final AuditStamp auditStamp) {
+    MetricUtils.histogram(this.getClass(), "batchIngestProposalsSize").update(proposals.size());
+    final IngestProposalResult[] results = new IngestProposalResult[proposals.size()];
+    final ProposedAspect[] proposedAspects = new ProposedAspect[proposals.size()];
+    final Map<Urn, List<Integer>> indicesByUrn = new LinkedHashMap<>();
+    for (int i = 0; i < proposals.size(); i++) {
+      try {
+        proposedAspects[i] = toProposedAspect(proposals.get(i));
+        indicesByUrn.computeIfAbsent(proposedAspects[i].getUrn(), ignored -> new ArrayList<>()).add(i);
+      } catch (RuntimeException e) {
+        results[i] = new IngestProposalResult(null, e);
+      }
+    }
+
+    for (Map.Entry<Urn, List<Integer>> entry : indicesByUrn.entrySet()) {
+      final Urn urn = entry.getKey();
+      final List<Integer> indices = entry.getValue();
+
+      // Hashed outside of the transaction so that retries do not pay for it again
+      final Map<Integer, String> hashes = new HashMap<>();
+      for (int index : indices) {
+        if (!proposedAspects[index].getAspectSpec().isTimeseries()) {
+          hashes.put(index, AspectStorageCodec.hash(proposedAspects[index].getAspect()));
+        }
+      }
+
+      final boolean transactional = isProducerTransactional();
+      final Map<Integer, UpdateAspectResult> updates;
+      Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "batchIngestProposalsToLocalDB").time();
+      try {
+        updates = _entityDao.runInTransactionWithRetry(() -> {
+          final Map<Integer, UpdateAspectResult> urnUpdates = new HashMap<>();
+          // In the order the proposals were given, so that the last proposal of an aspect is the latest version
+          for (int index : indices) {
+            if (!hashes.containsKey(index)) {
+              continue;
+            }
+            final ProposedAspect proposed = proposedAspects[index];
+            urnUpdates.put(index, ingestAspectInTransaction(urn, proposed.getProposal().getAspectName(),
+                proposed.getAspect(), hashes.get(index), auditStamp, proposed.getSystemMetadata()));
+          }
+          if (transactional) {
+            // Failing to write a change log fails the whole transaction of the urn, like failing to write an aspect
+            for (int index : indices) {
+              produceMetadataChangeLog(proposedAspects[index], urnUpdates.get(index));
+            }
+          }
+          return urnUpdates;
+        }, DEFAULT_MAX_TRANSACTION_RETRY);
+      } catch (RuntimeException e) {
+        log.error(String.format("Failed to ingest %d proposals for urn %s", indices.size(), urn), e);
+        indices.forEach(index -> results[index] = new IngestProposalResult(urn, e));
+        continue;
+      } finally {
+        ingestToLocalDBTimer.stop();
+      }
+
+      for (int index : indices) {
+        try {
+          if (!transactional) {
+            produceMetadataChangeLog(proposedAspects[index], updates.get(index));
+          }
+          results[index] = new IngestProposalResult(urn, null);
+        } catch (RuntimeException e) {
+          results[index] = new IngestProposalResult(urn, e);
+        }
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Validates a proposal and deserializes its aspect.
+   */
+  @Nonnull
+  private ProposedAspect toProposedAspect(@Nonnull MetadataChangeProposal metadataChangeProposal) {
 
     // todo: add restli model validation.
 
@@ -391,17 +581,24 @@ public class EbeanEntityService extends EntityService {
       systemMetadata.setLastObserved(System.currentTimeMillis());
     }
 
+    return new ProposedAspect(metadataChangeProposal, entityUrn, aspectSpec, aspect, systemMetadata);
+  }
+
+  /**
+   * Produces the change log of an ingested proposal, unless its aspect was written and has not changed.
+   *
+   * @param result the result of writing the aspect, or null for timeseries aspects which are not written
+   */
+  private void produceMetadataChangeLog(@Nonnull ProposedAspect proposed, @Nullable UpdateAspectResult result) {
+    final MetadataChangeProposal metadataChangeProposal = proposed.getProposal();
+    final Urn entityUrn = proposed.getUrn();
+
     RecordTemplate oldAspect = null;
     SystemMetadata oldSystemMetadata = null;
-    RecordTemplate newAspect = aspect;
-    SystemMetadata newSystemMetadata = systemMetadata;
+    RecordTemplate newAspect = proposed.getAspect();
+    SystemMetadata newSystemMetadata = proposed.getSystemMetadata();
 
-    if (!aspectSpec.isTimeseries()) {
-      Timer.Context ingestToLocalDBTimer = MetricUtils.timer(this.getClass(), "ingestProposalToLocalDB").time();
-      UpdateAspectResult result =
-          ingestAspectToLocalDB(entityUrn, metadataChangeProposal.getAspectName(), ignored -> aspect, auditStamp,
-              systemMetadata, DEFAULT_MAX_TRANSACTION_RETRY);
-      ingestToLocalDBTimer.stop();
+    if (result != null) {
       oldAspect = result.oldValue;
       oldSystemMetadata = result.oldSystemMetadata;
       newAspect = result.newValue;
@@ -428,14 +625,21 @@ public class EbeanEntityService extends EntityService {
 
       log.debug(String.format("Serialized MCL event: %s", metadataChangeLog.toString()));
       // Since only temporal aspect are ingested as of now, simply produce mae event for it
-      produceMetadataChangeLog(entityUrn, aspectSpec, metadataChangeLog);
+      produceMetadataChangeLog(entityUrn, proposed.getAspectSpec(), metadataChangeLog);
     } else {
       log.debug(
           String.format("Skipped producing MetadataAuditEvent for ingested aspect %s, urn %s. Aspect has not changed.",
               metadataChangeProposal.getAspectName(), entityUrn));
     }
+  }
 
-    return entityUrn;
+  @Value
+  private static class ProposedAspect {
+    MetadataChangeProposal proposal;
+    Urn urn;
+    AspectSpec aspectSpec;
+    RecordTemplate aspect;
+    SystemMetadata systemMetadata;
   }
 
   @Value
@@ -487,6 +691,7 @@ public class EbeanEntityService extends EntityService {
       if (previousAspect != null) {
         // if there was a previous aspect, delete it and them write it to version 0
         latest.setMetadata(previousAspect.getMetadata());
+        latest.setMetadataHash(previousAspect.getMetadataHash());
         latest.setSystemMetadata(previousAspect.getSystemMetadata());
         _entityDao.saveAspect(latest, false);
         _entityDao.deleteAspect(previousAspect);
@@ -608,4 +813,58 @@ public class EbeanEntityService extends EntityService {
     result.setEntities(entityUrns);
     return result;
   }
+
+  @Override
+  @Nonnull
+  public ScrollUrnsResult scrollUrns(@Nonnull final String entityName, @Nullable final String continuation,
+      final int count, final boolean includeTotal) {
+    log.debug(String.format("Invoked scrollUrns with entityName: %s, continuation: %s, count: %s", entityName,
+        continuation, count));
+    if (count < 1) {
+      // A page of zero rows would be read as unbounded, and could never return a continuation
+      throw new IllegalArgumentException(String.format("Count must be positive, but was %d", count));
+    }
+
+    // If a keyAspect exists, the entity exists.
+    final String keyAspectName = getEntityRegistry().getEntitySpec(entityName).getKeyAspectSpec().getName();
+    final String lastUrn = continuation == null ? null : decodeContinuation(continuation);
+
+    // One more urn than requested is read to know whether there is a next page
+    final UrnArray entityUrns = new UrnArray();
+    final AtomicInteger rowCount = new AtomicInteger();
+    _entityDao.streamUrns(keyAspectName, lastUrn, count + 1, urn -> {
+      if (rowCount.incrementAndGet() > count) {
+        return;
+      }
+      try {
+        entityUrns.add(Urn.createFromString(urn));
+      } catch (URISyntaxException e) {
+        throw new IllegalArgumentException(String.format("Failed to convert urn %s found in db to Urn object.", urn), e);
+      }
+    });
+
+    final ScrollUrnsResult result = new ScrollUrnsResult();
+    result.setEntities(entityUrns);
+    if (rowCount.get() > count && !entityUrns.isEmpty()) {
+      result.setContinuation(encodeContinuation(entityUrns.get(entityUrns.size() - 1).toString()));
+    }
+    if (includeTotal) {
+      result.setTotal(_entityDao.countUrns(keyAspectName));
+    }
+    return result;
+  }
+
+  @Nonnull
+  private static String encodeContinuation(@Nonnull final String lastUrn) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(lastUrn.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Nonnull
+  private static String decodeContinuation(@Nonnull final String continuation) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(continuation), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(String.format("Invalid continuation token %s", continuation), e);
+    }
+  }
 }
@@ -0,0 +1,75 @@
+package com.linkedin.metadata.entity.ebean;
+
+import io.ebean.Model;
+import java.sql.Timestamp;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+
+/**
+ * Schema definition for the outbox table, which holds the events of committed aspect writes until they are relayed to
+ * Kafka by {@link EbeanOutboxRelay}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "metadata_outbox")
+public class EbeanOutboxEvent extends Model {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final String ID_COLUMN = "id";
+  public static final String URN_COLUMN = "urn";
+  public static final String EVENT_TYPE_COLUMN = "eventType";
+  public static final String PAYLOAD_COLUMN = "payload";
+  public static final String CREATED_ON_COLUMN = "createdOn";
+
+  /**
+   * Kind of event held in {@link #payload}.
+   */
+  public enum EventType {
+    MAE,
+    MCL
+  }
+
+  /**
+   * Increasing in the order the events were written, which is the order they are relayed in.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = ID_COLUMN)
+  private Long id;
+
+  @NonNull
+  @Column(name = URN_COLUMN, length = 500, nullable = false)
+  private String urn;
+
+  @NonNull
+  @Enumerated(EnumType.STRING)
+  @Column(name = EVENT_TYPE_COLUMN, length = 20, nullable = false)
+  private EventType eventType;
+
+  /**
+   * The Pegasus event, serialized to JSON.
+   */
+  @NonNull
+  @Lob
+  @Column(name = PAYLOAD_COLUMN, nullable = false)
+  private String payload;
+
+  @NonNull
+  @Column(name = CREATED_ON_COLUMN, nullable = false)
+  private Timestamp createdOn;
+}
@@ -0,0 +1,65 @@
+package com.linkedin.metadata.entity.ebean;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import com.linkedin.metadata.event.EntityEventProducer;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.mxe.MetadataAuditEvent;
+import com.linkedin.mxe.MetadataAuditOperation;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * {@link EntityEventProducer} that writes events to the outbox table instead of sending them, within the transaction
+ * of the aspect write they describe. An event is therefore stored if and only if its write commits, and is sent later
+ * by {@link EbeanOutboxRelay}.
+ */
+public class EbeanOutboxEventProducer implements EntityEventProducer {
+
+  private final EbeanAspectDao _entityDao;
+
+  public EbeanOutboxEventProducer(@Nonnull final EbeanAspectDao entityDao) {
+    _entityDao = entityDao;
+  }
+
+  @Override
+  public Future<?> produceMetadataAuditEvent(@Nonnull Urn urn, @Nullable Snapshot oldSnapshot, @Nonnull Snapshot newSnapshot,
+      @Nullable SystemMetadata oldSystemMetadata, @Nullable SystemMetadata newSystemMetadata,
+      MetadataAuditOperation operation) {
+    final MetadataAuditEvent metadataAuditEvent = new MetadataAuditEvent().setNewSnapshot(newSnapshot);
+    if (oldSnapshot != null) {
+      metadataAuditEvent.setOldSnapshot(oldSnapshot);
+    }
+    if (oldSystemMetadata != null) {
+      metadataAuditEvent.setOldSystemMetadata(oldSystemMetadata);
+    }
+    if (newSystemMetadata != null) {
+      metadataAuditEvent.setNewSystemMetadata(newSystemMetadata);
+    }
+    if (operation != null) {
+      metadataAuditEvent.setOperation(operation);
+    }
+    _entityDao.saveOutboxEvent(urn.toString(), EbeanOutboxEvent.EventType.MAE,
+        RecordUtils.toJsonString(metadataAuditEvent));
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public Future<?> produceMetadataChangeLog(@Nonnull final Urn urn, @Nonnull AspectSpec aspectSpec,
+      @Nonnull final MetadataChangeLog metadataChangeLog) {
+    _entityDao.saveOutboxEvent(urn.toString(), EbeanOutboxEvent.EventType.MCL,
+        RecordUtils.toJsonString(metadataChangeLog));
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public boolean isTransactional() {
+    return true;
+  }
+}
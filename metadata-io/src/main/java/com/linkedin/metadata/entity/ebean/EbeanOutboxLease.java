@@ -0,0 +1,44 @@
+package com.linkedin.metadata.entity.ebean;
+
+import io.ebean.Model;
+import java.sql.Timestamp;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+
+/**
+ * Schema definition for the outbox lease table, which records which {@link EbeanOutboxRelay} drains the outbox, and
+ * until when.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "metadata_outbox_lease")
+public class EbeanOutboxLease extends Model {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final String NAME_COLUMN = "name";
+  public static final String OWNER_COLUMN = "owner";
+  public static final String EXPIRES_ON_COLUMN = "expiresOn";
+
+  @Id
+  @NonNull
+  @Column(name = NAME_COLUMN, length = 50, nullable = false)
+  private String name;
+
+  @NonNull
+  @Column(name = OWNER_COLUMN, length = 100, nullable = false)
+  private String owner;
+
+  @NonNull
+  @Column(name = EXPIRES_ON_COLUMN, nullable = false)
+  private Timestamp expiresOn;
+}
@@ -0,0 +1,238 @@
+package com.linkedin.metadata.entity.ebean;
+
+import com.codahale.metrics.Timer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import com.linkedin.metadata.event.EntityEventProducer;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataAuditEvent;
+import com.linkedin.mxe.MetadataChangeLog;
+import java.io.Closeable;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Drains the outbox written by {@link EbeanOutboxEventProducer}, sending its events with the given producer.
+ *
+ * Events are read in large batches in the order they were written, and are all sent before waiting for them to be
+ * acknowledged together. No transaction is held while a batch is being sent. Once it has been acknowledged, its events
+ * are deleted from the outbox up to the first one that failed, if any; the remaining ones are left in place and sent
+ * again on the next poll, so events are delivered at least once, and those of an urn in the order they were written.
+ *
+ * Only one of the relays sharing the outbox sends events at a time: each poll first acquires or renews a lease on the
+ * outbox, and the other relays skip their polls until it expires or is released on close. A relay that stalls for
+ * longer than the lease may send some events again once it resumes. Events that cannot be read back or sent are
+ * logged and dropped, since retrying them would block the outbox.
+ */
+@Slf4j
+public class EbeanOutboxRelay implements Closeable {
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+  public static final long DEFAULT_POLL_INTERVAL_MILLIS = 100;
+  public static final long DEFAULT_LEASE_MILLIS = 30000;
+
+  private static final String LEASE_NAME = "outboxRelay";
+
+  private static final int MAX_TRANSACTION_RETRY = 3;
+  private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+  private final EbeanAspectDao _entityDao;
+  private final EntityEventProducer _producer;
+  private final EntityRegistry _entityRegistry;
+  private final int _batchSize;
+  private final long _pollIntervalMillis;
+  private final long _leaseMillis;
+  private final String _relayId = UUID.randomUUID().toString();
+  private volatile boolean _holdsLease;
+  private final ScheduledExecutorService _executor;
+
+  public EbeanOutboxRelay(@Nonnull final EbeanAspectDao entityDao, @Nonnull final EntityEventProducer producer,
+      @Nonnull final EntityRegistry entityRegistry) {
+    this(entityDao, producer, entityRegistry, DEFAULT_BATCH_SIZE, DEFAULT_POLL_INTERVAL_MILLIS, DEFAULT_LEASE_MILLIS);
+  }
+
+  public EbeanOutboxRelay(@Nonnull final EbeanAspectDao entityDao, @Nonnull final EntityEventProducer producer,
+      @Nonnull final EntityRegistry entityRegistry, final int batchSize, final long pollIntervalMillis,
+      final long leaseMillis) {
+    _entityDao = entityDao;
+    _producer = producer;
+    _entityRegistry = entityRegistry;
+    _batchSize = batchSize;
+    _pollIntervalMillis = pollIntervalMillis;
+    _leaseMillis = leaseMillis;
+    _executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "outbox-relay");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Starts polling the outbox on a background thread. Whenever a poll finds a full batch, the next batch is relayed
+   * right away rather than after the poll interval.
+   */
+  public void start() {
+    _executor.scheduleWithFixedDelay(() -> {
+      try {
+        int relayed;
+        do {
+          relayed = relayBatch();
+        } while (relayed == _batchSize);
+      } catch (RuntimeException e) {
+        // The batch is left in the outbox and retried on the next poll
+        MetricUtils.counter(this.getClass(), "relayFailed").inc();
+        log.error("Failed to relay a batch of outbox events", e);
+      }
+    }, 0, _pollIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Sends the oldest batch of events of the outbox and deletes the events that have been acknowledged, if this relay
+   * holds the lease on the outbox.
+   *
+   * @return the number of events relayed, 0 if another relay holds the lease
+   */
+  public int relayBatch() {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "relayBatch").time()) {
+      _holdsLease = _entityDao.acquireOutboxLease(LEASE_NAME, _relayId, _leaseMillis);
+      if (!_holdsLease) {
+        return 0;
+      }
+
+      final List<EbeanOutboxEvent> events = _entityDao.getOutboxEvents(_batchSize);
+      if (events.isEmpty()) {
+        return 0;
+      }
+
+      final List<Future<?>> acknowledgements = new ArrayList<>(events.size());
+      final long now = System.currentTimeMillis();
+      for (EbeanOutboxEvent event : events) {
+        acknowledgements.add(send(event));
+        MetricUtils.histogram(this.getClass(), "relayLagMs").update(now - event.getCreatedOn().getTime());
+      }
+      _producer.flush();
+
+      // Only the events before the first failure are deleted. Sending the later ones again keeps the latest event of
+      // each urn the last one delivered
+      final List<Long> ids = new ArrayList<>(events.size());
+      for (int i = 0; i < events.size() && isAcknowledged(acknowledgements.get(i)); i++) {
+        ids.add(events.get(i).getId());
+      }
+      _entityDao.runInTransactionWithRetry(() -> _entityDao.deleteOutboxEvents(ids), MAX_TRANSACTION_RETRY);
+      MetricUtils.histogram(this.getClass(), "relayBatchSize").update(ids.size());
+      if (ids.size() < events.size()) {
+        throw new IllegalStateException(String.format("Failed to send %d of %d outbox events, keeping them to send again",
+            events.size() - ids.size(), events.size()));
+      }
+      return events.size();
+    }
+  }
+
+  private static boolean isAcknowledged(@Nullable final Future<?> acknowledgement) {
+    if (acknowledgement == null) {
+      // The event was dropped
+      return true;
+    }
+    try {
+      acknowledgement.get();
+      return true;
+    } catch (ExecutionException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Sends the given event, returning the future of its acknowledgement, or null if it was dropped.
+   */
+  @Nullable
+  private Future<?> send(@Nonnull final EbeanOutboxEvent event) {
+    final Urn urn;
+    try {
+      urn = Urn.createFromString(event.getUrn());
+    } catch (URISyntaxException e) {
+      drop(event, e);
+      return null;
+    }
+
+    if (event.getEventType() == EbeanOutboxEvent.EventType.MAE) {
+      final MetadataAuditEvent metadataAuditEvent;
+      try {
+        metadataAuditEvent = RecordUtils.toRecordTemplate(MetadataAuditEvent.class, event.getPayload());
+      } catch (RuntimeException e) {
+        drop(event, e);
+        return null;
+      }
+      try {
+        return _producer.produceMetadataAuditEvent(urn, metadataAuditEvent.getOldSnapshot(),
+            metadataAuditEvent.getNewSnapshot(), metadataAuditEvent.getOldSystemMetadata(),
+            metadataAuditEvent.getNewSystemMetadata(), metadataAuditEvent.getOperation());
+      } catch (RuntimeException e) {
+        // Thrown before the event is sent, e.g. when it cannot be converted, so sending it again would fail again
+        drop(event, e);
+        return null;
+      }
+    } else {
+      final MetadataChangeLog metadataChangeLog;
+      final AspectSpec aspectSpec;
+      try {
+        metadataChangeLog = RecordUtils.toRecordTemplate(MetadataChangeLog.class, event.getPayload());
+        aspectSpec = _entityRegistry.getEntitySpec(metadataChangeLog.getEntityType())
+            .getAspectSpec(metadataChangeLog.getAspectName());
+      } catch (RuntimeException e) {
+        drop(event, e);
+        return null;
+      }
+      try {
+        return _producer.produceMetadataChangeLog(urn, aspectSpec, metadataChangeLog);
+      } catch (RuntimeException e) {
+        drop(event, e);
+        return null;
+      }
+    }
+  }
+
+  private void drop(@Nonnull final EbeanOutboxEvent event, @Nonnull final Exception e) {
+    MetricUtils.counter(this.getClass(), "relayDropped").inc();
+    log.error(String.format("Dropping %s outbox event %d for urn %s, which cannot be sent", event.getEventType(),
+        event.getId(), event.getUrn()), e);
+  }
+
+  /**
+   * Stops polling, waiting for the batch being relayed, if any, to complete, and releases the lease on the outbox.
+   */
+  @Override
+  public void close() {
+    _executor.shutdown();
+    try {
+      if (!_executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Outbox relay still running after {} seconds", CLOSE_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!_holdsLease) {
+      return;
+    }
+    try {
+      _entityDao.releaseOutboxLease(LEASE_NAME, _relayId);
+    } catch (RuntimeException e) {
+      // Another relay takes over once the lease expires
+      log.warn("Failed to release the outbox lease", e);
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package com.linkedin.metadata.entity.ebean;
 
 import com.linkedin.common.urn.Urn;
-import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.utils.PegasusUtils;
 import com.linkedin.metadata.dao.utils.RecordUtils;
@@ -11,7 +10,6 @@ import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.mxe.SystemMetadata;
 import javax.annotation.Nonnull;
 
-import static com.linkedin.metadata.utils.PegasusUtils.getDataTemplateClassFromSchema;
 import static com.linkedin.metadata.entity.EntityService.*;
 
 
@@ -33,8 +31,7 @@ public class EbeanUtils {
       @Nonnull final String jsonAspect, @Nonnull final EntityRegistry entityRegistry) {
     final EntitySpec entitySpec = entityRegistry.getEntitySpec(entityName);
     final AspectSpec aspectSpec = entitySpec.getAspectSpec(aspectName);
-    final RecordDataSchema aspectSchema = aspectSpec.getPegasusSchema();
-    return RecordUtils.toRecordTemplate(getDataTemplateClassFromSchema(aspectSchema, RecordTemplate.class), jsonAspect);
+    return AspectStorageCodec.decode(jsonAspect, aspectSpec);
   }
 
   public static SystemMetadata parseSystemMetadata(String jsonSystemMetadata) {
@@ -7,6 +7,7 @@ import com.linkedin.metadata.snapshot.Snapshot;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.MetadataAuditOperation;
 import com.linkedin.mxe.SystemMetadata;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -24,8 +25,9 @@ public interface EntityEventProducer {
    * @param newSnapshot a {@link RecordTemplate} corresponding to the new snapshot.
    * @param oldSystemMetadata
    * @param newSystemMetadata
+   * @return a future that completes once the event has been acknowledged, and fails if it could not be produced
    */
-  void produceMetadataAuditEvent(
+  Future<?> produceMetadataAuditEvent(
       @Nonnull final Urn urn,
       @Nullable final Snapshot oldSnapshot,
       @Nonnull final Snapshot newSnapshot,
@@ -41,10 +43,26 @@ public interface EntityEventProducer {
    * @param urn the urn associated with the entity changed
    * @param aspectSpec aspect spec of the aspect being updated
    * @param metadataChangeLog metadata change log to push into MCL kafka topic
+   * @return a future that completes once the event has been acknowledged, and fails if it could not be produced
    */
-  void produceMetadataChangeLog(
+  Future<?> produceMetadataChangeLog(
       @Nonnull final Urn urn,
       @Nonnull AspectSpec aspectSpec,
       @Nonnull final MetadataChangeLog metadataChangeLog
   );
+
+  /**
+   * Whether events are written as part of the current storage transaction, and are therefore discarded if it rolls
+   * back. Such producers are called from within the transaction that writes a change, other producers only once it
+   * has committed.
+   */
+  default boolean isTransactional() {
+    return false;
+  }
+
+  /**
+   * Blocks until all the events produced so far have been acknowledged, or have failed.
+   */
+  default void flush() {
+  }
 }
@@ -1,19 +1,13 @@
 package com.linkedin.metadata.extractor;
 
-import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.template.RecordTemplate;
-import com.linkedin.metadata.dao.utils.RecordUtils;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.FieldExtractionPlan;
 import com.linkedin.metadata.models.FieldSpec;
-import com.linkedin.util.Pair;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 
 /**
@@ -21,60 +15,29 @@ import java.util.stream.Collectors;
  */
 public class FieldExtractor {
 
-  private static final String ARRAY_WILDCARD = "*";
-  private static final int MAX_VALUE_LENGTH = 200;
-
   private FieldExtractor() {
   }
 
-  private static long getNumArrayWildcards(PathSpec pathSpec) {
-    return pathSpec.getPathComponents().stream().filter(ARRAY_WILDCARD::equals).count();
+  // Extract the value of each field in the field specs from the input record. Prefer the AspectSpec variant, which reuses
+  // the plan compiled when the entity registry was built instead of compiling one per call.
+  @SuppressWarnings("unchecked")
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(RecordTemplate record, List<T> fieldSpecs) {
+    return (Map<T, List<Object>>) (Map<?, ?>) FieldExtractionPlan.compile(record.schema(), fieldSpecs)
+        .extract(record.data(), FieldSpec.class);
   }
 
-  // Extract the value of each field in the field specs from the input record
-  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(RecordTemplate record, List<T> fieldSpecs) {
-    final Map<T, List<Object>> extractedFields = new HashMap<>();
-    for (T fieldSpec : fieldSpecs) {
-      Optional<Object> value = RecordUtils.getFieldValue(record, fieldSpec.getPath());
-      if (!value.isPresent()) {
-        extractedFields.put(fieldSpec, Collections.emptyList());
-      } else {
-        long numArrayWildcards = getNumArrayWildcards(fieldSpec.getPath());
-        // Not an array field
-        if (numArrayWildcards == 0) {
-          // For maps, convert it into a list of the form key=value (Filter out long values)
-          if (value.get() instanceof Map) {
-            extractedFields.put(fieldSpec, ((Map<?, ?>) value.get()).entrySet()
-                .stream()
-                .map(entry -> new Pair<>(entry.getKey().toString(), entry.getValue().toString()))
-                .filter(entry -> entry.getValue().length() < MAX_VALUE_LENGTH)
-                .map(entry -> entry.getKey() + "=" + entry.getValue())
-                .collect(Collectors.toList()));
-          } else {
-            extractedFields.put(fieldSpec, Collections.singletonList(value.get()));
-          }
-        } else {
-          List<Object> valueList = (List<Object>) value.get();
-          // If the field is a nested list of values, flatten it
-          for (int i = 0; i < numArrayWildcards - 1; i++) {
-            valueList = valueList.stream().flatMap(v -> ((List<Object>) v).stream()).collect(Collectors.toList());
-          }
-          extractedFields.put(fieldSpec, valueList);
-        }
-      }
-    }
-    return extractedFields;
+  // Extract the value of each field spec of the given type from the input aspect, using the plan precompiled for the aspect
+  public static <T extends FieldSpec> Map<T, List<Object>> extractFields(RecordTemplate aspect, AspectSpec aspectSpec,
+      Class<T> fieldSpecClass) {
+    return aspectSpec.getFieldExtractionPlan().extract(aspect.data(), fieldSpecClass);
   }
 
   public static <T extends FieldSpec> Map<T, List<Object>> extractFieldsFromSnapshot(RecordTemplate snapshot,
-      EntitySpec entitySpec, Function<AspectSpec, List<T>> getFieldSpecsFunc) {
+      EntitySpec entitySpec, Class<T> fieldSpecClass) {
     final Map<String, RecordTemplate> aspects = AspectExtractor.extractAspectRecords(snapshot);
     final Map<T, List<Object>> extractedFields = new HashMap<>();
-    aspects.keySet()
-        .stream()
-        .map(aspectName -> FieldExtractor.extractFields(aspects.get(aspectName),
-            getFieldSpecsFunc.apply(entitySpec.getAspectSpec(aspectName))))
-        .forEach(extractedFields::putAll);
+    aspects.forEach((aspectName, aspect) ->
+        extractedFields.putAll(extractFields(aspect, entitySpec.getAspectSpec(aspectName), fieldSpecClass)));
     return extractedFields;
   }
 }
@@ -3,14 +3,28 @@ package com.linkedin.metadata.graph;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.RelationshipFilter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import static com.linkedin.metadata.dao.utils.QueryUtils.EMPTY_FILTER;
+import static com.linkedin.metadata.dao.utils.QueryUtils.newFilter;
+
+
 public interface GraphService {
 
   void addEdge(final Edge edge);
 
+  /**
+   * Adds a batch of edges. Implementations should write the whole batch with as few round trips
+   * to the backing store as possible; the default falls back to one {@link #addEdge(Edge)} per edge.
+   */
+  default void addEdges(@Nonnull final List<Edge> edges) {
+    edges.forEach(this::addEdge);
+  }
+
   @Nonnull
   RelatedEntitiesResult findRelatedEntities(
       @Nullable final String sourceType,
@@ -22,6 +36,39 @@ public interface GraphService {
       final int offset,
       final int count);
 
+  /**
+   * Finds the entities related to each of the given urns in one call. Results are paged per urn, and each result
+   * carries the total number of entities related to its urn. The default falls back to one
+   * {@link #findRelatedEntities} call per urn.
+   */
+  @Nonnull
+  default Map<Urn, RelatedEntitiesResult> batchFindRelatedEntities(
+      @Nonnull final List<Urn> urns,
+      @Nonnull final List<String> relationshipTypes,
+      @Nonnull final RelationshipFilter relationshipFilter,
+      final int offset,
+      final int count) {
+    final Map<Urn, RelatedEntitiesResult> results = new HashMap<>();
+    urns.forEach(urn -> results.put(urn, findRelatedEntities("", newFilter("urn", urn.toString()), "", EMPTY_FILTER,
+        relationshipTypes, relationshipFilter, offset, count)));
+    return results;
+  }
+
+  /**
+   * Expands up to {@code maxHops} hops outward from the given seed urns in a single call, following
+   * {@code outgoingTypes} along outgoing edges and {@code incomingTypes} along incoming edges. Each entity is expanded
+   * at most once, so cycles terminate, and the traversal stops once {@code maxNodes} entities or {@code maxEdges}
+   * edges have been collected, in which case the result is marked as truncated.
+   */
+  @Nonnull
+  TraversalResult traverse(
+      @Nonnull final List<Urn> seeds,
+      @Nonnull final List<String> outgoingTypes,
+      @Nonnull final List<String> incomingTypes,
+      final int maxHops,
+      final int maxNodes,
+      final int maxEdges);
+
   void removeNode(@Nonnull final Urn urn);
 
   void removeEdgesFromNode(
@@ -29,6 +76,17 @@ public interface GraphService {
       @Nonnull final List<String> relationshipTypes,
       @Nonnull final RelationshipFilter relationshipFilter);
 
+  /**
+   * Removes the given relationship types from each of the given nodes. The default falls back to
+   * one {@link #removeEdgesFromNode(Urn, List, RelationshipFilter)} per urn.
+   */
+  default void removeEdgesFromNodes(
+      @Nonnull final List<Urn> urns,
+      @Nonnull final List<String> relationshipTypes,
+      @Nonnull final RelationshipFilter relationshipFilter) {
+    urns.forEach(urn -> removeEdgesFromNode(urn, relationshipTypes, relationshipFilter));
+  }
+
   void configure();
 
   void clear();
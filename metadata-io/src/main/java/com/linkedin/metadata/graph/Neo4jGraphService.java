@@ -2,6 +2,7 @@ package com.linkedin.metadata.graph;
 
 import com.codahale.metrics.Timer;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.dao.exception.RetryLimitReached;
 import com.linkedin.metadata.dao.utils.Statement;
@@ -11,12 +12,20 @@ import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.RelationshipDirection;
 import com.linkedin.metadata.query.RelationshipFilter;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
@@ -25,18 +34,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.time.StopWatch;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
-import org.neo4j.driver.Result;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionWork;
 import org.neo4j.driver.exceptions.Neo4jException;
 
 @Slf4j
 public class Neo4jGraphService implements GraphService {
 
-  private static final int MAX_TRANSACTION_RETRY = 3;
+  private static final int MAX_ROWS_PER_TRANSACTION = 1000;
   private final Driver _driver;
   private SessionConfig _sessionConfig;
+  private SessionConfig _readSessionConfig;
 
   public Neo4jGraphService(@Nonnull Driver driver) {
     this(driver, SessionConfig.defaultConfig());
@@ -45,38 +57,58 @@ public class Neo4jGraphService implements GraphService {
   public Neo4jGraphService(@Nonnull Driver driver, @Nonnull SessionConfig sessionConfig) {
     this._driver = driver;
     this._sessionConfig = sessionConfig;
+
+    // Reads run in read sessions, which a cluster can route to its followers and read replicas
+    final SessionConfig.Builder readSessionConfig = SessionConfig.builder().withDefaultAccessMode(AccessMode.READ);
+    sessionConfig.database().ifPresent(readSessionConfig::withDatabase);
+    this._readSessionConfig = readSessionConfig.build();
   }
 
   public void addEdge(@Nonnull final Edge edge) {
+    addEdges(Collections.singletonList(edge));
+  }
 
-    log.debug(String.format("Adding Edge source: %s, destination: %s, type: %s",
-        edge.getSource(),
-        edge.getDestination(),
-        edge.getRelationshipType()));
-
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-
-    final List<Statement> statements = new ArrayList<>();
-
-    // Add/Update source & destination node first
-    statements.add(getOrInsertNode(edge.getSource()));
-    statements.add(getOrInsertNode(edge.getDestination()));
-
-    // Add/Update relationship
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: $sourceUrn}),(destination:%s {urn: $destinationUrn}) MERGE (source)-[r:%s]->(destination) SET r = $properties";
-    final String statement =
-        String.format(mergeRelationshipTemplate, sourceType, destinationType, edge.getRelationshipType());
-
-    final Map<String, Object> paramsMerge = new HashMap<>();
-    paramsMerge.put("sourceUrn", edge.getSource().toString());
-    paramsMerge.put("destinationUrn", edge.getDestination().toString());
-    paramsMerge.put("properties", new HashMap<>());
-
-    statements.add(buildStatement(statement, paramsMerge));
-
-    executeStatements(statements);
+  @Override
+  public void addEdges(@Nonnull final List<Edge> edges) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "addEdges").time()) {
+      if (edges.isEmpty()) {
+        return;
+      }
+
+      log.debug(String.format("Adding %d Neo4j edges", edges.size()));
+
+      // Labels and relationship types cannot be parameterized in Cypher, so edges are grouped by
+      // (source type, destination type, relationship type) and each group is merged with one UNWIND statement.
+      final Map<List<String>, List<Map<String, Object>>> rowsByShape = new LinkedHashMap<>();
+      for (Edge edge : edges) {
+        final List<String> shape = Arrays.asList(
+            edge.getSource().getEntityType(),
+            edge.getDestination().getEntityType(),
+            edge.getRelationshipType());
+
+        final Map<String, Object> row = new HashMap<>();
+        row.put("sourceUrn", edge.getSource().toString());
+        row.put("destinationUrn", edge.getDestination().toString());
+        row.put("properties", new HashMap<>());
+
+        rowsByShape.computeIfAbsent(shape, key -> new ArrayList<>()).add(row);
+      }
+
+      final String mergeEdgesTemplate = "UNWIND $rows AS row "
+          + "MERGE (source:%s {urn: row.sourceUrn}) "
+          + "MERGE (destination:%s {urn: row.destinationUrn}) "
+          + "MERGE (source)-[r:%s]->(destination) SET r = row.properties";
+
+      for (Map.Entry<List<String>, List<Map<String, Object>>> entry : rowsByShape.entrySet()) {
+        final List<String> shape = entry.getKey();
+        final String statement = String.format(mergeEdgesTemplate, shape.get(0), shape.get(1), shape.get(2));
+        for (List<Map<String, Object>> rows : Lists.partition(entry.getValue(), MAX_ROWS_PER_TRANSACTION)) {
+          final Map<String, Object> params = new HashMap<>();
+          params.put("rows", rows);
+          executeStatements(Collections.singletonList(buildStatement(statement, params)));
+        }
+      }
+    }
   }
 
   @Nonnull
@@ -90,6 +122,7 @@ public class Neo4jGraphService implements GraphService {
       final int offset,
       final int count) {
 
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "findRelatedEntities").time();
     log.debug(
         String.format("Finding related Neo4j nodes sourceType: %s, sourceEntityFilter: %s, destinationType: %s, ",
             sourceType, sourceEntityFilter, destinationType)
@@ -135,16 +168,171 @@ public class Neo4jGraphService implements GraphService {
     final Statement countStatement =  new Statement(countStatementString, Collections.emptyMap());
 
     // Execute Queries
-    final List<RelatedEntity> relatedEntities = runQuery(resultStatement).list(record ->
+    final List<RelatedEntity> relatedEntities = runQuery(resultStatement, records -> records.stream().map(record ->
         new RelatedEntity(
             record.values().get(1).asString(), // Relationship Type
-            record.values().get(0).asNode().get("urn").asString())); // Urn TODO: Validate this works against Neo4j.
-    final int totalCount = runQuery(countStatement).single().get(0).asInt();
+            record.values().get(0).asNode().get("urn").asString())) // Urn TODO: Validate this works against Neo4j.
+        .collect(Collectors.toList()));
+    final int totalCount = runQuery(countStatement, records -> records.get(0).get(0).asInt());
+    timer.stop();
     return new RelatedEntitiesResult(offset, relatedEntities.size(), totalCount, relatedEntities);
   }
 
-  public void removeNode(@Nonnull final Urn urn) {
+  @Nonnull
+  @Override
+  public Map<Urn, RelatedEntitiesResult> batchFindRelatedEntities(
+      @Nonnull final List<Urn> urns,
+      @Nonnull final List<String> relationshipTypes,
+      @Nonnull final RelationshipFilter relationshipFilter,
+      final int offset,
+      final int count) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "batchFindRelatedEntities").time()) {
+      log.debug(String.format("Batch finding related Neo4j nodes for urns: %s, relationshipTypes: %s, relationshipFilter: %s",
+          urns, relationshipTypes, relationshipFilter));
+
+      final Map<Urn, RelatedEntitiesResult> results = new HashMap<>();
+      urns.forEach(urn -> results.put(urn, new RelatedEntitiesResult(offset, 0, 0, Collections.emptyList())));
+      if (urns.isEmpty()) {
+        return results;
+      }
+
+      final String edgeCriteria = criterionToString(relationshipFilter.getCriteria());
+      final RelationshipDirection relationshipDirection = relationshipFilter.getDirection();
+
+      String relationshipTemplate = "-[%s%s %s]-";
+      if (relationshipDirection == RelationshipDirection.INCOMING) {
+        relationshipTemplate = "<-[%s%s %s]-";
+      } else if (relationshipDirection == RelationshipDirection.OUTGOING) {
+        relationshipTemplate = "-[%s%s %s]->";
+      }
+
+      String relationshipTypeFilter = "";
+      if (relationshipTypes.size() > 0) {
+        relationshipTypeFilter = ":" + StringUtils.join(relationshipTypes, "|");
+      }
+
+      // The totals of all urns are counted at once from the relationship degrees of their nodes. Each page is then read
+      // with its own ORDER BY, SKIP and LIMIT, so that only the requested related entities are fetched, since Cypher
+      // before Neo4j 4.0 has no subqueries to page per urn within a single statement. All of them run in one read
+      // transaction.
+      final Statement totalStatement = new Statement("UNWIND $urns AS urn MATCH (src {urn: urn}) "
+              + String.format("RETURN urn, sum(size((src)%s()))",
+                  String.format(relationshipTemplate, "", relationshipTypeFilter, edgeCriteria)),
+          ImmutableMap.of("urns", urns.stream().map(Urn::toString).distinct().collect(Collectors.toList())));
+      final String pageStatement = String.format("MATCH (src)%s(dest) WHERE src.urn = $urn ",
+          String.format(relationshipTemplate, "r", relationshipTypeFilter, edgeCriteria))
+          + "RETURN type(r), dest.urn ORDER BY dest.urn SKIP $offset LIMIT $count";
+
+      final Map<String, Urn> urnsByString = urns.stream().collect(Collectors.toMap(Urn::toString, urn -> urn, (a, b) -> a));
+      results.putAll(runInReadTransaction(tx -> {
+        final Map<Urn, RelatedEntitiesResult> pages = new HashMap<>();
+        for (Record totalRecord : tx.run(totalStatement.getCommandText(), totalStatement.getParams()).list()) {
+          final String urn = totalRecord.get(0).asString();
+          final int total = totalRecord.get(1).asInt();
+          List<RelatedEntity> relatedEntities = Collections.emptyList();
+          if (total > offset) {
+            relatedEntities = tx.run(pageStatement, ImmutableMap.of("urn", urn, "offset", offset, "count", count))
+                .list(record -> new RelatedEntity(record.get(0).asString(), record.get(1).asString()));
+          }
+          pages.put(urnsByString.get(urn), new RelatedEntitiesResult(offset, relatedEntities.size(), total, relatedEntities));
+        }
+        return pages;
+      }));
+      return results;
+    }
+  }
+
+  @Nonnull
+  public TraversalResult traverse(
+      @Nonnull final List<Urn> seeds,
+      @Nonnull final List<String> outgoingTypes,
+      @Nonnull final List<String> incomingTypes,
+      final int maxHops,
+      final int maxNodes,
+      final int maxEdges) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "traverse").time()) {
+      log.debug(String.format("Traversing Neo4j graph from seeds: %s, outgoingTypes: %s, incomingTypes: %s, maxHops: %s",
+          seeds, outgoingTypes, incomingTypes, maxHops));
+
+      final List<String> seedUrns = seeds.stream().map(Urn::toString).collect(Collectors.toList());
+      if (seedUrns.isEmpty() || (outgoingTypes.isEmpty() && incomingTypes.isEmpty()) || maxHops <= 0) {
+        return new TraversalCollector(seedUrns, maxNodes, maxEdges).toResult();
+      }
+
+      // Breadth-first: each hop expands the whole frontier with a single statement that follows every relationship in
+      // its own direction from labeled nodes, and only the entities reached for the first time are expanded next. All
+      // hops run in one read transaction.
+      return runInReadTransaction(tx -> {
+        final TraversalCollector collector = new TraversalCollector(seedUrns, maxNodes, maxEdges);
+        // One row past the edge cap tells that the hop was truncated.
+        final int limit = maxEdges + 1;
+        Set<String> frontier = new LinkedHashSet<>(seedUrns);
+        for (int hop = 1; hop <= maxHops && !frontier.isEmpty() && !collector.isFull(); hop++) {
+          final Statement statement = buildFrontierStatement(frontier, outgoingTypes, incomingTypes, limit);
+          if (statement == null) {
+            break;
+          }
+          final List<Record> records = tx.run(statement.getCommandText(), statement.getParams()).list();
+
+          final Set<String> nextFrontier = new LinkedHashSet<>();
+          for (Record record : records) {
+            final String relatedUrn = record.get(2).asString();
+            if (collector.add(record.get(0).asString(), relatedUrn, record.get(1).asString(), hop)) {
+              nextFrontier.add(relatedUrn);
+            }
+          }
+          if (records.size() >= limit) {
+            collector.markTruncated();
+          }
+          frontier = nextFrontier;
+        }
+        return collector.toResult();
+      });
+    }
+  }
 
+  /**
+   * Builds the statement expanding one hop of a traversal. Labels cannot be parameterized in Cypher, so the frontier is
+   * grouped by entity type, and the outgoing and incoming relationships of each group are matched by their own part of
+   * a UNION ALL. Returns null if no urn of the frontier is valid.
+   */
+  @Nullable
+  private Statement buildFrontierStatement(
+      @Nonnull final Set<String> frontier,
+      @Nonnull final List<String> outgoingTypes,
+      @Nonnull final List<String> incomingTypes,
+      final int limit) {
+    final Map<String, List<String>> urnsByEntityType = new LinkedHashMap<>();
+    for (String urn : frontier) {
+      try {
+        urnsByEntityType.computeIfAbsent(Urn.createFromString(urn).getEntityType(), key -> new ArrayList<>()).add(urn);
+      } catch (URISyntaxException e) {
+        log.error(String.format("Skipping invalid urn %s found in Neo4j", urn), e);
+      }
+    }
+
+    final String partTemplate = "MATCH (source:%s)%s(related) WHERE source.urn IN $%s "
+        + "RETURN source.urn AS sourceUrn, type(r) AS type, related.urn AS relatedUrn LIMIT $limit";
+    final List<String> parts = new ArrayList<>();
+    final Map<String, Object> params = new HashMap<>();
+    params.put("limit", limit);
+    for (Map.Entry<String, List<String>> entry : urnsByEntityType.entrySet()) {
+      final String urnsParam = "urns" + params.size();
+      params.put(urnsParam, entry.getValue());
+      if (!outgoingTypes.isEmpty()) {
+        parts.add(String.format(partTemplate, entry.getKey(), "-[r:" + StringUtils.join(outgoingTypes, "|") + "]->",
+            urnsParam));
+      }
+      if (!incomingTypes.isEmpty()) {
+        parts.add(String.format(partTemplate, entry.getKey(), "<-[r:" + StringUtils.join(incomingTypes, "|") + "]-",
+            urnsParam));
+      }
+    }
+    return parts.isEmpty() ? null : new Statement(StringUtils.join(parts, " UNION ALL "), params);
+  }
+
+  public void removeNode(@Nonnull final Urn urn) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "removeNode").time();
     log.debug(String.format("Removing Neo4j node with urn: %s", urn));
 
     // also delete any relationship going to or from it
@@ -154,39 +342,55 @@ public class Neo4jGraphService implements GraphService {
     final Map<String, Object> params = new HashMap<>();
     params.put("urn", urn.toString());
 
-    runQuery(buildStatement(statement, params)).consume();
+    executeStatements(Collections.singletonList(buildStatement(statement, params)));
+    timer.stop();
   }
 
   public void removeEdgesFromNode(
       @Nonnull final Urn urn,
       @Nonnull final List<String> relationshipTypes,
       @Nonnull final RelationshipFilter relationshipFilter) {
+    removeEdgesFromNodes(Collections.singletonList(urn), relationshipTypes, relationshipFilter);
+  }
 
-    log.debug(String.format("Removing Neo4j edge types from node with urn: %s, types: %s, filter: %s",
-        urn,
-        relationshipTypes,
-        relationshipFilter));
-
-    // also delete any relationship going to or from it
-    final RelationshipDirection relationshipDirection = relationshipFilter.getDirection();
-
-    String matchTemplate = "MATCH (src {urn: $urn})-[r%s]-(dest) DELETE r";
-    if (relationshipDirection == RelationshipDirection.INCOMING) {
-      matchTemplate = "MATCH (src {urn: $urn})<-[r%s]-(dest) DELETE r";
-    } else if (relationshipDirection == RelationshipDirection.OUTGOING) {
-      matchTemplate = "MATCH (src {urn: $urn})-[r%s]->(dest) DELETE r";
-    }
-
-    String relationshipTypeFilter = "";
-    if (relationshipTypes.size() > 0) {
-      relationshipTypeFilter = ":" + StringUtils.join(relationshipTypes, "|");
+  @Override
+  public void removeEdgesFromNodes(
+      @Nonnull final List<Urn> urns,
+      @Nonnull final List<String> relationshipTypes,
+      @Nonnull final RelationshipFilter relationshipFilter) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "removeEdgesFromNodes").time()) {
+      if (urns.isEmpty()) {
+        return;
+      }
+
+      log.debug(String.format("Removing Neo4j edge types from nodes with urns: %s, types: %s, filter: %s",
+          urns,
+          relationshipTypes,
+          relationshipFilter));
+
+      // also delete any relationship going to or from it
+      final RelationshipDirection relationshipDirection = relationshipFilter.getDirection();
+
+      String matchTemplate = "UNWIND $urns AS urn MATCH (src {urn: urn})-[r%s]-(dest) DELETE r";
+      if (relationshipDirection == RelationshipDirection.INCOMING) {
+        matchTemplate = "UNWIND $urns AS urn MATCH (src {urn: urn})<-[r%s]-(dest) DELETE r";
+      } else if (relationshipDirection == RelationshipDirection.OUTGOING) {
+        matchTemplate = "UNWIND $urns AS urn MATCH (src {urn: urn})-[r%s]->(dest) DELETE r";
+      }
+
+      String relationshipTypeFilter = "";
+      if (relationshipTypes.size() > 0) {
+        relationshipTypeFilter = ":" + StringUtils.join(relationshipTypes, "|");
+      }
+      final String statement = String.format(matchTemplate, relationshipTypeFilter);
+
+      final List<String> urnStrings = urns.stream().map(Urn::toString).collect(Collectors.toList());
+      for (List<String> batch : Lists.partition(urnStrings, MAX_ROWS_PER_TRANSACTION)) {
+        final Map<String, Object> params = new HashMap<>();
+        params.put("urns", batch);
+        executeStatements(Collections.singletonList(buildStatement(statement, params)));
+      }
     }
-    final String statement = String.format(matchTemplate, relationshipTypeFilter);
-
-    final Map<String, Object> params = new HashMap<>();
-    params.put("urn", urn.toString());
-
-    runQuery(buildStatement(statement, params)).consume();
   }
 
   public void removeNodesMatchingLabel(@Nonnull String labelPattern) {
@@ -197,7 +401,7 @@ public class Neo4jGraphService implements GraphService {
 
     final Map<String, Object> params = new HashMap<>();
 
-    runQuery(buildStatement(statement, params)).consume();
+    executeStatements(Collections.singletonList(buildStatement(statement, params)));
   }
 
   @Override
@@ -237,52 +441,64 @@ public class Neo4jGraphService implements GraphService {
   }
 
   /**
-   * Executes a list of statements with parameters in one transaction.
+   * Executes a list of statements with parameters in one managed write transaction, in a session of its own that is
+   * closed once it completes. The driver retries the transaction on transient failures (e.g. on a deadlock between
+   * concurrent MERGEs) with a jittered backoff, for up to the max transaction retry time of the driver.
    *
    * @param statements List of statements with parameters to be executed in order
    */
-  private synchronized ExecutionResult executeStatements(@Nonnull List<Statement> statements) {
-    int retry = 0;
+  private ExecutionResult executeStatements(@Nonnull List<Statement> statements) {
+    final AtomicInteger attempts = new AtomicInteger();
     final StopWatch stopWatch = new StopWatch();
     stopWatch.start();
-    Exception lastException;
-    try (final Session session = _driver.session(_sessionConfig)) {
-      do {
-        try {
-          session.writeTransaction(tx -> {
-            for (Statement statement : statements) {
-              tx.run(statement.getCommandText(), statement.getParams());
-            }
-            return 0;
-          });
-          lastException = null;
-          break;
-        } catch (Neo4jException e) {
-          lastException = e;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "executeStatements").time();
+        Session session = _driver.session(_sessionConfig)) {
+      session.writeTransaction(tx -> {
+        attempts.incrementAndGet();
+        for (Statement statement : statements) {
+          tx.run(statement.getCommandText(), statement.getParams());
         }
-      } while (++retry <= MAX_TRANSACTION_RETRY);
-    }
-
-    if (lastException != null) {
+        return 0;
+      });
+    } catch (Neo4jException e) {
       throw new RetryLimitReached(
-          "Failed to execute Neo4j write transaction after " + MAX_TRANSACTION_RETRY + " retries", lastException);
+          "Failed to execute Neo4j write transaction after " + (attempts.get() - 1) + " retries", e);
+    } finally {
+      if (attempts.get() > 1) {
+        MetricUtils.counter(this.getClass(), "writeTransactionRetries").inc(attempts.get() - 1);
+      }
     }
 
     stopWatch.stop();
-    return new ExecutionResult(stopWatch.getTime(), retry);
+    return new ExecutionResult(stopWatch.getTime(), attempts.get() - 1);
   }
 
   /**
-   * Runs a query statement with parameters and return StatementResult.
+   * Runs a query statement with parameters in a managed read transaction, in a read session of its own that is closed
+   * once it completes. The records are fetched within the transaction, which may be retried, and are mapped after it.
    *
    * @param statement a statement with parameters to be executed
-   * @return list of elements in the query result
+   * @param resultMapper function mapping the records of the query
+   * @return the mapped query result
    */
-  @Nonnull
-  private Result runQuery(@Nonnull Statement statement) {
+  private <T> T runQuery(@Nonnull Statement statement, @Nonnull Function<List<Record>, T> resultMapper) {
     log.debug(String.format("Running Neo4j query %s", statement.toString()));
-    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "runQuery").time()) {
-      return _driver.session(_sessionConfig).run(statement.getCommandText(), statement.getParams());
+    final List<Record> records;
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "runQuery").time();
+        Session session = _driver.session(_readSessionConfig)) {
+      records = session.readTransaction(tx -> tx.run(statement.getCommandText(), statement.getParams()).list());
+    }
+    return resultMapper.apply(records);
+  }
+
+  /**
+   * Runs the given work in a managed read transaction, in a read session of its own that is closed once it completes.
+   * The work may be retried, and must read all the records it needs before it returns.
+   */
+  private <T> T runInReadTransaction(@Nonnull TransactionWork<T> work) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "runQuery").time();
+        Session session = _driver.session(_readSessionConfig)) {
+      return session.readTransaction(work);
     }
   }
 
@@ -325,20 +541,4 @@ public class Neo4jGraphService implements GraphService {
 
     return joiner.length() <= 2 ? "" : joiner.toString();
   }
-
-  /**
-   * Gets Node based on Urn, if not exist, creates placeholder node.
-   */
-  @Nonnull
-  private Statement getOrInsertNode(@Nonnull Urn urn) {
-    final String nodeType = urn.getEntityType();
-
-    final String mergeTemplate = "MERGE (node:%s {urn: $urn}) RETURN node";
-    final String statement = String.format(mergeTemplate, nodeType);
-
-    final Map<String, Object> params = new HashMap<>();
-    params.put("urn", urn.toString());
-
-    return buildStatement(statement, params);
-  }
 }
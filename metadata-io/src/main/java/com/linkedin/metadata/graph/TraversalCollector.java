@@ -0,0 +1,67 @@
+package com.linkedin.metadata.graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Accumulates the edges of a breadth-first graph traversal. Nodes are visited at most once, which breaks cycles,
+ * and collection stops once the node or edge cap is reached.
+ */
+public class TraversalCollector {
+
+  private final int _maxNodes;
+  private final int _maxEdges;
+  private final Set<String> _visited = new HashSet<>();
+  private final Set<String> _edgeKeys = new HashSet<>();
+  private final List<TraversalEdge> _edges = new ArrayList<>();
+  private boolean _truncated = false;
+
+  public TraversalCollector(@Nonnull Collection<String> seeds, int maxNodes, int maxEdges) {
+    _maxNodes = maxNodes;
+    _maxEdges = maxEdges;
+    _visited.addAll(seeds);
+  }
+
+  /**
+   * Records an edge reached at the given hop.
+   *
+   * @return true if the related entity has not been visited before and should be expanded on the next hop
+   */
+  public boolean add(@Nonnull String sourceUrn, @Nonnull String relatedUrn, @Nonnull String relationshipType, int hop) {
+    if (!_visited.contains(sourceUrn)) {
+      // The source was dropped by a cap, so nothing reached through it is kept either.
+      return false;
+    }
+    if (!_edgeKeys.add(sourceUrn + "|" + relationshipType + "|" + relatedUrn)) {
+      return false;
+    }
+    final boolean newNode = !_visited.contains(relatedUrn);
+    if (_edges.size() >= _maxEdges || (newNode && _visited.size() >= _maxNodes)) {
+      _truncated = true;
+      return false;
+    }
+    _edges.add(new TraversalEdge(sourceUrn, relatedUrn, relationshipType, hop));
+    if (newNode) {
+      _visited.add(relatedUrn);
+    }
+    return newNode;
+  }
+
+  public boolean isFull() {
+    return _truncated || _edges.size() >= _maxEdges || _visited.size() >= _maxNodes;
+  }
+
+  public void markTruncated() {
+    _truncated = true;
+  }
+
+  @Nonnull
+  public TraversalResult toResult() {
+    return new TraversalResult(_edges, _visited.size(), _truncated);
+  }
+}
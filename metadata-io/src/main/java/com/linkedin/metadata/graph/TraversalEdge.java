@@ -0,0 +1,28 @@
+package com.linkedin.metadata.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@AllArgsConstructor
+@Data
+public class TraversalEdge {
+  /**
+   * Urn of the entity the traversal expanded from.
+   */
+  String sourceUrn;
+
+  /**
+   * Urn of the entity reached over the edge.
+   */
+  String relatedUrn;
+
+  /**
+   * How the entities are related, along which edge.
+   */
+  String relationshipType;
+
+  /**
+   * Number of hops between the nearest seed and the related entity.
+   */
+  int hop;
+}
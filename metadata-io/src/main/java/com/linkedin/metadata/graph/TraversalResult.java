@@ -0,0 +1,16 @@
+package com.linkedin.metadata.graph;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@AllArgsConstructor
+@Data
+public class TraversalResult {
+  List<TraversalEdge> edges;
+  int nodeCount;
+  /**
+   * Whether the traversal stopped early because the node or edge cap was reached.
+   */
+  boolean truncated;
+}
@@ -1,6 +1,7 @@
 package com.linkedin.metadata.graph.elastic;
 
 import com.codahale.metrics.Timer;
+import com.linkedin.metadata.dao.exception.ESQueryException;
 import com.linkedin.metadata.query.Condition;
 import com.linkedin.metadata.query.CriterionArray;
 import com.linkedin.metadata.query.Filter;
@@ -9,6 +10,7 @@ import com.linkedin.metadata.query.RelationshipFilter;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -20,6 +22,7 @@ import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 
 import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.INDEX_NAME;
@@ -32,6 +35,11 @@ import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.INDE
 @RequiredArgsConstructor
 public class ESGraphQueryDAO {
 
+  public static final String URN_AGGREGATION = "urns";
+  public static final String HITS_AGGREGATION = "hits";
+  // Default index.max_inner_result_window, the furthest a top hits aggregation can page
+  public static final int MAX_INNER_RESULT_WINDOW = 100;
+
   private final RestHighLevelClient client;
   private final IndexConvention indexConvention;
 
@@ -92,6 +100,92 @@ public class ESGraphQueryDAO {
     return null;
   }
 
+  /**
+   * Fetches the edges of many entities in one request. Edges are bucketed per entity urn by a terms aggregation, whose
+   * top hits hold the requested page and whose document count holds the total per urn. The page must end within
+   * {@link #MAX_INNER_RESULT_WINDOW}.
+   */
+  public SearchResponse getBatchSearchResponse(
+      @Nonnull final Collection<String> urns,
+      @Nonnull final List<String> relationshipTypes,
+      @Nonnull final RelationshipFilter relationshipFilter,
+      final int offset,
+      final int count) {
+    SearchRequest searchRequest = new SearchRequest();
+
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.size(0);
+
+    final Filter emptyFilter = new Filter().setCriteria(new CriterionArray());
+    BoolQueryBuilder finalQuery = buildQuery(
+        null,
+        emptyFilter,
+        null,
+        emptyFilter,
+        relationshipTypes,
+        relationshipFilter
+    );
+    final String sourceNode = relationshipFilter.getDirection() == RelationshipDirection.OUTGOING ? "source" : "destination";
+    finalQuery.filter(QueryBuilders.termsQuery(sourceNode + ".urn", urns));
+
+    searchSourceBuilder.query(finalQuery);
+    searchSourceBuilder.aggregation(AggregationBuilders.terms(URN_AGGREGATION)
+        .field(sourceNode + ".urn")
+        .size(urns.size())
+        .subAggregation(AggregationBuilders.topHits(HITS_AGGREGATION).from(offset).size(count)));
+
+    searchRequest.source(searchSourceBuilder);
+
+    searchRequest.indices(indexConvention.getIndexName(INDEX_NAME));
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esBatchQuery").time()) {
+      return client.search(searchRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.error("Batch query failed:" + e.getMessage());
+      throw new ESQueryException("Batch query failed:", e);
+    }
+  }
+
+  /**
+   * Fetches, in one request, every edge that leaves a frontier entity along one of the outgoing types or enters it
+   * along one of the incoming types.
+   */
+  public SearchResponse getFrontierSearchResponse(
+      @Nonnull final Collection<String> frontierUrns,
+      @Nonnull final List<String> outgoingTypes,
+      @Nonnull final List<String> incomingTypes,
+      final int count) {
+    SearchRequest searchRequest = new SearchRequest();
+
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+    searchSourceBuilder.size(count);
+
+    BoolQueryBuilder finalQuery = QueryBuilders.boolQuery().minimumShouldMatch(1);
+    if (outgoingTypes.size() > 0) {
+      finalQuery.should(QueryBuilders.boolQuery()
+          .filter(QueryBuilders.termsQuery("source.urn", frontierUrns))
+          .filter(QueryBuilders.termsQuery("relationshipType", outgoingTypes)));
+    }
+    if (incomingTypes.size() > 0) {
+      finalQuery.should(QueryBuilders.boolQuery()
+          .filter(QueryBuilders.termsQuery("destination.urn", frontierUrns))
+          .filter(QueryBuilders.termsQuery("relationshipType", incomingTypes)));
+    }
+
+    searchSourceBuilder.query(finalQuery);
+
+    searchRequest.source(searchSourceBuilder);
+
+    searchRequest.indices(indexConvention.getIndexName(INDEX_NAME));
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "esFrontierQuery").time()) {
+      return client.search(searchRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      log.error("Frontier query failed:" + e.getMessage());
+      throw new ESQueryException("Frontier query failed:", e);
+    }
+  }
+
   public static BoolQueryBuilder buildQuery(
       @Nullable final String sourceType,
       @Nonnull  final Filter sourceEntityFilter,
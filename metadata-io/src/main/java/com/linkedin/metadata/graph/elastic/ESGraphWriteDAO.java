@@ -2,7 +2,7 @@ package com.linkedin.metadata.graph.elastic;
 
 import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.RelationshipFilter;
-import com.linkedin.metadata.search.elasticsearch.update.BulkListener;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import java.io.IOException;
@@ -10,13 +10,10 @@ import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.bulk.BackoffPolicy;
-import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.reindex.BulkByScrollResponse;
@@ -28,23 +25,14 @@ import static com.linkedin.metadata.graph.elastic.ElasticSearchGraphService.*;
 
 @Slf4j
 public class ESGraphWriteDAO {
-  private final BulkProcessor bulkProcessor;
+  private final ESBulkProcessor bulkProcessor;
   private final IndexConvention indexConvention;
   private final RestHighLevelClient client;
 
-  public ESGraphWriteDAO(RestHighLevelClient searchClient, IndexConvention indexConvention, int bulkRequestsLimit, int bulkFlushPeriod, int numRetries,
-      long retryInterval) {
+  public ESGraphWriteDAO(RestHighLevelClient searchClient, IndexConvention indexConvention, ESBulkProcessor bulkProcessor) {
     this.client = searchClient;
     this.indexConvention = indexConvention;
-    this.bulkProcessor = BulkProcessor.builder(
-        (request, bulkListener) -> {
-            searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
-        },
-        BulkListener.getInstance())
-        .setBulkActions(bulkRequestsLimit)
-        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-        .build();
+    this.bulkProcessor = bulkProcessor;
   }
 
   /**
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.graph.elastic;
 
+import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableList;
@@ -8,6 +9,8 @@ import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.RelatedEntity;
 import com.linkedin.metadata.graph.RelatedEntitiesResult;
 import com.linkedin.metadata.graph.GraphService;
+import com.linkedin.metadata.graph.TraversalCollector;
+import com.linkedin.metadata.graph.TraversalResult;
 import com.linkedin.metadata.query.Condition;
 import com.linkedin.metadata.query.Criterion;
 import com.linkedin.metadata.query.CriterionArray;
@@ -16,6 +19,7 @@ import com.linkedin.metadata.query.RelationshipDirection;
 import com.linkedin.metadata.query.RelationshipFilter;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.IndexBuilder;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
@@ -24,9 +28,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -37,6 +43,9 @@ import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.metrics.TopHits;
 
 
 @Slf4j
@@ -87,9 +96,11 @@ public class ElasticSearchGraphService implements GraphService {
   }
 
   public void addEdge(@Nonnull final Edge edge) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "addEdge").time();
     String docId = toDocId(edge);
     String edgeDocument = toDocument(edge);
     _graphWriteDAO.upsertDocument(docId, edgeDocument);
+    timer.stop();
   }
 
   @Nonnull
@@ -103,6 +114,7 @@ public class ElasticSearchGraphService implements GraphService {
       final int offset,
       final int count) {
 
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "findRelatedEntities").time();
     final RelationshipDirection relationshipDirection = relationshipFilter.getDirection();
     String destinationNode = relationshipDirection == RelationshipDirection.OUTGOING ? "destination" : "source";
 
@@ -118,11 +130,69 @@ public class ElasticSearchGraphService implements GraphService {
     );
 
     if (response == null) {
+      timer.stop();
       return new RelatedEntitiesResult(offset, 0, 0, ImmutableList.of());
     }
 
     int totalCount = (int) response.getHits().getTotalHits().value;
-    final List<RelatedEntity> relationships = Arrays.stream(response.getHits().getHits())
+    final List<RelatedEntity> relationships = toRelatedEntities(response.getHits().getHits(), destinationNode);
+
+    timer.stop();
+    return new RelatedEntitiesResult(offset, relationships.size(), totalCount, relationships);
+  }
+
+  @Nonnull
+  @Override
+  public Map<Urn, RelatedEntitiesResult> batchFindRelatedEntities(
+      @Nonnull final List<Urn> urns,
+      @Nonnull final List<String> relationshipTypes,
+      @Nonnull final RelationshipFilter relationshipFilter,
+      final int offset,
+      final int count) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "batchFindRelatedEntities").time()) {
+      final Map<Urn, RelatedEntitiesResult> results = new HashMap<>();
+      urns.forEach(urn -> results.put(urn, new RelatedEntitiesResult(offset, 0, 0, ImmutableList.of())));
+      if (urns.isEmpty()) {
+        return results;
+      }
+
+      if (offset + count > ESGraphQueryDAO.MAX_INNER_RESULT_WINDOW) {
+        // Top hits cannot page past the inner result window of the index, so deeper pages are read one urn at a time
+        final Filter emptyFilter = new Filter().setCriteria(new CriterionArray());
+        urns.forEach(urn -> results.put(urn, findRelatedEntities(null, createUrnFilter(urn), null, emptyFilter,
+            relationshipTypes, relationshipFilter, offset, count)));
+        return results;
+      }
+
+      final Map<String, Urn> urnsByString = urns.stream().collect(Collectors.toMap(Urn::toString, urn -> urn, (a, b) -> a));
+      final SearchResponse response = _graphReadDAO.getBatchSearchResponse(
+          urnsByString.keySet(),
+          relationshipTypes,
+          relationshipFilter,
+          offset,
+          count
+      );
+      if (response.getAggregations() == null) {
+        return results;
+      }
+
+      final String destinationNode = relationshipFilter.getDirection() == RelationshipDirection.OUTGOING ? "destination" : "source";
+      final Terms urnBuckets = response.getAggregations().get(ESGraphQueryDAO.URN_AGGREGATION);
+      for (Terms.Bucket bucket : urnBuckets.getBuckets()) {
+        final Urn urn = urnsByString.get(bucket.getKeyAsString());
+        if (urn == null) {
+          continue;
+        }
+        final TopHits hits = bucket.getAggregations().get(ESGraphQueryDAO.HITS_AGGREGATION);
+        final List<RelatedEntity> relationships = toRelatedEntities(hits.getHits().getHits(), destinationNode);
+        results.put(urn, new RelatedEntitiesResult(offset, relationships.size(), (int) bucket.getDocCount(), relationships));
+      }
+      return results;
+    }
+  }
+
+  private static List<RelatedEntity> toRelatedEntities(@Nonnull final SearchHit[] hits, @Nonnull final String destinationNode) {
+    return Arrays.stream(hits)
         .map(hit -> {
           final String urnStr = ((HashMap<String, String>) hit.getSourceAsMap().getOrDefault(destinationNode, EMPTY_HASH)).getOrDefault("urn", null);
           final String relationshipType = (String) hit.getSourceAsMap().get("relationshipType");
@@ -135,8 +205,54 @@ public class ElasticSearchGraphService implements GraphService {
         })
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
+  }
 
-    return new RelatedEntitiesResult(offset, relationships.size(), totalCount, relationships);
+  @Nonnull
+  public TraversalResult traverse(
+      @Nonnull final List<Urn> seeds,
+      @Nonnull final List<String> outgoingTypes,
+      @Nonnull final List<String> incomingTypes,
+      final int maxHops,
+      final int maxNodes,
+      final int maxEdges) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "traverse").time()) {
+      final List<String> seedUrns = seeds.stream().map(Urn::toString).collect(Collectors.toList());
+      final TraversalCollector collector = new TraversalCollector(seedUrns, maxNodes, maxEdges);
+      if (outgoingTypes.isEmpty() && incomingTypes.isEmpty()) {
+        return collector.toResult();
+      }
+
+      // Expand the whole frontier of each hop with a single terms query instead of one query per entity.
+      Set<String> frontier = new LinkedHashSet<>(seedUrns);
+      for (int hop = 1; hop <= maxHops && !frontier.isEmpty() && !collector.isFull(); hop++) {
+        final int count = Math.min(MAX_ELASTIC_RESULT, maxEdges + 1);
+        final SearchResponse response = _graphReadDAO.getFrontierSearchResponse(frontier, outgoingTypes, incomingTypes, count);
+
+        final Set<String> nextFrontier = new LinkedHashSet<>();
+        for (SearchHit hit : response.getHits().getHits()) {
+          final Map<String, Object> document = hit.getSourceAsMap();
+          final String sourceUrn = ((Map<String, String>) document.getOrDefault("source", EMPTY_HASH)).get("urn");
+          final String destinationUrn = ((Map<String, String>) document.getOrDefault("destination", EMPTY_HASH)).get("urn");
+          final String relationshipType = (String) document.get("relationshipType");
+          if (sourceUrn == null || destinationUrn == null || relationshipType == null) {
+            continue;
+          }
+          if (outgoingTypes.contains(relationshipType) && frontier.contains(sourceUrn)
+              && collector.add(sourceUrn, destinationUrn, relationshipType, hop)) {
+            nextFrontier.add(destinationUrn);
+          }
+          if (incomingTypes.contains(relationshipType) && frontier.contains(destinationUrn)
+              && collector.add(destinationUrn, sourceUrn, relationshipType, hop)) {
+            nextFrontier.add(sourceUrn);
+          }
+        }
+        if (response.getHits().getHits().length >= count) {
+          collector.markTruncated();
+        }
+        frontier = nextFrontier;
+      }
+      return collector.toResult();
+    }
   }
 
   private Filter createUrnFilter(@Nonnull final Urn urn) {
@@ -153,6 +269,7 @@ public class ElasticSearchGraphService implements GraphService {
   }
 
   public void removeNode(@Nonnull final Urn urn) {
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "removeNode").time();
     Filter urnFilter = createUrnFilter(urn);
     Filter emptyFilter = new Filter().setCriteria(new CriterionArray());
     List<String> relationshipTypes = new ArrayList<>();
@@ -178,6 +295,7 @@ public class ElasticSearchGraphService implements GraphService {
         incomingFilter
     );
 
+    timer.stop();
     return;
   }
 
@@ -186,6 +304,7 @@ public class ElasticSearchGraphService implements GraphService {
       @Nonnull final List<String> relationshipTypes,
       @Nonnull final RelationshipFilter relationshipFilter) {
 
+    Timer.Context timer = MetricUtils.timer(this.getClass(), "removeEdgesFromNode").time();
     Filter urnFilter = createUrnFilter(urn);
     Filter emptyFilter = new Filter().setCriteria(new CriterionArray());
 
@@ -197,6 +316,7 @@ public class ElasticSearchGraphService implements GraphService {
         relationshipTypes,
         relationshipFilter
     );
+    timer.stop();
   }
 
   @Override
@@ -9,6 +9,7 @@ import com.linkedin.metadata.query.SortCriterion;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.elasticsearch.common.bytes.BytesReference;
 
 
 public interface SearchService {
@@ -36,6 +37,17 @@ public interface SearchService {
    */
   void upsertDocument(@Nonnull String entityName, @Nonnull String document, @Nonnull String docId);
 
+  /**
+   * Updates or inserts the given search document, already serialized as JSON bytes.
+   *
+   * @param entityName name of the entity
+   * @param document the JSON bytes of the document to update / insert
+   * @param docId the ID of the document
+   */
+  default void upsertDocument(@Nonnull String entityName, @Nonnull BytesReference document, @Nonnull String docId) {
+    upsertDocument(entityName, document.utf8ToString(), docId);
+  }
+
   /**
    * Deletes the document with the given document ID from the index.
    *
@@ -16,6 +16,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.common.bytes.BytesReference;
 
 
 @Slf4j
@@ -49,6 +50,15 @@ public class ElasticSearchService implements SearchService {
     esWriteDAO.upsertDocument(entityName, document, docId);
   }
 
+  @Override
+  public void upsertDocument(@Nonnull String entityName, @Nonnull BytesReference document, @Nonnull String docId) {
+    if (log.isDebugEnabled()) {
+      log.debug(String.format("Upserting Search document entityName: %s, document: %s, docId: %s", entityName,
+          document.utf8ToString(), docId));
+    }
+    esWriteDAO.upsertDocument(entityName, document, docId);
+  }
+
   @Override
   public void deleteDocument(@Nonnull String entityName, @Nonnull String docId) {
     log.debug(String.format("Deleting Search document entityName: %s, docId: %s", entityName, docId));
@@ -1,5 +1,11 @@
 package com.linkedin.metadata.search.elasticsearch.update;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.bulk.BulkRequest;
@@ -10,21 +16,34 @@ import org.elasticsearch.action.bulk.BulkResponse;
 public class BulkListener implements BulkProcessor.Listener {
   private static final BulkListener INSTANCE = new BulkListener();
 
+  private final Histogram bulkSizeStats = MetricUtils.histogram(this.getClass(), "bulkSize");
+  private final Timer bulkTookTimer = MetricUtils.timer(this.getClass(), "bulkTook");
+  private final Counter successCounter = MetricUtils.counter(this.getClass(), "bulkSuccess");
+  private final Counter partialFailureCounter = MetricUtils.counter(this.getClass(), "bulkPartialFailure");
+  private final Counter failureCounter = MetricUtils.counter(this.getClass(), "bulkFailure");
+  private final Counter failedItemsCounter = MetricUtils.counter(this.getClass(), "failedItems");
+
   public static BulkListener getInstance() {
     return INSTANCE;
   }
 
   @Override
   public void beforeBulk(long executionId, BulkRequest request) {
-
+    bulkSizeStats.update(request.numberOfActions());
   }
 
   @Override
   public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
-    if (response.hasFailures()) {
-      log.info("Failed to feed bulk request. Number of events: " + response.getItems().length + " Took time ms: "
+    bulkTookTimer.update(response.getTook().millis(), TimeUnit.MILLISECONDS);
+    // Duplicate creates are replays of documents that are already written
+    final long failedItems = Arrays.stream(response.getItems()).filter(ESBulkProcessor::isFailed).count();
+    if (failedItems > 0) {
+      partialFailureCounter.inc();
+      failedItemsCounter.inc(failedItems);
+      log.error("Failed to feed bulk request. Number of events: " + response.getItems().length + " Took time ms: "
               + response.getIngestTookInMillis() + " Message: " + response.buildFailureMessage());
     } else {
+      successCounter.inc();
       log.info("Successfully fed bulk request. Number of events: " + response.getItems().length + " Took time ms: "
               + response.getIngestTookInMillis());
     }
@@ -32,6 +51,8 @@ public class BulkListener implements BulkProcessor.Listener {
 
   @Override
   public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
-    log.info("Error feeding bulk request. No retries left", failure);
+    failureCounter.inc();
+    failedItemsCounter.inc(request.numberOfActions());
+    log.error("Error feeding bulk request. No retries left", failure);
   }
 }
@@ -0,0 +1,174 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.ExceptionsHelper;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.rest.RestStatus;
+
+
+/**
+ * Bulk write pipeline shared by all the writers to Elasticsearch of a process.
+ *
+ * Pending requests are flushed once they reach a number of actions or a size in bytes, or after a flush period,
+ * whichever comes first. At most a fixed number of bulk requests are in flight, and callers adding requests block until
+ * one of them completes once that limit is reached. Items rejected because Elasticsearch is overloaded are re-sent on
+ * their own, without the rest of their batch, after an exponential backoff with jitter. Items that are still rejected
+ * once the retries are exhausted, and items that failed for any other reason, are logged by {@link BulkListener}.
+ * Creates rejected as a conflict are not failures: their id is already written, which is how replays of append-only
+ * documents, such as those of data streams, stay idempotent.
+ *
+ * Every attempt counts the items written, duplicated, rejected and failed per index.
+ */
+@Slf4j
+public class ESBulkProcessor implements Closeable {
+  private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+  private final BulkProcessor _bulkProcessor;
+
+  public ESBulkProcessor(@Nonnull RestHighLevelClient searchClient, int bulkRequestsLimit, long bulkSizeMb,
+      int bulkFlushPeriod, int concurrentRequests, int numRetries, long retryIntervalMillis) {
+    _bulkProcessor = BulkProcessor.builder((request, bulkListener) -> {
+      // Times each attempt from the request being sent until its response, or failure, is handed to the listener
+      final Timer.Context flushTimer = MetricUtils.timer(ESBulkProcessor.class, "bulkFlush").time();
+      searchClient.bulkAsync(request, RequestOptions.DEFAULT, ActionListener.runAfter(ActionListener.wrap(response -> {
+        countItems(response);
+        bulkListener.onResponse(response);
+      }, e -> {
+        countFailure(request, e);
+        bulkListener.onFailure(e);
+      }), flushTimer::stop));
+    }, BulkListener.getInstance())
+        .setBulkActions(bulkRequestsLimit)
+        .setBulkSize(new ByteSizeValue(bulkSizeMb, ByteSizeUnit.MB))
+        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
+        .setConcurrentRequests(concurrentRequests)
+        .setBackoffPolicy(new JitteredExponentialBackoff(retryIntervalMillis, numRetries))
+        .build();
+  }
+
+  /**
+   * Adds the given request to the pending batch, blocking while the maximum number of bulk requests are in flight.
+   */
+  @Nonnull
+  public ESBulkProcessor add(@Nonnull DocWriteRequest<?> request) {
+    _bulkProcessor.add(request);
+    return this;
+  }
+
+  /**
+   * Sends the pending batch, without waiting for it to complete.
+   */
+  public void flush() {
+    _bulkProcessor.flush();
+  }
+
+  /**
+   * Sends the pending batch and waits for all the bulk requests in flight, including their retries, to complete.
+   */
+  @Override
+  public void close() {
+    try {
+      if (!_bulkProcessor.awaitClose(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Bulk requests still in flight after {} seconds", CLOSE_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void countItems(@Nonnull BulkResponse response) {
+    for (BulkItemResponse item : response.getItems()) {
+      if (!item.isFailed()) {
+        indexCounter(item.getIndex(), "written").inc();
+      } else if (isDuplicateCreate(item)) {
+        indexCounter(item.getIndex(), "duplicate").inc();
+      } else if (item.status() == RestStatus.TOO_MANY_REQUESTS) {
+        indexCounter(item.getIndex(), "rejected").inc();
+      } else {
+        indexCounter(item.getIndex(), "failed").inc();
+      }
+    }
+  }
+
+  /**
+   * Whether the item is a create whose id was already written, e.g. by an earlier delivery of the same document.
+   */
+  static boolean isDuplicateCreate(@Nonnull BulkItemResponse item) {
+    return item.isFailed() && item.getOpType() == DocWriteRequest.OpType.CREATE && item.status() == RestStatus.CONFLICT;
+  }
+
+  /**
+   * Whether the item failed, other than as a duplicate create.
+   */
+  static boolean isFailed(@Nonnull BulkItemResponse item) {
+    return item.isFailed() && !isDuplicateCreate(item);
+  }
+
+  private static void countFailure(@Nonnull BulkRequest request, @Nonnull Exception e) {
+    final String metricName = ExceptionsHelper.status(e) == RestStatus.TOO_MANY_REQUESTS ? "rejected" : "failed";
+    for (DocWriteRequest<?> item : request.requests()) {
+      indexCounter(item.index(), metricName).inc();
+    }
+  }
+
+  @Nonnull
+  private static Counter indexCounter(@Nonnull String index, @Nonnull String metricName) {
+    return MetricUtils.get().counter(MetricRegistry.name(ESBulkProcessor.class, index, metricName));
+  }
+
+  /**
+   * Doubles the delay after every retry, and picks each delay uniformly between half and all of it, so that the
+   * requests rejected together by an overloaded cluster are not all re-sent at the same time.
+   */
+  private static class JitteredExponentialBackoff extends BackoffPolicy {
+    private final long _initialDelayMillis;
+    private final int _numRetries;
+
+    JitteredExponentialBackoff(long initialDelayMillis, int numRetries) {
+      _initialDelayMillis = initialDelayMillis;
+      _numRetries = numRetries;
+    }
+
+    @Override
+    public Iterator<TimeValue> iterator() {
+      return new Iterator<TimeValue>() {
+        private int _retry = 0;
+
+        @Override
+        public boolean hasNext() {
+          return _retry < _numRetries;
+        }
+
+        @Override
+        public TimeValue next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException("Only up to " + _numRetries + " retries");
+          }
+          final long delayMillis = _initialDelayMillis << Math.min(_retry++, 20);
+          return TimeValue.timeValueMillis(delayMillis / 2 + ThreadLocalRandom.current().nextLong(delayMillis / 2 + 1));
+        }
+      };
+    }
+  }
+}
@@ -5,8 +5,6 @@ import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import java.io.IOException;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.bulk.BackoffPolicy;
-import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
@@ -14,7 +12,8 @@ import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.indices.GetIndexRequest;
 import org.elasticsearch.client.indices.GetIndexResponse;
-import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.reindex.DeleteByQueryRequest;
@@ -25,21 +24,15 @@ public class ESWriteDAO {
 
   private final EntityRegistry entityRegistry;
   private final RestHighLevelClient searchClient;
-  private final BulkProcessor bulkProcessor;
+  private final ESBulkProcessor bulkProcessor;
   private final IndexConvention indexConvention;
 
   public ESWriteDAO(EntityRegistry entityRegistry, RestHighLevelClient searchClient, IndexConvention indexConvention,
-      int bulkRequestsLimit, int bulkFlushPeriod, int numRetries, long retryInterval) {
+      ESBulkProcessor bulkProcessor) {
     this.entityRegistry = entityRegistry;
     this.indexConvention = indexConvention;
     this.searchClient = searchClient;
-    this.bulkProcessor = BulkProcessor.builder(
-        (request, bulkListener) -> searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener),
-        BulkListener.getInstance())
-        .setBulkActions(bulkRequestsLimit)
-        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-        .build();
+    this.bulkProcessor = bulkProcessor;
   }
 
   /**
@@ -50,10 +43,24 @@ public class ESWriteDAO {
    * @param docId the ID of the document
    */
   public void upsertDocument(@Nonnull String entityName, @Nonnull String document, @Nonnull String docId) {
+    upsertDocument(entityName, new BytesArray(document), docId);
+  }
+
+  /**
+   * Updates or inserts the given search document, already serialized as JSON. The doc and upsert parts of the update
+   * share the same bytes.
+   *
+   * @param entityName name of the entity
+   * @param document the JSON bytes of the document to update / insert
+   * @param docId the ID of the document
+   */
+  public void upsertDocument(@Nonnull String entityName, @Nonnull BytesReference document, @Nonnull String docId) {
     final String indexName = indexConvention.getIndexName(entityRegistry.getEntitySpec(entityName));
     final IndexRequest indexRequest = new IndexRequest(indexName).id(docId).source(document, XContentType.JSON);
-    final UpdateRequest updateRequest =
-        new UpdateRequest(indexName, docId).doc(document, XContentType.JSON).detectNoop(false).upsert(indexRequest);
+    final UpdateRequest updateRequest = new UpdateRequest(indexName, docId)
+        .doc(new IndexRequest(indexName).id(docId).source(document, XContentType.JSON))
+        .detectNoop(false)
+        .upsert(indexRequest);
     bulkProcessor.add(updateRequest);
   }
 
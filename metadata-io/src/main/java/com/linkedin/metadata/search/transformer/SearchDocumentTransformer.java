@@ -1,10 +1,5 @@
 package com.linkedin.metadata.search.transformer;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.template.RecordTemplate;
@@ -13,10 +8,16 @@ import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
 import com.linkedin.metadata.models.annotation.SearchableAnnotation.FieldType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.common.xcontent.XContentFactory;
 
 
 /**
@@ -32,94 +33,132 @@ public class SearchDocumentTransformer {
       final RecordTemplate snapshot,
       final EntitySpec entitySpec,
       final Boolean forDelete
+  ) {
+    return writeSnapshot(snapshot, entitySpec, forDelete).map(BytesReference::utf8ToString);
+  }
+
+  public static Optional<String> transformAspect(final Urn urn, final RecordTemplate aspect, final AspectSpec aspectSpec) {
+    return writeAspect(urn, aspect, aspectSpec).map(BytesReference::utf8ToString);
+  }
+
+  /**
+   * Same as {@link #transformSnapshot} but streams the document straight into a JSON byte buffer, which can be handed to
+   * the search index without going through a String.
+   */
+  public static Optional<BytesReference> writeSnapshot(
+      final RecordTemplate snapshot,
+      final EntitySpec entitySpec,
+      final Boolean forDelete
   ) {
     final Map<SearchableFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFieldsFromSnapshot(snapshot, entitySpec, AspectSpec::getSearchableFieldSpecs);
+        FieldExtractor.extractFieldsFromSnapshot(snapshot, entitySpec, SearchableFieldSpec.class);
     if (extractedFields.isEmpty()) {
       return Optional.empty();
     }
-    final ObjectNode searchDocument = JsonNodeFactory.instance.objectNode();
-    searchDocument.put("urn", snapshot.data().get("urn").toString());
-    extractedFields.forEach((key, value) -> setValue(key, value, searchDocument, forDelete));
-    return Optional.of(searchDocument.toString());
+    return Optional.of(writeDocument(snapshot.data().get("urn").toString(), extractedFields, forDelete));
   }
 
-  public static Optional<String> transformAspect(final Urn urn, final RecordTemplate aspect, final AspectSpec aspectSpec) {
+  /**
+   * Same as {@link #transformAspect} but streams the document straight into a JSON byte buffer, which can be handed to
+   * the search index without going through a String.
+   */
+  public static Optional<BytesReference> writeAspect(final Urn urn, final RecordTemplate aspect,
+      final AspectSpec aspectSpec) {
     final Map<SearchableFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getSearchableFieldSpecs());
+        FieldExtractor.extractFields(aspect, aspectSpec, SearchableFieldSpec.class);
     if (extractedFields.isEmpty()) {
       return Optional.empty();
     }
-    final ObjectNode searchDocument = JsonNodeFactory.instance.objectNode();
-    searchDocument.put("urn", urn.toString());
-    extractedFields.forEach((key, value) -> setValue(key, value, searchDocument, false));
-    return Optional.of(searchDocument.toString());
+    return Optional.of(writeDocument(urn.toString(), extractedFields, false));
+  }
+
+  private static BytesReference writeDocument(final String urn,
+      final Map<SearchableFieldSpec, List<Object>> extractedFields, final Boolean forDelete) {
+    try (XContentBuilder searchDocument = XContentFactory.jsonBuilder()) {
+      searchDocument.startObject();
+      searchDocument.field("urn", urn);
+      for (Map.Entry<SearchableFieldSpec, List<Object>> entry : extractedFields.entrySet()) {
+        setValue(entry.getKey(), entry.getValue(), searchDocument, forDelete);
+      }
+      searchDocument.endObject();
+      return BytesReference.bytes(searchDocument);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write search document for " + urn, e);
+    }
   }
 
   public static void setValue(final SearchableFieldSpec fieldSpec, final List<Object> fieldValues,
-      final ObjectNode searchDocument, final Boolean forDelete) {
+      final XContentBuilder searchDocument, final Boolean forDelete) throws IOException {
     DataSchema.Type valueType = fieldSpec.getPegasusSchema().getType();
     Optional<Object> firstValue = fieldValues.stream().findFirst();
     boolean isArray = fieldSpec.isArray();
 
     // Set hasValues field if exists
-    fieldSpec.getSearchableAnnotation().getHasValuesFieldName().ifPresent(fieldName -> {
+    final Optional<String> hasValuesFieldName = fieldSpec.getSearchableAnnotation().getHasValuesFieldName();
+    if (hasValuesFieldName.isPresent()) {
       if (forDelete) {
-        searchDocument.set(fieldName, JsonNodeFactory.instance.booleanNode(false));
-        return;
-      }
-      if (valueType == DataSchema.Type.BOOLEAN) {
-        searchDocument.set(fieldName, JsonNodeFactory.instance.booleanNode((Boolean) firstValue.orElse(false)));
+        searchDocument.field(hasValuesFieldName.get(), false);
+      } else if (valueType == DataSchema.Type.BOOLEAN) {
+        searchDocument.field(hasValuesFieldName.get(), (boolean) (Boolean) firstValue.orElse(false));
       } else {
-        searchDocument.set(fieldName, JsonNodeFactory.instance.booleanNode(!fieldValues.isEmpty()));
+        searchDocument.field(hasValuesFieldName.get(), !fieldValues.isEmpty());
       }
-    });
+    }
 
     // Set numValues field if exists
-    fieldSpec.getSearchableAnnotation().getNumValuesFieldName().ifPresent(fieldName -> {
+    final Optional<String> numValuesFieldName = fieldSpec.getSearchableAnnotation().getNumValuesFieldName();
+    if (numValuesFieldName.isPresent()) {
       if (forDelete) {
-        searchDocument.set(fieldName, JsonNodeFactory.instance.numberNode((Integer) 0));
-        return;
-      }
-      switch (valueType) {
-        case INT:
-          searchDocument.set(fieldName, JsonNodeFactory.instance.numberNode((Integer) firstValue.orElse(0)));
-          break;
-        case LONG:
-          searchDocument.set(fieldName, JsonNodeFactory.instance.numberNode((Long) firstValue.orElse(0L)));
-          break;
-        default:
-          searchDocument.set(fieldName, JsonNodeFactory.instance.numberNode(fieldValues.size()));
-          break;
+        searchDocument.field(numValuesFieldName.get(), 0);
+      } else {
+        switch (valueType) {
+          case INT:
+            searchDocument.field(numValuesFieldName.get(), (int) (Integer) firstValue.orElse(0));
+            break;
+          case LONG:
+            searchDocument.field(numValuesFieldName.get(), (long) (Long) firstValue.orElse(0L));
+            break;
+          default:
+            searchDocument.field(numValuesFieldName.get(), fieldValues.size());
+            break;
+        }
       }
-    });
+    }
 
     final String fieldName = fieldSpec.getSearchableAnnotation().getFieldName();
     final FieldType fieldType = fieldSpec.getSearchableAnnotation().getFieldType();
 
     if (forDelete) {
-      searchDocument.set(fieldName, JsonNodeFactory.instance.nullNode());
+      searchDocument.nullField(fieldName);
       return;
     }
 
     if (isArray || valueType == DataSchema.Type.MAP) {
-      ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
-      fieldValues.forEach(value -> getNodeForValue(valueType, value, fieldType).ifPresent(arrayNode::add));
-      searchDocument.set(fieldName, arrayNode);
+      searchDocument.startArray(fieldName);
+      for (Object value : fieldValues) {
+        final Object documentValue = getDocumentValue(valueType, value, fieldType);
+        if (documentValue != null) {
+          searchDocument.value(documentValue);
+        }
+      }
+      searchDocument.endArray();
     } else if (!fieldValues.isEmpty()) {
-      getNodeForValue(valueType, fieldValues.get(0), fieldType).ifPresent(node -> searchDocument.set(fieldName, node));
+      final Object documentValue = getDocumentValue(valueType, fieldValues.get(0), fieldType);
+      if (documentValue != null) {
+        searchDocument.field(fieldName, documentValue);
+      }
     }
   }
 
-  private static Optional<JsonNode> getNodeForValue(final DataSchema.Type schemaFieldType, final Object fieldValue,
+  // Returns the value to write for the field, or null if it should be skipped
+  @Nullable
+  private static Object getDocumentValue(final DataSchema.Type schemaFieldType, final Object fieldValue,
       final FieldType fieldType) {
     switch (schemaFieldType) {
       case BOOLEAN:
-        return Optional.of(JsonNodeFactory.instance.booleanNode((Boolean) fieldValue));
       case INT:
-        return Optional.of(JsonNodeFactory.instance.numberNode((Integer) fieldValue));
       case LONG:
-        return Optional.of(JsonNodeFactory.instance.numberNode((Long) fieldValue));
+        return fieldValue;
       // By default run toString
       default:
         String value = fieldValue.toString();
@@ -127,8 +166,7 @@ public class SearchDocumentTransformer {
         if (fieldType == FieldType.BROWSE_PATH && !value.startsWith("/")) {
           value = "/" + value;
         }
-        return value.isEmpty() ? Optional.empty()
-            : Optional.of(JsonNodeFactory.instance.textNode(fieldValue.toString()));
+        return value.isEmpty() ? null : fieldValue.toString();
     }
   }
 }
@@ -1,13 +1,11 @@
 package com.linkedin.metadata.systemmetadata;
 
 import com.google.common.collect.ImmutableList;
-import com.linkedin.metadata.search.elasticsearch.update.BulkListener;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import java.io.IOException;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.bulk.BackoffPolicy;
-import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.delete.DeleteResponse;
 import org.elasticsearch.action.index.IndexRequest;
@@ -16,7 +14,6 @@ import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -35,23 +32,14 @@ import static com.linkedin.metadata.systemmetadata.ElasticSearchSystemMetadataSe
 
 @Slf4j
 public class ESSystemMetadataDAO {
-  private final BulkProcessor bulkProcessor;
+  private final ESBulkProcessor bulkProcessor;
   private final IndexConvention indexConvention;
   private final RestHighLevelClient client;
 
-  public ESSystemMetadataDAO(RestHighLevelClient searchClient, IndexConvention indexConvention, int bulkRequestsLimit, int bulkFlushPeriod, int numRetries,
-      long retryInterval) {
+  public ESSystemMetadataDAO(RestHighLevelClient searchClient, IndexConvention indexConvention, ESBulkProcessor bulkProcessor) {
     this.client = searchClient;
     this.indexConvention = indexConvention;
-    this.bulkProcessor = BulkProcessor.builder(
-        (request, bulkListener) -> {
-            searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
-        },
-        BulkListener.getInstance())
-        .setBulkActions(bulkRequestsLimit)
-        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-        .build();
+    this.bulkProcessor = bulkProcessor;
   }
 
   /**
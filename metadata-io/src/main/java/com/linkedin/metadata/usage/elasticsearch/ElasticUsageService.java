@@ -10,7 +10,7 @@ import com.linkedin.data.template.SetMode;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.metadata.dao.exception.ESQueryException;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.IndexBuilder;
-import com.linkedin.metadata.search.elasticsearch.update.BulkListener;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.usage.UsageService;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.common.WindowDuration;
@@ -23,15 +23,12 @@ import com.linkedin.usage.UserUsageCounts;
 import com.linkedin.usage.UserUsageCountsArray;
 import java.util.Collections;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.bulk.BackoffPolicy;
-import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -67,19 +64,13 @@ public class ElasticUsageService implements UsageService {
 
     private final RestHighLevelClient elasticClient;
     private final IndexConvention indexConvention;
-    private final BulkProcessor bulkProcessor;
+    private final ESBulkProcessor bulkProcessor;
 
     public ElasticUsageService(RestHighLevelClient elasticClient, IndexConvention indexConvention,
-                      int bulkRequestsLimit, int bulkFlushPeriod, int numRetries, long retryInterval) {
+                      ESBulkProcessor bulkProcessor) {
         this.elasticClient = elasticClient;
         this.indexConvention = indexConvention;
-        this.bulkProcessor = BulkProcessor.builder(
-                (request, bulkListener) -> elasticClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener),
-                BulkListener.getInstance())
-                .setBulkActions(bulkRequestsLimit)
-                .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-                .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
-                .build();
+        this.bulkProcessor = bulkProcessor;
     }
 
     @Override
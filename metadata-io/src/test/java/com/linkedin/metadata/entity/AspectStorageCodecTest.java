@@ -0,0 +1,119 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.entity.ebean.AspectStorageCodec;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpecBuilder;
+import com.linkedin.schema.KafkaSchema;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests the capabilities of {@link AspectStorageCodec}
+ */
+public class AspectStorageCodecTest {
+
+  private static final int NUM_FIELDS = 2000;
+
+  @DataProvider(name = "formats")
+  public Object[][] formats() {
+    return new Object[][]{
+        {AspectStorageCodec.Format.JSON}, {AspectStorageCodec.Format.PSON}, {AspectStorageCodec.Format.PSON_DEFLATE}};
+  }
+
+  @Test(dataProvider = "formats")
+  public void testRoundTrip(AspectStorageCodec.Format format) throws Exception {
+    final SchemaMetadata aspect = createSchemaMetadata(10);
+    final AspectSpec aspectSpec = new EntitySpecBuilder().buildAspectSpec(aspect.schema());
+    final AspectStorageCodec codec = new AspectStorageCodec(format);
+
+    final String metadata = codec.encode(aspect);
+    assertEquals(AspectStorageCodec.getFormat(metadata), format);
+
+    final RecordTemplate decoded = AspectStorageCodec.decode(metadata, aspectSpec);
+    assertEquals(decoded.getClass(), SchemaMetadata.class);
+    assertEquals(decoded, aspect);
+  }
+
+  @Test
+  public void testDecodesRowsOfAnyFormat() throws Exception {
+    final SchemaMetadata aspect = createSchemaMetadata(3);
+    final AspectSpec aspectSpec = new EntitySpecBuilder().buildAspectSpec(aspect.schema());
+    final AspectStorageCodec jsonCodec = new AspectStorageCodec(AspectStorageCodec.Format.JSON);
+    final AspectStorageCodec binaryCodec = new AspectStorageCodec(AspectStorageCodec.Format.PSON_DEFLATE);
+
+    assertEquals(AspectStorageCodec.decode(jsonCodec.encode(aspect), aspectSpec), aspect);
+    assertEquals(AspectStorageCodec.decode(binaryCodec.encode(aspect), aspectSpec), aspect);
+    final String converted = binaryCodec.encodeData(AspectStorageCodec.decodeData(jsonCodec.encode(aspect)));
+    assertEquals(AspectStorageCodec.getFormat(converted), AspectStorageCodec.Format.PSON_DEFLATE);
+    assertEquals(AspectStorageCodec.decode(converted, aspectSpec), aspect);
+  }
+
+  @Test
+  public void testHash() throws Exception {
+    final SchemaMetadata aspect = createSchemaMetadata(3);
+    final String hash = AspectStorageCodec.hash(aspect);
+    assertEquals(hash.length(), 64);
+    assertEquals(AspectStorageCodec.hash(aspect.copy()), hash);
+
+    // Independent of the format the aspect was read from
+    final AspectSpec aspectSpec = new EntitySpecBuilder().buildAspectSpec(aspect.schema());
+    final AspectStorageCodec binaryCodec = new AspectStorageCodec(AspectStorageCodec.Format.PSON_DEFLATE);
+    assertEquals(AspectStorageCodec.hash(AspectStorageCodec.decode(binaryCodec.encode(aspect), aspectSpec)), hash);
+
+    assertNotEquals(AspectStorageCodec.hash(aspect.copy().setSchemaName("other_table")), hash);
+  }
+
+  @Test(dataProvider = "formats")
+  public void testWideSchema(AspectStorageCodec.Format format) throws Exception {
+    final SchemaMetadata aspect = createSchemaMetadata(NUM_FIELDS);
+    final AspectSpec aspectSpec = new EntitySpecBuilder().buildAspectSpec(aspect.schema());
+    final AspectStorageCodec codec = new AspectStorageCodec(format);
+
+    assertEquals(AspectStorageCodec.decode(codec.encode(aspect), aspectSpec), aspect);
+  }
+
+  @Test
+  public void testDeflateShrinksWideSchema() throws Exception {
+    final SchemaMetadata aspect = createSchemaMetadata(NUM_FIELDS);
+    final int jsonLength = new AspectStorageCodec(AspectStorageCodec.Format.JSON).encode(aspect).length();
+
+    assertTrue(new AspectStorageCodec(AspectStorageCodec.Format.PSON_DEFLATE).encode(aspect).length() < jsonLength / 2);
+  }
+
+  private SchemaMetadata createSchemaMetadata(int numFields) throws Exception {
+    final AuditStamp auditStamp = new AuditStamp().setTime(123L).setActor(Urn.createFromString("urn:li:corpuser:tester"));
+    final SchemaMetadata.PlatformSchema platformSchema = new SchemaMetadata.PlatformSchema();
+    platformSchema.setKafkaSchema(new KafkaSchema().setDocumentSchema("{}"));
+
+    final SchemaFieldArray fields = new SchemaFieldArray();
+    for (int i = 0; i < numFields; i++) {
+      fields.add(new SchemaField().setFieldPath("record.nested_struct.column_" + i)
+          .setDescription("Description of column " + i + " of a wide table")
+          .setNativeDataType("varchar(255)")
+          .setNullable(true)
+          .setType(new SchemaFieldDataType().setType(SchemaFieldDataType.Type.create(new StringType()))));
+    }
+    return new SchemaMetadata().setSchemaName("wide_table")
+        .setPlatform(new DataPlatformUrn("hive"))
+        .setCreated(auditStamp)
+        .setLastModified(auditStamp)
+        .setVersion(0L)
+        .setHash("")
+        .setPlatformSchema(platformSchema)
+        .setFields(fields);
+  }
+}
@@ -0,0 +1,94 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+
+/**
+ * Tests the validation of the aspect table by {@link EbeanAspectDao} against a table created before the metadatahash
+ * column existed.
+ */
+public class EbeanAspectStorageValidationTest {
+
+  private static final AtomicInteger DATABASE_ID = new AtomicInteger();
+  private static final String URN = "urn:li:corpuser:test";
+  private static final String ASPECT_NAME = "corpUserInfo";
+
+  private EbeanServer _server;
+
+  @Nonnull
+  private static ServerConfig createTestingH2ServerConfig() {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    // Keeps the lower case names of the DDL, which the validation queries of INFORMATION_SCHEMA look for
+    dataSourceConfig.setUrl(String.format("jdbc:h2:mem:gmaValidation%d;IGNORECASE=TRUE;DATABASE_TO_UPPER=FALSE",
+        DATABASE_ID.incrementAndGet()));
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gmaValidation");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDefaultServer(false);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+
+    return serverConfig;
+  }
+
+  @BeforeMethod
+  public void setupTest() {
+    _server = EbeanServerFactory.create(createTestingH2ServerConfig());
+    _server.createSqlUpdate("ALTER TABLE metadata_aspect_v2 DROP COLUMN " + EbeanAspectV2.METADATA_HASH_COLUMN)
+        .execute();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    _server.shutdown(true, false);
+  }
+
+  @Test
+  public void testMissingHashColumnFailsReadsAndWrites() {
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(_server);
+
+    assertMissingColumn(expectThrows(IllegalStateException.class,
+        () -> aspectDao.getAspect(URN, ASPECT_NAME, 0)));
+    assertMissingColumn(expectThrows(IllegalStateException.class, () -> aspectDao.batchGet(
+        Collections.singleton(new EbeanAspectV2.PrimaryKey(URN, ASPECT_NAME, 0)))));
+    assertMissingColumn(expectThrows(IllegalStateException.class,
+        () -> aspectDao.saveLatestAspect(URN, ASPECT_NAME, null, null, null, null, null, null, "{}", "hash",
+            "urn:li:principal:tester", null, new Timestamp(123L), "{}")));
+  }
+
+  @Test
+  public void testAddedHashColumnIsPickedUp() {
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(_server);
+    expectThrows(IllegalStateException.class, () -> aspectDao.getAspect(URN, ASPECT_NAME, 0));
+
+    // As done by the AddMetadataHashColumn upgrade
+    _server.createSqlUpdate(
+        "ALTER TABLE metadata_aspect_v2 ADD COLUMN " + EbeanAspectV2.METADATA_HASH_COLUMN + " varchar(64)").execute();
+
+    assertNull(aspectDao.getAspect(URN, ASPECT_NAME, 0));
+  }
+
+  private static void assertMissingColumn(@Nonnull IllegalStateException e) {
+    assertTrue(e.getMessage().contains("AddMetadataHashColumn"), e.getMessage());
+  }
+}
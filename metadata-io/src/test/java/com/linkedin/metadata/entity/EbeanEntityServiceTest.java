@@ -3,12 +3,17 @@ package com.linkedin.metadata.entity;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.AuditStamp;
+import com.linkedin.common.BrowsePaths;
+import com.linkedin.common.Status;
+import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.JacksonDataTemplateCodec;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
 import com.linkedin.dataset.DatasetProfile;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.identity.CorpUserInfo;
@@ -16,20 +21,28 @@ import com.linkedin.metadata.utils.PegasusUtils;
 import com.linkedin.metadata.aspect.Aspect;
 import com.linkedin.metadata.aspect.CorpUserAspect;
 import com.linkedin.metadata.aspect.CorpUserAspectArray;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.aspect.DatasetAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
+import com.linkedin.metadata.entity.ebean.AspectStorageCodec;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.ebean.EbeanEntityService;
 import com.linkedin.metadata.entity.ebean.EbeanUtils;
 import com.linkedin.metadata.event.EntityEventProducer;
 import com.linkedin.metadata.key.CorpUserKey;
+import com.linkedin.metadata.key.DatasetKey;
 import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericAspectUtils;
 import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.models.registry.MergedEntityRegistry;
 import com.linkedin.metadata.query.ListUrnsResult;
+import com.linkedin.metadata.query.ScrollUrnsResult;
 import com.linkedin.metadata.run.AspectRowSummary;
+import com.linkedin.metadata.search.utils.BrowsePathUtils;
 import com.linkedin.metadata.snapshot.CorpUserSnapshot;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
 import com.linkedin.metadata.snapshot.Snapshot;
 import com.linkedin.mxe.GenericAspect;
 import com.linkedin.mxe.MetadataAuditOperation;
@@ -40,6 +53,7 @@ import io.ebean.EbeanServerFactory;
 import io.ebean.config.ServerConfig;
 import io.ebean.datasource.DataSourceConfig;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -48,12 +62,14 @@ import org.mockito.Mockito;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static com.linkedin.metadata.Constants.BROWSE_PATHS_ASPECT_NAME;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 
@@ -134,6 +150,35 @@ public class EbeanEntityServiceTest {
     verifyNoMoreInteractions(_mockProducer);
   }
 
+  @Test
+  public void testIngestEntitiesWithDefaultBrowsePaths() throws Exception {
+    Urn datasetUrn = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)");
+    Urn userUrn = Urn.createFromString("urn:li:corpuser:test");
+
+    SystemMetadata metadata1 = new SystemMetadata();
+    metadata1.setLastObserved(1625792689);
+    metadata1.setRunId("run-123");
+
+    _entityService.ingestEntities(
+        ImmutableList.of(createDatasetEntity(datasetUrn), createCorpUserEntity(userUrn, "tester@test.com")),
+        TEST_AUDIT_STAMP, ImmutableList.of(metadata1, metadata1), true);
+
+    assertEquals(_entityService.getLatestAspect(datasetUrn, BROWSE_PATHS_ASPECT_NAME),
+        BrowsePathUtils.buildBrowsePath(datasetUrn));
+    assertEquals(_entityService.getLatestAspect(datasetUrn, "datasetKey"),
+        EntityKeyUtils.convertUrnToEntityKey(datasetUrn, new DatasetKey().schema()));
+    // Users have no browse paths
+    assertEquals(_aspectDao.getLatestKeys(ImmutableSet.of(userUrn.toString()),
+        ImmutableSet.of(BROWSE_PATHS_ASPECT_NAME, "corpUserKey", "corpUserInfo")).size(), 2);
+
+    // A browse path that already exists is kept
+    BrowsePaths customBrowsePaths = new BrowsePaths().setPaths(new StringArray("/custom/path"));
+    _entityService.ingestAspect(datasetUrn, BROWSE_PATHS_ASPECT_NAME, customBrowsePaths, TEST_AUDIT_STAMP, metadata1);
+    _entityService.ingestEntities(ImmutableList.of(createDatasetEntity(datasetUrn)), TEST_AUDIT_STAMP,
+        ImmutableList.of(metadata1), true);
+    assertEquals(_entityService.getLatestAspect(datasetUrn, BROWSE_PATHS_ASPECT_NAME), customBrowsePaths);
+  }
+
   @Test
   public void testAddKey() throws Exception {
     // Test Writing a CorpUser Key
@@ -311,6 +356,42 @@ public class EbeanEntityServiceTest {
     verifyNoMoreInteractions(_mockProducer);
   }
 
+  @Test
+  public void testIngestSameAspectWithoutHash() throws Exception {
+    Urn entityUrn = Urn.createFromString("urn:li:corpuser:test");
+    CorpUserInfo writeAspect1 = createCorpUserInfo("email@test.com");
+    String aspectName = PegasusUtils.getAspectNameFromSchema(writeAspect1.schema());
+
+    SystemMetadata metadata1 = new SystemMetadata();
+    metadata1.setLastObserved(1625792689);
+    metadata1.setRunId("run-123");
+
+    _entityService.ingestAspect(entityUrn, aspectName, writeAspect1, TEST_AUDIT_STAMP, metadata1);
+    EbeanAspectV2 readEbean1 = _aspectDao.getAspect(entityUrn.toString(), aspectName, 0);
+    assertEquals(readEbean1.getMetadataHash(), AspectStorageCodec.hash(writeAspect1));
+
+    // Simulate a row written before hashes were stored
+    readEbean1.setMetadataHash(null);
+    _server.update(readEbean1);
+
+    SystemMetadata metadata2 = new SystemMetadata();
+    metadata2.setLastObserved(1635792689);
+    metadata2.setRunId("run-456");
+
+    _entityService.ingestAspect(entityUrn, aspectName, createCorpUserInfo("email@test.com"), TEST_AUDIT_STAMP,
+        metadata2);
+    EbeanAspectV2 readEbean2 = _aspectDao.getAspect(entityUrn.toString(), aspectName, 0);
+
+    assertEquals(_aspectDao.getMaxVersion(entityUrn.toString(), aspectName), 0);
+    assertEquals(readEbean2.getMetadataHash(), AspectStorageCodec.hash(writeAspect1));
+    assertEquals(EbeanUtils.parseSystemMetadata(readEbean2.getSystemMetadata()).getRunId(), "run-123");
+    assertEquals(EbeanUtils.parseSystemMetadata(readEbean2.getSystemMetadata()).getLastObserved(), 1635792689L);
+
+    verify(_mockProducer, times(1)).produceMetadataAuditEvent(Mockito.eq(entityUrn), Mockito.eq(null), Mockito.any(),
+        Mockito.any(), Mockito.any(), Mockito.eq(MetadataAuditOperation.UPDATE));
+    verifyNoMoreInteractions(_mockProducer);
+  }
+
   @Test
   public void testIngestListLatestAspects() throws Exception {
     Urn entityUrn1 = Urn.createFromString("urn:li:corpuser:test1");
@@ -371,6 +452,64 @@ public class EbeanEntityServiceTest {
     _entityService.ingestProposal(gmce, TEST_AUDIT_STAMP);
   }
 
+  @Test
+  public void testBatchIngestProposals() throws Exception {
+    Urn entityUrn1 = Urn.createFromString("urn:li:corpuser:test1");
+    Urn entityUrn2 = Urn.createFromString("urn:li:corpuser:test2");
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+
+    List<MetadataChangeProposal> proposals = new ArrayList<>();
+    proposals.add(createCorpUserInfoProposal(entityUrn1, aspectName, "email1@test.com"));
+    proposals.add(createCorpUserInfoProposal(entityUrn2, aspectName, "email2@test.com"));
+    proposals.add(createCorpUserInfoProposal(entityUrn1, aspectName, "email3@test.com"));
+    proposals.add(createCorpUserInfoProposal(entityUrn2, "notAnAspect", "email4@test.com"));
+
+    List<IngestProposalResult> results = _entityService.batchIngestProposals(proposals, TEST_AUDIT_STAMP);
+
+    assertEquals(results.size(), 4);
+    assertTrue(results.get(0).isSuccess());
+    assertEquals(results.get(0).getUrn(), entityUrn1);
+    assertTrue(results.get(1).isSuccess());
+    assertEquals(results.get(1).getUrn(), entityUrn2);
+    assertTrue(results.get(2).isSuccess());
+    assertFalse(results.get(3).isSuccess());
+
+    // Proposals of the same urn are applied in order
+    assertTrue(DataTemplateUtil.areEqual(_entityService.getLatestAspect(entityUrn1, aspectName),
+        createCorpUserInfo("email3@test.com")));
+    assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn1, aspectName, 1),
+        createCorpUserInfo("email1@test.com")));
+    assertTrue(DataTemplateUtil.areEqual(_entityService.getLatestAspect(entityUrn2, aspectName),
+        createCorpUserInfo("email2@test.com")));
+
+    verify(_mockProducer, times(3)).produceMetadataChangeLog(Mockito.any(), Mockito.any(), Mockito.any());
+    verifyNoMoreInteractions(_mockProducer);
+  }
+
+  @Test
+  public void testBatchIngestProposalsOrderAcrossHashBuckets() throws Exception {
+    Urn entityUrn1 = Urn.createFromString("urn:li:corpuser:test1");
+    Urn entityUrn2 = Urn.createFromString("urn:li:corpuser:test2");
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserInfo().schema());
+
+    // Indices 2 and 17 of the same urn, which a hash map of 16 buckets iterates in reverse order
+    List<MetadataChangeProposal> proposals = new ArrayList<>();
+    for (int i = 0; i < 18; i++) {
+      Urn entityUrn = i == 2 || i == 17 ? entityUrn1 : entityUrn2;
+      proposals.add(createCorpUserInfoProposal(entityUrn, aspectName, "email" + i + "@test.com"));
+    }
+
+    List<IngestProposalResult> results = _entityService.batchIngestProposals(proposals, TEST_AUDIT_STAMP);
+
+    assertTrue(results.stream().allMatch(IngestProposalResult::isSuccess));
+    assertTrue(DataTemplateUtil.areEqual(_entityService.getLatestAspect(entityUrn1, aspectName),
+        createCorpUserInfo("email17@test.com")));
+    assertTrue(DataTemplateUtil.areEqual(_entityService.getAspect(entityUrn1, aspectName, 1),
+        createCorpUserInfo("email2@test.com")));
+    assertTrue(DataTemplateUtil.areEqual(_entityService.getLatestAspect(entityUrn2, aspectName),
+        createCorpUserInfo("email16@test.com")));
+  }
+
   @Test
   public void testUpdateGetAspect() throws Exception {
     // Test Writing a CorpUser Entity
@@ -638,6 +777,47 @@ public class EbeanEntityServiceTest {
     assertEquals(entityUrn3.toString(), batch2.getEntities().get(0).toString());
   }
 
+  @Test
+  public void testIngestScrollUrns() throws Exception {
+    Urn entityUrn1 = Urn.createFromString("urn:li:corpuser:test1");
+    Urn entityUrn2 = Urn.createFromString("urn:li:corpuser:test2");
+    Urn entityUrn3 = Urn.createFromString("urn:li:corpuser:test3");
+
+    SystemMetadata metadata1 = new SystemMetadata();
+    metadata1.setLastObserved(1625792689);
+    metadata1.setRunId("run-123");
+
+    String aspectName = PegasusUtils.getAspectNameFromSchema(new CorpUserKey().schema());
+
+    // Ingest in reverse order, scrolling is in urn order
+    _entityService.ingestAspect(entityUrn3, aspectName, createCorpUserKey(entityUrn3), TEST_AUDIT_STAMP, metadata1);
+    _entityService.ingestAspect(entityUrn2, aspectName, createCorpUserKey(entityUrn2), TEST_AUDIT_STAMP, metadata1);
+    _entityService.ingestAspect(entityUrn1, aspectName, createCorpUserKey(entityUrn1), TEST_AUDIT_STAMP, metadata1);
+
+    // Scroll aspects urns
+    ScrollUrnsResult batch1 = _entityService.scrollUrns(entityUrn1.getEntityType(), null, 2, false);
+
+    assertFalse(batch1.hasTotal());
+    assertEquals(batch1.getEntities(), new UrnArray(Arrays.asList(entityUrn1, entityUrn2)));
+    assertTrue(batch1.hasContinuation());
+
+    ScrollUrnsResult batch2 = _entityService.scrollUrns(entityUrn1.getEntityType(), batch1.getContinuation(), 2, true);
+
+    assertEquals(3, (int) batch2.getTotal());
+    assertEquals(batch2.getEntities(), new UrnArray(Collections.singletonList(entityUrn3)));
+    assertFalse(batch2.hasContinuation());
+
+    // A page that ends exactly on the last urn has no continuation either
+    assertFalse(_entityService.scrollUrns(entityUrn1.getEntityType(), null, 3, false).hasContinuation());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> _entityService.scrollUrns(entityUrn1.getEntityType(), "not a token", 2, false));
+    assertThrows(IllegalArgumentException.class,
+        () -> _entityService.scrollUrns(entityUrn1.getEntityType(), null, 0, false));
+    assertThrows(IllegalArgumentException.class,
+        () -> _entityService.scrollUrns(entityUrn1.getEntityType(), null, -1, false));
+  }
+
   @Nonnull
   private com.linkedin.entity.Entity createCorpUserEntity(Urn entityUrn, String email) throws Exception {
     CorpuserUrn corpuserUrn = CorpuserUrn.createFromUrn(entityUrn);
@@ -653,6 +833,18 @@ public class EbeanEntityServiceTest {
     return entity;
   }
 
+  private com.linkedin.entity.Entity createDatasetEntity(Urn entityUrn) throws Exception {
+    DatasetSnapshot datasetSnapshot = new DatasetSnapshot();
+    datasetSnapshot.setUrn(DatasetUrn.createFromUrn(entityUrn));
+    datasetSnapshot.setAspects(new DatasetAspectArray(
+        Collections.singletonList(DatasetAspect.create(new Status().setRemoved(false)))));
+    Snapshot snapshot = new Snapshot();
+    snapshot.setDatasetSnapshot(datasetSnapshot);
+    com.linkedin.entity.Entity entity = new com.linkedin.entity.Entity();
+    entity.setValue(snapshot);
+    return entity;
+  }
+
   @Nonnull
   private RecordTemplate createCorpUserKey(Urn urn) throws Exception {
     return EntityKeyUtils.convertUrnToEntityKey(urn, new CorpUserKey().schema());
@@ -665,4 +857,16 @@ public class EbeanEntityServiceTest {
     corpUserInfo.setActive(true);
     return corpUserInfo;
   }
+
+  @Nonnull
+  private MetadataChangeProposal createCorpUserInfoProposal(Urn entityUrn, String aspectName, String email)
+      throws Exception {
+    MetadataChangeProposal proposal = new MetadataChangeProposal();
+    proposal.setEntityUrn(entityUrn);
+    proposal.setChangeType(ChangeType.UPSERT);
+    proposal.setEntityType("corpuser");
+    proposal.setAspectName(aspectName);
+    proposal.setAspect(GenericAspectUtils.serializeAspect(createCorpUserInfo(email)));
+    return proposal;
+  }
 }
@@ -0,0 +1,246 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.identity.CorpUserInfo;
+import com.linkedin.metadata.dao.exception.ModelConversionException;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanEntityService;
+import com.linkedin.metadata.entity.ebean.EbeanOutboxEvent;
+import com.linkedin.metadata.entity.ebean.EbeanOutboxEventProducer;
+import com.linkedin.metadata.entity.ebean.EbeanOutboxRelay;
+import com.linkedin.metadata.event.EntityEventProducer;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.GenericAspectUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.MetadataChangeProposal;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests writing events to the outbox with {@link EbeanOutboxEventProducer}, and relaying them with
+ * {@link EbeanOutboxRelay}.
+ */
+public class EbeanOutboxRelayTest {
+
+  private static final int BATCH_SIZE = 2;
+  private static final long LEASE_MILLIS = 60000;
+  private static final String ASPECT_NAME = "corpUserInfo";
+
+  private final EntityRegistry _entityRegistry = new TestEntityRegistry();
+  private final AuditStamp _auditStamp = createTestAuditStamp();
+  private EbeanServer _server;
+  private EbeanAspectDao _aspectDao;
+  private EbeanEntityService _entityService;
+  private EntityEventProducer _kafkaProducer;
+  private EbeanOutboxRelay _relay;
+
+  @Nonnull
+  private static ServerConfig createTestingH2ServerConfig() {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl("jdbc:h2:mem:;IGNORECASE=TRUE;");
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gma");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+
+    return serverConfig;
+  }
+
+  private static AuditStamp createTestAuditStamp() {
+    try {
+      return new AuditStamp().setTime(123L).setActor(Urn.createFromString("urn:li:principal:tester"));
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to create urn");
+    }
+  }
+
+  @BeforeMethod
+  public void setupTest() {
+    _server = EbeanServerFactory.create(createTestingH2ServerConfig());
+    _aspectDao = new EbeanAspectDao(_server);
+    _aspectDao.setConnectionValidated(true);
+    _entityService = new EbeanEntityService(_aspectDao, new EbeanOutboxEventProducer(_aspectDao), _entityRegistry);
+    _kafkaProducer = createKafkaProducer();
+    _relay = createRelay(_aspectDao, _kafkaProducer);
+  }
+
+  @Test
+  public void testIngestWritesChangeLogToOutbox() throws Exception {
+    final Urn urn = Urn.createFromString("urn:li:corpuser:test1");
+    _entityService.ingestProposal(createProposal(urn, "email1@test.com"), _auditStamp);
+
+    final List<EbeanOutboxEvent> events = _aspectDao.getOutboxEvents(10);
+    assertEquals(events.size(), 1);
+    assertEquals(events.get(0).getUrn(), urn.toString());
+    assertEquals(events.get(0).getEventType(), EbeanOutboxEvent.EventType.MCL);
+
+    // Unchanged aspects produce no change log
+    _entityService.ingestProposal(createProposal(urn, "email1@test.com"), _auditStamp);
+    assertEquals(_aspectDao.getOutboxEvents(10).size(), 1);
+
+    assertEquals(_relay.relayBatch(), 1);
+    final ArgumentCaptor<MetadataChangeLog> captor = ArgumentCaptor.forClass(MetadataChangeLog.class);
+    verify(_kafkaProducer, times(1)).produceMetadataChangeLog(eq(urn), any(AspectSpec.class), captor.capture());
+    assertEquals(captor.getValue().getAspectName(), ASPECT_NAME);
+    assertEquals(GenericAspectUtils.deserializeAspect(captor.getValue().getAspect().getValue(), "application/json",
+        CorpUserInfo.class), createCorpUserInfo("email1@test.com"));
+    assertTrue(_aspectDao.getOutboxEvents(10).isEmpty());
+  }
+
+  @Test
+  public void testRolledBackWriteLeavesNoEvent() throws Exception {
+    final Urn urn = Urn.createFromString("urn:li:corpuser:test1");
+    final MetadataChangeLog metadataChangeLog = new MetadataChangeLog(createProposal(urn, "email1@test.com").data());
+    final EbeanOutboxEventProducer outboxProducer = new EbeanOutboxEventProducer(_aspectDao);
+
+    assertThrows(IllegalStateException.class, () -> _aspectDao.runInTransactionWithRetry(() -> {
+      outboxProducer.produceMetadataChangeLog(urn, mock(AspectSpec.class), metadataChangeLog);
+      throw new IllegalStateException("Failed to write the aspect");
+    }, 0));
+
+    assertTrue(_aspectDao.getOutboxEvents(10).isEmpty());
+  }
+
+  @Test
+  public void testRelaysInOrderAndKeepsUnacknowledgedEvents() throws Exception {
+    final Urn urn1 = Urn.createFromString("urn:li:corpuser:test1");
+    final Urn urn2 = Urn.createFromString("urn:li:corpuser:test2");
+    _entityService.ingestProposal(createProposal(urn1, "email1@test.com"), _auditStamp);
+    _entityService.ingestProposal(createProposal(urn2, "email2@test.com"), _auditStamp);
+    _entityService.ingestProposal(createProposal(urn1, "email3@test.com"), _auditStamp);
+
+    // The events from the first one that is not acknowledged stay in the outbox
+    final CompletableFuture<Void> failure = new CompletableFuture<>();
+    failure.completeExceptionally(new IllegalStateException("Broker unavailable"));
+    when(_kafkaProducer.produceMetadataChangeLog(eq(urn2), any(), any())).then(invocation -> failure);
+    assertThrows(IllegalStateException.class, () -> _relay.relayBatch());
+    assertEquals(_aspectDao.getOutboxEvents(10).size(), 2);
+
+    when(_kafkaProducer.produceMetadataChangeLog(eq(urn2), any(), any()))
+        .then(invocation -> CompletableFuture.completedFuture(null));
+    assertEquals(_relay.relayBatch(), BATCH_SIZE);
+    assertEquals(_relay.relayBatch(), 0);
+    assertTrue(_aspectDao.getOutboxEvents(10).isEmpty());
+
+    // The failed event was sent again, and all events in the order they were written
+    final ArgumentCaptor<Urn> captor = ArgumentCaptor.forClass(Urn.class);
+    verify(_kafkaProducer, times(4)).produceMetadataChangeLog(captor.capture(), any(AspectSpec.class),
+        any(MetadataChangeLog.class));
+    assertEquals(captor.getAllValues(), Arrays.asList(urn1, urn2, urn2, urn1));
+    verify(_kafkaProducer, never()).produceMetadataAuditEvent(any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void testOnlyLeaseHolderRelaysEvents() throws Exception {
+    final Urn urn1 = Urn.createFromString("urn:li:corpuser:test1");
+    final Urn urn2 = Urn.createFromString("urn:li:corpuser:test2");
+    final Urn urn3 = Urn.createFromString("urn:li:corpuser:test3");
+    _entityService.ingestProposal(createProposal(urn1, "email1@test.com"), _auditStamp);
+    _entityService.ingestProposal(createProposal(urn2, "email2@test.com"), _auditStamp);
+    _entityService.ingestProposal(createProposal(urn3, "email3@test.com"), _auditStamp);
+
+    // A relay of another instance, polling the same outbox
+    final EbeanAspectDao otherAspectDao = new EbeanAspectDao(_server);
+    otherAspectDao.setConnectionValidated(true);
+    final EntityEventProducer otherKafkaProducer = createKafkaProducer();
+    final EbeanOutboxRelay otherRelay = createRelay(otherAspectDao, otherKafkaProducer);
+
+    assertEquals(_relay.relayBatch(), BATCH_SIZE);
+    assertEquals(otherRelay.relayBatch(), 0);
+    assertEquals(_relay.relayBatch(), 1);
+    assertEquals(otherRelay.relayBatch(), 0);
+    assertTrue(_aspectDao.getOutboxEvents(10).isEmpty());
+
+    // Each event was sent once, by the relay holding the lease
+    final ArgumentCaptor<Urn> captor = ArgumentCaptor.forClass(Urn.class);
+    verify(_kafkaProducer, times(3)).produceMetadataChangeLog(captor.capture(), any(AspectSpec.class),
+        any(MetadataChangeLog.class));
+    assertEquals(captor.getAllValues(), Arrays.asList(urn1, urn2, urn3));
+    verify(otherKafkaProducer, never()).produceMetadataChangeLog(any(), any(), any());
+
+    // The other relay takes over once the lease is released
+    _relay.close();
+    _entityService.ingestProposal(createProposal(urn1, "email4@test.com"), _auditStamp);
+    assertEquals(otherRelay.relayBatch(), 1);
+    assertEquals(_relay.relayBatch(), 0);
+    verify(otherKafkaProducer, times(1)).produceMetadataChangeLog(eq(urn1), any(AspectSpec.class),
+        any(MetadataChangeLog.class));
+    verify(_kafkaProducer, times(3)).produceMetadataChangeLog(any(), any(), any());
+  }
+
+  @Test
+  public void testDropsEventsThatFailToSend() throws Exception {
+    final Urn urn1 = Urn.createFromString("urn:li:corpuser:test1");
+    final Urn urn2 = Urn.createFromString("urn:li:corpuser:test2");
+    _entityService.ingestProposal(createProposal(urn1, "email1@test.com"), _auditStamp);
+    _entityService.ingestProposal(createProposal(urn2, "email2@test.com"), _auditStamp);
+
+    // Thrown by the producer rather than reported through the acknowledgement
+    when(_kafkaProducer.produceMetadataChangeLog(eq(urn1), any(), any())).thenThrow(
+        new ModelConversionException("Failed to convert Pegasus MCL to Avro", new IOException()));
+
+    assertEquals(_relay.relayBatch(), BATCH_SIZE);
+    assertTrue(_aspectDao.getOutboxEvents(10).isEmpty());
+    verify(_kafkaProducer, times(1)).produceMetadataChangeLog(eq(urn2), any(AspectSpec.class),
+        any(MetadataChangeLog.class));
+  }
+
+  @Nonnull
+  private static EntityEventProducer createKafkaProducer() {
+    final EntityEventProducer kafkaProducer = mock(EntityEventProducer.class);
+    when(kafkaProducer.produceMetadataChangeLog(any(), any(), any()))
+        .then(invocation -> CompletableFuture.completedFuture(null));
+    return kafkaProducer;
+  }
+
+  @Nonnull
+  private EbeanOutboxRelay createRelay(@Nonnull EbeanAspectDao aspectDao, @Nonnull EntityEventProducer kafkaProducer) {
+    return new EbeanOutboxRelay(aspectDao, kafkaProducer, _entityRegistry, BATCH_SIZE, 100, LEASE_MILLIS);
+  }
+
+  @Nonnull
+  private static CorpUserInfo createCorpUserInfo(@Nonnull String email) {
+    return new CorpUserInfo().setActive(true).setEmail(email);
+  }
+
+  @Nonnull
+  private static MetadataChangeProposal createProposal(@Nonnull Urn urn, @Nonnull String email) {
+    final MetadataChangeProposal proposal = new MetadataChangeProposal();
+    proposal.setEntityUrn(urn);
+    proposal.setChangeType(ChangeType.UPSERT);
+    proposal.setEntityType("corpuser");
+    proposal.setAspectName(ASPECT_NAME);
+    proposal.setAspect(GenericAspectUtils.serializeAspect(createCorpUserInfo(email)));
+    return proposal;
+  }
+}
@@ -0,0 +1,182 @@
+package com.linkedin.metadata.entity;
+
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.BrowsePaths;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.entity.Entity;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.aspect.DatasetAspectArray;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.EbeanEntityService;
+import com.linkedin.metadata.event.EntityEventProducer;
+import com.linkedin.metadata.models.registry.ConfigEntityRegistry;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.models.registry.MergedEntityRegistry;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.mxe.SystemMetadata;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.BROWSE_PATHS_ASPECT_NAME;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests the routing of {@link EbeanAspectDao} queries between a primary and a read replica, using two H2 databases that
+ * are not replicated, so that the database a query ran on can be told from its result.
+ */
+public class EbeanReadReplicaTest {
+
+  private static final AtomicInteger DATABASE_ID = new AtomicInteger();
+  private static final String ASPECT_NAME = "corpUserInfo";
+  private static final String URN1 = "urn:li:corpuser:test1";
+  private static final String URN2 = "urn:li:corpuser:test2";
+  private static final EntityRegistry ENTITY_REGISTRY = new MergedEntityRegistry(new TestEntityRegistry(),
+      new ConfigEntityRegistry(Snapshot.class.getClassLoader().getResourceAsStream("entity-registry.yml")));
+
+  private EbeanServer _primary;
+  private EbeanServer _replica;
+  private EbeanAspectDao _aspectDao;
+
+  @Nonnull
+  private static ServerConfig createTestingH2ServerConfig(@Nonnull String name, boolean defaultServer) {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl(
+        String.format("jdbc:h2:mem:%s%d;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1", name, DATABASE_ID.incrementAndGet()));
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName(name);
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDefaultServer(defaultServer);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+
+    return serverConfig;
+  }
+
+  @BeforeMethod
+  public void setupTest() {
+    _primary = EbeanServerFactory.create(createTestingH2ServerConfig("gma", true));
+    _replica = EbeanServerFactory.create(createTestingH2ServerConfig("gmaReplica", false));
+    _aspectDao = createAspectDao(EbeanAspectDao.DEFAULT_READ_STALENESS_MILLIS);
+
+    // Only the replica has URN1, as if it had been written by another node
+    _replica.insert(createAspect(URN1));
+  }
+
+  @Test
+  public void testReadOnlyQueriesUseReplica() {
+    final EbeanAspectV2.PrimaryKey key = new EbeanAspectV2.PrimaryKey(URN1, ASPECT_NAME, 0);
+
+    assertEquals(_aspectDao.batchGet(Collections.singleton(key)).keySet(), Collections.singleton(key));
+    assertEquals(_aspectDao.listUrns(ASPECT_NAME, 0, 10).getValues(), Collections.singletonList(URN1));
+    assertEquals(_aspectDao.listLatestAspectMetadata("corpuser", ASPECT_NAME, 0, 10).getValues().size(), 1);
+
+    // Lookups that back writes stay on the primary
+    assertNull(_aspectDao.getAspect(key));
+    assertTrue(_aspectDao.getLatestKeys(Collections.singleton(URN1), Collections.singleton(ASPECT_NAME)).isEmpty());
+    assertTrue(_aspectDao.batchGet(Collections.singleton(key), true).isEmpty());
+  }
+
+  @Test
+  public void testIngestEntitiesKeepsBrowsePathsMissingFromReplica() throws Exception {
+    final Urn datasetUrn = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)");
+    final SystemMetadata systemMetadata = new SystemMetadata().setRunId("run-123").setLastObserved(123L);
+    final BrowsePaths customBrowsePaths = new BrowsePaths().setPaths(new StringArray("/custom/path"));
+    final AuditStamp auditStamp =
+        new AuditStamp().setTime(123L).setActor(Urn.createFromString("urn:li:principal:tester"));
+
+    // Another node wrote browse paths to the primary, which have not reached the replica yet
+    final EbeanAspectDao otherNodeDao = new EbeanAspectDao(_primary);
+    otherNodeDao.setConnectionValidated(true);
+    final EbeanEntityService otherNode =
+        new EbeanEntityService(otherNodeDao, mock(EntityEventProducer.class), ENTITY_REGISTRY);
+    otherNode.ingestAspect(datasetUrn, BROWSE_PATHS_ASPECT_NAME, customBrowsePaths, auditStamp, systemMetadata);
+
+    final EbeanEntityService thisNode =
+        new EbeanEntityService(_aspectDao, mock(EntityEventProducer.class), ENTITY_REGISTRY);
+    thisNode.ingestEntities(Collections.singletonList(createDatasetEntity(datasetUrn)), auditStamp,
+        Collections.singletonList(systemMetadata), true);
+
+    assertEquals(otherNode.getLatestAspect(datasetUrn, BROWSE_PATHS_ASPECT_NAME), customBrowsePaths);
+  }
+
+  @Test
+  public void testRecentWritesAreReadFromPrimary() {
+    saveLatestAspect(_aspectDao, URN2);
+    final EbeanAspectV2.PrimaryKey key1 = new EbeanAspectV2.PrimaryKey(URN1, ASPECT_NAME, 0);
+    final EbeanAspectV2.PrimaryKey key2 = new EbeanAspectV2.PrimaryKey(URN2, ASPECT_NAME, 0);
+
+    // A query on a recently written urn reads all of its keys from the primary
+    assertEquals(_aspectDao.batchGet(Collections.singleton(key2)).keySet(), Collections.singleton(key2));
+    assertEquals(_aspectDao.batchGet(ImmutableSet.of(key1, key2)).keySet(), Collections.singleton(key2));
+    // Scans are not tied to urns and always read from the replica
+    assertEquals(_aspectDao.listUrns(ASPECT_NAME, 0, 10).getValues(), Collections.singletonList(URN1));
+
+    // Once the staleness window is over, reads go back to the replica
+    final EbeanAspectDao noStalenessDao = createAspectDao(0);
+    saveLatestAspect(noStalenessDao, URN2);
+    assertTrue(noStalenessDao.batchGet(Collections.singleton(key2)).isEmpty());
+  }
+
+  @Test
+  public void testTransactionsReadFromPrimary() {
+    final EbeanAspectV2.PrimaryKey key = new EbeanAspectV2.PrimaryKey(URN1, ASPECT_NAME, 0);
+
+    assertTrue(_aspectDao.runInTransactionWithRetry(() -> _aspectDao.batchGet(Collections.singleton(key)), 0)
+        .isEmpty());
+    assertEquals(_aspectDao.batchGet(Collections.singleton(key)).size(), 1);
+  }
+
+  @Nonnull
+  private EbeanAspectDao createAspectDao(final long readStalenessMillis) {
+    final EbeanAspectDao aspectDao = new EbeanAspectDao(_primary, _replica, readStalenessMillis);
+    aspectDao.setConnectionValidated(true);
+    return aspectDao;
+  }
+
+  private static void saveLatestAspect(@Nonnull EbeanAspectDao aspectDao, @Nonnull String urn) {
+    aspectDao.saveLatestAspect(urn, ASPECT_NAME, null, null, null, null, null, null, "{}", "hash",
+        "urn:li:principal:tester", null, new Timestamp(123L), "{}");
+  }
+
+  @Nonnull
+  private static Entity createDatasetEntity(@Nonnull Urn urn) throws Exception {
+    final DatasetSnapshot datasetSnapshot = new DatasetSnapshot()
+        .setUrn(DatasetUrn.createFromUrn(urn))
+        .setAspects(new DatasetAspectArray(
+            Collections.singletonList(DatasetAspect.create(new Status().setRemoved(false)))));
+    return new Entity().setValue(Snapshot.create(datasetSnapshot));
+  }
+
+  @Nonnull
+  private static EbeanAspectV2 createAspect(@Nonnull String urn) {
+    final EbeanAspectV2 aspect = new EbeanAspectV2();
+    aspect.setKey(new EbeanAspectV2.PrimaryKey(urn, ASPECT_NAME, 0));
+    aspect.setMetadata("{}");
+    aspect.setSystemMetadata("{}");
+    aspect.setCreatedOn(new Timestamp(123L));
+    aspect.setCreatedBy("urn:li:principal:tester");
+    return aspect;
+  }
+}
@@ -0,0 +1,93 @@
+package com.linkedin.metadata.entity;
+
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Checks that paging through urns with {@link EbeanAspectDao#streamUrns}, which starts from the last urn of the
+ * previous page, returns the same pages as {@link EbeanAspectDao#listUrns}, which skips the rows of all previous pages.
+ * The latency of both on a large dataset is measured by EbeanUrnPaginationBenchmark.
+ */
+public class EbeanUrnPaginationTest {
+
+  private static final int NUM_ROWS = 1000;
+  private static final int PAGE_SIZE = 100;
+  private static final String ASPECT_NAME = "corpUserKey";
+  private static final String URN_PREFIX = "urn:li:corpuser:user";
+
+  private EbeanServer _server;
+  private EbeanAspectDao _aspectDao;
+
+  @Nonnull
+  private static ServerConfig createTestingH2ServerConfig() {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl("jdbc:h2:mem:;IGNORECASE=TRUE;");
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gmaPagination");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDefaultServer(false);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+
+    return serverConfig;
+  }
+
+  @BeforeClass
+  public void setupTest() {
+    _server = EbeanServerFactory.create(createTestingH2ServerConfig());
+    _aspectDao = new EbeanAspectDao(_server);
+    _aspectDao.setConnectionValidated(true);
+
+    _server.createSqlUpdate("INSERT INTO metadata_aspect_v2 (urn, aspect, version, metadata, createdOn, createdBy) "
+        + "SELECT CONCAT('" + URN_PREFIX + "', LPAD(CAST(X AS VARCHAR), 7, '0')), :aspect, 0, '{}', "
+        + "CURRENT_TIMESTAMP, 'urn:li:principal:tester' FROM SYSTEM_RANGE(1, :rows)")
+        .setParameter("aspect", ASPECT_NAME)
+        .setParameter("rows", NUM_ROWS)
+        .execute();
+  }
+
+  @AfterClass
+  public void tearDown() {
+    _server.shutdown(true, false);
+  }
+
+  @Test
+  public void testKeysetPagesMatchOffsetPages() {
+    String lastUrn = null;
+    for (int start = 0; start < NUM_ROWS; start += PAGE_SIZE) {
+      final List<String> offsetPage = _aspectDao.listUrns(ASPECT_NAME, start, PAGE_SIZE).getValues();
+      final List<String> keysetPage = new ArrayList<>(PAGE_SIZE);
+      _aspectDao.streamUrns(ASPECT_NAME, lastUrn, PAGE_SIZE, keysetPage::add);
+
+      assertEquals(keysetPage.size(), PAGE_SIZE);
+      assertEquals(keysetPage.get(0), urn(start + 1));
+      assertEquals(keysetPage, offsetPage);
+      lastUrn = keysetPage.get(keysetPage.size() - 1);
+    }
+
+    final List<String> pastLastPage = new ArrayList<>();
+    _aspectDao.streamUrns(ASPECT_NAME, lastUrn, PAGE_SIZE, pastLastPage::add);
+    assertEquals(pastLastPage.size(), 0);
+  }
+
+  @Nonnull
+  private static String urn(int id) {
+    return String.format("%s%07d", URN_PREFIX, id);
+  }
+}
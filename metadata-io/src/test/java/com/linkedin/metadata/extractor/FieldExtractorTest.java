@@ -1,23 +1,28 @@
 package com.linkedin.metadata.extractor;
 
 import com.datahub.test.TestEntityInfo;
+import com.datahub.test.TestEntitySnapshot;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.TestEntitySpecBuilder;
 import com.linkedin.metadata.TestEntityUtil;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.RelationshipFieldSpec;
 import com.linkedin.metadata.models.SearchableFieldSpec;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableList;
+import org.testcontainers.shaded.com.google.common.collect.ImmutableSet;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
 
 
 public class FieldExtractorTest {
+
   @Test
   public void testExtractor() {
     EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
@@ -45,4 +50,67 @@ public class FieldExtractorTest {
     assertEquals(result.get(nameToSpec.get("nestedArrayArrayField")), ImmutableList.of("testNestedArray1", "testNestedArray2"));
     assertEquals(result.get(nameToSpec.get("customProperties")), ImmutableList.of("key1=value1", "key2=value2"));
   }
+
+  @Test
+  public void testExtractorWithCompiledPlan() {
+    EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
+    AspectSpec testEntityInfoSpec = testEntitySpec.getAspectSpec("testEntityInfo");
+    Urn urn = TestEntityUtil.getTestEntityUrn();
+    TestEntityInfo testEntityInfo = TestEntityUtil.getTestEntityInfo(urn);
+
+    assertEquals(FieldExtractor.extractFields(testEntityInfo, testEntityInfoSpec, SearchableFieldSpec.class),
+        FieldExtractor.extractFields(testEntityInfo, testEntityInfoSpec.getSearchableFieldSpecs()));
+
+    Map<String, RelationshipFieldSpec> nameToSpec = testEntityInfoSpec.getRelationshipFieldSpecs()
+        .stream()
+        .collect(Collectors.toMap(RelationshipFieldSpec::getRelationshipName, Function.identity()));
+    Map<RelationshipFieldSpec, List<Object>> result =
+        FieldExtractor.extractFields(testEntityInfo, testEntityInfoSpec, RelationshipFieldSpec.class);
+    assertEquals(result.keySet(), new HashSet<>(testEntityInfoSpec.getRelationshipFieldSpecs()));
+    assertEquals(result.get(nameToSpec.get("foreignKey")), ImmutableList.of());
+    assertEquals(result.get(nameToSpec.get("nestedForeignKey")), ImmutableList.of(urn));
+  }
+
+  @Test
+  public void testExtractFieldsFromSnapshot() {
+    EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
+    Urn urn = TestEntityUtil.getTestEntityUrn();
+    TestEntitySnapshot snapshot = TestEntityUtil.getSnapshot();
+
+    // The fields of the key, info and browse paths aspects of the snapshot
+    Map<String, List<Object>> searchFields =
+        FieldExtractor.extractFieldsFromSnapshot(snapshot, testEntitySpec, SearchableFieldSpec.class)
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().getSearchableAnnotation().getFieldName(),
+                Map.Entry::getValue));
+    assertEquals(searchFields.keySet(),
+        ImmutableSet.of("keyPart1", "keyPart3", "textFieldOverride", "textArrayField", "foreignKey",
+            "nestedIntegerField", "nestedForeignKey", "nestedArrayStringField", "nestedArrayArrayField",
+            "customProperties", "browsePaths"));
+    assertEquals(searchFields.get("keyPart1"), ImmutableList.of("key"));
+    assertEquals(searchFields.get("keyPart3"), ImmutableList.of("VALUE_1"));
+    assertEquals(searchFields.get("textFieldOverride"), ImmutableList.of("test"));
+    assertEquals(searchFields.get("textArrayField"), ImmutableList.of("testArray1", "testArray2"));
+    assertEquals(searchFields.get("foreignKey"), ImmutableList.of());
+    assertEquals(searchFields.get("nestedIntegerField"), ImmutableList.of(1));
+    assertEquals(searchFields.get("nestedForeignKey"), ImmutableList.of(urn));
+    assertEquals(searchFields.get("nestedArrayStringField"), ImmutableList.of("nestedArray1", "nestedArray2"));
+    assertEquals(searchFields.get("nestedArrayArrayField"), ImmutableList.of("testNestedArray1", "testNestedArray2"));
+    assertEquals(searchFields.get("customProperties"), ImmutableList.of("key1=value1", "key2=value2"));
+    assertEquals(searchFields.get("browsePaths"), ImmutableList.of("/a/b/c", "d/e/f"));
+
+    Map<String, List<Object>> relationships =
+        FieldExtractor.extractFieldsFromSnapshot(snapshot, testEntitySpec, RelationshipFieldSpec.class)
+            .entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().getRelationshipName(), Map.Entry::getValue));
+    assertEquals(relationships.keySet(),
+        ImmutableSet.of("keyForeignKey", "foreignKey", "foreignKeyArray", "nestedForeignKey", "nestedArrayForeignKey"));
+    assertEquals(relationships.get("keyForeignKey"), ImmutableList.of(urn));
+    assertEquals(relationships.get("foreignKey"), ImmutableList.of());
+    assertEquals(relationships.get("foreignKeyArray"), ImmutableList.of());
+    assertEquals(relationships.get("nestedForeignKey"), ImmutableList.of(urn));
+    assertEquals(relationships.get("nestedArrayForeignKey"), ImmutableList.of());
+  }
 }
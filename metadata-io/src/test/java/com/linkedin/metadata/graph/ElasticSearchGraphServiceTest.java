@@ -4,6 +4,7 @@ import com.linkedin.metadata.ElasticSearchTestUtils;
 import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
 import com.linkedin.metadata.graph.elastic.ESGraphWriteDAO;
 import com.linkedin.metadata.graph.elastic.ElasticSearchGraphService;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
 import org.apache.http.HttpHost;
@@ -62,7 +63,8 @@ public class ElasticSearchGraphServiceTest extends GraphServiceTestBase {
   @Nonnull
   private ElasticSearchGraphService buildService() {
     ESGraphQueryDAO readDAO = new ESGraphQueryDAO(_searchClient, _indexConvention);
-    ESGraphWriteDAO writeDAO = new ESGraphWriteDAO(_searchClient, _indexConvention, 1, 1, 1, 1);
+    ESGraphWriteDAO writeDAO = new ESGraphWriteDAO(_searchClient, _indexConvention,
+        new ESBulkProcessor(_searchClient, 1, 5, 1, 1, 1, 1000));
     return new ElasticSearchGraphService(_searchClient, _indexConvention, writeDAO, readDAO);
   }
 
@@ -9,6 +9,7 @@ import org.testng.annotations.Test;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static com.linkedin.metadata.dao.utils.QueryUtils.EMPTY_FILTER;
 import static com.linkedin.metadata.dao.utils.QueryUtils.newFilter;
@@ -168,4 +169,183 @@ abstract public class GraphServiceTestBase {
 
     assertEquals(relatedUrnsPostDelete.size(), 0);
   }
+
+  @Test
+  public void testAddEdgesAndRemoveEdgesFromNodes() throws Exception {
+    GraphService client = getGraphService();
+
+    Urn hiveDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)");
+    Urn kafkaDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:kafka,SampleKafkaDataset,PROD)");
+    Urn hdfsDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleHdfsDataset,PROD)");
+    Urn owner = Urn.createFromString("urn:li:corpuser:datahub");
+
+    List<Edge> edges = new ArrayList<>();
+    edges.add(new Edge(hiveDataset, kafkaDataset, "DownstreamOf"));
+    edges.add(new Edge(hdfsDataset, kafkaDataset, "DownstreamOf"));
+    edges.add(new Edge(hiveDataset, owner, "OwnedBy"));
+
+    client.addEdges(edges);
+    syncAfterWrite();
+
+    List<String> edgeTypes = new ArrayList<>();
+    edgeTypes.add("DownstreamOf");
+    RelationshipFilter incomingFilter = new RelationshipFilter();
+    incomingFilter.setDirection(RelationshipDirection.INCOMING);
+    incomingFilter.setCriteria(EMPTY_FILTER.getCriteria());
+
+    assertEquals(client.findRelatedEntities(
+        "",
+        newFilter("urn", kafkaDataset.toString()),
+        "",
+        EMPTY_FILTER,
+        edgeTypes,
+        incomingFilter,
+        0,
+        10).getEntities().size(), 2);
+
+    RelationshipFilter outgoingFilter = new RelationshipFilter();
+    outgoingFilter.setDirection(RelationshipDirection.OUTGOING);
+    outgoingFilter.setCriteria(EMPTY_FILTER.getCriteria());
+
+    List<Urn> sourceUrns = new ArrayList<>();
+    sourceUrns.add(hiveDataset);
+    sourceUrns.add(hdfsDataset);
+    client.removeEdgesFromNodes(sourceUrns, edgeTypes, outgoingFilter);
+    syncAfterWrite();
+
+    assertEquals(client.findRelatedEntities(
+        "",
+        newFilter("urn", kafkaDataset.toString()),
+        "",
+        EMPTY_FILTER,
+        edgeTypes,
+        incomingFilter,
+        0,
+        10).getEntities().size(), 0);
+
+    List<String> ownedByTypes = new ArrayList<>();
+    ownedByTypes.add("OwnedBy");
+    assertEquals(client.findRelatedEntities(
+        "",
+        newFilter("urn", hiveDataset.toString()),
+        "",
+        EMPTY_FILTER,
+        ownedByTypes,
+        outgoingFilter,
+        0,
+        10).getEntities().size(), 1);
+  }
+
+  @Test
+  public void testTraverse() throws Exception {
+    GraphService client = getGraphService();
+
+    Urn datasetA = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,DatasetA,PROD)");
+    Urn datasetB = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,DatasetB,PROD)");
+    Urn datasetC = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,DatasetC,PROD)");
+
+    // A <- B <- C <- A forms a cycle
+    List<Edge> edges = new ArrayList<>();
+    edges.add(new Edge(datasetB, datasetA, "DownstreamOf"));
+    edges.add(new Edge(datasetC, datasetB, "DownstreamOf"));
+    edges.add(new Edge(datasetA, datasetC, "DownstreamOf"));
+    client.addEdges(edges);
+    syncAfterWrite();
+
+    List<Urn> seeds = new ArrayList<>();
+    seeds.add(datasetA);
+    List<String> downstreamTypes = new ArrayList<>();
+    downstreamTypes.add("DownstreamOf");
+
+    TraversalResult result = client.traverse(seeds, new ArrayList<>(), downstreamTypes, 5, 100, 100);
+    assertEquals(result.getEdges().size(), 3);
+    assertEquals(result.getNodeCount(), 3);
+    assertEquals(result.isTruncated(), false);
+    assertEquals(result.getEdges().get(0), new TraversalEdge(datasetA.toString(), datasetB.toString(), "DownstreamOf", 1));
+    assertEquals(result.getEdges().get(1), new TraversalEdge(datasetB.toString(), datasetC.toString(), "DownstreamOf", 2));
+
+    result = client.traverse(seeds, new ArrayList<>(), downstreamTypes, 1, 100, 100);
+    assertEquals(result.getEdges().size(), 1);
+
+    result = client.traverse(seeds, new ArrayList<>(), downstreamTypes, 5, 2, 100);
+    assertEquals(result.getEdges().size(), 1);
+    assertEquals(result.isTruncated(), true);
+
+    result = client.traverse(seeds, downstreamTypes, new ArrayList<>(), 1, 100, 100);
+    assertEquals(result.getEdges().size(), 1);
+    assertEquals(result.getEdges().get(0).getRelatedUrn(), datasetC.toString());
+  }
+
+  @Test
+  public void testBatchFindRelatedEntities() throws Exception {
+    GraphService client = getGraphService();
+
+    Urn kafkaDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:kafka,SampleKafkaDataset,PROD)");
+    Urn hiveDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,SampleHiveDataset,PROD)");
+    Urn hdfsDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleHdfsDataset,PROD)");
+    Urn unrelatedDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hdfs,UnrelatedDataset,PROD)");
+
+    List<Edge> edges = new ArrayList<>();
+    edges.add(new Edge(kafkaDataset, hiveDataset, "DownstreamOf"));
+    edges.add(new Edge(kafkaDataset, hdfsDataset, "DownstreamOf"));
+    edges.add(new Edge(hiveDataset, hdfsDataset, "DownstreamOf"));
+    client.addEdges(edges);
+    syncAfterWrite();
+
+    List<String> edgeTypes = new ArrayList<>();
+    edgeTypes.add("DownstreamOf");
+    RelationshipFilter relationshipFilter = new RelationshipFilter();
+    relationshipFilter.setDirection(RelationshipDirection.OUTGOING);
+    relationshipFilter.setCriteria(EMPTY_FILTER.getCriteria());
+
+    List<Urn> urns = new ArrayList<>();
+    urns.add(kafkaDataset);
+    urns.add(hiveDataset);
+    urns.add(unrelatedDataset);
+
+    Map<Urn, RelatedEntitiesResult> results = client.batchFindRelatedEntities(urns, edgeTypes, relationshipFilter, 0, 1);
+    assertEquals(results.size(), 3);
+    assertEquals(results.get(kafkaDataset).getTotal(), 2);
+    assertEquals(results.get(kafkaDataset).getEntities().size(), 1);
+    assertEquals(results.get(hiveDataset).getTotal(), 1);
+    assertEquals(results.get(hiveDataset).getEntities().get(0).getUrn(), hdfsDataset.toString());
+    assertEquals(results.get(unrelatedDataset).getTotal(), 0);
+    assertEquals(results.get(unrelatedDataset).getEntities().size(), 0);
+  }
+
+  @Test
+  public void testBatchFindRelatedEntitiesDeepPage() throws Exception {
+    GraphService client = getGraphService();
+
+    Urn kafkaDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:kafka,DeepPageKafkaDataset,PROD)");
+    Urn hiveDataset = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:hive,DeepPageHiveDataset,PROD)");
+
+    // More edges than a page of top hits can reach
+    List<Edge> edges = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      edges.add(new Edge(kafkaDataset,
+          Urn.createFromString(String.format("urn:li:dataset:(urn:li:dataPlatform:hdfs,DeepPageDataset%03d,PROD)", i)),
+          "DownstreamOf"));
+    }
+    edges.add(new Edge(hiveDataset, kafkaDataset, "DownstreamOf"));
+    client.addEdges(edges);
+    syncAfterWrite();
+
+    List<String> edgeTypes = new ArrayList<>();
+    edgeTypes.add("DownstreamOf");
+    RelationshipFilter relationshipFilter = new RelationshipFilter();
+    relationshipFilter.setDirection(RelationshipDirection.OUTGOING);
+    relationshipFilter.setCriteria(EMPTY_FILTER.getCriteria());
+
+    List<Urn> urns = new ArrayList<>();
+    urns.add(kafkaDataset);
+    urns.add(hiveDataset);
+
+    Map<Urn, RelatedEntitiesResult> results = client.batchFindRelatedEntities(urns, edgeTypes, relationshipFilter, 140, 20);
+    assertEquals(results.size(), 2);
+    assertEquals(results.get(kafkaDataset).getTotal(), 150);
+    assertEquals(results.get(kafkaDataset).getEntities().size(), 10);
+    assertEquals(results.get(hiveDataset).getTotal(), 1);
+    assertEquals(results.get(hiveDataset).getEntities().size(), 0);
+  }
 }
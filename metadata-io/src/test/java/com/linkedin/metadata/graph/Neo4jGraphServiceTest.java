@@ -1,15 +1,39 @@
 package com.linkedin.metadata.graph;
 
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.query.RelationshipDirection;
+import com.linkedin.metadata.query.RelationshipFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.ConnectionPoolMetrics;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
 
 import javax.annotation.Nonnull;
 
+import static com.linkedin.metadata.dao.utils.QueryUtils.EMPTY_FILTER;
+import static com.linkedin.metadata.dao.utils.QueryUtils.newFilter;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
 
 public class Neo4jGraphServiceTest extends GraphServiceTestBase {
 
+  private static final int EDGES_PER_WRITER = 200;
+  private static final int EDGES_PER_BATCH = 50;
+  private static final int READS_PER_READER = 50;
+
   private Neo4jTestServerBuilder _serverBuilder;
   private Driver _driver;
   private Neo4jGraphService _client;
@@ -18,12 +42,13 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBase {
   public void init() {
     _serverBuilder = new Neo4jTestServerBuilder();
     _serverBuilder.newServer();
-    _driver = GraphDatabase.driver(_serverBuilder.boltURI());
+    _driver = GraphDatabase.driver(_serverBuilder.boltURI(), Config.builder().withDriverMetrics().build());
     _client = new Neo4jGraphService(_driver);
   }
 
   @AfterMethod
   public void tearDown() {
+    _driver.close();
     _serverBuilder.shutdown();
   }
 
@@ -35,4 +60,106 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBase {
   @Override
   protected void syncAfterWrite() { }
 
+  @DataProvider(name = "writerThreads")
+  public Object[][] writerThreads() {
+    return new Object[][]{{1}, {8}, {32}};
+  }
+
+  /**
+   * Checks that concurrent readers, while a writer keeps adding edges, only see pages of committed edges, and that every
+   * session gives its connection back to the pool once done, including sessions whose queries failed.
+   */
+  @Test(dataProvider = "writerThreads")
+  public void testConcurrentReadsReleaseConnections(int readers) throws Exception {
+    final Urn destination = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:kafka,SharedDataset,PROD)");
+    final ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+
+    final RelationshipFilter relationshipFilter = new RelationshipFilter();
+    relationshipFilter.setDirection(RelationshipDirection.INCOMING);
+    relationshipFilter.setCriteria(EMPTY_FILTER.getCriteria());
+
+    final Future<?> writer = executor.submit(() -> {
+      for (int i = 0; i < READS_PER_READER; i++) {
+        _client.addEdge(new Edge(
+            Urn.createFromTuple("dataset", "urn:li:dataPlatform:hive", "table" + i, "PROD"), destination, "DownstreamOf"));
+      }
+      return null;
+    });
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int reader = 0; reader < readers; reader++) {
+      futures.add(executor.submit(() -> {
+        int lastTotal = 0;
+        for (int i = 0; i < READS_PER_READER; i++) {
+          final RelatedEntitiesResult result = _client.findRelatedEntities("",
+              newFilter("urn", destination.toString()), "", EMPTY_FILTER, Collections.singletonList("DownstreamOf"),
+              relationshipFilter, 0, 10);
+          // Edges are only ever added, so each read sees at least the edges of the previous one
+          assertTrue(result.getTotal() >= lastTotal);
+          // The page is read before the total, so it can miss edges that the total counts, but never the other way
+          assertTrue(result.getEntities().size() <= Math.min(result.getTotal(), 10));
+          lastTotal = result.getTotal();
+        }
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    writer.get();
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+
+    // A query that fails on the server still closes its session
+    assertThrows(RuntimeException.class, () -> _client.findRelatedEntities("Invalid Type", EMPTY_FILTER, "",
+        EMPTY_FILTER, Collections.emptyList(), relationshipFilter, 0, 10));
+
+    assertEquals(_driver.metrics().connectionPoolMetrics().stream().mapToInt(ConnectionPoolMetrics::inUse).sum(), 0);
+  }
+
+  /**
+   * Checks that batched edge writes from concurrent writers sharing a single downstream node, which is the contention
+   * pattern produced by lineage ingestion, all make it to the graph.
+   */
+  @Test(dataProvider = "writerThreads")
+  public void testConcurrentAddEdges(int writers) throws Exception {
+    final Urn sharedDestination = Urn.createFromString("urn:li:dataset:(urn:li:dataPlatform:kafka,SharedDataset,PROD)");
+    final ExecutorService executor = Executors.newFixedThreadPool(writers);
+    final List<Future<?>> futures = new ArrayList<>();
+
+    for (int writer = 0; writer < writers; writer++) {
+      final int writerId = writer;
+      futures.add(executor.submit(() -> {
+        for (int offset = 0; offset < EDGES_PER_WRITER; offset += EDGES_PER_BATCH) {
+          final List<Edge> batch = new ArrayList<>(EDGES_PER_BATCH);
+          for (int i = offset; i < offset + EDGES_PER_BATCH; i++) {
+            batch.add(new Edge(
+                Urn.createFromTuple("dataset", "urn:li:dataPlatform:hive", "writer" + writerId + "_table" + i, "PROD"),
+                sharedDestination,
+                "DownstreamOf"));
+          }
+          _client.addEdges(batch);
+        }
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+
+    RelationshipFilter relationshipFilter = new RelationshipFilter();
+    relationshipFilter.setDirection(RelationshipDirection.INCOMING);
+    relationshipFilter.setCriteria(EMPTY_FILTER.getCriteria());
+
+    assertEquals(_client.findRelatedEntities(
+        "",
+        newFilter("urn", sharedDestination.toString()),
+        "",
+        EMPTY_FILTER,
+        Collections.singletonList("DownstreamOf"),
+        relationshipFilter,
+        0,
+        0).getTotal(), writers * EDGES_PER_WRITER);
+  }
 }
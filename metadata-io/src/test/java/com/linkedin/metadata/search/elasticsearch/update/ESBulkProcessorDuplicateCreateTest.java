@@ -0,0 +1,53 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import javax.annotation.Nonnull;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.rest.RestStatus;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests which failed bulk items {@link ESBulkProcessor} treats as duplicate creates rather than failures.
+ */
+public class ESBulkProcessorDuplicateCreateTest {
+
+  private static final String INDEX_NAME = "datahub_usage_event";
+
+  @Test
+  public void testCreateConflictIsDuplicate() {
+    final BulkItemResponse item = failedItem(DocWriteRequest.OpType.CREATE, RestStatus.CONFLICT);
+
+    assertTrue(ESBulkProcessor.isDuplicateCreate(item));
+    assertFalse(ESBulkProcessor.isFailed(item));
+  }
+
+  @Test
+  public void testOtherConflictsAreFailures() {
+    for (DocWriteRequest.OpType opType : new DocWriteRequest.OpType[]{DocWriteRequest.OpType.INDEX,
+        DocWriteRequest.OpType.UPDATE, DocWriteRequest.OpType.DELETE}) {
+      final BulkItemResponse item = failedItem(opType, RestStatus.CONFLICT);
+
+      assertFalse(ESBulkProcessor.isDuplicateCreate(item), opType.toString());
+      assertTrue(ESBulkProcessor.isFailed(item), opType.toString());
+    }
+  }
+
+  @Test
+  public void testRejectedCreateIsFailure() {
+    final BulkItemResponse item = failedItem(DocWriteRequest.OpType.CREATE, RestStatus.TOO_MANY_REQUESTS);
+
+    assertFalse(ESBulkProcessor.isDuplicateCreate(item));
+    assertTrue(ESBulkProcessor.isFailed(item));
+  }
+
+  @Nonnull
+  private static BulkItemResponse failedItem(@Nonnull DocWriteRequest.OpType opType, @Nonnull RestStatus status) {
+    return new BulkItemResponse(0, opType, new BulkItemResponse.Failure(INDEX_NAME, "_doc", "id",
+        new ElasticsearchStatusException("Failed to write the document", status)));
+  }
+}
@@ -0,0 +1,96 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import javax.annotation.Nonnull;
+import org.apache.http.HttpHost;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.core.CountRequest;
+import org.elasticsearch.client.indices.CreateIndexRequest;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests {@link ESBulkProcessor} against a cluster with a single write thread and a write queue of one, which rejects
+ * most of the shard writes of concurrent bulk requests.
+ */
+public class ESBulkProcessorTest {
+
+  private static final String IMAGE_NAME = "docker.elastic.co/elasticsearch/elasticsearch:7.9.3";
+  private static final int HTTP_PORT = 9200;
+  private static final String INDEX_NAME = "bulk_processor_test";
+  private static final int NUM_SHARDS = 4;
+  private static final int NUM_DOCUMENTS = 5000;
+
+  private ElasticsearchContainer _elasticsearchContainer;
+  private RestHighLevelClient _searchClient;
+
+  @BeforeTest
+  public void setup() throws Exception {
+    _elasticsearchContainer = new ElasticsearchContainer(IMAGE_NAME)
+        .withEnv("thread_pool.write.size", "1")
+        .withEnv("thread_pool.write.queue_size", "1");
+    _elasticsearchContainer.start();
+    _searchClient = buildRestClient();
+    _searchClient.indices().create(new CreateIndexRequest(INDEX_NAME).settings(Settings.builder()
+        .put("index.number_of_shards", NUM_SHARDS)
+        .put("index.number_of_replicas", 0)), RequestOptions.DEFAULT);
+  }
+
+  @Nonnull
+  private RestHighLevelClient buildRestClient() {
+    final RestClientBuilder builder =
+        RestClient.builder(new HttpHost("localhost", _elasticsearchContainer.getMappedPort(HTTP_PORT), "http"))
+            .setHttpClientConfigCallback(httpAsyncClientBuilder -> httpAsyncClientBuilder.setDefaultIOReactorConfig(
+                IOReactorConfig.custom().setIoThreadCount(1).build()));
+
+    builder.setRequestConfigCallback(requestConfigBuilder -> requestConfigBuilder.setConnectionRequestTimeout(3000));
+
+    return new RestHighLevelClient(builder);
+  }
+
+  @AfterTest
+  public void tearDown() {
+    _elasticsearchContainer.stop();
+  }
+
+  /**
+   * Writes documents through many concurrent bulk requests, and checks that the rejected items were retried until
+   * every document was written.
+   */
+  @Test
+  public void testRetriesRejectedItems() throws Exception {
+    final ESBulkProcessor bulkProcessor = new ESBulkProcessor(_searchClient, 50, 5, 1, 8, 10, 50);
+    for (int i = 0; i < NUM_DOCUMENTS; i++) {
+      bulkProcessor.add(new IndexRequest(INDEX_NAME).id(String.valueOf(i))
+          .source(String.format("{\"value\": %d}", i), XContentType.JSON));
+    }
+    bulkProcessor.close();
+
+    _searchClient.indices().refresh(new RefreshRequest(INDEX_NAME), RequestOptions.DEFAULT);
+    final long count = _searchClient.count(new CountRequest(INDEX_NAME), RequestOptions.DEFAULT).getCount();
+
+    assertEquals(count, NUM_DOCUMENTS);
+    assertEquals(countOf("written"), NUM_DOCUMENTS);
+    assertEquals(countOf("failed"), 0);
+    assertTrue(countOf("rejected") > 0);
+  }
+
+  private static long countOf(@Nonnull String metricName) {
+    return MetricUtils.get().counter(MetricRegistry.name(ESBulkProcessor.class, INDEX_NAME, metricName)).getCount();
+  }
+}
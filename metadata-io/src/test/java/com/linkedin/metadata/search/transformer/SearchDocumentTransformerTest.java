@@ -10,6 +10,7 @@ import com.linkedin.metadata.TestEntityUtil;
 import com.linkedin.metadata.models.EntitySpec;
 import java.io.IOException;
 import java.util.Optional;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
@@ -66,4 +67,24 @@ public class SearchDocumentTransformerTest {
     parsedJson.get("nestedArrayStringField").getNodeType().equals(JsonNodeType.NULL);
     parsedJson.get("nestedIntegerField").getNodeType().equals(JsonNodeType.NULL);
   }
+
+  @Test
+  public void testWriteSnapshotMatchesTransformSnapshot() throws IOException {
+    TestEntitySnapshot snapshot = TestEntityUtil.getSnapshot();
+    EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
+    Optional<BytesReference> bytes = SearchDocumentTransformer.writeSnapshot(snapshot, testEntitySpec, false);
+    Optional<String> string = SearchDocumentTransformer.transformSnapshot(snapshot, testEntitySpec, false);
+    assertTrue(bytes.isPresent());
+    assertEquals(OBJECT_MAPPER.readTree(BytesReference.toBytes(bytes.get())), OBJECT_MAPPER.readTree(string.get()));
+  }
+
+  @Test
+  public void testWriteSnapshotMatchesTransformSnapshotForDelete() throws IOException {
+    TestEntitySnapshot snapshot = TestEntityUtil.getSnapshot();
+    EntitySpec testEntitySpec = TestEntitySpecBuilder.getSpec();
+    Optional<BytesReference> bytes = SearchDocumentTransformer.writeSnapshot(snapshot, testEntitySpec, true);
+    Optional<String> string = SearchDocumentTransformer.transformSnapshot(snapshot, testEntitySpec, true);
+    assertTrue(bytes.isPresent());
+    assertEquals(OBJECT_MAPPER.readTree(BytesReference.toBytes(bytes.get())), OBJECT_MAPPER.readTree(string.get()));
+  }
 }
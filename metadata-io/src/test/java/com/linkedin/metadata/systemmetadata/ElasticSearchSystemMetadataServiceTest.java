@@ -2,6 +2,7 @@ package com.linkedin.metadata.systemmetadata;
 
 import com.linkedin.metadata.run.AspectRowSummary;
 import com.linkedin.metadata.run.IngestionRunSummary;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
 import com.linkedin.mxe.SystemMetadata;
@@ -63,7 +64,8 @@ public class ElasticSearchSystemMetadataServiceTest {
 
   @Nonnull
   private ElasticSearchSystemMetadataService buildService() {
-    ESSystemMetadataDAO dao = new ESSystemMetadataDAO(_searchClient, _indexConvention, 1, 1, 1, 1);
+    ESSystemMetadataDAO dao = new ESSystemMetadataDAO(_searchClient, _indexConvention,
+        new ESBulkProcessor(_searchClient, 1, 5, 1, 1, 1, 1000));
     return new ElasticSearchSystemMetadataService(_searchClient, _indexConvention, dao);
   }
 
@@ -12,6 +12,8 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.Topics;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -33,6 +35,8 @@ public class DataHubUsageEventsProcessor {
 
   private final Histogram kafkaLagStats =
       MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram pollSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "pollSize"));
 
   public DataHubUsageEventsProcessor(
       ElasticsearchConnector elasticSearchConnector,
@@ -44,14 +48,25 @@ public class DataHubUsageEventsProcessor {
   }
 
   @KafkaListener(id = "${DATAHUB_USAGE_EVENT_KAFKA_CONSUMER_GROUP_ID:datahub-usage-event-consumer-job-client}", topics =
-      "${DATAHUB_USAGE_EVENT_NAME:" + Topics.DATAHUB_USAGE_EVENT + "}", containerFactory = "stringSerializedKafkaListener")
-  public void consume(final ConsumerRecord<String, String> consumerRecord) {
-    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-    final String record = consumerRecord.value();
-    log.debug("Got DHUE");
+      "${DATAHUB_USAGE_EVENT_NAME:" + Topics.DATAHUB_USAGE_EVENT + "}", containerFactory = "stringSerializedKafkaBatchListener")
+  public void consume(final List<ConsumerRecord<String, String>> consumerRecords) {
+    pollSizeStats.update(consumerRecords.size());
+    final List<String> records = new ArrayList<>(consumerRecords.size());
+    for (ConsumerRecord<String, String> consumerRecord : consumerRecords) {
+      kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+      records.add(consumerRecord.value());
+    }
+    log.debug("Got {} DHUEs", records.size());
+
+    final List<Optional<DataHubUsageEventTransformer.TransformedDocument>> eventDocuments =
+        dataHubUsageEventTransformer.transformDataHubUsageEvents(records);
+    for (int i = 0; i < records.size(); i++) {
+      feedElasticEvent(records.get(i), eventDocuments.get(i));
+    }
+  }
 
-    Optional<DataHubUsageEventTransformer.TransformedDocument> eventDocument =
-        dataHubUsageEventTransformer.transformDataHubUsageEvent(record);
+  private void feedElasticEvent(final String record,
+      final Optional<DataHubUsageEventTransformer.TransformedDocument> eventDocument) {
     if (!eventDocument.isPresent()) {
       log.info("failed transform: {}", record);
       return;
@@ -65,6 +80,8 @@ public class DataHubUsageEventsProcessor {
     }
     elasticEvent.setIndex(indexName);
     elasticEvent.setActionType(ChangeType.CREATE);
+    // The usage event index is a data stream, which only accepts creates. Ids are derived from the event, so a replayed
+    // event is rejected as a conflict, which the bulk processor counts as already written.
     elasticSearchConnector.feedElasticEvent(elasticEvent);
   }
 }
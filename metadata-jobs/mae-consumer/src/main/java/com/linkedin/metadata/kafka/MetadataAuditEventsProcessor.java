@@ -17,7 +17,6 @@ import com.linkedin.metadata.extractor.FieldExtractor;
 import com.linkedin.metadata.graph.Edge;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
-import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.RelationshipFieldSpec;
 import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
@@ -47,6 +46,7 @@ import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
@@ -205,7 +205,7 @@ public class MetadataAuditEventsProcessor {
     }
 
     Map<RelationshipFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFieldsFromSnapshot(snapshot, entitySpec, AspectSpec::getRelationshipFieldSpecs);
+        FieldExtractor.extractFieldsFromSnapshot(snapshot, entitySpec, RelationshipFieldSpec.class);
 
     for (Map.Entry<RelationshipFieldSpec, List<Object>> entry : extractedFields.entrySet()) {
       relationshipTypesBeingAdded.add(entry.getKey().getRelationshipName());
@@ -223,7 +223,7 @@ public class MetadataAuditEventsProcessor {
         _graphService.removeEdgesFromNode(sourceUrn, new ArrayList<>(relationshipTypesBeingAdded),
             createRelationshipFilter(new Filter().setCriteria(new CriterionArray()), RelationshipDirection.OUTGOING));
         if (!delete) {
-          edgesToAdd.forEach(edge -> _graphService.addEdge(edge));
+          _graphService.addEdges(edgesToAdd);
         } else if (deleteEntity) {
           _graphService.removeNode(sourceUrn);
         }
@@ -239,10 +239,10 @@ public class MetadataAuditEventsProcessor {
   private void updateSearchService(final RecordTemplate snapshot, final EntitySpec entitySpec, final boolean delete,
       final boolean deleteEntity) {
     String urn = snapshot.data().get("urn").toString();
-    Optional<String> searchDocument;
+    Optional<BytesReference> searchDocument;
 
     try {
-      searchDocument = SearchDocumentTransformer.transformSnapshot(snapshot, entitySpec, delete);
+      searchDocument = SearchDocumentTransformer.writeSnapshot(snapshot, entitySpec, delete);
     } catch (Exception e) {
       log.error("Error in getting documents from snapshot: {} for snapshot {}", e, snapshot);
       return;
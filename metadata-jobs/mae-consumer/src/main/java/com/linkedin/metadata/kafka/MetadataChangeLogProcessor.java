@@ -45,6 +45,7 @@ import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
@@ -142,7 +143,7 @@ public class MetadataChangeLogProcessor {
     final List<Edge> edgesToAdd = new ArrayList<>();
 
     Map<RelationshipFieldSpec, List<Object>> extractedFields =
-        FieldExtractor.extractFields(aspect, aspectSpec.getRelationshipFieldSpecs());
+        FieldExtractor.extractFields(aspect, aspectSpec, RelationshipFieldSpec.class);
 
     for (Map.Entry<RelationshipFieldSpec, List<Object>> entry : extractedFields.entrySet()) {
       relationshipTypesBeingAdded.add(entry.getKey().getRelationshipName());
@@ -159,7 +160,7 @@ public class MetadataChangeLogProcessor {
       new Thread(() -> {
         _graphService.removeEdgesFromNode(urn, new ArrayList<>(relationshipTypesBeingAdded),
             createRelationshipFilter(new Filter().setCriteria(new CriterionArray()), RelationshipDirection.OUTGOING));
-        edgesToAdd.forEach(edge -> _graphService.addEdge(edge));
+        _graphService.addEdges(edgesToAdd);
       }).start();
     }
   }
@@ -168,9 +169,9 @@ public class MetadataChangeLogProcessor {
    * Process snapshot and update search index
    */
   private void updateSearchService(String entityName, Urn urn, AspectSpec aspectSpec, RecordTemplate aspect) {
-    Optional<String> searchDocument;
+    Optional<BytesReference> searchDocument;
     try {
-      searchDocument = SearchDocumentTransformer.transformAspect(urn, aspect, aspectSpec);
+      searchDocument = SearchDocumentTransformer.writeAspect(urn, aspect, aspectSpec);
     } catch (Exception e) {
       log.error("Error in getting documents from aspect: {} for aspect {}", e, aspectSpec.getName());
       return;
@@ -19,11 +19,15 @@ public class EntityHydratorConfig {
   private boolean gmsUseSSL;
   @Value("${GMS_SSL_PROTOCOL:#{null}}")
   private String gmsSslProtocol;
+  @Value("${ENTITY_HYDRATOR_CACHE_SIZE:10000}")
+  private long cacheSize;
+  @Value("${ENTITY_HYDRATOR_CACHE_TTL_SECONDS:300}")
+  private long cacheTtlSeconds;
 
   @Bean
   public EntityHydrator getEntityHydrator() {
     Client restClient = DefaultRestliClientFactory.getRestLiClient(gmsHost, gmsPort, gmsUseSSL, gmsSslProtocol);
     EntityClient entityClient = new EntityClient(restClient);
-    return new EntityHydrator(entityClient);
+    return new EntityHydrator(entityClient, cacheSize, cacheTtlSeconds);
   }
 }
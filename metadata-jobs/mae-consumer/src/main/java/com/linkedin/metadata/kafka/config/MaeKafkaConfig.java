@@ -36,7 +36,16 @@ public class MaeKafkaConfig {
     return createKafkaListenerContainerFactory(properties, StringDeserializer.class);
   }
 
-  public KafkaListenerContainerFactory<?> createKafkaListenerContainerFactory(KafkaProperties properties, Class<?> valueDeserializer) {
+  @Bean(name = "stringSerializedKafkaBatchListener")
+  public KafkaListenerContainerFactory<?> stringSerializedKafkaBatchListenerContainerFactory(KafkaProperties properties) {
+    final ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        createKafkaListenerContainerFactory(properties, StringDeserializer.class);
+    factory.setBatchListener(true);
+    return factory;
+  }
+
+  public ConcurrentKafkaListenerContainerFactory<String, GenericRecord> createKafkaListenerContainerFactory(
+      KafkaProperties properties, Class<?> valueDeserializer) {
     KafkaProperties.Consumer consumerProps = properties.getConsumer();
 
     // Specify (de)serializers for record keys and for record values.
@@ -1,7 +1,9 @@
 package com.linkedin.metadata.kafka.elasticsearch;
 
 import com.linkedin.events.metadata.ChangeType;
+import javax.annotation.Nullable;
 import lombok.Data;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 
 @Data
@@ -15,4 +17,13 @@ public abstract class ElasticEvent {
   public XContentBuilder buildJson() {
     return null;
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns the JSON bytes of the document, built once so that every part of a request can share them.
+   */
+  @Nullable
+  public BytesReference buildBytes() {
+    final XContentBuilder builder = buildJson();
+    return builder == null ? null : BytesReference.bytes(builder);
+  }
+}
@@ -1,77 +1,48 @@
 package com.linkedin.metadata.kafka.elasticsearch;
 
 import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.DocWriteRequest;
-import org.elasticsearch.action.bulk.BackoffPolicy;
-import org.elasticsearch.action.bulk.BulkProcessor;
-import org.elasticsearch.action.bulk.BulkRequest;
-import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
-import org.elasticsearch.client.RequestOptions;
-import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.xcontent.XContentType;
 
 
 @Slf4j
 public class ElasticsearchConnector {
 
-  private BulkProcessor _bulkProcessor;
-  private static final int DEFAULT_NUMBER_OF_RETRIES = 3; // TODO: Test and also add these into config
-  private static final long DEFAULT_RETRY_INTERVAL = 1L;
+  private final ESBulkProcessor _bulkProcessor;
 
-  public ElasticsearchConnector(RestHighLevelClient elasticSearchRestClient, Integer bulkRequestsLimit,
-      Integer bulkFlushPeriod) {
-    initBulkProcessor(elasticSearchRestClient, bulkRequestsLimit, bulkFlushPeriod);
-  }
-
-  private void initBulkProcessor(RestHighLevelClient elasticSearchRestClient, Integer bulkRequestsLimit,
-      Integer bulkFlushPeriod) {
-    BulkProcessor.Listener listener = new BulkProcessor.Listener() {
-      @Override
-      public void beforeBulk(long executionId, BulkRequest request) {
-
-      }
-
-      @Override
-      public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
-        log.info("Successfully feeded bulk request. Number of events: " + response.getItems().length + " Took time ms: "
-            + response.getIngestTookInMillis());
-      }
-
-      @Override
-      public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
-        log.info("Error feeding bulk request. No retries left", failure);
-      }
-    };
-
-    _bulkProcessor = BulkProcessor.builder(
-        (request, bulkListener) -> elasticSearchRestClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener),
-        listener)
-        .setBulkActions(bulkRequestsLimit)
-        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
-        .setBackoffPolicy(BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(DEFAULT_RETRY_INTERVAL),
-            DEFAULT_NUMBER_OF_RETRIES))
-        .build();
+  public ElasticsearchConnector(@Nonnull ESBulkProcessor bulkProcessor) {
+    _bulkProcessor = bulkProcessor;
   }
 
   public void feedElasticEvent(@Nonnull ElasticEvent event) {
     if (event.getActionType().equals(ChangeType.DELETE)) {
       _bulkProcessor.add(createDeleteRequest(event));
-    } else if (event.getActionType().equals(ChangeType.CREATE)) {
-      _bulkProcessor.add(createIndexRequest(event));
+      return;
+    }
+
+    final BytesReference document = event.buildBytes();
+    if (document == null) {
+      log.error("Failed to build document {} of index {}", event.getId(), event.getIndex());
+      return;
+    }
+    if (event.getActionType().equals(ChangeType.CREATE)) {
+      _bulkProcessor.add(createIndexRequest(event, document));
     } else if (event.getActionType().equals(ChangeType.UPDATE)) {
-      _bulkProcessor.add(createUpsertRequest(event));
+      _bulkProcessor.add(createUpsertRequest(event, document));
     }
   }
 
   @Nonnull
-  private static IndexRequest createIndexRequest(@Nonnull ElasticEvent event) {
+  private static IndexRequest createIndexRequest(@Nonnull ElasticEvent event, @Nonnull BytesReference document) {
     return new IndexRequest(event.getIndex()).id(event.getId())
-        .source(event.buildJson())
+        .source(document, XContentType.JSON)
         .opType(DocWriteRequest.OpType.CREATE);
   }
 
@@ -81,11 +52,13 @@ public class ElasticsearchConnector {
   }
 
   @Nonnull
-  private static UpdateRequest createUpsertRequest(@Nonnull ElasticEvent event) {
-    final IndexRequest indexRequest = new IndexRequest(event.getIndex()).id(event.getId()).source(event.buildJson());
-    return new UpdateRequest(event.getIndex(), event.getId()).doc(event.buildJson())
+  private static UpdateRequest createUpsertRequest(@Nonnull ElasticEvent event, @Nonnull BytesReference document) {
+    // The doc and the upsert share the same bytes
+    final IndexRequest indexRequest = new IndexRequest(event.getIndex()).id(event.getId())
+        .source(document, XContentType.JSON);
+    return new UpdateRequest(event.getIndex(), event.getId())
+        .doc(new IndexRequest(event.getIndex()).id(event.getId()).source(document, XContentType.JSON))
         .detectNoop(false)
         .upsert(indexRequest);
   }
 }
-
@@ -1,28 +1,30 @@
 package com.linkedin.metadata.kafka.elasticsearch;
 
+import com.linkedin.gms.factory.search.ESBulkProcessorFactory;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.client.RestHighLevelClient;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 
 import javax.annotation.Nonnull;
 
 @Slf4j
 @Configuration
+@Import({ESBulkProcessorFactory.class})
 public class ElasticsearchConnectorFactory {
 
-  @Value("${ES_BULK_REQUESTS_LIMIT:1}")
-  private Integer bulkRequestsLimit;
-
-  @Value("${ES_BULK_FLUSH_PERIOD:1}")
-  private Integer bulkFlushPeriod;
+  @Autowired
+  @Qualifier(ESBulkProcessorFactory.ES_BULK_PROCESSOR_BEAN)
+  private ESBulkProcessor bulkProcessor;
 
   @Bean(name = "elasticsearchConnector")
   @Nonnull
-  public ElasticsearchConnector createInstance(@Nonnull RestHighLevelClient elasticSearchRestHighLevelClient) {
-    return new ElasticsearchConnector(elasticSearchRestHighLevelClient, bulkRequestsLimit, bulkFlushPeriod);
+  public ElasticsearchConnector createInstance() {
+    return new ElasticsearchConnector(bulkProcessor);
   }
 
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.linkedin.metadata.kafka.elasticsearch;
 
 import java.io.IOException;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.xcontent.DeprecationHandler;
 import org.elasticsearch.common.xcontent.NamedXContentRegistry;
 import org.elasticsearch.common.xcontent.XContentBuilder;
@@ -31,4 +34,11 @@ public class JsonElasticEvent extends ElasticEvent {
     }
     return builder;
   }
+
+  @Override
+  @Nonnull
+  public BytesReference buildBytes() {
+    // The document is already JSON, so its bytes are used as is
+    return new BytesArray(_document);
+  }
 }
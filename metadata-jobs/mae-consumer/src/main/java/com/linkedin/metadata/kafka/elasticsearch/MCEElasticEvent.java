@@ -6,7 +6,10 @@ import org.elasticsearch.common.xcontent.NamedXContentRegistry;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import com.linkedin.metadata.dao.utils.RecordUtils;
 import java.io.IOException;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.xcontent.XContentFactory;
 import org.elasticsearch.common.xcontent.XContentParser;
 import org.elasticsearch.common.xcontent.XContentType;
@@ -35,4 +38,10 @@ public class MCEElasticEvent extends ElasticEvent {
     }
     return builder;
   }
+
+  @Override
+  @Nonnull
+  public BytesReference buildBytes() {
+    return new BytesArray(RecordUtils.toJsonString(this._doc));
+  }
 }
@@ -2,22 +2,48 @@ package com.linkedin.metadata.kafka.hydrator;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.entity.Entity;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.r2.RemoteInvocationException;
 import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
 
+/**
+ * Hydrates usage event documents with fields of the entities they refer to.
+ *
+ * Only the aspects read by the hydrators are fetched from GMS. Hydrated entities, including entities that do not
+ * exist, are kept in a bounded cache for a limited time, and {@link #prefetch(Collection)} resolves all the urns of a
+ * batch of events that are not cached yet with a single batch get. The returned documents are shared between callers
+ * and must not be modified.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class EntityHydrator {
+  public static final long DEFAULT_CACHE_SIZE = 10000;
+  public static final long DEFAULT_CACHE_TTL_SECONDS = 300;
+
+  // Aspects read by the hydrators, on top of the key aspects that GMS always returns
+  private static final Set<String> HYDRATED_ASPECTS = ImmutableSet.of("chartInfo", "corpUserInfo", "dashboardInfo",
+      "dataFlowInfo", "dataJobInfo", "datasourceConnections");
+
   private final EntityClient _entityClient;
+  private final Cache<String, Optional<ObjectNode>> _cache;
 
   private final ChartHydrator _chartHydrator = new ChartHydrator();
   private final CorpUserHydrator _corpUserHydrator = new CorpUserHydrator();
@@ -27,8 +53,54 @@ public class EntityHydrator {
   private final DatasetHydrator _datasetHydrator = new DatasetHydrator();
   private final DatasourceHydrator _datasourceHydrator = new DatasourceHydrator();
 
+  public EntityHydrator(EntityClient entityClient) {
+    this(entityClient, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TTL_SECONDS);
+  }
+
+  public EntityHydrator(EntityClient entityClient, long cacheSize, long cacheTtlSeconds) {
+    _entityClient = entityClient;
+    _cache = CacheBuilder.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+        .build();
+  }
+
+  /**
+   * Hydrates the given urns that are not cached yet with a single batch get, so that the following calls to
+   * {@link #getHydratedEntity(String)} for them are served from the cache. Failures are only logged, since the urns are
+   * then fetched one by one.
+   */
+  public void prefetch(@Nonnull Collection<String> urns) {
+    final Set<Urn> urnsToFetch = new HashSet<>();
+    for (String urn : urns) {
+      if (_cache.getIfPresent(urn) != null) {
+        continue;
+      }
+      try {
+        urnsToFetch.add(Urn.createFromString(urn));
+      } catch (URISyntaxException e) {
+        log.info("Invalid URN: {}", urn);
+      }
+    }
+    if (urnsToFetch.isEmpty()) {
+      return;
+    }
+
+    try {
+      fetch(urnsToFetch);
+    } catch (RemoteInvocationException e) {
+      log.error("Error while calling GMS to hydrate {} entities", urnsToFetch.size(), e);
+    }
+  }
+
   public Optional<ObjectNode> getHydratedEntity(String urn) {
-    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    final Optional<ObjectNode> cached = _cache.getIfPresent(urn);
+    if (cached != null) {
+      MetricUtils.counter(this.getClass(), "cacheHit").inc();
+      return cached;
+    }
+    MetricUtils.counter(this.getClass(), "cacheMiss").inc();
+
     // Hydrate fields from urn
     Urn urnObj;
     try {
@@ -37,17 +109,33 @@ public class EntityHydrator {
       log.info("Invalid URN: {}", urn);
       return Optional.empty();
     }
-    // Hydrate fields from snapshot
-    Entity entity;
     try {
-      entity = (Entity) _entityClient.get(urnObj, Constants.SYSTEM_ACTOR);
+      return fetch(Collections.singleton(urnObj)).get(urnObj);
     } catch (RemoteInvocationException e) {
-      log.error("Error while calling GMS to hydrate entity for urn {}", urn);
-      e.printStackTrace();
+      log.error("Error while calling GMS to hydrate entity for urn {}", urn, e);
       return Optional.empty();
     }
+  }
+
+  @Nonnull
+  private Map<Urn, Optional<ObjectNode>> fetch(@Nonnull Set<Urn> urns) throws RemoteInvocationException {
+    MetricUtils.histogram(this.getClass(), "fetchSize").update(urns.size());
+    final Map<Urn, Entity> entities = _entityClient.batchGet(urns, HYDRATED_ASPECTS, Constants.SYSTEM_ACTOR);
+
+    final Map<Urn, Optional<ObjectNode>> hydrated = new HashMap<>();
+    for (Urn urn : urns) {
+      final Entity entity = entities.get(urn);
+      final Optional<ObjectNode> document = entity == null ? Optional.empty() : Optional.of(hydrate(entity.getValue()));
+      _cache.put(urn.toString(), document);
+      hydrated.put(urn, document);
+    }
+    return hydrated;
+  }
 
-    Snapshot snapshot = entity.getValue();
+  @Nonnull
+  private ObjectNode hydrate(@Nonnull Snapshot snapshot) {
+    final ObjectNode document = JsonNodeFactory.instance.objectNode();
+    // Hydrate fields from snapshot
     if (snapshot.isChartSnapshot()) {
       _chartHydrator.hydrateFromSnapshot(document, snapshot.getChartSnapshot());
     } else if (snapshot.isCorpUserSnapshot()) {
@@ -63,6 +151,6 @@ public class EntityHydrator {
     } else if (snapshot.isDatasourceSnapshot()) {
       _datasourceHydrator.hydrateFromSnapshot(document, snapshot.getDatasourceSnapshot());
     }
-    return Optional.of(document);
+    return document;
   }
 }
@@ -0,0 +1,104 @@
+package com.linkedin.metadata.kafka;
+
+import com.linkedin.metadata.kafka.elasticsearch.ElasticsearchConnector;
+import com.linkedin.metadata.kafka.hydrator.EntityHydrator;
+import com.linkedin.metadata.kafka.transformer.DataHubUsageEventTransformer;
+import com.linkedin.metadata.search.elasticsearch.update.BulkListener;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import com.linkedin.metadata.utils.elasticsearch.IndexConventionImpl;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.Topics;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.apache.http.HttpHost;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.core.CountRequest;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Tests {@link DataHubUsageEventsProcessor} against a cluster where the usage event index is a data stream, as created
+ * by the index template of the setup scripts.
+ */
+public class DataHubUsageEventsProcessorTest {
+
+  private static final String IMAGE_NAME = "docker.elastic.co/elasticsearch/elasticsearch:7.9.3";
+  private static final int HTTP_PORT = 9200;
+  private static final String DATA_STREAM = "datahub_usage_event";
+  // The template of the setup scripts, without the lifecycle policy
+  private static final String INDEX_TEMPLATE = "{\"index_patterns\": [\"*datahub_usage_event*\"], \"data_stream\": {}, "
+      + "\"priority\": 500, \"template\": {\"mappings\": {\"properties\": {\"@timestamp\": {\"type\": \"date\"}, "
+      + "\"type\": {\"type\": \"keyword\"}, \"timestamp\": {\"type\": \"date\"}}}}}";
+
+  private ElasticsearchContainer _elasticsearchContainer;
+  private RestHighLevelClient _searchClient;
+
+  @BeforeTest
+  public void setup() throws Exception {
+    _elasticsearchContainer = new ElasticsearchContainer(IMAGE_NAME);
+    _elasticsearchContainer.start();
+    _searchClient = new RestHighLevelClient(
+        RestClient.builder(new HttpHost("localhost", _elasticsearchContainer.getMappedPort(HTTP_PORT), "http")));
+
+    final Request putTemplate = new Request("PUT", "/_index_template/" + DATA_STREAM + "_index_template");
+    putTemplate.setJsonEntity(INDEX_TEMPLATE);
+    _searchClient.getLowLevelClient().performRequest(putTemplate);
+    _searchClient.getLowLevelClient().performRequest(new Request("PUT", "/_data_stream/" + DATA_STREAM));
+  }
+
+  @AfterTest
+  public void tearDown() throws Exception {
+    _searchClient.close();
+    _elasticsearchContainer.stop();
+  }
+
+  /**
+   * Consumes a batch of events, then replays it along with a new event, and checks that every event is written once
+   * and that the replayed events are not counted as failures.
+   */
+  @Test
+  public void testReplayedEventsAreWrittenOnce() throws Exception {
+    final ESBulkProcessor bulkProcessor = new ESBulkProcessor(_searchClient, 1000, 5, 1, 1, 3, 100);
+    final DataHubUsageEventsProcessor processor = new DataHubUsageEventsProcessor(
+        new ElasticsearchConnector(bulkProcessor), new DataHubUsageEventTransformer(mock(EntityHydrator.class)),
+        new IndexConventionImpl(null));
+    final long failedItems = MetricUtils.counter(BulkListener.class, "failedItems").getCount();
+
+    processor.consume(createRecords(0, createEvent(1), createEvent(2)));
+    bulkProcessor.flush();
+    processor.consume(createRecords(2, createEvent(1), createEvent(2), createEvent(3)));
+    bulkProcessor.close();
+
+    _searchClient.indices().refresh(new RefreshRequest(DATA_STREAM), RequestOptions.DEFAULT);
+    assertEquals(_searchClient.count(new CountRequest(DATA_STREAM), RequestOptions.DEFAULT).getCount(), 3);
+    assertEquals(MetricUtils.counter(BulkListener.class, "failedItems").getCount(), failedItems);
+  }
+
+  @Nonnull
+  private static String createEvent(int i) {
+    return String.format("{\"type\": \"LogInEvent\", \"actorUrn\": \"urn:li:corpuser:user%d\", \"timestamp\": %d}", i,
+        1600000000000L + i);
+  }
+
+  @Nonnull
+  private static List<ConsumerRecord<String, String>> createRecords(long firstOffset, @Nonnull String... events) {
+    final List<ConsumerRecord<String, String>> records = new ArrayList<>(events.length);
+    for (String event : Arrays.asList(events)) {
+      records.add(new ConsumerRecord<>(Topics.DATAHUB_USAGE_EVENT, 0, firstOffset + records.size(), null, event));
+    }
+    return records;
+  }
+}
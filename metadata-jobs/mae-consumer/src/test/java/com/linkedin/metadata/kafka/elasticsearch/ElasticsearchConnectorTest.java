@@ -0,0 +1,75 @@
+package com.linkedin.metadata.kafka.elasticsearch;
+
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests the requests built by {@link ElasticsearchConnector} for each kind of event.
+ */
+public class ElasticsearchConnectorTest {
+
+  private static final String INDEX = "datahub_usage_event";
+  private static final String DOCUMENT = "{\"type\":\"EntityViewEvent\",\"timestamp\":1600000000000}";
+
+  private ESBulkProcessor _bulkProcessor;
+  private ElasticsearchConnector _connector;
+
+  @BeforeMethod
+  public void setup() {
+    _bulkProcessor = mock(ESBulkProcessor.class);
+    _connector = new ElasticsearchConnector(_bulkProcessor);
+  }
+
+  @Test
+  public void testCreateEvent() {
+    _connector.feedElasticEvent(createEvent(ChangeType.CREATE));
+
+    final IndexRequest request = (IndexRequest) captureRequest();
+    assertEquals(request.opType(), DocWriteRequest.OpType.CREATE);
+    assertEquals(request.source().utf8ToString(), DOCUMENT);
+  }
+
+  @Test
+  public void testUpdateEventSharesDocument() {
+    _connector.feedElasticEvent(createEvent(ChangeType.UPDATE));
+
+    final UpdateRequest request = (UpdateRequest) captureRequest();
+    assertSame(request.doc().source(), request.upsertRequest().source());
+    assertEquals(request.doc().source().utf8ToString(), DOCUMENT);
+  }
+
+  @Test
+  public void testDeleteEvent() {
+    _connector.feedElasticEvent(createEvent(ChangeType.DELETE));
+
+    assertTrue(captureRequest() instanceof DeleteRequest);
+  }
+
+  private JsonElasticEvent createEvent(ChangeType changeType) {
+    final JsonElasticEvent event = new JsonElasticEvent(DOCUMENT);
+    event.setIndex(INDEX);
+    event.setId("EntityViewEvent_urn:li:corpuser:datahub_1600000000000");
+    event.setActionType(changeType);
+    return event;
+  }
+
+  private DocWriteRequest<?> captureRequest() {
+    final ArgumentCaptor<DocWriteRequest> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(_bulkProcessor).add(captor.capture());
+    return captor.getValue();
+  }
+}
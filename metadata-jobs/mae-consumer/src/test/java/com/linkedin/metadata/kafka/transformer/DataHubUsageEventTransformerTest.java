@@ -0,0 +1,145 @@
+package com.linkedin.metadata.kafka.transformer;
+
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.DatasetUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.Entity;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.aspect.CorpUserAspect;
+import com.linkedin.metadata.aspect.CorpUserAspectArray;
+import com.linkedin.metadata.aspect.DatasetAspect;
+import com.linkedin.metadata.aspect.DatasetAspectArray;
+import com.linkedin.metadata.kafka.hydrator.EntityHydrator;
+import com.linkedin.metadata.key.CorpUserKey;
+import com.linkedin.metadata.key.DatasetKey;
+import com.linkedin.metadata.snapshot.CorpUserSnapshot;
+import com.linkedin.metadata.snapshot.DatasetSnapshot;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.restli.client.Client;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Tests the hydration of usage events by {@link DataHubUsageEventTransformer} against an in-process stub of GMS.
+ */
+public class DataHubUsageEventTransformerTest {
+
+  private static final int NUM_EVENTS = 5000;
+  private static final int POLL_SIZE = 500;
+  private static final int NUM_USERS = 100;
+  private static final int NUM_DATASETS = 2000;
+
+  // Keyed by parsed urns, as the hydrator looks them up
+  private final Map<Urn, Entity> _entities = new HashMap<>();
+  private final List<String> _events = new ArrayList<>();
+
+  @BeforeClass
+  public void setup() throws Exception {
+    for (int i = 0; i < NUM_USERS; i++) {
+      final CorpuserUrn urn = new CorpuserUrn("user" + i);
+      final CorpUserSnapshot snapshot = new CorpUserSnapshot().setUrn(urn)
+          .setAspects(new CorpUserAspectArray(CorpUserAspect.create(new CorpUserKey().setUsername("user" + i))));
+      _entities.put(Urn.createFromString(urn.toString()), new Entity().setValue(Snapshot.create(snapshot)));
+    }
+    for (int i = 0; i < NUM_DATASETS; i++) {
+      final DataPlatformUrn platform = new DataPlatformUrn("hive");
+      final DatasetUrn urn = new DatasetUrn(platform, "table_" + i, FabricType.PROD);
+      final DatasetSnapshot snapshot = new DatasetSnapshot().setUrn(urn).setAspects(new DatasetAspectArray(
+          DatasetAspect.create(new DatasetKey().setPlatform(platform).setName("table_" + i).setOrigin(FabricType.PROD))));
+      _entities.put(Urn.createFromString(urn.toString()), new Entity().setValue(Snapshot.create(snapshot)));
+    }
+
+    // Clicks are skewed towards a small set of popular datasets
+    final Random random = new Random(42);
+    for (int i = 0; i < NUM_EVENTS; i++) {
+      final int dataset = (int) (NUM_DATASETS * Math.pow(random.nextDouble(), 3));
+      _events.add(String.format("{\"type\": \"%s\", \"timestamp\": %d, \"actorUrn\": \"%s\", \"entityType\": \"DATASET\", "
+              + "\"entityUrn\": \"%s\"}", i % 2 == 0 ? "EntityViewEvent" : "SearchResultClickEvent", 1600000000000L + i,
+          new CorpuserUrn("user" + random.nextInt(NUM_USERS)),
+          new DatasetUrn(new DataPlatformUrn("hive"), "table_" + dataset, FabricType.PROD)));
+    }
+  }
+
+  @Test
+  public void testHydratesActorAndEntity() {
+    final DataHubUsageEventTransformer transformer =
+        new DataHubUsageEventTransformer(new EntityHydrator(new StubEntityClient()));
+    final Optional<DataHubUsageEventTransformer.TransformedDocument> document =
+        transformer.transformDataHubUsageEvent(_events.get(0));
+
+    assertTrue(document.isPresent());
+    assertTrue(document.get().getDocument().contains("\"corp_user_username\":\"user"));
+    assertTrue(document.get().getDocument().contains("\"dataset_name\":\"table_"));
+  }
+
+  /**
+   * Replays a synthetic usage stream, event by event without a cache as before, and in polled batches through the
+   * cache, and checks that both hydrate the same documents while the batches make a fraction of the GMS calls.
+   */
+  @Test
+  public void testBatchedHydrationCalls() {
+    final StubEntityClient perEventClient = new StubEntityClient();
+    final DataHubUsageEventTransformer perEventTransformer =
+        new DataHubUsageEventTransformer(new EntityHydrator(perEventClient, 0, 1));
+    final List<Optional<DataHubUsageEventTransformer.TransformedDocument>> perEventDocuments = new ArrayList<>();
+    for (String event : _events) {
+      perEventDocuments.add(perEventTransformer.transformDataHubUsageEvent(event));
+    }
+
+    final StubEntityClient batchedClient = new StubEntityClient();
+    final DataHubUsageEventTransformer batchedTransformer =
+        new DataHubUsageEventTransformer(new EntityHydrator(batchedClient));
+    final List<Optional<DataHubUsageEventTransformer.TransformedDocument>> batchedDocuments = new ArrayList<>();
+    for (int start = 0; start < _events.size(); start += POLL_SIZE) {
+      batchedDocuments.addAll(batchedTransformer.transformDataHubUsageEvents(
+          _events.subList(start, Math.min(start + POLL_SIZE, _events.size()))));
+    }
+
+    assertEquals(batchedDocuments, perEventDocuments);
+    assertEquals(perEventClient._calls, 2 * NUM_EVENTS);
+    assertTrue(batchedClient._calls < NUM_EVENTS / 10);
+    // Each urn is fetched once, and then served from the cache
+    assertTrue(batchedClient._urns <= NUM_USERS + NUM_DATASETS);
+  }
+
+  /**
+   * Serves projected batch gets from the in-memory entities, counting the round trips a real GMS would have served.
+   */
+  private class StubEntityClient extends EntityClient {
+    private int _calls = 0;
+    private int _urns = 0;
+
+    StubEntityClient() {
+      super(mock(Client.class));
+    }
+
+    @Nonnull
+    @Override
+    public Map<Urn, Entity> batchGet(@Nonnull Set<Urn> urns, @Nonnull Set<String> aspectNames, @Nonnull String actor) {
+      _calls++;
+      _urns += urns.size();
+      final Map<Urn, Entity> result = new HashMap<>();
+      for (Urn urn : urns) {
+        if (_entities.containsKey(urn)) {
+          result.put(urn, _entities.get(urn));
+        }
+      }
+      return result;
+    }
+  }
+}
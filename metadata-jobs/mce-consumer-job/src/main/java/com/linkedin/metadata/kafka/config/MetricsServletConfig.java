@@ -0,0 +1,15 @@
+package com.linkedin.metadata.kafka.config;
+
+import com.datahub.gms.servlet.Metrics;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+
+@Configuration
+public class MetricsServletConfig {
+  @Bean
+  public ServletRegistrationBean<Metrics> metricsServlet() {
+    return new ServletRegistrationBean<>(new Metrics(), "/metrics");
+  }
+}
@@ -0,0 +1,198 @@
+package com.linkedin.metadata.kafka;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.Entity;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.dao.utils.ModelUtils;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalProcessorCondition;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.FailedMetadataChangeEvent;
+import com.linkedin.mxe.MetadataChangeEvent;
+import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.mxe.Topics;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Batch counterpart of {@link MetadataChangeEventsProcessor}, enabled with MCE_CONSUMER_BATCH_ENABLED.
+ *
+ * The records of a poll are hashed by urn onto a fixed number of lanes. Lanes run in parallel, while the records of a
+ * lane, and therefore all records of an urn, are ingested in order through batchIngest requests. The listener returns
+ * once every lane is done, so the offsets of a poll are only committed after all of its records have been processed.
+ */
+@Slf4j
+@Component
+@Conditional(MetadataChangeProposalProcessorCondition.class)
+@ConditionalOnProperty(name = "MCE_CONSUMER_BATCH_ENABLED", havingValue = "true")
+@EnableKafka
+public class MetadataChangeEventsBatchProcessor {
+
+  private final EntityClient entityClient;
+  private final KafkaTemplate<String, GenericRecord> kafkaTemplate;
+  private final int numLanes;
+  private final int batchIngestSize;
+  private final ExecutorService laneExecutor;
+
+  private final Histogram kafkaLagStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram pollSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "pollSize"));
+  private final Histogram activeLanesStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "activeLanes"));
+  private final Histogram batchIngestSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchIngestSize"));
+  private final Timer laneTimer = MetricUtils.get().timer(MetricRegistry.name(this.getClass(), "lane"));
+  private final Counter inFlightRecords = MetricUtils.get().counter(MetricRegistry.name(this.getClass(), "inFlight"));
+
+  @Value("${KAFKA_FMCE_TOPIC_NAME:" + Topics.FAILED_METADATA_CHANGE_EVENT + "}")
+  private String fmceTopicName;
+
+  public MetadataChangeEventsBatchProcessor(
+      @Nonnull final EntityClient entityClient,
+      @Nonnull final KafkaTemplate<String, GenericRecord> kafkaTemplate,
+      @Value("${MCE_CONSUMER_LANES:8}") final int numLanes,
+      @Value("${MCE_CONSUMER_BATCH_INGEST_SIZE:50}") final int batchIngestSize) {
+    this.entityClient = entityClient;
+    this.kafkaTemplate = kafkaTemplate;
+    this.numLanes = numLanes;
+    this.batchIngestSize = batchIngestSize;
+    this.laneExecutor = Executors.newFixedThreadPool(numLanes);
+  }
+
+  @PreDestroy
+  public void close() {
+    laneExecutor.shutdown();
+  }
+
+  @KafkaListener(id = "${METADATA_CHANGE_EVENT_KAFKA_CONSUMER_GROUP_ID:mce-consumer-job-client}", topics =
+      "${KAFKA_MCE_TOPIC_NAME:" + Topics.METADATA_CHANGE_EVENT + "}", containerFactory = "mceKafkaBatchContainerFactory")
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    pollSizeStats.update(consumerRecords.size());
+
+    final List<List<MetadataChangeEvent>> lanes = new ArrayList<>(numLanes);
+    for (int i = 0; i < numLanes; i++) {
+      lanes.add(new ArrayList<>());
+    }
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+      final GenericRecord record = consumerRecord.value();
+      log.debug("Record {}", record);
+
+      MetadataChangeEvent event = new MetadataChangeEvent();
+      try {
+        event = EventUtils.avroToPegasusMCE(record);
+        log.debug("MetadataChangeEvent {}", event);
+        if (event.hasProposedSnapshot()) {
+          lanes.get(Math.floorMod(getUrn(event).hashCode(), numLanes)).add(event);
+        }
+      } catch (Throwable throwable) {
+        log.error("MCE Processor Error", throwable);
+        log.error("Message: {}", record);
+        sendFailedMCE(event, throwable);
+      }
+    }
+
+    final List<CompletableFuture<Void>> laneFutures = lanes.stream()
+        .filter(lane -> !lane.isEmpty())
+        .map(lane -> CompletableFuture.runAsync(() -> processLane(lane), laneExecutor))
+        .collect(Collectors.toList());
+    activeLanesStats.update(laneFutures.size());
+    CompletableFuture.allOf(laneFutures.toArray(new CompletableFuture[0])).join();
+  }
+
+  private void processLane(@Nonnull final List<MetadataChangeEvent> events) {
+    int remaining = events.size();
+    inFlightRecords.inc(remaining);
+    try (Timer.Context ignored = laneTimer.time()) {
+      for (int start = 0; start < events.size(); start += batchIngestSize) {
+        final List<MetadataChangeEvent> batch = events.subList(start, Math.min(start + batchIngestSize, events.size()));
+        processBatch(batch);
+        inFlightRecords.dec(batch.size());
+        remaining -= batch.size();
+      }
+    } finally {
+      inFlightRecords.dec(remaining);
+    }
+  }
+
+  private void processBatch(@Nonnull final List<MetadataChangeEvent> events) {
+    batchIngestSizeStats.update(events.size());
+    final List<Entity> entities = new ArrayList<>(events.size());
+    final List<SystemMetadata> systemMetadata = new ArrayList<>(events.size());
+    for (MetadataChangeEvent event : events) {
+      entities.add(new Entity().setValue(event.getProposedSnapshot()));
+      systemMetadata.add(event.getSystemMetadata());
+    }
+
+    try {
+      // TODO: Get the actor identity from the event header itself.
+      entityClient.batchUpdateWithSystemMetadata(entities, systemMetadata, Constants.SYSTEM_ACTOR);
+    } catch (Throwable throwable) {
+      // Ingestion of unchanged aspects is a no-op, so the whole batch can be retried one by one to find the failures
+      log.warn(String.format("Failed to ingest a batch of %d entities, ingesting them one by one", events.size()),
+          throwable);
+      for (int i = 0; i < events.size(); i++) {
+        try {
+          entityClient.updateWithSystemMetadata(entities.get(i), systemMetadata.get(i), Constants.SYSTEM_ACTOR);
+        } catch (Throwable eventThrowable) {
+          log.error("MCE Processor Error", eventThrowable);
+          log.error("Message: {}", events.get(i));
+          sendFailedMCE(events.get(i), eventThrowable);
+        }
+      }
+    }
+  }
+
+  @Nonnull
+  private static Urn getUrn(@Nonnull final MetadataChangeEvent event) {
+    return ModelUtils.getUrnFromSnapshot(RecordUtils.getSelectedRecordTemplateFromUnion(event.getProposedSnapshot()));
+  }
+
+  private void sendFailedMCE(@Nonnull MetadataChangeEvent event, @Nonnull Throwable throwable) {
+    final FailedMetadataChangeEvent failedMetadataChangeEvent = createFailedMCEEvent(event, throwable);
+    try {
+      final GenericRecord genericFailedMCERecord = EventUtils.pegasusToAvroFailedMCE(failedMetadataChangeEvent);
+      log.debug("Sending FailedMessages to topic - {}", fmceTopicName);
+      log.info("Error while processing MCE: FailedMetadataChangeEvent - {}", failedMetadataChangeEvent);
+      this.kafkaTemplate.send(fmceTopicName, genericFailedMCERecord);
+    } catch (IOException e) {
+      log.error("Error while sending FailedMetadataChangeEvent: Exception  - {}, FailedMetadataChangeEvent - {}",
+          e.getStackTrace(), failedMetadataChangeEvent);
+    }
+  }
+
+  @Nonnull
+  private FailedMetadataChangeEvent createFailedMCEEvent(@Nonnull MetadataChangeEvent event,
+      @Nonnull Throwable throwable) {
+    final FailedMetadataChangeEvent fmce = new FailedMetadataChangeEvent();
+    fmce.setError(ExceptionUtils.getStackTrace(throwable));
+    fmce.setMetadataChangeEvent(event);
+    return fmce;
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.metadata.kafka;
 
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.linkedin.aspect.IngestProposalStatus;
 import com.linkedin.entity.client.AspectClient;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.EventUtils;
@@ -11,6 +12,8 @@ import com.linkedin.mxe.FailedMetadataChangeProposal;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.mxe.Topics;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
@@ -35,6 +38,8 @@ public class MetadataChangeProposalsProcessor {
 
   private final Histogram kafkaLagStats =
       MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
 
   @Value("${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.FAILED_METADATA_CHANGE_PROPOSAL + "}")
   private String fmcpTopicName;
@@ -46,29 +51,77 @@ public class MetadataChangeProposalsProcessor {
     this.kafkaTemplate = kafkaTemplate;
   }
 
+  /**
+   * Ingests all records of a poll with a single request. Records that fail, either because they cannot be converted
+   * or because their proposal was rejected, are sent to the failed MCP topic individually. If the batch request itself
+   * fails, or does not return one status per record, its records are retried one by one so that a single bad record
+   * cannot fail the others.
+   */
   @KafkaListener(id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}", topics =
       "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL
-          + "}", containerFactory = "mceKafkaContainerFactory")
-  public void consume(final ConsumerRecord<String, GenericRecord> consumerRecord) {
-    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
-    final GenericRecord record = consumerRecord.value();
-    log.debug("Record {}", record);
+          + "}", containerFactory = "mcpKafkaBatchContainerFactory")
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    batchSizeStats.update(consumerRecords.size());
+    final List<MetadataChangeProposal> events = new ArrayList<>(consumerRecords.size());
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+      final GenericRecord record = consumerRecord.value();
+      log.debug("Record {}", record);
+      try {
+        final MetadataChangeProposal event = EventUtils.avroToPegasusMCP(record);
+        log.debug("MetadataChangeProposal {}", event);
+        events.add(event);
+      } catch (Throwable throwable) {
+        log.error("MCP Processor Error", throwable);
+        log.error("Message: {}", record);
+        sendFailedMCP(new MetadataChangeProposal(), ExceptionUtils.getStackTrace(throwable));
+      }
+    }
+    if (events.isEmpty()) {
+      return;
+    }
 
-    MetadataChangeProposal event = new MetadataChangeProposal();
+    final List<IngestProposalStatus> statuses;
     try {
-      event = EventUtils.avroToPegasusMCP(record);
-      log.debug("MetadataChangeProposal {}", event);
       // TODO: Get this from the event itself.
+      statuses = aspectClient.batchIngestProposals(events, Constants.SYSTEM_ACTOR);
+    } catch (Throwable throwable) {
+      log.error(String.format("Failed to ingest a batch of %d proposals, ingesting them one by one", events.size()),
+          throwable);
+      events.forEach(this::ingestProposal);
+      return;
+    }
+    if (statuses.size() != events.size()) {
+      // The statuses cannot be matched to the proposals. Ingesting the proposals again is harmless, since those that
+      // were already ingested are unchanged
+      log.error("Got {} statuses for a batch of {} proposals, ingesting them one by one", statuses.size(),
+          events.size());
+      events.forEach(this::ingestProposal);
+      return;
+    }
+
+    for (int i = 0; i < events.size(); i++) {
+      final IngestProposalStatus status = statuses.get(i);
+      if (status.hasError()) {
+        log.error("MCP Processor Error: {}", status.getError());
+        log.error("Message: {}", events.get(i));
+        sendFailedMCP(events.get(i), status.getError());
+      }
+    }
+  }
+
+  private void ingestProposal(@Nonnull final MetadataChangeProposal event) {
+    try {
       aspectClient.ingestProposal(event, Constants.SYSTEM_ACTOR);
     } catch (Throwable throwable) {
       log.error("MCP Processor Error", throwable);
-      log.error("Message: {}", record);
-      sendFailedMCP(event, throwable);
+      log.error("Message: {}", event);
+      sendFailedMCP(event, ExceptionUtils.getStackTrace(throwable));
     }
   }
 
-  private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
-    final FailedMetadataChangeProposal failedMetadataChangeProposal = createFailedMCPEvent(event, throwable);
+  private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull String error) {
+    final FailedMetadataChangeProposal failedMetadataChangeProposal = createFailedMCPEvent(event, error);
     try {
       final GenericRecord genericFailedMCERecord = EventUtils.pegasusToAvroFailedMCP(failedMetadataChangeProposal);
       log.debug("Sending FailedMessages to topic - {}", fmcpTopicName);
@@ -82,9 +135,9 @@ public class MetadataChangeProposalsProcessor {
 
   @Nonnull
   private FailedMetadataChangeProposal createFailedMCPEvent(@Nonnull MetadataChangeProposal event,
-      @Nonnull Throwable throwable) {
+      @Nonnull String error) {
     final FailedMetadataChangeProposal fmcp = new FailedMetadataChangeProposal();
-    fmcp.setError(ExceptionUtils.getStackTrace(throwable));
+    fmcp.setError(error);
     fmcp.setMetadataChangeProposal(event);
     return fmcp;
   }
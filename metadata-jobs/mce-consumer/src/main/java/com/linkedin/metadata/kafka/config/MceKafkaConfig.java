@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,6 +20,7 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.ErrorHandler;
 
 
@@ -30,9 +32,59 @@ public class MceKafkaConfig {
   private String kafkaBootstrapServers;
   @Value("${KAFKA_SCHEMAREGISTRY_URL:http://localhost:8081}")
   private String kafkaSchemaRegistryUrl;
+  @Value("${METADATA_CHANGE_PROPOSAL_BATCH_SIZE:100}")
+  private int mcpBatchSize;
+  @Value("${METADATA_CHANGE_EVENT_BATCH_SIZE:500}")
+  private int mceBatchSize;
 
   @Bean(name = "mceKafkaContainerFactory")
   public KafkaListenerContainerFactory<?> kafkaListenerContainerFactory(KafkaProperties properties) {
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(buildConsumerProperties(properties)));
+
+    log.info("KafkaListenerContainerFactory built successfully");
+
+    return factory;
+  }
+
+  /**
+   * Container factory for listeners that receive all records of a poll at once, up to the configured batch size.
+   */
+  @Bean(name = "mcpKafkaBatchContainerFactory")
+  public KafkaListenerContainerFactory<?> batchKafkaListenerContainerFactory(KafkaProperties properties) {
+    return buildBatchContainerFactory(buildConsumerProperties(properties), mcpBatchSize);
+  }
+
+  /**
+   * Batch container factory for the MCE consumer. Offsets are committed by the container once the listener has
+   * processed the whole poll, rather than in the background.
+   */
+  @Bean(name = "mceKafkaBatchContainerFactory")
+  public KafkaListenerContainerFactory<?> mceBatchKafkaListenerContainerFactory(KafkaProperties properties) {
+    Map<String, Object> props = buildConsumerProperties(properties);
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory = buildBatchContainerFactory(props, mceBatchSize);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+    return factory;
+  }
+
+  private ConcurrentKafkaListenerContainerFactory<String, GenericRecord> buildBatchContainerFactory(
+      Map<String, Object> props, int batchSize) {
+    props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+    factory.setBatchListener(true);
+
+    log.info("Batch KafkaListenerContainerFactory built successfully with batch size {}", batchSize);
+
+    return factory;
+  }
+
+  private Map<String, Object> buildConsumerProperties(KafkaProperties properties) {
     KafkaProperties.Consumer consumerProps = properties.getConsumer();
 
     // Specify (de)serializers for record keys and for record values.
@@ -49,14 +101,7 @@ public class MceKafkaConfig {
 
     Map<String, Object> props = properties.buildConsumerProperties();
     props.put(AbstractKafkaAvroSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, kafkaSchemaRegistryUrl);
-
-    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
-        new ConcurrentKafkaListenerContainerFactory<>();
-    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
-
-    log.info("KafkaListenerContainerFactory built successfully");
-
-    return factory;
+    return props;
   }
 
   @Bean
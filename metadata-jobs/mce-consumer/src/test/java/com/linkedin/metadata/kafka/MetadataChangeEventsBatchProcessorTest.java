@@ -0,0 +1,202 @@
+package com.linkedin.metadata.kafka;
+
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.entity.Entity;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.aspect.CorpUserAspectArray;
+import com.linkedin.metadata.snapshot.CorpUserSnapshot;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.mxe.MetadataChangeEvent;
+import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.mxe.Topics;
+import com.linkedin.r2.RemoteInvocationException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.SYSTEM_ACTOR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class MetadataChangeEventsBatchProcessorTest {
+
+  private static final int NUM_LANES = 2;
+  private static final int BATCH_INGEST_SIZE = 2;
+  private static final List<String> USERS = new ArrayList<>();
+
+  static {
+    for (int i = 0; i < 6; i++) {
+      USERS.add("user" + i);
+    }
+  }
+
+  private EntityClient _entityClient;
+  private KafkaTemplate<String, GenericRecord> _kafkaTemplate;
+  private MetadataChangeEventsBatchProcessor _processor;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    _entityClient = mock(EntityClient.class);
+    _kafkaTemplate = mock(KafkaTemplate.class);
+    _processor = new MetadataChangeEventsBatchProcessor(_entityClient, _kafkaTemplate, NUM_LANES, BATCH_INGEST_SIZE);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    _processor.close();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testBatchesStayInLaneAndKeepUrnOrder() throws Exception {
+    // Three events for every user, interleaved
+    final List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (int run = 0; run < 3; run++) {
+      for (String user : USERS) {
+        records.add(record(records.size(), user, run));
+      }
+    }
+
+    _processor.consume(records);
+
+    final ArgumentCaptor<List<Entity>> entities = ArgumentCaptor.forClass(List.class);
+    final ArgumentCaptor<List<SystemMetadata>> systemMetadata = ArgumentCaptor.forClass(List.class);
+    verify(_entityClient, atLeastOnce()).batchUpdateWithSystemMetadata(entities.capture(), systemMetadata.capture(),
+        eq(SYSTEM_ACTOR));
+    verify(_entityClient, never()).updateWithSystemMetadata(any(), any(), any());
+
+    final Map<String, List<String>> runsPerUser = new HashMap<>();
+    int ingested = 0;
+    for (int call = 0; call < entities.getAllValues().size(); call++) {
+      final List<Entity> batch = entities.getAllValues().get(call);
+      final List<SystemMetadata> batchSystemMetadata = systemMetadata.getAllValues().get(call);
+      assertTrue(batch.size() <= BATCH_INGEST_SIZE);
+      assertEquals(batchSystemMetadata.size(), batch.size());
+
+      final int lane = lane(batch.get(0));
+      for (int i = 0; i < batch.size(); i++) {
+        assertEquals(lane(batch.get(i)), lane);
+        runsPerUser.computeIfAbsent(user(batch.get(i)), user -> new ArrayList<>())
+            .add(batchSystemMetadata.get(i).getRunId());
+      }
+      ingested += batch.size();
+    }
+
+    assertEquals(ingested, records.size());
+    for (String user : USERS) {
+      assertEquals(runsPerUser.get(user), runIds(3));
+    }
+    verify(_kafkaTemplate, never()).send(any(), any(GenericRecord.class));
+  }
+
+  @Test
+  public void testConsumeReturnsOnceEveryLaneIsIngested() throws Exception {
+    // A slow batchIngest must hold the listener, and therefore the commit of the poll's offsets, until it is done
+    final AtomicInteger ingested = new AtomicInteger();
+    when(_entityClient.batchUpdateWithSystemMetadata(anyList(), anyList(), eq(SYSTEM_ACTOR))).thenAnswer(invocation -> {
+      Thread.sleep(100);
+      ingested.addAndGet(invocation.<List<Entity>>getArgument(0).size());
+      return null;
+    });
+    final List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (String user : USERS) {
+      records.add(record(records.size(), user, 0));
+    }
+
+    _processor.consume(records);
+
+    assertEquals(ingested.get(), records.size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFailedBatchFallsBackToSingleIngestAndSendsFailuresToFmce() throws Exception {
+    // All users in a single lane and batch, so that the failure of one fails the whole batch
+    _processor.close();
+    _processor = new MetadataChangeEventsBatchProcessor(_entityClient, _kafkaTemplate, 1, USERS.size());
+    final String failingUser = USERS.get(1);
+    when(_entityClient.batchUpdateWithSystemMetadata(anyList(), anyList(), eq(SYSTEM_ACTOR)))
+        .thenThrow(new RemoteInvocationException("Invalid aspect"));
+    when(_entityClient.updateWithSystemMetadata(any(), any(), eq(SYSTEM_ACTOR))).thenAnswer(invocation -> {
+      if (user(invocation.getArgument(0)).equals(failingUser)) {
+        throw new RemoteInvocationException("Invalid aspect of " + failingUser);
+      }
+      return null;
+    });
+    final List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (String user : USERS) {
+      records.add(record(records.size(), user, 0));
+    }
+
+    _processor.consume(records);
+
+    verify(_entityClient, times(1)).batchUpdateWithSystemMetadata(anyList(), anyList(), eq(SYSTEM_ACTOR));
+    final ArgumentCaptor<Entity> entities = ArgumentCaptor.forClass(Entity.class);
+    verify(_entityClient, times(USERS.size())).updateWithSystemMetadata(entities.capture(), any(), eq(SYSTEM_ACTOR));
+    assertEquals(entities.getAllValues().stream().map(MetadataChangeEventsBatchProcessorTest::user)
+        .collect(Collectors.toList()), USERS);
+
+    final ArgumentCaptor<GenericRecord> failed = ArgumentCaptor.forClass(GenericRecord.class);
+    verify(_kafkaTemplate, times(1)).send(any(), failed.capture());
+    assertEquals(failed.getValue().getSchema(), com.linkedin.pegasus2avro.mxe.FailedMetadataChangeEvent.SCHEMA$);
+    assertTrue(failed.getValue().get("metadataChangeEvent").toString()
+        .contains(new CorpuserUrn(failingUser).toString()));
+  }
+
+  @Nonnull
+  private static ConsumerRecord<String, GenericRecord> record(long offset, @Nonnull String user, int run)
+      throws IOException {
+    final MetadataChangeEvent event = new MetadataChangeEvent()
+        .setProposedSnapshot(Snapshot.create(
+            new CorpUserSnapshot().setUrn(new CorpuserUrn(user)).setAspects(new CorpUserAspectArray())))
+        .setSystemMetadata(new SystemMetadata().setRunId(runId(run)));
+    return new ConsumerRecord<>(Topics.METADATA_CHANGE_EVENT, 0, offset, user, EventUtils.pegasusToAvroMCE(event));
+  }
+
+  @Nonnull
+  private static String user(@Nonnull Entity entity) {
+    return entity.getValue().getCorpUserSnapshot().getUrn().getUsernameEntity();
+  }
+
+  private static int lane(@Nonnull Entity entity) {
+    return Math.floorMod(entity.getValue().getCorpUserSnapshot().getUrn().hashCode(), NUM_LANES);
+  }
+
+  @Nonnull
+  private static String runId(int run) {
+    return "run-" + run;
+  }
+
+  @Nonnull
+  private static List<String> runIds(int runs) {
+    final List<String> runIds = new ArrayList<>(runs);
+    for (int run = 0; run < runs; run++) {
+      runIds.add(runId(run));
+    }
+    return runIds;
+  }
+}
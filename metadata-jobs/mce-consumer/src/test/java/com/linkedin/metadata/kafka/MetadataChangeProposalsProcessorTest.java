@@ -0,0 +1,153 @@
+package com.linkedin.metadata.kafka;
+
+import com.linkedin.aspect.IngestProposalStatus;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.data.ByteString;
+import com.linkedin.entity.client.AspectClient;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.mxe.GenericAspect;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.Topics;
+import com.linkedin.r2.RemoteInvocationException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static com.linkedin.metadata.Constants.SYSTEM_ACTOR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class MetadataChangeProposalsProcessorTest {
+
+  private static final List<String> USERS = Arrays.asList("user0", "user1", "user2");
+
+  private AspectClient _aspectClient;
+  private KafkaTemplate<String, GenericRecord> _kafkaTemplate;
+  private MetadataChangeProposalsProcessor _processor;
+
+  @BeforeMethod
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    _aspectClient = mock(AspectClient.class);
+    _kafkaTemplate = mock(KafkaTemplate.class);
+    _processor = new MetadataChangeProposalsProcessor(_aspectClient, _kafkaTemplate);
+  }
+
+  @Test
+  public void testErrorStatusesSendFailedProposals() throws Exception {
+    when(_aspectClient.batchIngestProposals(anyList(), eq(SYSTEM_ACTOR))).thenReturn(Arrays.asList(
+        status("user0", null), status("user1", "Invalid aspect of user1"), status("user2", null)));
+
+    _processor.consume(records());
+
+    verify(_aspectClient, never()).ingestProposal(any(), any());
+    final ArgumentCaptor<GenericRecord> failed = ArgumentCaptor.forClass(GenericRecord.class);
+    verify(_kafkaTemplate, times(1)).send(any(), failed.capture());
+    assertEquals(failed.getValue().getSchema(), com.linkedin.pegasus2avro.mxe.FailedMetadataChangeProposal.SCHEMA$);
+    assertEquals(failed.getValue().get("error").toString(), "Invalid aspect of user1");
+    assertTrue(failed.getValue().get("metadataChangeProposal").toString()
+        .contains(new CorpuserUrn("user1").toString()));
+  }
+
+  @Test
+  public void testSuccessStatusesSendNoFailedProposal() throws Exception {
+    when(_aspectClient.batchIngestProposals(anyList(), eq(SYSTEM_ACTOR))).thenReturn(Arrays.asList(
+        status("user0", null), status("user1", null), status("user2", null)));
+
+    _processor.consume(records());
+
+    verify(_aspectClient, times(1)).batchIngestProposals(anyList(), eq(SYSTEM_ACTOR));
+    verify(_aspectClient, never()).ingestProposal(any(), any());
+    verify(_kafkaTemplate, never()).send(any(), any(GenericRecord.class));
+  }
+
+  @Test
+  public void testFailedBatchFallsBackToSingleIngest() throws Exception {
+    when(_aspectClient.batchIngestProposals(anyList(), eq(SYSTEM_ACTOR)))
+        .thenThrow(new RemoteInvocationException("GMS unavailable"));
+    when(_aspectClient.ingestProposal(any(), eq(SYSTEM_ACTOR))).thenAnswer(invocation -> {
+      if (user(invocation.getArgument(0)).equals("user1")) {
+        throw new RemoteInvocationException("Invalid aspect of user1");
+      }
+      return null;
+    });
+
+    _processor.consume(records());
+
+    final ArgumentCaptor<MetadataChangeProposal> proposals = ArgumentCaptor.forClass(MetadataChangeProposal.class);
+    verify(_aspectClient, times(USERS.size())).ingestProposal(proposals.capture(), eq(SYSTEM_ACTOR));
+    assertEquals(proposals.getAllValues().stream().map(MetadataChangeProposalsProcessorTest::user)
+        .collect(Collectors.toList()), USERS);
+
+    final ArgumentCaptor<GenericRecord> failed = ArgumentCaptor.forClass(GenericRecord.class);
+    verify(_kafkaTemplate, times(1)).send(any(), failed.capture());
+    assertTrue(failed.getValue().get("metadataChangeProposal").toString()
+        .contains(new CorpuserUrn("user1").toString()));
+  }
+
+  @Test
+  public void testMismatchedStatusesFallBackToSingleIngest() throws Exception {
+    // One status is missing, so the others cannot be matched to their proposals
+    when(_aspectClient.batchIngestProposals(anyList(), eq(SYSTEM_ACTOR))).thenReturn(Arrays.asList(
+        status("user0", null), status("user1", "Invalid aspect of user1")));
+
+    _processor.consume(records());
+
+    final ArgumentCaptor<MetadataChangeProposal> proposals = ArgumentCaptor.forClass(MetadataChangeProposal.class);
+    verify(_aspectClient, times(USERS.size())).ingestProposal(proposals.capture(), eq(SYSTEM_ACTOR));
+    assertEquals(proposals.getAllValues().stream().map(MetadataChangeProposalsProcessorTest::user)
+        .collect(Collectors.toList()), USERS);
+    verify(_kafkaTemplate, never()).send(any(), any(GenericRecord.class));
+  }
+
+  @Nonnull
+  private static List<ConsumerRecord<String, GenericRecord>> records() throws Exception {
+    final List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (String user : USERS) {
+      final MetadataChangeProposal proposal = new MetadataChangeProposal()
+          .setEntityType("corpuser")
+          .setEntityUrn(new CorpuserUrn(user))
+          .setChangeType(ChangeType.UPSERT)
+          .setAspectName("corpUserInfo")
+          .setAspect(new GenericAspect().setContentType("application/json")
+              .setValue(ByteString.copyString("{\"active\":true}", StandardCharsets.UTF_8)));
+      final GenericRecord record = EventUtils.pegasusToAvroAspectSpecificMXE(
+          com.linkedin.pegasus2avro.mxe.MetadataChangeProposal.class, proposal);
+      records.add(new ConsumerRecord<>(Topics.METADATA_CHANGE_PROPOSAL, 0, records.size(), user, record));
+    }
+    return records;
+  }
+
+  @Nonnull
+  private static IngestProposalStatus status(@Nonnull String user, String error) {
+    final IngestProposalStatus status = new IngestProposalStatus().setUrn(new CorpuserUrn(user).toString());
+    if (error != null) {
+      status.setError(error);
+    }
+    return status;
+  }
+
+  @Nonnull
+  private static String user(@Nonnull MetadataChangeProposal proposal) {
+    return proposal.getEntityUrn().getId();
+  }
+}
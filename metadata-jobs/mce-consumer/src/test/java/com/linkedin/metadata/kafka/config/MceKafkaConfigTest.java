@@ -0,0 +1,26 @@
+package com.linkedin.metadata.kafka.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class MceKafkaConfigTest {
+
+  @Test
+  public void testMceBatchContainerFactoryAcksEachBatch() {
+    final ConcurrentKafkaListenerContainerFactory<?, ?> factory = (ConcurrentKafkaListenerContainerFactory<?, ?>)
+        new MceKafkaConfig().mceBatchKafkaListenerContainerFactory(new KafkaProperties());
+
+    assertTrue(factory.isBatchListener());
+    assertEquals(factory.getContainerProperties().getAckMode(), ContainerProperties.AckMode.BATCH);
+    assertEquals(((DefaultKafkaConsumerFactory<?, ?>) factory.getConsumerFactory()).getConfigurationProperties()
+        .get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG), false);
+  }
+}
@@ -1,5 +1,7 @@
 package com.linkedin.gms.factory.common;
 
+import com.linkedin.gms.factory.search.ESBulkProcessorFactory;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.systemmetadata.ESSystemMetadataDAO;
 import com.linkedin.metadata.systemmetadata.ElasticSearchSystemMetadataService;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
@@ -7,14 +9,13 @@ import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 
 @Configuration
-@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class})
+@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, ESBulkProcessorFactory.class})
 public class ElasticSearchSystemMetadataServiceFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -24,17 +25,9 @@ public class ElasticSearchSystemMetadataServiceFactory {
   @Qualifier(IndexConventionFactory.INDEX_CONVENTION_BEAN)
   private IndexConvention indexConvention;
 
-  @Value("${ES_BULK_REQUESTS_LIMIT:1}")
-  private Integer bulkRequestsLimit;
-
-  @Value("${ES_BULK_FLUSH_PERIOD:1}")
-  private Integer bulkFlushPeriod;
-
-  @Value("${ES_BULK_NUM_RETRIES:3}")
-  private Integer numRetries;
-
-  @Value("${ES_BULK_RETRY_INTERVAL:1}")
-  private Long retryInterval;
+  @Autowired
+  @Qualifier(ESBulkProcessorFactory.ES_BULK_PROCESSOR_BEAN)
+  private ESBulkProcessor bulkProcessor;
 
   @Bean(name = "elasticSearchSystemMetadataService")
   @Nonnull
@@ -42,13 +35,7 @@ public class ElasticSearchSystemMetadataServiceFactory {
     return new ElasticSearchSystemMetadataService(
         searchClient,
         indexConvention,
-        new ESSystemMetadataDAO(
-            searchClient,
-            indexConvention,
-            bulkRequestsLimit,
-            bulkFlushPeriod,
-            numRetries,
-            retryInterval)
+        new ESSystemMetadataDAO(searchClient, indexConvention, bulkProcessor)
     );
   }
 }
@@ -2,6 +2,7 @@ package com.linkedin.gms.factory.common;
 
 import io.ebean.config.ServerConfig;
 import io.ebean.datasource.DataSourceConfig;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -41,24 +42,61 @@ public class LocalEbeanServerConfigFactory {
   @Value("${EBEAN_AUTOCREATE:false}")
   private Boolean ebeanAutoCreate;
 
+  // Optional read replica, with its own connection pool, that read-only queries are routed to. Disabled when no url is
+  // set; the credentials default to those of the primary.
+  @Value("${EBEAN_READ_DATASOURCE_URL:}")
+  private String ebeanReadDatasourceUrl;
+
+  @Value("${EBEAN_READ_DATASOURCE_USERNAME:${EBEAN_DATASOURCE_USERNAME:datahub}}")
+  private String ebeanReadDatasourceUsername;
+
+  @Value("${EBEAN_READ_DATASOURCE_PASSWORD:${EBEAN_DATASOURCE_PASSWORD:datahub}}")
+  private String ebeanReadDatasourcePassword;
+
+  @Value("${EBEAN_READ_MIN_CONNECTIONS:2}")
+  private Integer ebeanReadMinConnections;
+
+  @Value("${EBEAN_READ_MAX_CONNECTIONS:50}")
+  private Integer ebeanReadMaxConnections;
+
   @Bean(name = "gmsEbeanServiceConfig")
   protected ServerConfig createInstance() {
-    DataSourceConfig dataSourceConfig = new DataSourceConfig();
-    dataSourceConfig.setUsername(ebeanDatasourceUsername);
-    dataSourceConfig.setPassword(ebeanDatasourcePassword);
-    dataSourceConfig.setUrl(ebeanDatasourceUrl);
-    dataSourceConfig.setDriver(ebeanDatasourceDriver);
-    dataSourceConfig.setMinConnections(ebeanMinConnections);
-    dataSourceConfig.setMaxConnections(ebeanMaxConnections);
-    dataSourceConfig.setMaxInactiveTimeSecs(ebeanMaxInactiveTimeSecs);
-    dataSourceConfig.setMaxAgeMinutes(ebeanMaxAgeMinutes);
-    dataSourceConfig.setLeakTimeMinutes(ebeanLeakTimeMinutes);
-
     ServerConfig serverConfig = new ServerConfig();
     serverConfig.setName("gmsEbeanServiceConfig");
-    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDataSourceConfig(createDataSourceConfig(ebeanDatasourceUrl, ebeanDatasourceUsername,
+        ebeanDatasourcePassword, ebeanMinConnections, ebeanMaxConnections));
     serverConfig.setDdlGenerate(ebeanAutoCreate);
     serverConfig.setDdlRun(ebeanAutoCreate);
     return serverConfig;
   }
+
+  @Bean(name = "gmsEbeanReadServiceConfig")
+  protected Optional<ServerConfig> createReadInstance() {
+    if (ebeanReadDatasourceUrl.isEmpty()) {
+      return Optional.empty();
+    }
+    log.info("Routing read-only queries to the read replica at {}", ebeanReadDatasourceUrl);
+
+    ServerConfig serverConfig = new ServerConfig();
+    serverConfig.setName("gmsEbeanReadServiceConfig");
+    serverConfig.setDataSourceConfig(createDataSourceConfig(ebeanReadDatasourceUrl, ebeanReadDatasourceUsername,
+        ebeanReadDatasourcePassword, ebeanReadMinConnections, ebeanReadMaxConnections));
+    serverConfig.setDefaultServer(false);
+    return Optional.of(serverConfig);
+  }
+
+  private DataSourceConfig createDataSourceConfig(String url, String username, String password, Integer minConnections,
+      Integer maxConnections) {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername(username);
+    dataSourceConfig.setPassword(password);
+    dataSourceConfig.setUrl(url);
+    dataSourceConfig.setDriver(ebeanDatasourceDriver);
+    dataSourceConfig.setMinConnections(minConnections);
+    dataSourceConfig.setMaxConnections(maxConnections);
+    dataSourceConfig.setMaxInactiveTimeSecs(ebeanMaxInactiveTimeSecs);
+    dataSourceConfig.setMaxAgeMinutes(ebeanMaxAgeMinutes);
+    dataSourceConfig.setLeakTimeMinutes(ebeanLeakTimeMinutes);
+    return dataSourceConfig;
+  }
 }
@@ -10,6 +10,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static com.linkedin.metadata.neo4j.Neo4jDriverFactory.registerPoolMetrics;
+
 @Configuration
 public class Neo4jDriverFactory {
   @Value("${NEO4J_USERNAME:neo4j}")
@@ -49,8 +51,11 @@ public class Neo4jDriverFactory {
     builder.withMaxConnectionLifetime(neo4jMaxConnectionLifetime(), TimeUnit.SECONDS);
     builder.withMaxTransactionRetryTime(neo4jMaxTransactionRetryTime, TimeUnit.SECONDS);
     builder.withConnectionLivenessCheckTimeout(neo4jConnectionLivenessCheckTimeout, TimeUnit.SECONDS);
+    builder.withDriverMetrics();
 
-    return GraphDatabase.driver(uri, AuthTokens.basic(username, password), builder.build());
+    final Driver driver = GraphDatabase.driver(uri, AuthTokens.basic(username, password), builder.build());
+    registerPoolMetrics(driver);
+    return driver;
   }
 
   private Long neo4jMaxConnectionLifetime() {
@@ -3,7 +3,9 @@ package com.linkedin.gms.factory.entity;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import io.ebean.config.ServerConfig;
 
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,10 +19,15 @@ public class EbeanAspectDaoFactory {
   @Autowired
   ApplicationContext applicationContext;
 
+  @Value("${EBEAN_READ_STALENESS_MS:" + EbeanAspectDao.DEFAULT_READ_STALENESS_MILLIS + "}")
+  private long readStalenessMillis;
+
   @Bean(name = "ebeanAspectDao")
-  @DependsOn({"gmsEbeanServiceConfig"})
+  @DependsOn({"gmsEbeanServiceConfig", "gmsEbeanReadServiceConfig"})
   @Nonnull
   protected EbeanAspectDao createInstance() {
-    return new EbeanAspectDao(applicationContext.getBean(ServerConfig.class));
+    final Optional<?> readServerConfig = applicationContext.getBean("gmsEbeanReadServiceConfig", Optional.class);
+    return new EbeanAspectDao(applicationContext.getBean(ServerConfig.class),
+        (ServerConfig) readServerConfig.orElse(null), readStalenessMillis);
   }
 }
\ No newline at end of file
@@ -2,14 +2,20 @@ package com.linkedin.gms.factory.entity;
 
 import com.linkedin.gms.factory.common.TopicConventionFactory;
 import com.linkedin.metadata.dao.producer.EntityKafkaMetadataEventProducer;
+import com.linkedin.metadata.entity.AspectStorageValidationUtil;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.AspectStorageCodec;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanEntityService;
+import com.linkedin.metadata.entity.ebean.EbeanOutboxEventProducer;
+import com.linkedin.metadata.entity.ebean.EbeanOutboxRelay;
+import com.linkedin.metadata.event.EntityEventProducer;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.mxe.TopicConvention;
 import javax.annotation.Nonnull;
 import org.apache.kafka.clients.producer.Producer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,16 +27,63 @@ public class EntityServiceFactory {
   @Autowired
   ApplicationContext applicationContext;
 
+  @Value("${ASPECT_STORAGE_FORMAT:JSON}")
+  private String aspectStorageFormat;
+
+  @Value("${KAFKA_PRODUCER_MAX_IN_FLIGHT_RECORDS:" + EntityKafkaMetadataEventProducer.DEFAULT_MAX_IN_FLIGHT_RECORDS + "}")
+  private Integer maxInFlightRecords;
+
+  @Value("${ENTITY_OUTBOX_ENABLED:false}")
+  private Boolean outboxEnabled;
+
+  @Value("${ENTITY_OUTBOX_RELAY_BATCH_SIZE:" + EbeanOutboxRelay.DEFAULT_BATCH_SIZE + "}")
+  private Integer outboxRelayBatchSize;
+
+  @Value("${ENTITY_OUTBOX_RELAY_POLL_INTERVAL_MS:" + EbeanOutboxRelay.DEFAULT_POLL_INTERVAL_MILLIS + "}")
+  private Long outboxRelayPollIntervalMillis;
+
+  @Value("${ENTITY_OUTBOX_RELAY_LEASE_MS:" + EbeanOutboxRelay.DEFAULT_LEASE_MILLIS + "}")
+  private Long outboxRelayLeaseMillis;
+
   @Bean(name = "entityService")
-  @DependsOn({"ebeanAspectDao", "kafkaEventProducer", TopicConventionFactory.TOPIC_CONVENTION_BEAN, "entityRegistry"})
+  @DependsOn({"ebeanAspectDao", "kafkaEventProducer", TopicConventionFactory.TOPIC_CONVENTION_BEAN, "entityRegistry",
+      "entityOutboxRelay"})
   @Nonnull
   protected EntityService createInstance() {
+    final EbeanAspectDao aspectDao = applicationContext.getBean(EbeanAspectDao.class);
 
-    final EntityKafkaMetadataEventProducer producer =
-        new EntityKafkaMetadataEventProducer(applicationContext.getBean(Producer.class),
-            applicationContext.getBean(TopicConvention.class));
+    // With the outbox, events are written along with the aspects and sent by the relay
+    final EntityEventProducer producer =
+        outboxEnabled ? new EbeanOutboxEventProducer(aspectDao) : createKafkaEventProducer();
 
-    return new EbeanEntityService(applicationContext.getBean(EbeanAspectDao.class), producer,
-        applicationContext.getBean(EntityRegistry.class));
+    return new EbeanEntityService(aspectDao, producer, applicationContext.getBean(EntityRegistry.class),
+        AspectStorageCodec.Format.valueOf(aspectStorageFormat));
+  }
+
+  @Bean(name = "entityOutboxRelay")
+  @DependsOn({"ebeanAspectDao", "kafkaEventProducer", TopicConventionFactory.TOPIC_CONVENTION_BEAN, "entityRegistry"})
+  @Nonnull
+  protected EbeanOutboxRelay createOutboxRelay() {
+    final EbeanAspectDao aspectDao = applicationContext.getBean(EbeanAspectDao.class);
+    final EbeanOutboxRelay relay = new EbeanOutboxRelay(aspectDao, createKafkaEventProducer(),
+        applicationContext.getBean(EntityRegistry.class), outboxRelayBatchSize, outboxRelayPollIntervalMillis,
+        outboxRelayLeaseMillis);
+    if (outboxEnabled) {
+      if (!AspectStorageValidationUtil.checkOutboxTableExists(aspectDao.getServer())) {
+        throw new IllegalStateException("ENTITY_OUTBOX_ENABLED is set, but the metadata_outbox table does not exist");
+      }
+      if (!AspectStorageValidationUtil.checkOutboxLeaseTableExists(aspectDao.getServer())) {
+        throw new IllegalStateException(
+            "ENTITY_OUTBOX_ENABLED is set, but the metadata_outbox_lease table does not exist");
+      }
+      relay.start();
+    }
+    return relay;
+  }
+
+  @Nonnull
+  private EntityKafkaMetadataEventProducer createKafkaEventProducer() {
+    return new EntityKafkaMetadataEventProducer(applicationContext.getBean(Producer.class),
+        applicationContext.getBean(TopicConvention.class), null, maxInFlightRecords);
   }
 }
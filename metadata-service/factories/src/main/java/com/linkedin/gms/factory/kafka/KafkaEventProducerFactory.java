@@ -3,6 +3,7 @@ package com.linkedin.gms.factory.kafka;
 import com.linkedin.gms.factory.kafka.schemaregistry.AwsGlueSchemaRegistryFactory;
 import com.linkedin.gms.factory.kafka.schemaregistry.KafkaSchemaRegistryFactory;
 import com.linkedin.gms.factory.kafka.schemaregistry.SchemaRegistryConfig;
+import com.linkedin.metadata.dao.producer.KafkaProducerProfile;
 import java.util.Arrays;
 import java.util.Map;
 import org.apache.avro.generic.IndexedRecord;
@@ -32,6 +33,18 @@ public class KafkaEventProducerFactory {
   @Value("${SCHEMA_REGISTRY_TYPE:KAFKA}")
   private String schemaRegistryType;
 
+  @Value("${KAFKA_PRODUCER_PROFILE:DEFAULT}")
+  private String producerProfile;
+
+  @Value("${KAFKA_PRODUCER_LINGER_MS:" + KafkaProducerProfile.DEFAULT_LINGER_MS + "}")
+  private Integer lingerMs;
+
+  @Value("${KAFKA_PRODUCER_BATCH_SIZE:" + KafkaProducerProfile.DEFAULT_BATCH_SIZE + "}")
+  private Integer batchSize;
+
+  @Value("${KAFKA_PRODUCER_COMPRESSION_TYPE:" + KafkaProducerProfile.DEFAULT_COMPRESSION_TYPE + "}")
+  private String compressionType;
+
   @Autowired
   @Lazy
   @Qualifier("kafkaSchemaRegistry")
@@ -63,6 +76,7 @@ public class KafkaEventProducerFactory {
 
     props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, schemaRegistryConfig.getSerializer().getName());
     props.putAll(schemaRegistryConfig.getProperties());
+    KafkaProducerProfile.valueOf(producerProfile).apply(props, lingerMs, batchSize, compressionType);
 
     return new KafkaProducer<>(props);
   }
@@ -0,0 +1,55 @@
+package com.linkedin.gms.factory.search;
+
+import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+
+/**
+ * Provides the bulk processor shared by all the writers to Elasticsearch of the process.
+ */
+@Configuration
+@Import({RestHighLevelClientFactory.class})
+public class ESBulkProcessorFactory {
+  public static final String ES_BULK_PROCESSOR_BEAN = "elasticSearchBulkProcessor";
+
+  @Autowired
+  @Qualifier("elasticSearchRestHighLevelClient")
+  private RestHighLevelClient searchClient;
+
+  @Value("${ES_BULK_REQUESTS_LIMIT:1}")
+  private Integer bulkRequestsLimit;
+
+  @Value("${ES_BULK_SIZE_MB:5}")
+  private Long bulkSizeMb;
+
+  @Value("${ES_BULK_FLUSH_PERIOD:1}")
+  private Integer bulkFlushPeriod;
+
+  // One bulk request in flight keeps the writes to a document in the order they were added, as with the per-writer
+  // processors this replaces. More raise the throughput, but a later update of a document can then be applied before an
+  // earlier one that was sent in another request, or that is being retried.
+  @Value("${ES_BULK_CONCURRENT_REQUESTS:1}")
+  private Integer concurrentRequests;
+
+  @Value("${ES_BULK_NUM_RETRIES:3}")
+  private Integer numRetries;
+
+  @Value("${ES_BULK_RETRY_INTERVAL:1}")
+  private Long retryInterval;
+
+  @Bean(name = ES_BULK_PROCESSOR_BEAN)
+  @Nonnull
+  protected ESBulkProcessor getInstance() {
+    return new ESBulkProcessor(searchClient, bulkRequestsLimit, bulkSizeMb, bulkFlushPeriod, concurrentRequests,
+        numRetries, TimeUnit.SECONDS.toMillis(retryInterval));
+  }
+}
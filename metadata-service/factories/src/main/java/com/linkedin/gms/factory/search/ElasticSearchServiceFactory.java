@@ -9,13 +9,13 @@ import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilders;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.SettingsBuilder;
 import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
 import com.linkedin.metadata.search.elasticsearch.query.ESSearchDAO;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -23,7 +23,7 @@ import org.springframework.context.annotation.Import;
 
 @Configuration
 @Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, EntityRegistryFactory.class,
-    SettingsBuilderFactory.class})
+    SettingsBuilderFactory.class, ESBulkProcessorFactory.class})
 public class ElasticSearchServiceFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -41,17 +41,9 @@ public class ElasticSearchServiceFactory {
   @Qualifier("settingsBuilder")
   private SettingsBuilder settingsBuilder;
 
-  @Value("${ES_BULK_REQUESTS_LIMIT:1}")
-  private Integer bulkRequestsLimit;
-
-  @Value("${ES_BULK_FLUSH_PERIOD:1}")
-  private Integer bulkFlushPeriod;
-
-  @Value("${ES_BULK_NUM_RETRIES:3}")
-  private Integer numRetries;
-
-  @Value("${ES_BULK_RETRY_INTERVAL:1}")
-  private Long retryInterval;
+  @Autowired
+  @Qualifier(ESBulkProcessorFactory.ES_BULK_PROCESSOR_BEAN)
+  private ESBulkProcessor bulkProcessor;
 
   @Bean(name = "elasticSearchService")
   @Nonnull
@@ -59,7 +51,6 @@ public class ElasticSearchServiceFactory {
     return new ElasticSearchService(new ESIndexBuilders(entityRegistry, searchClient, indexConvention, settingsBuilder),
         new ESSearchDAO(entityRegistry, searchClient, indexConvention),
         new ESBrowseDAO(entityRegistry, searchClient, indexConvention),
-        new ESWriteDAO(entityRegistry, searchClient, indexConvention, bulkRequestsLimit, bulkFlushPeriod, numRetries,
-            retryInterval));
+        new ESWriteDAO(entityRegistry, searchClient, indexConvention, bulkProcessor));
   }
 }
@@ -3,7 +3,9 @@ package com.linkedin.gms.factory.timeseries;
 import com.linkedin.gms.factory.common.IndexConventionFactory;
 import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
+import com.linkedin.gms.factory.search.ESBulkProcessorFactory;
 import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.timeseries.elastic.ElasticSearchTimeseriesAspectService;
 import com.linkedin.metadata.timeseries.elastic.indexbuilder.TimeseriesAspectIndexBuilders;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
@@ -11,14 +13,14 @@ import javax.annotation.Nonnull;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 
 @Configuration
-@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, EntityRegistryFactory.class})
+@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, EntityRegistryFactory.class,
+    ESBulkProcessorFactory.class})
 public class ElasticSearchTimeseriesAspectServiceFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -32,23 +34,14 @@ public class ElasticSearchTimeseriesAspectServiceFactory {
   @Qualifier("entityRegistry")
   private EntityRegistry entityRegistry;
 
-  @Value("${ES_BULK_REQUESTS_LIMIT:1}")
-  private Integer bulkRequestsLimit;
-
-  @Value("${ES_BULK_FLUSH_PERIOD:1}")
-  private Integer bulkFlushPeriod;
-
-  @Value("${ES_BULK_NUM_RETRIES:3}")
-  private Integer numRetries;
-
-  @Value("${ES_BULK_RETRY_INTERVAL:1}")
-  private Long retryInterval;
+  @Autowired
+  @Qualifier(ESBulkProcessorFactory.ES_BULK_PROCESSOR_BEAN)
+  private ESBulkProcessor bulkProcessor;
 
   @Bean(name = "elasticSearchTimeseriesAspectService")
   @Nonnull
   protected ElasticSearchTimeseriesAspectService getInstance() {
     return new ElasticSearchTimeseriesAspectService(searchClient, indexConvention,
-        new TimeseriesAspectIndexBuilders(entityRegistry, searchClient, indexConvention), bulkRequestsLimit,
-        bulkFlushPeriod, numRetries, retryInterval);
+        new TimeseriesAspectIndexBuilders(entityRegistry, searchClient, indexConvention), bulkProcessor);
   }
 }
\ No newline at end of file
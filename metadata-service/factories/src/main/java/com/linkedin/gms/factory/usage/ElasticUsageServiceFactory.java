@@ -2,12 +2,13 @@ package com.linkedin.gms.factory.usage;
 
 import com.linkedin.gms.factory.common.IndexConventionFactory;
 import com.linkedin.gms.factory.common.RestHighLevelClientFactory;
+import com.linkedin.gms.factory.search.ESBulkProcessorFactory;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.usage.elasticsearch.ElasticUsageService;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -16,7 +17,7 @@ import javax.annotation.Nonnull;
 
 
 @Configuration
-@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class})
+@Import({RestHighLevelClientFactory.class, IndexConventionFactory.class, ESBulkProcessorFactory.class})
 public class ElasticUsageServiceFactory {
   @Autowired
   @Qualifier("elasticSearchRestHighLevelClient")
@@ -26,22 +27,13 @@ public class ElasticUsageServiceFactory {
   @Qualifier(IndexConventionFactory.INDEX_CONVENTION_BEAN)
   private IndexConvention indexConvention;
 
-  @Value("${ES_BULK_REQUESTS_LIMIT:1}")
-  private Integer bulkRequestsLimit;
-
-  @Value("${ES_BULK_FLUSH_PERIOD:1}")
-  private Integer bulkFlushPeriod;
-
-  @Value("${ES_BULK_NUM_RETRIES:3}")
-  private Integer numRetries;
-
-  @Value("${ES_BULK_RETRY_INTERVAL:1}")
-  private Long retryInterval;
+  @Autowired
+  @Qualifier(ESBulkProcessorFactory.ES_BULK_PROCESSOR_BEAN)
+  private ESBulkProcessor bulkProcessor;
 
   @Bean(name = "elasticUsageService")
   @Nonnull
   protected ElasticUsageService getInstance() {
-    return new ElasticUsageService(searchClient, indexConvention,
-            bulkRequestsLimit, bulkFlushPeriod, numRetries, retryInterval);
+    return new ElasticUsageService(searchClient, indexConvention, bulkProcessor);
   }
 }
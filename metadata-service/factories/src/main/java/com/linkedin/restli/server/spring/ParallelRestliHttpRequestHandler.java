@@ -21,21 +21,31 @@ import com.linkedin.parseq.EngineBuilder;
 import com.linkedin.r2.filter.FilterChain;
 import com.linkedin.r2.filter.FilterChains;
 import com.linkedin.r2.filter.transport.FilterChainDispatcher;
+import com.linkedin.r2.transport.http.server.AsyncR2Servlet;
 import com.linkedin.r2.transport.http.server.RAPServlet;
 import com.linkedin.restli.server.DelegatingTransportDispatcher;
 import com.linkedin.restli.server.RestLiConfig;
 import com.linkedin.restli.server.RestLiServer;
+import com.linkedin.util.Configuration;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.springframework.web.HttpRequestHandler;
 
 public class ParallelRestliHttpRequestHandler implements HttpRequestHandler {
 
-  private RAPServlet _r2Servlet;
+  // Requests that are still waiting on a resource pool after this long are failed by the servlet container
+  private static final long ASYNC_TIMEOUT_MS =
+      Long.parseLong(Configuration.getEnvironmentVariable("RESTLI_ASYNC_TIMEOUT_MS", "60000"));
+
+  private HttpServlet _r2Servlet;
 
   public ParallelRestliHttpRequestHandler(RestLiConfig config, SpringInjectResourceFactory injectResourceFactory) {
     this(config, injectResourceFactory, FilterChains.empty());
@@ -45,16 +55,35 @@ public class ParallelRestliHttpRequestHandler implements HttpRequestHandler {
       FilterChain filterChain) {
     config.addFilter(new RestliLoggingFilter());
     RestLiServer restLiServer = new RestLiServer(config, injectResourceFactory, getDefaultParseqEngine());
-    _r2Servlet = new RAPServlet(
-        new FilterChainDispatcher(new DelegatingTransportDispatcher(restLiServer, restLiServer), filterChain));
+    // Serve requests asynchronously so that container threads are released while resources run on their pools
+    _r2Servlet = new AsyncR2Servlet(
+        new FilterChainDispatcher(new DelegatingTransportDispatcher(restLiServer, restLiServer), filterChain),
+        ASYNC_TIMEOUT_MS);
   }
 
+  /**
+   * ParSeq only runs task continuations, blocking resource work is offloaded to the bounded pools in
+   * {@link com.linkedin.metadata.restli.RestliExecutors}. The task executor is therefore sized to the number of cores,
+   * with a separate single thread for timers.
+   */
   public Engine getDefaultParseqEngine() {
-    final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    Engine engine = new EngineBuilder().setTaskExecutor(scheduler).setTimerScheduler(scheduler).build();
+    final int numCores = Runtime.getRuntime().availableProcessors();
+    final ExecutorService taskExecutor = Executors.newFixedThreadPool(numCores + 1, namedThreadFactory("parseq-task"));
+    final ScheduledExecutorService timerScheduler =
+        Executors.newSingleThreadScheduledExecutor(namedThreadFactory("parseq-timer"));
+    Engine engine = new EngineBuilder().setTaskExecutor(taskExecutor).setTimerScheduler(timerScheduler).build();
     return engine;
   }
 
+  private static ThreadFactory namedThreadFactory(String prefix) {
+    final AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
   public ParallelRestliHttpRequestHandler(RAPServlet r2Servlet) {
     _r2Servlet = r2Servlet;
   }
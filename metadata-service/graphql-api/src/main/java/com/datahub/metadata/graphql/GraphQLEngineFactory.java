@@ -39,12 +39,19 @@ public class GraphQLEngineFactory {
   @Value("${ANALYTICS_ENABLED:true}") // TODO: Migrate to DATAHUB_ANALYTICS_ENABLED
   private Boolean isAnalyticsEnabled;
 
+  @Value("${ANALYTICS_QUERY_CONCURRENCY:4}")
+  private Integer analyticsQueryConcurrency;
+
+  @Value("${ANALYTICS_CACHE_WINDOW_SECONDS:300}")
+  private Long analyticsCacheWindowSeconds;
+
   @Bean(name = "graphQLEngine")
   @Nonnull
   protected GraphQLEngine getInstance() {
     if (isAnalyticsEnabled) {
       return new GmsGraphQLEngine(
-          new AnalyticsService(elasticClient, indexConvention.getPrefix()), _entityService
+          new AnalyticsService(elasticClient, indexConvention.getPrefix(), analyticsQueryConcurrency,
+              analyticsCacheWindowSeconds), _entityService
       ).builder().build();
     }
     return new GmsGraphQLEngine().builder().build();
@@ -1,21 +1,31 @@
 package com.linkedin;
 
+import com.codahale.metrics.Timer;
+import com.linkedin.common.callback.Callback;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.BatchGetEntityRequest;
 import com.linkedin.restli.client.Client;
+import com.linkedin.restli.client.Response;
 import com.linkedin.restli.client.base.BatchGetEntityRequestBuilderBase;
+import com.linkedin.restli.common.BatchKVResponse;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.EmptyRecord;
+import com.linkedin.restli.common.EntityResponse;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,7 +34,8 @@ public final class BatchGetUtils {
         // not called
     }
 
-    private static int batchSize = 25;
+    public static final int DEFAULT_BATCH_SIZE = 25;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
 
     public static <
             U extends Urn,
@@ -38,27 +49,137 @@ public final class BatchGetUtils {
             Function<CRK, U> getUrnFromKey,
             Client client
     ) throws RemoteInvocationException {
-        AtomicInteger index = new AtomicInteger(0);
-
-        final Collection<List<U>> entityUrnBatches = urns.stream()
-                .collect(Collectors.groupingBy(x -> index.getAndIncrement() / batchSize))
-                .values();
-
-        final Map<U, T> response = new HashMap<>();
+        return batchGet(urns, requestBuilders, getKeyFromUrn, getUrnFromKey, client, DEFAULT_BATCH_SIZE,
+                DEFAULT_MAX_IN_FLIGHT_BATCHES);
+    }
 
-        for (List<U> urnsInBatch : entityUrnBatches) {
-            BatchGetEntityRequest<CRK, T> batchGetRequest =
+    public static <
+            U extends Urn,
+            T extends RecordTemplate,
+            CRK extends ComplexResourceKey<K, EmptyRecord>,
+            RB extends BatchGetEntityRequestBuilderBase<CRK, T, RB>,
+            K extends RecordTemplate> Map<U, T> batchGet(
+            @Nonnull Set<U> urns,
+            Function<Void, BatchGetEntityRequestBuilderBase<CRK, T, RB>> requestBuilders,
+            Function<U, CRK> getKeyFromUrn,
+            Function<CRK, U> getUrnFromKey,
+            Client client,
+            int batchSize,
+            int maxInFlightBatches
+    ) throws RemoteInvocationException {
+        return parallelBatchGet(urns, batchSize, maxInFlightBatches, urnsInBatch -> {
+            final BatchGetEntityRequest<CRK, T> batchGetRequest =
                     requestBuilders.apply(null)
                             .ids(urnsInBatch.stream().map(getKeyFromUrn).collect(Collectors.toSet()))
                             .build();
-            final Map<U, T> batchResponse = client.sendRequest(batchGetRequest).getResponseEntity().getResults()
+            final CompletableFuture<Response<BatchKVResponse<CRK, EntityResponse<T>>>> future = new CompletableFuture<>();
+            client.sendRequest(batchGetRequest, toCallback(future));
+            return future.thenApply(response -> response.getEntity().getResults()
                     .entrySet().stream().collect(Collectors.toMap(
                             entry -> getUrnFromKey.apply(entry.getKey()),
                             entry -> entry.getValue().getEntity())
-                    );
-            response.putAll(batchResponse);
+                    ));
+        }, BatchGetUtils.class);
+    }
+
+    /**
+     * Splits the keys into batches of at most batchSize and fetches them concurrently, keeping at most
+     * maxInFlightBatches requests outstanding at any time. The results of all batches are merged into a single map.
+     *
+     * The latency of the whole call is published under the "batchGet" timer of the given class, and the number of
+     * batches and keys sent under the "batchGetFanOut" and "batchGetKeys" histograms.
+     */
+    @Nonnull
+    public static <K, V> Map<K, V> parallelBatchGet(
+            @Nonnull Collection<K> keys,
+            int batchSize,
+            int maxInFlightBatches,
+            @Nonnull Function<List<K>, CompletableFuture<Map<K, V>>> batchFetcher,
+            @Nonnull Class<?> metricClass
+    ) throws RemoteInvocationException {
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        final List<List<K>> batches = partition(keys, Math.max(1, batchSize));
+        MetricUtils.histogram(metricClass, "batchGetFanOut").update(batches.size());
+        MetricUtils.histogram(metricClass, "batchGetKeys").update(keys.size());
+
+        final Semaphore inFlight = new Semaphore(Math.max(1, maxInFlightBatches));
+        final List<CompletableFuture<Map<K, V>>> futures = new ArrayList<>(batches.size());
+        try (Timer.Context ignored = MetricUtils.timer(metricClass, "batchGet").time()) {
+            for (List<K> batch : batches) {
+                inFlight.acquireUninterruptibly();
+                final CompletableFuture<Map<K, V>> future;
+                try {
+                    future = batchFetcher.apply(batch);
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                future.whenComplete((result, throwable) -> inFlight.release());
+                futures.add(future);
+            }
+
+            final Map<K, V> response = new HashMap<>();
+            for (CompletableFuture<Map<K, V>> future : futures) {
+                response.putAll(future.get());
+            }
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RemoteInvocationException("Interrupted while waiting for batch get responses", e);
+        } catch (ExecutionException e) {
+            throw toRemoteInvocationException(e.getCause());
+        }
+    }
+
+    /**
+     * Adapts a {@link CompletableFuture} to the callback taken by the asynchronous Rest.li {@link Client} API.
+     */
+    @Nonnull
+    public static <T> Callback<T> toCallback(@Nonnull CompletableFuture<T> future) {
+        return new Callback<T>() {
+            @Override
+            public void onError(Throwable e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onSuccess(T result) {
+                future.complete(result);
+            }
+        };
+    }
+
+    @Nonnull
+    public static RemoteInvocationException toRemoteInvocationException(@Nonnull Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RemoteInvocationException) {
+            return (RemoteInvocationException) cause;
         }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        return new RemoteInvocationException(cause);
+    }
 
-        return response;
+    private static <K> List<List<K>> partition(@Nonnull Collection<K> keys, int batchSize) {
+        final List<List<K>> batches = new ArrayList<>((keys.size() + batchSize - 1) / batchSize);
+        List<K> current = new ArrayList<>(Math.min(batchSize, keys.size()));
+        for (K key : keys) {
+            current.add(key);
+            if (current.size() == batchSize) {
+                batches.add(current);
+                current = new ArrayList<>(batchSize);
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
     }
 }
@@ -1,5 +1,6 @@
 package com.linkedin.common.client;
 
+import com.linkedin.BatchGetUtils;
 import com.linkedin.common.callback.FutureCallback;
 import com.linkedin.metadata.Constants;
 import com.linkedin.r2.RemoteInvocationException;
@@ -7,6 +8,7 @@ import com.linkedin.restli.client.AbstractRequestBuilder;
 import com.linkedin.restli.client.Client;
 import com.linkedin.restli.client.Request;
 import com.linkedin.restli.client.Response;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,6 +30,19 @@ public abstract class BaseClient implements AutoCloseable {
       return _client.sendRequest(requestBuilder.build()).getResponse();
   }
 
+  /**
+   * Non-blocking variant of {@link #sendClientRequest}. The returned future completes on the Rest.li client's I/O
+   * threads, so callers should not block inside its callbacks.
+   */
+  protected <T> CompletableFuture<Response<T>> sendClientRequestAsync(
+      final AbstractRequestBuilder<?, ?, ? extends Request<T>> requestBuilder,
+      final String actor) {
+    requestBuilder.addHeader(Constants.ACTOR_HEADER_NAME, actor);
+    final CompletableFuture<Response<T>> future = new CompletableFuture<>();
+    _client.sendRequest(requestBuilder.build(), BatchGetUtils.toCallback(future));
+    return future;
+  }
+
   @Override
   public void close() {
     if (_client != null) {
@@ -1,6 +1,8 @@
 package com.linkedin.entity.client;
 
+import com.linkedin.aspect.IngestProposalStatus;
 import com.linkedin.common.client.BaseClient;
+import com.linkedin.entity.AspectsDoBatchIngestProposalsRequestBuilder;
 import com.linkedin.entity.AspectsDoGetTimeseriesAspectValuesRequestBuilder;
 import com.linkedin.entity.AspectsDoIngestProposalRequestBuilder;
 import com.linkedin.entity.AspectsGetRequestBuilder;
@@ -8,6 +10,7 @@ import com.linkedin.entity.AspectsRequestBuilders;
 import com.linkedin.metadata.aspect.EnvelopedAspect;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.MetadataChangeProposalArray;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.Client;
 import com.linkedin.restli.client.Response;
@@ -99,4 +102,18 @@ public class AspectClient extends BaseClient {
             .proposalParam(metadataChangeProposal);
     return sendClientRequest(requestBuilder, actor);
   }
+
+  /**
+   * Ingest a batch of MetadataChangeProposal events in a single request.
+   *
+   * @return one status per proposal, in the order of the input. A proposal failed if its status carries an error.
+   */
+  @Nonnull
+  public List<IngestProposalStatus> batchIngestProposals(
+      @Nonnull final List<MetadataChangeProposal> metadataChangeProposals, @Nonnull final String actor)
+      throws RemoteInvocationException {
+    final AspectsDoBatchIngestProposalsRequestBuilder requestBuilder = ASPECTS_REQUEST_BUILDERS.actionBatchIngestProposals()
+        .proposalsParam(new MetadataChangeProposalArray(metadataChangeProposals));
+    return sendClientRequest(requestBuilder, actor).getEntity().getStatuses();
+  }
 }
@@ -1,5 +1,6 @@
 package com.linkedin.entity.client;
 
+import com.linkedin.BatchGetUtils;
 import com.linkedin.common.client.BaseClient;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.StringArray;
@@ -13,6 +14,7 @@ import com.linkedin.entity.EntitiesDoGetBrowsePathsRequestBuilder;
 import com.linkedin.entity.EntitiesDoGetTotalEntityCountRequestBuilder;
 import com.linkedin.entity.EntitiesDoIngestRequestBuilder;
 import com.linkedin.entity.EntitiesDoListUrnsRequestBuilder;
+import com.linkedin.entity.EntitiesDoScrollUrnsRequestBuilder;
 import com.linkedin.entity.EntitiesDoSearchRequestBuilder;
 import com.linkedin.entity.EntitiesDoSetWritableRequestBuilder;
 import com.linkedin.entity.EntitiesRequestBuilders;
@@ -21,18 +23,23 @@ import com.linkedin.entity.EntityArray;
 import com.linkedin.metadata.browse.BrowseResult;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.ListUrnsResult;
+import com.linkedin.metadata.query.ScrollUrnsResult;
 import com.linkedin.metadata.query.SearchResult;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.mxe.SystemMetadataArray;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.Client;
 import com.linkedin.restli.client.Response;
+import com.linkedin.util.Configuration;
 import java.net.URISyntaxException;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -44,8 +51,30 @@ public class EntityClient extends BaseClient {
 
     private static final EntitiesRequestBuilders ENTITIES_REQUEST_BUILDERS = new EntitiesRequestBuilders();
 
+    private static final String BATCH_GET_SIZE_ENV_VAR = "ENTITY_CLIENT_BATCH_GET_SIZE";
+    private static final String BATCH_GET_MAX_IN_FLIGHT_ENV_VAR = "ENTITY_CLIENT_BATCH_GET_MAX_IN_FLIGHT";
+    private static final String BATCH_GET_COALESCE_ENV_VAR = "ENTITY_CLIENT_BATCH_GET_COALESCE";
+
+    private final int _batchGetSize;
+    private final int _maxInFlightBatchGets;
+    private final boolean _coalesceBatchGets;
+    private final ConcurrentHashMap<Urn, CompletableFuture<Entity>> _inFlightBatchGets = new ConcurrentHashMap<>();
+
     public EntityClient(@Nonnull final Client restliClient) {
+        this(restliClient,
+            Integer.parseInt(Configuration.getEnvironmentVariable(BATCH_GET_SIZE_ENV_VAR,
+                String.valueOf(BatchGetUtils.DEFAULT_BATCH_SIZE))),
+            Integer.parseInt(Configuration.getEnvironmentVariable(BATCH_GET_MAX_IN_FLIGHT_ENV_VAR,
+                String.valueOf(BatchGetUtils.DEFAULT_MAX_IN_FLIGHT_BATCHES))),
+            Boolean.parseBoolean(Configuration.getEnvironmentVariable(BATCH_GET_COALESCE_ENV_VAR, "false")));
+    }
+
+    public EntityClient(@Nonnull final Client restliClient, final int batchGetSize, final int maxInFlightBatchGets,
+        final boolean coalesceBatchGets) {
         super(restliClient);
+        _batchGetSize = batchGetSize;
+        _maxInFlightBatchGets = maxInFlightBatchGets;
+        _coalesceBatchGets = coalesceBatchGets;
     }
 
     @Nonnull
@@ -56,23 +85,84 @@ public class EntityClient extends BaseClient {
             .getEntity();
     }
 
+    /**
+     * Fetches the entities with the given urns. The urns are split into batches of {@link #_batchGetSize} that are
+     * sent concurrently, with at most {@link #_maxInFlightBatchGets} requests outstanding at a time.
+     *
+     * When coalescing is enabled, urns that are already being fetched by a concurrent call are not requested again;
+     * the call instead waits for the in-flight response. Coalescing ignores the actor, so it should only be enabled
+     * for clients whose callers may all read the same entities.
+     */
     @Nonnull
     public Map<Urn, Entity> batchGet(@Nonnull final Set<Urn> urns, @Nonnull final String actor) throws RemoteInvocationException {
+        if (!_coalesceBatchGets) {
+            return fetchBatches(urns, null, actor);
+        }
 
-        final Integer batchSize = 25;
-        final AtomicInteger index = new AtomicInteger(0);
-
-        final Collection<List<Urn>> entityUrnBatches = urns.stream()
-                .collect(Collectors.groupingBy(x -> index.getAndIncrement() / batchSize))
-                .values();
+        final Map<Urn, CompletableFuture<Entity>> ownedUrns = new HashMap<>();
+        final Map<Urn, CompletableFuture<Entity>> joinedUrns = new HashMap<>();
+        for (Urn urn : urns) {
+            final CompletableFuture<Entity> future = new CompletableFuture<>();
+            final CompletableFuture<Entity> inFlight = _inFlightBatchGets.putIfAbsent(urn, future);
+            if (inFlight == null) {
+                ownedUrns.put(urn, future);
+            } else {
+                joinedUrns.put(urn, inFlight);
+            }
+        }
+        MetricUtils.counter(EntityClient.class, "batchGetCoalesced").inc(joinedUrns.size());
 
         final Map<Urn, Entity> response = new HashMap<>();
+        try {
+            final Map<Urn, Entity> fetched = fetchBatches(ownedUrns.keySet(), null, actor);
+            response.putAll(fetched);
+            ownedUrns.forEach((urn, future) -> future.complete(fetched.get(urn)));
+        } catch (RemoteInvocationException | RuntimeException e) {
+            ownedUrns.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        } finally {
+            ownedUrns.forEach(_inFlightBatchGets::remove);
+        }
+
+        try {
+            for (Map.Entry<Urn, CompletableFuture<Entity>> entry : joinedUrns.entrySet()) {
+                final Entity entity = entry.getValue().get();
+                if (entity != null) {
+                    response.put(entry.getKey(), entity);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RemoteInvocationException("Interrupted while waiting for in-flight batch get", e);
+        } catch (ExecutionException e) {
+            throw BatchGetUtils.toRemoteInvocationException(e.getCause());
+        }
+        return response;
+    }
+
+    /**
+     * Fetches only the given aspects of the entities with the given urns, in the same batches as
+     * {@link #batchGet(Set, String)}. Key aspects are always returned. Projected fetches are never coalesced, since
+     * concurrent calls may have asked for other aspects.
+     */
+    @Nonnull
+    public Map<Urn, Entity> batchGet(@Nonnull final Set<Urn> urns, @Nonnull final Set<String> aspectNames,
+        @Nonnull final String actor) throws RemoteInvocationException {
+        return fetchBatches(urns, aspectNames, actor);
+    }
 
-        for (List<Urn> urnsInBatch : entityUrnBatches) {
-            EntitiesBatchGetRequestBuilder batchGetRequestBuilder =
+    @Nonnull
+    private Map<Urn, Entity> fetchBatches(@Nonnull final Set<Urn> urns, @Nullable final Set<String> aspectNames,
+        @Nonnull final String actor) throws RemoteInvocationException {
+        return BatchGetUtils.parallelBatchGet(urns, _batchGetSize, _maxInFlightBatchGets, urnsInBatch -> {
+            final EntitiesBatchGetRequestBuilder batchGetRequestBuilder =
                     ENTITIES_REQUEST_BUILDERS.batchGet()
                             .ids(urnsInBatch.stream().map(Urn::toString).collect(Collectors.toSet()));
-            final Map<Urn, Entity> batchResponse = sendClientRequest(batchGetRequestBuilder, actor).getEntity().getResults()
+            if (aspectNames != null) {
+                batchGetRequestBuilder.aspectsParam(new StringArray(aspectNames));
+            }
+            return sendClientRequestAsync(batchGetRequestBuilder, actor).thenApply(response ->
+                    response.getEntity().getResults()
                     .entrySet().stream().collect(Collectors.toMap(
                             entry -> {
                                 try {
@@ -82,10 +172,8 @@ public class EntityClient extends BaseClient {
                                 }
                             },
                             entry -> entry.getValue().getEntity())
-                    );
-            response.putAll(batchResponse);
-        }
-        return response;
+                    ));
+        }, EntityClient.class);
     }
 
     /**
@@ -197,6 +285,24 @@ public class EntityClient extends BaseClient {
         return sendClientRequest(requestBuilder, actor);
     }
 
+    /**
+     * Ingests a batch of entities in a single request, in order.
+     *
+     * @param systemMetadata the system metadata of each entity, in the same order. Null entries get the same defaults
+     *                       as an entity ingested without system metadata.
+     */
+    public Response<Void> batchUpdateWithSystemMetadata(@Nonnull final List<Entity> entities,
+        @Nonnull final List<SystemMetadata> systemMetadata, @Nonnull final String actor) throws RemoteInvocationException {
+        final SystemMetadataArray systemMetadataArray = new SystemMetadataArray(systemMetadata.size());
+        systemMetadata.forEach(metadata -> systemMetadataArray.add(metadata == null ? new SystemMetadata() : metadata));
+
+        EntitiesDoBatchIngestRequestBuilder requestBuilder = ENTITIES_REQUEST_BUILDERS.actionBatchIngest()
+            .entitiesParam(new EntityArray(entities))
+            .systemMetadataParam(systemMetadataArray);
+
+        return sendClientRequest(requestBuilder, actor);
+    }
+
     /**
      * Searches for datasets matching to a given query and filters
      *
@@ -275,6 +381,23 @@ public class EntityClient extends BaseClient {
         return sendClientRequest(requestBuilder, actor).getEntity();
     }
 
+    /**
+     * Scroll through the urns existing for a particular Entity type, passing the continuation of each page to get the
+     * next one, until a page comes back without a continuation.
+     */
+    public ScrollUrnsResult scrollUrns(@Nonnull final String entityName, @Nullable final String continuation,
+        final int count, final boolean includeTotal, @Nonnull final String actor) throws RemoteInvocationException {
+        EntitiesDoScrollUrnsRequestBuilder requestBuilder =
+            ENTITIES_REQUEST_BUILDERS.actionScrollUrns()
+                .entityParam(entityName)
+                .countParam(count)
+                .includeTotalParam(includeTotal);
+        if (continuation != null) {
+            requestBuilder.continuationParam(continuation);
+        }
+        return sendClientRequest(requestBuilder, actor).getEntity();
+    }
+
     /**
      * Hard delete an entity with a particular urn.
      */
@@ -1,7 +1,10 @@
 package com.linkedin.lineage.client;
 
+import com.linkedin.common.EntityRelationshipGraph;
 import com.linkedin.common.EntityRelationships;
 import com.linkedin.common.client.BaseClient;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.lineage.LineageDoGraphRequestBuilder;
 import com.linkedin.lineage.LineageGetRequestBuilder;
 import com.linkedin.lineage.LineageRequestBuilders;
 import com.linkedin.metadata.query.RelationshipDirection;
@@ -9,7 +12,9 @@ import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.Client;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.net.URISyntaxException;
+import java.util.List;
 
 public class Lineages extends BaseClient {
 
@@ -33,4 +38,29 @@ public class Lineages extends BaseClient {
                 .directionParam(direction.toString());
         return sendClientRequest(requestBuilder, actor).getEntity();
     }
+
+    /**
+     * Gets the lineage graph reachable within maxHops hops from all of the given urns, in a single request.
+     */
+    @Nonnull
+    public EntityRelationshipGraph getLineageGraph(
+        @Nonnull List<String> rawUrns,
+        @Nonnull RelationshipDirection direction,
+        int maxHops,
+        @Nullable Integer maxNodes,
+        @Nullable Integer maxEdges,
+        @Nonnull String actor)
+            throws RemoteInvocationException {
+        final LineageDoGraphRequestBuilder requestBuilder = LINEAGE_REQUEST_BUILDERS.actionGraph()
+                .urnsParam(new StringArray(rawUrns))
+                .directionParam(direction.toString())
+                .maxHopsParam(maxHops);
+        if (maxNodes != null) {
+            requestBuilder.maxNodesParam(maxNodes);
+        }
+        if (maxEdges != null) {
+            requestBuilder.maxEdgesParam(maxEdges);
+        }
+        return sendClientRequest(requestBuilder, actor).getEntity();
+    }
 }
@@ -1,7 +1,11 @@
 package com.linkedin.lineage.client;
 
+import com.linkedin.common.EntityRelationshipGraph;
 import com.linkedin.common.EntityRelationships;
 import com.linkedin.common.client.BaseClient;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.lineage.RelationshipsDoBatchGetRequestBuilder;
+import com.linkedin.lineage.RelationshipsDoTraverseRequestBuilder;
 import com.linkedin.lineage.RelationshipsGetRequestBuilder;
 import com.linkedin.lineage.RelationshipsRequestBuilders;
 import com.linkedin.metadata.query.RelationshipDirection;
@@ -9,6 +13,7 @@ import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.restli.client.Client;
 
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import java.net.URISyntaxException;
 import javax.annotation.Nullable;
@@ -46,4 +51,58 @@ public class RelationshipClient extends BaseClient {
         }
         return sendClientRequest(requestBuilder, actor).getEntity();
     }
+
+    /**
+     * Gets the {@link EntityRelationships} of many urns in a single request, keyed by urn. Start and count page the
+     * relationships of each urn independently.
+     */
+    @Nonnull
+    public Map<String, EntityRelationships> batchGetRelationships(
+        @Nonnull List<String> rawUrns,
+        @Nonnull RelationshipDirection direction,
+        @Nonnull List<String> types,
+        @Nullable Integer start,
+        @Nullable Integer count,
+        @Nonnull String actor)
+            throws RemoteInvocationException {
+        final RelationshipsDoBatchGetRequestBuilder requestBuilder = RELATIONSHIPS_REQUEST_BUILDERS.actionBatchGet()
+                .urnsParam(new StringArray(rawUrns))
+                .typesParam(new StringArray(types))
+                .directionParam(direction.toString());
+        if (start != null) {
+            requestBuilder.startParam(start);
+        }
+        if (count != null) {
+            requestBuilder.countParam(count);
+        }
+        return sendClientRequest(requestBuilder, actor).getEntity().getResults();
+    }
+
+    /**
+     * Traverses up to maxHops hops from all of the given urns in a single request, following outgoingTypes along
+     * outgoing edges and incomingTypes along incoming edges.
+     */
+    @Nonnull
+    public EntityRelationshipGraph traverse(
+        @Nonnull List<String> rawUrns,
+        @Nonnull List<String> outgoingTypes,
+        @Nonnull List<String> incomingTypes,
+        int maxHops,
+        @Nullable Integer maxNodes,
+        @Nullable Integer maxEdges,
+        @Nonnull String actor)
+            throws RemoteInvocationException {
+        final RelationshipsDoTraverseRequestBuilder requestBuilder = RELATIONSHIPS_REQUEST_BUILDERS.actionTraverse()
+                .urnsParam(new StringArray(rawUrns))
+                .outgoingTypesParam(new StringArray(outgoingTypes))
+                .incomingTypesParam(new StringArray(incomingTypes))
+                .maxHopsParam(maxHops);
+        if (maxNodes != null) {
+            requestBuilder.maxNodesParam(maxNodes);
+        }
+        if (maxEdges != null) {
+            requestBuilder.maxEdgesParam(maxEdges);
+        }
+        return sendClientRequest(requestBuilder, actor).getEntity();
+    }
 }
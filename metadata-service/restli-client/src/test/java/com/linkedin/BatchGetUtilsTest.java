@@ -0,0 +1,79 @@
+package com.linkedin;
+
+import com.linkedin.r2.RemoteInvocationException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+
+public class BatchGetUtilsTest {
+
+    @Test
+    public void testSplitsKeysIntoBatches() throws Exception {
+        final List<List<Integer>> batches = new ArrayList<>();
+        final Map<Integer, String> result = BatchGetUtils.parallelBatchGet(Arrays.asList(1, 2, 3, 4, 5), 2, 4,
+            batch -> {
+                batches.add(batch);
+                return CompletableFuture.completedFuture(toStrings(batch));
+            }, BatchGetUtilsTest.class);
+
+        assertEquals(batches, Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)));
+        assertEquals(result, toStrings(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void testEmptyKeysSendNoBatch() throws Exception {
+        final Map<Integer, String> result = BatchGetUtils.parallelBatchGet(Collections.<Integer>emptyList(), 2, 4,
+            batch -> {
+                throw new IllegalStateException("No batch should be fetched");
+            }, BatchGetUtilsTest.class);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testFailedBatchFailsCall() {
+        final RemoteInvocationException remoteError = new RemoteInvocationException("GMS unavailable");
+        final RemoteInvocationException thrown = expectThrows(RemoteInvocationException.class,
+            () -> BatchGetUtils.parallelBatchGet(Arrays.asList(1, 2, 3), 1, 4, failing(2, remoteError),
+                BatchGetUtilsTest.class));
+        assertSame(thrown, remoteError);
+
+        // Unchecked failures are rethrown as they are
+        final IllegalStateException runtimeError = new IllegalStateException("Malformed response");
+        final IllegalStateException thrownRuntime = expectThrows(IllegalStateException.class,
+            () -> BatchGetUtils.parallelBatchGet(Arrays.asList(1, 2, 3), 1, 4, failing(3, runtimeError),
+                BatchGetUtilsTest.class));
+        assertSame(thrownRuntime, runtimeError);
+    }
+
+    private static Function<List<Integer>, CompletableFuture<Map<Integer, String>>> failing(int failingKey,
+        Throwable error) {
+        return batch -> {
+            final CompletableFuture<Map<Integer, String>> future = new CompletableFuture<>();
+            if (batch.contains(failingKey)) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(toStrings(batch));
+            }
+            return future;
+        };
+    }
+
+    private static Map<Integer, String> toStrings(List<Integer> keys) {
+        final Map<Integer, String> values = new HashMap<>();
+        keys.forEach(key -> values.put(key, String.valueOf(key)));
+        return values;
+    }
+}
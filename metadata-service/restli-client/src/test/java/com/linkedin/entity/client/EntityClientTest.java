@@ -0,0 +1,305 @@
+package com.linkedin.entity.client;
+
+import com.codahale.metrics.Counter;
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.entity.Entity;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.aspect.CorpUserAspectArray;
+import com.linkedin.metadata.snapshot.CorpUserSnapshot;
+import com.linkedin.metadata.snapshot.Snapshot;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.SystemMetadata;
+import com.linkedin.r2.RemoteInvocationException;
+import com.linkedin.restli.client.Client;
+import com.linkedin.restli.client.Request;
+import com.linkedin.restli.client.Response;
+import com.linkedin.restli.client.ResponseFuture;
+import com.linkedin.restli.common.BatchKVResponse;
+import com.linkedin.restli.common.EntityResponse;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.internal.common.RestConstants;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+
+public class EntityClientTest {
+
+    private static final String ACTOR = "urn:li:corpuser:datahub";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchUpdateWithSystemMetadataSendsOneBatchIngest() throws Exception {
+        final Client restliClient = mock(Client.class);
+        doReturn(mock(ResponseFuture.class)).when(restliClient).sendRequest(any(Request.class));
+        final EntityClient entityClient = new EntityClient(restliClient, 100, 1, false);
+
+        entityClient.batchUpdateWithSystemMetadata(Arrays.asList(entity("user1"), entity("user2")),
+            Arrays.asList(new SystemMetadata().setRunId("run-1"), null), ACTOR);
+
+        final ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+        verify(restliClient).sendRequest(request.capture());
+        assertEquals(request.getValue().getMethod(), ResourceMethod.ACTION);
+        assertEquals(request.getValue().getMethodName(), "batchIngest");
+        assertEquals(request.getValue().getHeaders().get(Constants.ACTOR_HEADER_NAME), ACTOR);
+
+        final DataMap input = request.getValue().getInputRecord().data();
+        assertEquals(input.getDataList("entities").size(), 2);
+        // Null system metadata is sent as the defaults, to keep the two lists aligned
+        final DataList systemMetadata = input.getDataList("systemMetadata");
+        assertEquals(systemMetadata.size(), 2);
+        assertEquals(new SystemMetadata((DataMap) systemMetadata.get(0)).getRunId(), "run-1");
+        assertEquals(systemMetadata.get(1), new SystemMetadata().data());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchGetSplitsUrnsIntoBatches() throws Exception {
+        final Client restliClient = mock(Client.class);
+        final List<Set<String>> requestedIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            final Set<String> ids = ids(invocation.getArgument(0));
+            requestedIds.add(ids);
+            invocation.<Callback<Response<?>>>getArgument(1).onSuccess(response(ids));
+            return null;
+        }).when(restliClient).sendRequest(any(Request.class), any(Callback.class));
+        final EntityClient entityClient = new EntityClient(restliClient, 2, 4, false);
+
+        final Set<Urn> urns = urns("user1", "user2", "user3", "user4", "user5");
+        final Map<Urn, Entity> result = entityClient.batchGet(urns, ACTOR);
+
+        assertEquals(result.keySet(), urns);
+        assertEquals(requestedIds.stream().map(Set::size).sorted().collect(Collectors.toList()),
+            Arrays.asList(1, 2, 2));
+        assertEquals(requestedIds.stream().flatMap(Set::stream).collect(Collectors.toSet()), toStrings(urns));
+    }
+
+    @Test
+    public void testBatchGetLimitsRequestsInFlight() throws Exception {
+        final Client restliClient = mock(Client.class);
+        final BlockingQueue<PendingRequest> pending = pendingRequests(restliClient);
+        final EntityClient entityClient = new EntityClient(restliClient, 1, 2, false);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Set<Urn> urns = urns("user1", "user2", "user3", "user4", "user5");
+            final Future<Map<Urn, Entity>> result = executor.submit(() -> entityClient.batchGet(urns, ACTOR));
+
+            // The third batch is only sent once one of the first two has been answered
+            final PendingRequest first = take(pending);
+            final PendingRequest second = take(pending);
+            assertNull(pending.poll(100, TimeUnit.MILLISECONDS));
+            first.respond();
+            PendingRequest next = take(pending);
+            assertNull(pending.poll(100, TimeUnit.MILLISECONDS));
+            second.respond();
+            for (int i = 0; i < 2; i++) {
+                final PendingRequest later = take(pending);
+                next.respond();
+                next = later;
+            }
+            next.respond();
+
+            assertEquals(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).keySet(), urns);
+            assertTrue(pending.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchGetFailsWithCauseOfFailedBatch() {
+        final Client restliClient = mock(Client.class);
+        final RemoteInvocationException error = new RemoteInvocationException("GMS unavailable");
+        doAnswer(invocation -> {
+            final Set<String> ids = ids(invocation.getArgument(0));
+            final Callback<Response<?>> callback = invocation.getArgument(1);
+            if (ids.contains("urn:li:corpuser:user2")) {
+                callback.onError(error);
+            } else {
+                callback.onSuccess(response(ids));
+            }
+            return null;
+        }).when(restliClient).sendRequest(any(Request.class), any(Callback.class));
+        final EntityClient entityClient = new EntityClient(restliClient, 1, 4, false);
+
+        final RemoteInvocationException thrown = expectThrows(RemoteInvocationException.class,
+            () -> entityClient.batchGet(urns("user1", "user2", "user3"), ACTOR));
+        assertSame(thrown, error);
+    }
+
+    @Test
+    public void testCoalescedBatchGetsShareRequests() throws Exception {
+        final Client restliClient = mock(Client.class);
+        final BlockingQueue<PendingRequest> pending = pendingRequests(restliClient);
+        final EntityClient entityClient = new EntityClient(restliClient, 10, 4, true);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Map<Urn, Entity>> first =
+                executor.submit(() -> entityClient.batchGet(urns("user1", "user2"), ACTOR));
+            final PendingRequest firstRequest = take(pending);
+            assertEquals(firstRequest._ids, toStrings(urns("user1", "user2")));
+
+            // Only the urn that is not in flight yet is requested again
+            final Future<Map<Urn, Entity>> second =
+                executor.submit(() -> entityClient.batchGet(urns("user2", "user3"), ACTOR));
+            final PendingRequest secondRequest = take(pending);
+            assertEquals(secondRequest._ids, toStrings(urns("user3")));
+
+            secondRequest.respond();
+            firstRequest.respond();
+            assertEquals(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).keySet(), urns("user1", "user2"));
+            assertEquals(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).keySet(), urns("user2", "user3"));
+            assertTrue(pending.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoalescedBatchGetFailureReachesJoinedCallers() throws Exception {
+        final Client restliClient = mock(Client.class);
+        final BlockingQueue<PendingRequest> pending = pendingRequests(restliClient);
+        final EntityClient entityClient = new EntityClient(restliClient, 10, 4, true);
+        final Counter coalesced = MetricUtils.counter(EntityClient.class, "batchGetCoalesced");
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Map<Urn, Entity>> first =
+                executor.submit(() -> entityClient.batchGet(urns("user1", "user2"), ACTOR));
+            final PendingRequest request = take(pending);
+
+            // The second call sends no request of its own, and waits for the first one
+            final long coalescedBefore = coalesced.getCount();
+            final Future<Map<Urn, Entity>> second =
+                executor.submit(() -> entityClient.batchGet(urns("user2"), ACTOR));
+            final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+            while (coalesced.getCount() == coalescedBefore && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(coalesced.getCount(), coalescedBefore + 1);
+
+            final RemoteInvocationException error = new RemoteInvocationException("GMS unavailable");
+            request._callback.onError(error);
+            assertSame(expectThrows(ExecutionException.class, () -> first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .getCause(), error);
+            assertSame(expectThrows(ExecutionException.class, () -> second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                .getCause(), error);
+            assertTrue(pending.isEmpty());
+
+            // The failed urns are no longer in flight, so the next call requests them again
+            final Future<Map<Urn, Entity>> retry =
+                executor.submit(() -> entityClient.batchGet(urns("user2"), ACTOR));
+            final PendingRequest retryRequest = take(pending);
+            assertEquals(retryRequest._ids, toStrings(urns("user2")));
+            retryRequest.respond();
+            assertEquals(retry.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).keySet(), urns("user2"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A batch get sent to the mocked Rest.li client, which is answered by the test.
+     */
+    private static final class PendingRequest {
+        private final Set<String> _ids;
+        private final Callback<Response<?>> _callback;
+
+        private PendingRequest(Set<String> ids, Callback<Response<?>> callback) {
+            _ids = ids;
+            _callback = callback;
+        }
+
+        private void respond() throws Exception {
+            _callback.onSuccess(response(_ids));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BlockingQueue<PendingRequest> pendingRequests(Client restliClient) {
+        final BlockingQueue<PendingRequest> pending = new LinkedBlockingQueue<>();
+        doAnswer(invocation -> {
+            pending.add(new PendingRequest(ids(invocation.getArgument(0)), invocation.getArgument(1)));
+            return null;
+        }).when(restliClient).sendRequest(any(Request.class), any(Callback.class));
+        return pending;
+    }
+
+    private static PendingRequest take(BlockingQueue<PendingRequest> pending) throws InterruptedException {
+        final PendingRequest request = pending.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(request, "Expected a batch get request");
+        return request;
+    }
+
+    private static Set<String> ids(Request<?> request) {
+        final Collection<?> ids = (Collection<?>) request.getQueryParamsObjects().get(RestConstants.QUERY_BATCH_IDS);
+        return ids.stream().map(String::valueOf).collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Response<?> response(Set<String> ids) throws Exception {
+        final Map<String, EntityResponse<Entity>> results = new HashMap<>();
+        for (String id : ids) {
+            final EntityResponse<Entity> entityResponse = mock(EntityResponse.class);
+            when(entityResponse.getEntity()).thenReturn(entity(CorpuserUrn.createFromString(id).getUsernameEntity()));
+            results.put(id, entityResponse);
+        }
+        final BatchKVResponse<String, EntityResponse<Entity>> batchResponse = mock(BatchKVResponse.class);
+        when(batchResponse.getResults()).thenReturn(results);
+        final Response<BatchKVResponse<String, EntityResponse<Entity>>> response = mock(Response.class);
+        when(response.getEntity()).thenReturn(batchResponse);
+        return response;
+    }
+
+    private static Set<Urn> urns(String... users) throws URISyntaxException {
+        final Set<Urn> urns = new HashSet<>();
+        for (String user : users) {
+            // Parsed like the keys of the responses
+            urns.add(Urn.createFromString(new CorpuserUrn(user).toString()));
+        }
+        return urns;
+    }
+
+    private static Set<String> toStrings(Set<Urn> urns) {
+        return urns.stream().map(Urn::toString).collect(Collectors.toSet());
+    }
+
+    private static Entity entity(String user) {
+        return new Entity().setValue(Snapshot.create(
+            new CorpUserSnapshot().setUrn(new CorpuserUrn(user)).setAspects(new CorpUserAspectArray())));
+    }
+}
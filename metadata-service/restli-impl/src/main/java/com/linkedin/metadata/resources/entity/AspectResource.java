@@ -1,7 +1,10 @@
 package com.linkedin.metadata.resources.entity;
 
 import com.codahale.metrics.MetricRegistry;
+import com.linkedin.aspect.BatchIngestProposalsResponse;
 import com.linkedin.aspect.GetTimeseriesAspectValuesResponse;
+import com.linkedin.aspect.IngestProposalStatus;
+import com.linkedin.aspect.IngestProposalStatusArray;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
@@ -10,9 +13,11 @@ import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.EnvelopedAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.IngestProposalResult;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.restli.RestliPool;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.search.utils.BrowsePathUtils;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
@@ -52,10 +57,12 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
 
   private static final String ACTION_GET_TIMESERIES_ASPECT = "getTimeseriesAspectValues";
   private static final String ACTION_INGEST_PROPOSAL = "ingestProposal";
+  private static final String ACTION_BATCH_INGEST_PROPOSALS = "batchIngestProposals";
 
   private static final String PARAM_ENTITY = "entity";
   private static final String PARAM_ASPECT = "aspect";
   private static final String PARAM_PROPOSAL = "proposal";
+  private static final String PARAM_PROPOSALS = "proposals";
   private static final String PARAM_START_TIME_MILLIS = "startTimeMillis";
   private static final String PARAM_END_TIME_MILLIS = "endTimeMillis";
 
@@ -90,7 +97,7 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
         validateOrWarn(aspect);
       }
       return aspect;
-    }, MetricRegistry.name(this.getClass(), "get"));
+    }, MetricRegistry.name(this.getClass(), "get"), RestliPool.READ);
   }
 
   @Action(name = ACTION_GET_TIMESERIES_ASPECT)
@@ -121,7 +128,7 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
           _timeseriesAspectService.getAspectValues(urn, entityName, aspectName, startTimeMillis, endTimeMillis,
               limit)));
       return response;
-    }, MetricRegistry.name(this.getClass(), "getTimeseriesAspectValues"));
+    }, MetricRegistry.name(this.getClass(), "getTimeseriesAspectValues"), RestliPool.READ);
   }
 
   @Action(name = ACTION_INGEST_PROPOSAL)
@@ -141,7 +148,71 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
       Urn urn = _entityService.ingestProposal(metadataChangeProposal, auditStamp);
       additionalChanges.forEach(proposal -> _entityService.ingestProposal(proposal, auditStamp));
       return urn.toString();
-    }, MetricRegistry.name(this.getClass(), "ingestProposal"));
+    }, MetricRegistry.name(this.getClass(), "ingestProposal"), RestliPool.WRITE);
+  }
+
+  /**
+   * Ingests a batch of proposals. A failing proposal does not fail the rest of the batch; its error is returned in
+   * the status at the same position as the proposal.
+   */
+  @Action(name = ACTION_BATCH_INGEST_PROPOSALS)
+  @Nonnull
+  @WithSpan
+  public Task<BatchIngestProposalsResponse> batchIngestProposals(
+      @ActionParam(PARAM_PROPOSALS) @Nonnull MetadataChangeProposal[] metadataChangeProposals)
+      throws URISyntaxException {
+    log.info("BATCH INGEST PROPOSALS count: {}", metadataChangeProposals.length);
+
+    // TODO: Use the actor present in the IC.
+    final AuditStamp auditStamp = new AuditStamp().setTime(_clock.millis()).setActor(Urn.createFromString(
+        Constants.UNKNOWN_ACTOR));
+
+    return RestliUtil.toTask(() -> {
+      // Each proposal is followed by its additional changes, which are attributed back to it
+      final List<MetadataChangeProposal> proposals = new ArrayList<>();
+      final List<Integer> requestIndices = new ArrayList<>();
+      final String[] errors = new String[metadataChangeProposals.length];
+      for (int i = 0; i < metadataChangeProposals.length; i++) {
+        try {
+          final List<MetadataChangeProposal> additionalChanges = getAdditionalChanges(metadataChangeProposals[i]);
+          proposals.add(metadataChangeProposals[i]);
+          requestIndices.add(i);
+          for (MetadataChangeProposal additionalChange : additionalChanges) {
+            proposals.add(additionalChange);
+            requestIndices.add(i);
+          }
+        } catch (Exception e) {
+          errors[i] = e.toString();
+        }
+      }
+
+      final List<IngestProposalResult> results = _entityService.batchIngestProposals(proposals, auditStamp);
+
+      final String[] urns = new String[metadataChangeProposals.length];
+      for (int i = 0; i < results.size(); i++) {
+        final int requestIndex = requestIndices.get(i);
+        final IngestProposalResult result = results.get(i);
+        if (urns[requestIndex] == null && result.getUrn() != null) {
+          urns[requestIndex] = result.getUrn().toString();
+        }
+        if (errors[requestIndex] == null && !result.isSuccess()) {
+          errors[requestIndex] = result.getError().toString();
+        }
+      }
+
+      final IngestProposalStatusArray statuses = new IngestProposalStatusArray(metadataChangeProposals.length);
+      for (int i = 0; i < metadataChangeProposals.length; i++) {
+        final IngestProposalStatus status = new IngestProposalStatus();
+        if (urns[i] != null) {
+          status.setUrn(urns[i]);
+        }
+        if (errors[i] != null) {
+          status.setError(errors[i]);
+        }
+        statuses.add(status);
+      }
+      return new BatchIngestProposalsResponse().setStatuses(statuses);
+    }, MetricRegistry.name(this.getClass(), "batchIngestProposals"), RestliPool.WRITE);
   }
 
   private List<MetadataChangeProposal> getAdditionalChanges(@Nonnull MetadataChangeProposal metadataChangeProposal)
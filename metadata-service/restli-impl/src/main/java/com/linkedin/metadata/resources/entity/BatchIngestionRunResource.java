@@ -4,6 +4,7 @@ import com.codahale.metrics.MetricRegistry;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RollbackRunResult;
+import com.linkedin.metadata.restli.RestliPool;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.run.AspectRowSummary;
 import com.linkedin.metadata.run.AspectRowSummaryArray;
@@ -94,7 +95,7 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
           new AspectRowSummaryArray(deletedRows.subList(0, Math.min(100, deletedRows.size())))
       );
       return response;
-    }, MetricRegistry.name(this.getClass(), "rollback"));
+    }, MetricRegistry.name(this.getClass(), "rollback"), RestliPool.ADMIN);
   }
 
   private String stringifyRowCount(int size) {
@@ -127,6 +128,6 @@ public class BatchIngestionRunResource extends CollectionResourceTaskTemplate<St
 
     return RestliUtil.toTask(() -> new IngestionRunSummaryArray(
         _systemMetadataService.listRuns(pageOffset != null ? pageOffset : DEFAULT_OFFSET,
-            pageSize != null ? pageSize : DEFAULT_PAGE_SIZE)), MetricRegistry.name(this.getClass(), "list"));
+            pageSize != null ? pageSize : DEFAULT_PAGE_SIZE)), MetricRegistry.name(this.getClass(), "list"), RestliPool.ADMIN);
   }
 }
@@ -16,12 +16,13 @@ import com.linkedin.metadata.entity.RollbackRunResult;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.ListUrnsResult;
+import com.linkedin.metadata.query.ScrollUrnsResult;
 import com.linkedin.metadata.query.SearchResult;
 import com.linkedin.metadata.query.SortCriterion;
+import com.linkedin.metadata.restli.RestliPool;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.metadata.run.DeleteEntityResponse;
 import com.linkedin.metadata.search.SearchService;
-import com.linkedin.metadata.search.utils.BrowsePathUtils;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.parseq.Task;
@@ -79,9 +80,12 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
   private static final String ACTION_SEARCH = "search";
   private static final String ACTION_BATCH_INGEST = "batchIngest";
   private static final String ACTION_LIST_URNS = "listUrns";
+  private static final String ACTION_SCROLL_URNS = "scrollUrns";
   private static final String PARAM_ENTITY = "entity";
   private static final String PARAM_ENTITIES = "entities";
   private static final String PARAM_COUNT = "count";
+  private static final String PARAM_CONTINUATION = "continuation";
+  private static final String PARAM_INCLUDE_TOTAL = "includeTotal";
   private static final String PARAM_VALUE = "value";
   private static final String SYSTEM_METADATA = "systemMetadata";
 
@@ -115,7 +119,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
         validateOrWarn(entity);
       }
       return entity;
-    }, MetricRegistry.name(this.getClass(), "get"));
+    }, MetricRegistry.name(this.getClass(), "get"), RestliPool.READ);
   }
 
   @RestMethod.BatchGet
@@ -136,7 +140,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
           .stream()
           .peek(entry -> validateOrWarn(entry.getValue()))
           .collect(Collectors.toMap(entry -> entry.getKey().toString(), Map.Entry::getValue));
-    }, MetricRegistry.name(this.getClass(), "batchGet"));
+    }, MetricRegistry.name(this.getClass(), "batchGet"), RestliPool.READ);
   }
 
   private SystemMetadata populateDefaultFieldsIfEmpty(@Nullable SystemMetadata systemMetadata) {
@@ -163,15 +167,11 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     Timer.Context preIngestTimer = MetricUtils.timer(this.getClass(), "preIngest").time();
     SystemMetadata systemMetadata = populateDefaultFieldsIfEmpty(providedSystemMetadata);
 
-    final Set<String> projectedAspects = new HashSet<>(Arrays.asList("browsePaths"));
     final RecordTemplate snapshotRecord = RecordUtils.getSelectedRecordTemplateFromUnion(entity.getValue());
     final Urn urn = com.linkedin.metadata.dao.utils.ModelUtils.getUrnFromSnapshot(snapshotRecord);
 
     log.info("INGEST urn {} with system metadata {}", urn.toString(), systemMetadata.toString());
 
-    final Entity browsePathEntity = _entityService.getEntity(urn, projectedAspects);
-    BrowsePathUtils.addBrowsePathIfNotExists(entity.getValue(), browsePathEntity);
-
     // TODO Correctly audit ingestions.
     final AuditStamp auditStamp =
         new AuditStamp().setTime(_clock.millis()).setActor(Urn.createFromString(Constants.UNKNOWN_ACTOR));
@@ -181,9 +181,11 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     // variables referenced in lambdas are required to be final
     final SystemMetadata finalSystemMetadata = systemMetadata;
     return RestliUtil.toTask(() -> {
-      _entityService.ingestEntity(entity, auditStamp, finalSystemMetadata);
+      // The default browse path is added as part of ingestion, from the same existence check as the key aspect
+      _entityService.ingestEntities(Collections.singletonList(entity), auditStamp,
+          Collections.singletonList(finalSystemMetadata), true);
       return null;
-    }, MetricRegistry.name(this.getClass(), "ingest"));
+    }, MetricRegistry.name(this.getClass(), "ingest"), RestliPool.WRITE);
   }
 
   @Action(name = ACTION_BATCH_INGEST)
@@ -212,9 +214,9 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
         .collect(Collectors.toList());
 
     return RestliUtil.toTask(() -> {
-      _entityService.ingestEntities(Arrays.asList(entities), auditStamp, finalSystemMetadataList);
+      _entityService.ingestEntities(Arrays.asList(entities), auditStamp, finalSystemMetadataList, true);
       return null;
-    }, MetricRegistry.name(this.getClass(), "batchIngest"));
+    }, MetricRegistry.name(this.getClass(), "batchIngest"), RestliPool.WRITE);
   }
 
   @Action(name = ACTION_SEARCH)
@@ -227,7 +229,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
 
     log.info("GET SEARCH RESULTS for {} with query {}", entityName, input);
     return RestliUtil.toTask(() -> _searchService.search(entityName, input, filter, sortCriterion, start, count),
-        MetricRegistry.name(this.getClass(), "search"));
+        MetricRegistry.name(this.getClass(), "search"), RestliPool.READ);
   }
 
   @Action(name = ACTION_AUTOCOMPLETE)
@@ -238,7 +240,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
       @ActionParam(PARAM_FILTER) @Optional @Nullable Filter filter, @ActionParam(PARAM_LIMIT) int limit) {
 
     return RestliUtil.toTask(() -> _searchService.autoComplete(entityName, query, field, filter, limit),
-        MetricRegistry.name(this.getClass(), "autocomplete"));
+        MetricRegistry.name(this.getClass(), "autocomplete"), RestliPool.READ);
   }
 
   @Action(name = ACTION_BROWSE)
@@ -250,7 +252,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
 
     log.info("GET BROWSE RESULTS for {} at path {}", entityName, path);
     return RestliUtil.toTask(() -> _searchService.browse(entityName, path, filter, start, limit),
-        MetricRegistry.name(this.getClass(), "browse"));
+        MetricRegistry.name(this.getClass(), "browse"), RestliPool.READ);
   }
 
   @Action(name = ACTION_GET_BROWSE_PATHS)
@@ -260,7 +262,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
       @ActionParam(value = PARAM_URN, typeref = com.linkedin.common.Urn.class) @Nonnull Urn urn) {
     log.info("GET BROWSE PATHS for {}", urn.toString());
     return RestliUtil.toTask(() -> new StringArray(_searchService.getBrowsePaths(urnToEntityName(urn), urn)),
-        MetricRegistry.name(this.getClass(), "getBrowsePaths"));
+        MetricRegistry.name(this.getClass(), "getBrowsePaths"), RestliPool.READ);
   }
 
   /*
@@ -282,7 +284,7 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
       response.setRows(result.getRowsDeletedFromEntityDeletion());
 
       return response;
-    }, MetricRegistry.name(this.getClass(), "delete"));
+    }, MetricRegistry.name(this.getClass(), "delete"), RestliPool.WRITE);
   }
 
   /*
@@ -296,14 +298,15 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
     return RestliUtil.toTask(() -> {
       _entityService.setWritable(value);
       return null;
-    });
+    }, MetricRegistry.name(this.getClass(), "setWritable"), RestliPool.ADMIN);
   }
 
   @Action(name = "getTotalEntityCount")
   @Nonnull
   @WithSpan
   public Task<Long> getTotalEntityCount(@ActionParam(PARAM_ENTITY) @Nonnull String entityName) {
-    return RestliUtil.toTask(() -> _searchService.docCount(entityName));
+    return RestliUtil.toTask(() -> _searchService.docCount(entityName),
+        MetricRegistry.name(this.getClass(), "getTotalEntityCount"), RestliPool.READ);
   }
 
   @Action(name = "batchGetTotalEntityCount")
@@ -311,7 +314,8 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
   @WithSpan
   public Task<LongMap> batchGetTotalEntityCount(@ActionParam(PARAM_ENTITIES) @Nonnull String[] entityNames) {
     return RestliUtil.toTask(() -> new LongMap(
-        Arrays.stream(entityNames).collect(Collectors.toMap(Function.identity(), _searchService::docCount))));
+        Arrays.stream(entityNames).collect(Collectors.toMap(Function.identity(), _searchService::docCount))),
+        MetricRegistry.name(this.getClass(), "batchGetTotalEntityCount"), RestliPool.READ);
   }
 
   @Action(name = ACTION_LIST_URNS)
@@ -323,6 +327,24 @@ public class EntityResource extends CollectionResourceTaskTemplate<String, Entit
       @ActionParam(PARAM_COUNT) int count
   ) throws URISyntaxException {
     log.info("LIST URNS for {} with start {} and count {}", entityName, start, count);
-    return RestliUtil.toTask(() -> _entityService.listUrns(entityName, start, count), "listUrns");
+    return RestliUtil.toTask(() -> _entityService.listUrns(entityName, start, count), "listUrns", RestliPool.READ);
+  }
+
+  /**
+   * Scrolls through the urns of an entity in urn order. Each page is read from where the previous one ended, so unlike
+   * {@link #listUrns}, paging through all urns of a large entity does not get slower as it goes.
+   */
+  @Action(name = ACTION_SCROLL_URNS)
+  @Nonnull
+  @WithSpan
+  public Task<ScrollUrnsResult> scrollUrns(
+      @ActionParam(PARAM_ENTITY) @Nonnull String entityName,
+      @ActionParam(PARAM_CONTINUATION) @Optional @Nullable String continuation,
+      @ActionParam(PARAM_COUNT) int count,
+      @ActionParam(PARAM_INCLUDE_TOTAL) @Optional("false") boolean includeTotal
+  ) {
+    log.info("SCROLL URNS for {} with count {}", entityName, count);
+    return RestliUtil.toTask(() -> _entityService.scrollUrns(entityName, continuation, count, includeTotal),
+        "scrollUrns", RestliPool.READ);
   }
 }
@@ -3,14 +3,19 @@ package com.linkedin.metadata.resources.lineage;
 import com.codahale.metrics.MetricRegistry;
 import com.linkedin.common.EntityRelationship;
 import com.linkedin.common.EntityRelationshipArray;
+import com.linkedin.common.EntityRelationshipGraph;
 import com.linkedin.common.EntityRelationships;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.graph.GraphService;
+import com.linkedin.metadata.graph.TraversalResult;
 import com.linkedin.metadata.query.CriterionArray;
 import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.RelationshipDirection;
+import com.linkedin.metadata.restli.RestliPool;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.parseq.Task;
+import com.linkedin.restli.server.annotations.Action;
+import com.linkedin.restli.server.annotations.ActionParam;
 import com.linkedin.restli.server.annotations.Optional;
 import com.linkedin.restli.server.annotations.QueryParam;
 import com.linkedin.restli.server.annotations.RestLiSimpleResource;
@@ -42,6 +47,7 @@ public final class Lineage extends SimpleResourceTemplate<EntityRelationships> {
 
     private static final Filter EMPTY_FILTER = new Filter().setCriteria(new CriterionArray());
     private static final Integer MAX_DOWNSTREAM_CNT = 100;
+    private static final String ACTION_GRAPH = "graph";
 
     private static final List<String> LINEAGE_RELATIONSHIP_TYPES = Arrays.asList(
         "DownstreamOf", "Consumes", "Contains", "TrainedBy");
@@ -85,6 +91,39 @@ public final class Lineage extends SimpleResourceTemplate<EntityRelationships> {
             ).collect(Collectors.toList());
     }
 
+    /**
+     * Returns the lineage graph reachable within maxHops hops from all of the given urns, in one call.
+     */
+    @Nonnull
+    @Action(name = ACTION_GRAPH)
+    @WithSpan
+    public Task<EntityRelationshipGraph> graph(
+        @ActionParam("urns") @Nonnull String[] rawUrns,
+        @ActionParam("direction") @Nonnull String rawDirection,
+        @ActionParam("maxHops") @Optional @Nullable Integer maxHops,
+        @ActionParam("maxNodes") @Optional @Nullable Integer maxNodes,
+        @ActionParam("maxEdges") @Optional @Nullable Integer maxEdges
+    ) {
+        final RelationshipDirection direction = RelationshipDirection.valueOf(rawDirection);
+        return RestliUtil.toTask(() -> Relationships.toEntityRelationshipGraph(traverseLineage(
+            Relationships.toUrns(rawUrns),
+            direction,
+            Math.min(maxHops == null ? Relationships.DEFAULT_MAX_HOPS : maxHops, Relationships.MAX_HOPS),
+            Math.min(maxNodes == null ? Relationships.MAX_NODES : maxNodes, Relationships.MAX_NODES),
+            Math.min(maxEdges == null ? Relationships.MAX_EDGES : maxEdges, Relationships.MAX_EDGES))),
+            MetricRegistry.name(this.getClass(), ACTION_GRAPH), RestliPool.READ);
+    }
+
+    private TraversalResult traverseLineage(List<Urn> urns, RelationshipDirection direction, int maxHops, int maxNodes,
+        int maxEdges) {
+        // Lineage relationships are followed in the requested direction, inverse lineage relationships in the opposite one.
+        final List<String> outgoingTypes = direction == RelationshipDirection.OUTGOING
+            ? LINEAGE_RELATIONSHIP_TYPES : INVERSE_LINEAGE_RELATIONSHIP_TYPES;
+        final List<String> incomingTypes = direction == RelationshipDirection.OUTGOING
+            ? INVERSE_LINEAGE_RELATIONSHIP_TYPES : LINEAGE_RELATIONSHIP_TYPES;
+        return _graphService.traverse(urns, outgoingTypes, incomingTypes, maxHops, maxNodes, maxEdges);
+    }
+
     @Nonnull
     @RestMethod.Get
     @WithSpan
@@ -104,6 +143,6 @@ public final class Lineage extends SimpleResourceTemplate<EntityRelationships> {
                 }).collect(Collectors.toList()));
 
             return new EntityRelationships().setRelationships(entityArray);
-        }, MetricRegistry.name(this.getClass(), "get"));
+        }, MetricRegistry.name(this.getClass(), "get"), RestliPool.READ);
     }
 }
@@ -3,18 +3,28 @@ package com.linkedin.metadata.resources.lineage;
 import com.codahale.metrics.MetricRegistry;
 import com.linkedin.common.EntityRelationship;
 
+import com.linkedin.common.BatchEntityRelationships;
 import com.linkedin.common.EntityRelationshipArray;
+import com.linkedin.common.EntityRelationshipEdge;
+import com.linkedin.common.EntityRelationshipEdgeArray;
+import com.linkedin.common.EntityRelationshipGraph;
 import com.linkedin.common.EntityRelationships;
+import com.linkedin.common.EntityRelationshipsMap;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.graph.RelatedEntitiesResult;
 import com.linkedin.metadata.graph.GraphService;
+import com.linkedin.metadata.graph.TraversalResult;
 import com.linkedin.metadata.query.CriterionArray;
 import com.linkedin.metadata.query.Filter;
 import com.linkedin.metadata.query.RelationshipDirection;
+import com.linkedin.metadata.restli.RestliPool;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiServiceException;
 import com.linkedin.restli.server.UpdateResponse;
+import com.linkedin.restli.server.annotations.Action;
+import com.linkedin.restli.server.annotations.ActionParam;
 import com.linkedin.restli.server.annotations.Optional;
 import com.linkedin.restli.server.annotations.QueryParam;
 import com.linkedin.restli.server.annotations.RestLiSimpleResource;
@@ -28,7 +38,9 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import java.net.URISyntaxException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.linkedin.metadata.dao.Neo4jUtil.*;
@@ -43,6 +55,12 @@ public final class Relationships extends SimpleResourceTemplate<EntityRelationsh
 
     private static final Filter EMPTY_FILTER = new Filter().setCriteria(new CriterionArray());
     private static final Integer MAX_DOWNSTREAM_CNT = 100;
+    private static final String ACTION_TRAVERSE = "traverse";
+    private static final String ACTION_BATCH_GET = "batchGet";
+    static final int DEFAULT_MAX_HOPS = 1;
+    static final int MAX_HOPS = 10;
+    static final int MAX_NODES = 10000;
+    static final int MAX_EDGES = 10000;
 
     @Inject
     @Named("graphService")
@@ -98,27 +116,117 @@ public final class Relationships extends SimpleResourceTemplate<EntityRelationsh
                 direction,
                 start,
                 count);
-            final EntityRelationshipArray entityArray = new EntityRelationshipArray(
-                    relatedEntitiesResult.getEntities().stream().map(
-                        entity -> {
-                            try {
-                                return new EntityRelationship()
-                                    .setEntity(Urn.createFromString(entity.getUrn()))
-                                    .setType(entity.getRelationshipType());
-                            } catch (URISyntaxException e) {
-                                throw new RuntimeException(
-                                    String.format("Failed to convert urnStr %s found in the Graph to an Urn object", entity.getUrn()));
-                            }
+            return toEntityRelationships(relatedEntitiesResult);
+        }, MetricRegistry.name(this.getClass(), "getLineage"), RestliPool.READ);
+    }
+
+    /**
+     * Fetches the relationships of many urns with a single graph query. Results are paged per urn.
+     */
+    @Nonnull
+    @Action(name = ACTION_BATCH_GET)
+    @WithSpan
+    public Task<BatchEntityRelationships> batchGet(
+            @ActionParam("urns") @Nonnull String[] rawUrns,
+            @ActionParam("types") @Nonnull String[] relationshipTypesParam,
+            @ActionParam("direction") @Nonnull String rawDirection,
+            @ActionParam("start") @Optional @Nullable Integer start,
+            @ActionParam("count") @Optional @Nullable Integer count
+    ) {
+        final RelationshipDirection direction = RelationshipDirection.valueOf(rawDirection);
+        final List<String> relationshipTypes = Arrays.asList(relationshipTypesParam);
+        return RestliUtil.toTask(() -> {
+            final Map<Urn, RelatedEntitiesResult> relatedEntitiesResults = _graphService.batchFindRelatedEntities(
+                toUrns(rawUrns),
+                relationshipTypes,
+                createRelationshipFilter(EMPTY_FILTER, direction),
+                start == null ? 0 : start,
+                count == null ? MAX_DOWNSTREAM_CNT : count);
+
+            final EntityRelationshipsMap results = new EntityRelationshipsMap();
+            relatedEntitiesResults.forEach((urn, relatedEntitiesResult) ->
+                results.put(urn.toString(), toEntityRelationships(relatedEntitiesResult)));
+            return new BatchEntityRelationships().setResults(results);
+        }, MetricRegistry.name(this.getClass(), ACTION_BATCH_GET), RestliPool.READ);
+    }
+
+    /**
+     * Expands up to maxHops hops from all of the given urns in one call, following outgoingTypes along outgoing edges
+     * and incomingTypes along incoming edges.
+     */
+    @Nonnull
+    @Action(name = ACTION_TRAVERSE)
+    @WithSpan
+    public Task<EntityRelationshipGraph> traverse(
+            @ActionParam("urns") @Nonnull String[] rawUrns,
+            @ActionParam("outgoingTypes") @Optional @Nullable String[] outgoingTypes,
+            @ActionParam("incomingTypes") @Optional @Nullable String[] incomingTypes,
+            @ActionParam("maxHops") @Optional @Nullable Integer maxHops,
+            @ActionParam("maxNodes") @Optional @Nullable Integer maxNodes,
+            @ActionParam("maxEdges") @Optional @Nullable Integer maxEdges
+    ) {
+        return RestliUtil.toTask(() -> toEntityRelationshipGraph(_graphService.traverse(
+            toUrns(rawUrns),
+            outgoingTypes == null ? Collections.emptyList() : Arrays.asList(outgoingTypes),
+            incomingTypes == null ? Collections.emptyList() : Arrays.asList(incomingTypes),
+            Math.min(maxHops == null ? DEFAULT_MAX_HOPS : maxHops, MAX_HOPS),
+            Math.min(maxNodes == null ? MAX_NODES : maxNodes, MAX_NODES),
+            Math.min(maxEdges == null ? MAX_EDGES : maxEdges, MAX_EDGES))),
+            MetricRegistry.name(this.getClass(), ACTION_TRAVERSE), RestliPool.READ);
+    }
+
+    private static EntityRelationships toEntityRelationships(@Nonnull RelatedEntitiesResult relatedEntitiesResult) {
+        final EntityRelationshipArray entityArray = new EntityRelationshipArray(
+                relatedEntitiesResult.getEntities().stream().map(
+                    entity -> {
+                        try {
+                            return new EntityRelationship()
+                                .setEntity(Urn.createFromString(entity.getUrn()))
+                                .setType(entity.getRelationshipType());
+                        } catch (URISyntaxException e) {
+                            throw new RuntimeException(
+                                String.format("Failed to convert urnStr %s found in the Graph to an Urn object", entity.getUrn()));
                         }
-                    ).collect(Collectors.toList())
-            );
-
-            return new EntityRelationships()
-                .setStart(relatedEntitiesResult.getStart())
-                .setCount(relatedEntitiesResult.getCount())
-                .setTotal(relatedEntitiesResult.getTotal())
-                .setRelationships(entityArray);
-        }, MetricRegistry.name(this.getClass(), "getLineage"));
+                    }
+                ).collect(Collectors.toList())
+        );
+
+        return new EntityRelationships()
+            .setStart(relatedEntitiesResult.getStart())
+            .setCount(relatedEntitiesResult.getCount())
+            .setTotal(relatedEntitiesResult.getTotal())
+            .setRelationships(entityArray);
+    }
+
+    static List<Urn> toUrns(@Nonnull String[] rawUrns) {
+        return Arrays.stream(rawUrns).map(rawUrn -> {
+            try {
+                return Urn.createFromString(rawUrn);
+            } catch (URISyntaxException e) {
+                throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, String.format("Invalid urn %s", rawUrn));
+            }
+        }).collect(Collectors.toList());
+    }
+
+    static EntityRelationshipGraph toEntityRelationshipGraph(@Nonnull TraversalResult traversalResult) {
+        final EntityRelationshipEdgeArray edges = new EntityRelationshipEdgeArray(
+            traversalResult.getEdges().stream().map(edge -> {
+                try {
+                    return new EntityRelationshipEdge()
+                        .setSource(Urn.createFromString(edge.getSourceUrn()))
+                        .setEntity(Urn.createFromString(edge.getRelatedUrn()))
+                        .setType(edge.getRelationshipType())
+                        .setHop(edge.getHop());
+                } catch (URISyntaxException e) {
+                    throw new RuntimeException(
+                        String.format("Failed to convert urnStr %s found in the Graph to an Urn object", edge.getRelatedUrn()));
+                }
+            }).collect(Collectors.toList()));
+
+        return new EntityRelationshipGraph()
+            .setEdges(edges)
+            .setNodeCount(traversalResult.getNodeCount())
+            .setTruncated(traversalResult.isTruncated());
     }
 
     @Nonnull
@@ -5,6 +5,7 @@ import com.linkedin.common.WindowDuration;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.SetMode;
 import com.linkedin.metadata.usage.UsageService;
+import com.linkedin.metadata.restli.RestliPool;
 import com.linkedin.metadata.restli.RestliUtil;
 import com.linkedin.parseq.Task;
 import com.linkedin.restli.server.annotations.Action;
@@ -66,7 +67,7 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
                 this.ingest(agg);
             }
             return null;
-        }, MetricRegistry.name(this.getClass(), "batchIngest"));
+        }, MetricRegistry.name(this.getClass(), "batchIngest"), RestliPool.WRITE);
     }
 
     @Action(name = ACTION_QUERY)
@@ -154,7 +155,7 @@ public class UsageStats extends SimpleResourceTemplate<UsageAggregation> {
             return new UsageQueryResult()
                     .setBuckets(buckets)
                     .setAggregations(aggregations);
-        }, MetricRegistry.name(this.getClass(), "query"));
+        }, MetricRegistry.name(this.getClass(), "query"), RestliPool.ADMIN);
     }
 
     @Action(name = ACTION_QUERY_RANGE)
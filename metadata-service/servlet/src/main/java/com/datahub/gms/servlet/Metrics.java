@@ -0,0 +1,15 @@
+package com.datahub.gms.servlet;
+
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.prometheus.client.exporter.MetricsServlet;
+import javax.servlet.ServletException;
+
+// Exposes the shared metric registry in the Prometheus text format
+public class Metrics extends MetricsServlet {
+  @Override
+  public void init() throws ServletException {
+    // Loading MetricUtils registers the shared registry with the default Prometheus collector registry
+    MetricUtils.get();
+    super.init();
+  }
+}
@@ -0,0 +1,77 @@
+package com.linkedin.metadata.utils;
+
+import com.datahub.test.BrowsePaths;
+import com.datahub.test.KeyPartEnum;
+import com.datahub.test.TestEntityInfo;
+import com.datahub.test.TestEntityKey;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpecBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Compares reading 10k mixed aspects through the template constructor cached on the {@link AspectSpec} against looking
+ * up the template class of each aspect as it is read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GenericAspectUtilsBenchmark {
+
+  private static final int NUM_ASPECTS = 10000;
+
+  private final List<AspectSpec> _aspectSpecs = new ArrayList<>();
+  private final List<String> _jsonAspects = new ArrayList<>();
+
+  @Setup
+  public void setup() throws Exception {
+    final List<RecordTemplate> aspects = Arrays.asList(
+        new TestEntityKey().setKeyPart1("part1")
+            .setKeyPart2(Urn.createFromString("urn:li:testEntity2:part2"))
+            .setKeyPart3(KeyPartEnum.VALUE_1),
+        new TestEntityInfo().setTextField("text").setTextArrayField(new StringArray("a", "b")),
+        new BrowsePaths().setPaths(new StringArray("/prod/kafka", "/prod/hive")));
+    final List<AspectSpec> distinctSpecs = new ArrayList<>();
+    for (RecordTemplate aspect : aspects) {
+      distinctSpecs.add(new EntitySpecBuilder().buildAspectSpec(aspect.schema()));
+    }
+    for (int i = 0; i < NUM_ASPECTS; i++) {
+      _aspectSpecs.add(distinctSpecs.get(i % aspects.size()));
+      _jsonAspects.add(RecordUtils.toJsonString(aspects.get(i % aspects.size())));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_ASPECTS)
+  public void cachedSpec(Blackhole blackhole) {
+    for (int i = 0; i < NUM_ASPECTS; i++) {
+      blackhole.consume(GenericAspectUtils.deserializeAspect(_jsonAspects.get(i), _aspectSpecs.get(i)));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_ASPECTS)
+  public void classLookupPerRead(Blackhole blackhole) throws ClassNotFoundException {
+    for (int i = 0; i < NUM_ASPECTS; i++) {
+      blackhole.consume(RecordUtils.toRecordTemplate(
+          Class.forName(_aspectSpecs.get(i).getPegasusSchema().getFullName()).asSubclass(RecordTemplate.class),
+          _jsonAspects.get(i)));
+    }
+  }
+}
@@ -20,6 +20,7 @@ public class Constants {
    * Aspects
    */
   public static final String OWNERSHIP_ASPECT_NAME = "ownership";
+  public static final String BROWSE_PATHS_ASPECT_NAME = "browsePaths";
 
   private Constants() { }
 }
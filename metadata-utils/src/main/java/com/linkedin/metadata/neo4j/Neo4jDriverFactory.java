@@ -1,7 +1,13 @@
 package com.linkedin.metadata.neo4j;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.function.ToLongFunction;
 import javax.annotation.Nonnull;
 import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.ConnectionPoolMetrics;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
 
@@ -12,6 +18,34 @@ public class Neo4jDriverFactory {
   }
 
   public static Driver createInstance(@Nonnull String uri, @Nonnull String username, @Nonnull String password) {
-    return GraphDatabase.driver(uri, AuthTokens.basic(username, password));
+    final Driver driver =
+        GraphDatabase.driver(uri, AuthTokens.basic(username, password), Config.builder().withDriverMetrics().build());
+    registerPoolMetrics(driver);
+    return driver;
+  }
+
+  /**
+   * Registers gauges of the connection pools of a driver created with driver metrics enabled, summed over the pools
+   * of all the servers it connects to: the connections in use, idle and being acquired, the acquisitions that timed
+   * out, and the mean time taken to acquire a connection.
+   */
+  public static void registerPoolMetrics(@Nonnull Driver driver) {
+    final MetricRegistry registry = MetricUtils.get();
+    registry.gauge(MetricRegistry.name(Neo4jDriverFactory.class, "pool", "inUse"),
+        () -> (Gauge<Long>) () -> sum(driver, ConnectionPoolMetrics::inUse));
+    registry.gauge(MetricRegistry.name(Neo4jDriverFactory.class, "pool", "idle"),
+        () -> (Gauge<Long>) () -> sum(driver, ConnectionPoolMetrics::idle));
+    registry.gauge(MetricRegistry.name(Neo4jDriverFactory.class, "pool", "acquiring"),
+        () -> (Gauge<Long>) () -> sum(driver, ConnectionPoolMetrics::acquiring));
+    registry.gauge(MetricRegistry.name(Neo4jDriverFactory.class, "pool", "timedOutToAcquire"),
+        () -> (Gauge<Long>) () -> sum(driver, ConnectionPoolMetrics::timedOutToAcquire));
+    registry.gauge(MetricRegistry.name(Neo4jDriverFactory.class, "pool", "meanAcquisitionTimeMs"), () -> (Gauge<Double>) () -> {
+      final long acquired = sum(driver, ConnectionPoolMetrics::acquired);
+      return acquired == 0 ? 0.0 : (double) sum(driver, ConnectionPoolMetrics::totalAcquisitionTime) / acquired;
+    });
+  }
+
+  private static long sum(@Nonnull Driver driver, @Nonnull ToLongFunction<ConnectionPoolMetrics> metric) {
+    return driver.metrics().connectionPoolMetrics().stream().mapToLong(metric).sum();
   }
 }
@@ -0,0 +1,90 @@
+package com.linkedin.metadata.restli;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.util.Configuration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Holds the bounded executors backing each {@link RestliPool}.
+ *
+ * Pool sizes are read from the RESTLI_[POOL]_POOL_THREADS and RESTLI_[POOL]_POOL_QUEUE_SIZE environment variables, e.g.
+ * RESTLI_READ_POOL_THREADS. Once a pool's threads are busy and its queue is full, new work is rejected with a
+ * {@link java.util.concurrent.RejectedExecutionException} instead of queueing without bound. Each pool publishes
+ * active, queued, pool size and rejected metrics under restli.pool.[pool].
+ */
+@Slf4j
+public class RestliExecutors {
+
+  private static final String METRIC_PREFIX = "restli.pool";
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private static final Map<RestliPool, ThreadPoolExecutor> EXECUTORS = new EnumMap<>(RestliPool.class);
+
+  static {
+    for (RestliPool pool : RestliPool.values()) {
+      EXECUTORS.put(pool, createExecutor(pool));
+    }
+  }
+
+  private RestliExecutors() {
+  }
+
+  @Nonnull
+  public static Executor get(@Nonnull RestliPool pool) {
+    return EXECUTORS.get(pool);
+  }
+
+  @Nonnull
+  private static ThreadPoolExecutor createExecutor(@Nonnull RestliPool pool) {
+    final String envPrefix = "RESTLI_" + pool.name().toUpperCase(Locale.ROOT) + "_POOL_";
+    final int threads = Integer.parseInt(
+        Configuration.getEnvironmentVariable(envPrefix + "THREADS", String.valueOf(pool.getDefaultThreads())));
+    final int queueSize = Integer.parseInt(
+        Configuration.getEnvironmentVariable(envPrefix + "QUEUE_SIZE", String.valueOf(pool.getDefaultQueueSize())));
+    log.info("Creating Rest.li {} pool with {} threads and a queue of {}", pool.getName(), threads, queueSize);
+
+    final String metricName = MetricRegistry.name(METRIC_PREFIX, pool.getName());
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(queueSize), new NamedThreadFactory("restli-" + pool.getName()),
+        (runnable, rejectingExecutor) -> {
+          MetricUtils.counter(MetricRegistry.name(metricName, "rejected")).inc();
+          new ThreadPoolExecutor.AbortPolicy().rejectedExecution(runnable, rejectingExecutor);
+        });
+    executor.allowCoreThreadTimeOut(true);
+
+    final MetricRegistry registry = MetricUtils.get();
+    registry.register(MetricRegistry.name(metricName, "active"), (Gauge<Integer>) executor::getActiveCount);
+    registry.register(MetricRegistry.name(metricName, "queued"), (Gauge<Integer>) () -> executor.getQueue().size());
+    registry.register(MetricRegistry.name(metricName, "poolSize"), (Gauge<Integer>) executor::getPoolSize);
+    return executor;
+  }
+
+  private static class NamedThreadFactory implements ThreadFactory {
+    private final String _prefix;
+    private final AtomicInteger _count = new AtomicInteger();
+
+    private NamedThreadFactory(@Nonnull String prefix) {
+      _prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(@Nonnull Runnable runnable) {
+      final Thread thread = new Thread(runnable, _prefix + "-" + _count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.linkedin.metadata.restli;
+
+/**
+ * Bounded executor pools that Rest.li resources offload their blocking work to. Each kind of request gets its own pool,
+ * so that a burst of slow admin calls cannot starve reads or ingestion.
+ */
+public enum RestliPool {
+  /**
+   * Entity, aspect, search, browse and graph reads.
+   */
+  READ("read", 32, 512),
+  /**
+   * Ingestion and other writes.
+   */
+  WRITE("write", 16, 256),
+  /**
+   * Long running or administrative operations, e.g. rollback and usage aggregation queries.
+   */
+  ADMIN("admin", 4, 16);
+
+  private final String _name;
+  private final int _defaultThreads;
+  private final int _defaultQueueSize;
+
+  RestliPool(String name, int defaultThreads, int defaultQueueSize) {
+    _name = name;
+    _defaultThreads = defaultThreads;
+    _defaultQueueSize = defaultQueueSize;
+  }
+
+  public String getName() {
+    return _name;
+  }
+
+  public int getDefaultThreads() {
+    return _defaultThreads;
+  }
+
+  public int getDefaultQueueSize() {
+    return _defaultQueueSize;
+  }
+}
@@ -4,9 +4,11 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.parseq.Task;
+import com.linkedin.parseq.function.Failure;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.server.RestLiServiceException;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -29,17 +31,7 @@ public class RestliUtil {
     try {
       return Task.value(supplier.get());
     } catch (Throwable throwable) {
-
-      // Convert IllegalArgumentException to BAD REQUEST
-      if (throwable instanceof IllegalArgumentException || throwable.getCause() instanceof IllegalArgumentException) {
-        throwable = badRequestException(throwable.getMessage());
-      }
-
-      if (throwable instanceof RestLiServiceException) {
-        throw (RestLiServiceException) throwable;
-      }
-
-      throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR, throwable);
+      throw toRestLiServiceException(throwable);
     }
   }
 
@@ -47,7 +39,29 @@ public class RestliUtil {
   public static <T> Task<T> toTask(@Nonnull Supplier<T> supplier, String metricName) {
     Timer.Context context = MetricUtils.timer(metricName).time();
     // Stop timer on success and failure
-    return toTask(supplier).transform(orig -> {
+    return timed(toTask(supplier), context, metricName);
+  }
+
+  /**
+   * Asynchronous variant of {@link #toTask(Supplier, String)}. Rather than running the supplier on the calling
+   * (servlet container) thread, the returned {@link Task} runs it on the bounded executor of the given {@link RestliPool}.
+   * When that pool is saturated the task fails with a 503 so that callers back off instead of piling up.
+   * @param supplier The supplier to execute
+   * @param metricName The name of the timer and success / failure counters
+   * @param pool The pool to execute the supplier on
+   * @return A parseq {@link Task}
+   */
+  @Nonnull
+  public static <T> Task<T> toTask(@Nonnull Supplier<T> supplier, String metricName, @Nonnull RestliPool pool) {
+    Timer.Context context = MetricUtils.timer(metricName).time();
+    final Task<T> task = Task.blocking(metricName, supplier::get, RestliExecutors.get(pool))
+        .transform(result -> result.isFailed() ? Failure.of(toRestLiServiceException(result.getError())) : result);
+    return timed(task, context, metricName);
+  }
+
+  @Nonnull
+  private static <T> Task<T> timed(@Nonnull Task<T> task, @Nonnull Timer.Context context, String metricName) {
+    return task.transform(orig -> {
       context.stop();
       if (orig.isFailed()) {
         MetricUtils.counter(MetricRegistry.name(metricName, "failed")).inc();
@@ -58,6 +72,25 @@ public class RestliUtil {
     });
   }
 
+  @Nonnull
+  private static RestLiServiceException toRestLiServiceException(@Nonnull Throwable throwable) {
+    // Convert IllegalArgumentException to BAD REQUEST
+    if (throwable instanceof IllegalArgumentException || throwable.getCause() instanceof IllegalArgumentException) {
+      throwable = badRequestException(throwable.getMessage());
+    }
+
+    // Shed load when the pool the task was submitted to is saturated
+    if (throwable instanceof RejectedExecutionException) {
+      throwable = serviceUnavailableException(throwable.getMessage());
+    }
+
+    if (throwable instanceof RestLiServiceException) {
+      return (RestLiServiceException) throwable;
+    }
+
+    return new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR, throwable);
+  }
+
   /**
    * Similar to {@link #toTask(Supplier)} but the supplier is expected to return an {@link Optional} instead.
    * A {@link RestLiServiceException} with 404 HTTP status code will be thrown if the optional is emtpy.
@@ -84,6 +117,11 @@ public class RestliUtil {
     return new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST, message);
   }
 
+  @Nonnull
+  public static RestLiServiceException serviceUnavailableException(@Nullable String message) {
+    return new RestLiServiceException(HttpStatus.S_503_SERVICE_UNAVAILABLE, message);
+  }
+
   @Nonnull
   public static RestLiServiceException invalidArgumentsException(@Nullable String message) {
     return new RestLiServiceException(HttpStatus.S_412_PRECONDITION_FAILED, message);
@@ -1,10 +1,14 @@
 package com.linkedin.metadata.utils;
 
 import com.linkedin.data.ByteString;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.dao.exception.ModelConversionException;
 import com.linkedin.metadata.dao.utils.RecordUtils;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.mxe.GenericAspect;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import javax.annotation.Nonnull;
 
@@ -12,6 +16,8 @@ import javax.annotation.Nonnull;
 public class GenericAspectUtils {
   public static final String JSON = "application/json";
 
+  private static final JacksonDataCodec CODEC = new JacksonDataCodec();
+
   private GenericAspectUtils() {
   }
 
@@ -21,8 +27,29 @@ public class GenericAspectUtils {
   @Nonnull
   public static RecordTemplate deserializeAspect(@Nonnull ByteString aspectValue, @Nonnull String contentType,
       @Nonnull AspectSpec aspectSpec) {
-    return deserializeAspect(aspectValue, contentType,
-        PegasusUtils.getDataTemplateClassFromSchema(aspectSpec.getPegasusSchema(), RecordTemplate.class));
+    if (!contentType.equals(JSON)) {
+      throw new IllegalArgumentException(String.format("%s content type is not supported", contentType));
+    }
+    try {
+      return aspectSpec.createDataTemplate(CODEC.readMap(aspectValue.asInputStream()));
+    } catch (IOException e) {
+      throw new ModelConversionException(String.format("Failed to deserialize aspect %s", aspectSpec.getName()), e);
+    }
+  }
+
+  /**
+   * Deserialize the given JSON string into the aspect based on the input aspectSpec, using the data template class and
+   * constructor cached on the spec
+   */
+  @Nonnull
+  public static RecordTemplate deserializeAspect(@Nonnull String jsonAspect, @Nonnull AspectSpec aspectSpec) {
+    final DataMap dataMap;
+    try {
+      dataMap = CODEC.stringToMap(jsonAspect);
+    } catch (IOException e) {
+      throw new ModelConversionException(String.format("Failed to deserialize aspect %s", aspectSpec.getName()), e);
+    }
+    return aspectSpec.createDataTemplate(dataMap);
   }
 
   @Nonnull
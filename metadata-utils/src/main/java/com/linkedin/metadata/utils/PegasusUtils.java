@@ -9,6 +9,8 @@ import com.linkedin.metadata.dao.exception.ModelConversionException;
 import com.linkedin.metadata.dao.utils.RecordUtils;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
 import com.linkedin.metadata.models.annotation.EntityAnnotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -18,6 +20,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PegasusUtils {
 
+  private static final Map<String, Class<?>> DATA_TEMPLATE_CLASSES = new ConcurrentHashMap<>();
+
   private PegasusUtils() {
   }
 
@@ -49,8 +53,14 @@ public class PegasusUtils {
   }
 
   public static <T> Class<? extends T> getDataTemplateClassFromSchema(final NamedDataSchema schema, final Class<T> clazz) {
+    final Class<?> cachedClass = DATA_TEMPLATE_CLASSES.get(schema.getFullName());
+    if (cachedClass != null) {
+      return cachedClass.asSubclass(clazz);
+    }
     try {
-      return Class.forName(schema.getFullName()).asSubclass(clazz);
+      final Class<?> templateClass = Class.forName(schema.getFullName());
+      DATA_TEMPLATE_CLASSES.put(schema.getFullName(), templateClass);
+      return templateClass.asSubclass(clazz);
     } catch (ClassNotFoundException e) {
       log.error("Unable to find class for RecordDataSchema named " + schema.getFullName() + " " + e.getMessage());
       throw new ModelConversionException("Unable to find class for RecordDataSchema named " + schema.getFullName(), e);
@@ -1,10 +1,12 @@
 package com.linkedin.metadata.utils.metrics;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.SharedMetricRegistries;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.jmx.JmxReporter;
+import io.prometheus.client.dropwizard.DropwizardExports;
 
 
 public class MetricUtils {
@@ -17,6 +19,8 @@ public class MetricUtils {
   static {
     final JmxReporter reporter = JmxReporter.forRegistry(REGISTRY).build();
     reporter.start();
+    // Timers and histograms are exposed to Prometheus scrapes as summaries with their reservoir quantiles
+    new DropwizardExports(REGISTRY).register();
   }
 
   public static MetricRegistry get() {
@@ -38,4 +42,8 @@ public class MetricUtils {
   public static Timer timer(String metricName) {
     return REGISTRY.timer(MetricRegistry.name(metricName));
   }
+
+  public static Histogram histogram(Class<?> klass, String metricName) {
+    return REGISTRY.histogram(MetricRegistry.name(klass, metricName));
+  }
 }
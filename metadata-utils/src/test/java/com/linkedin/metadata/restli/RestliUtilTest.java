@@ -0,0 +1,89 @@
+package com.linkedin.metadata.restli;
+
+import com.linkedin.parseq.Engine;
+import com.linkedin.parseq.EngineBuilder;
+import com.linkedin.parseq.Task;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Tests the asynchronous variant of {@link RestliUtil#toTask}
+ */
+public class RestliUtilTest {
+
+  private ScheduledExecutorService _scheduler;
+  private Engine _engine;
+
+  @BeforeClass
+  public void setup() {
+    _scheduler = Executors.newScheduledThreadPool(2);
+    _engine = new EngineBuilder().setTaskExecutor(_scheduler).setTimerScheduler(_scheduler).build();
+  }
+
+  @AfterClass
+  public void tearDown() {
+    _engine.shutdown();
+    _scheduler.shutdownNow();
+  }
+
+  @Test
+  public void testRunsOnPool() throws Exception {
+    final Task<String> task = RestliUtil.toTask(() -> Thread.currentThread().getName(), "test.read", RestliPool.READ);
+    _engine.run(task);
+    assertTrue(task.await(5, TimeUnit.SECONDS));
+    assertTrue(task.get().startsWith("restli-read-"));
+  }
+
+  @Test
+  public void testIllegalArgumentIsBadRequest() throws Exception {
+    final Task<String> task = RestliUtil.toTask(() -> {
+      throw new IllegalArgumentException("bad input");
+    }, "test.write", RestliPool.WRITE);
+    _engine.run(task);
+    assertTrue(task.await(5, TimeUnit.SECONDS));
+    assertTrue(task.isFailed());
+    assertEquals(((RestLiServiceException) task.getError()).getStatus(), HttpStatus.S_400_BAD_REQUEST);
+  }
+
+  @Test
+  public void testRejectedIsServiceUnavailable() throws Exception {
+    // Occupy every thread of the pool and every slot of its queue until the test is done
+    final ThreadPoolExecutor executor = (ThreadPoolExecutor) RestliExecutors.get(RestliPool.ADMIN);
+    final int capacity = executor.getMaximumPoolSize() + executor.getQueue().remainingCapacity();
+    final CountDownLatch started = new CountDownLatch(executor.getMaximumPoolSize());
+    final CountDownLatch release = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < capacity; i++) {
+        executor.execute(() -> {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      assertEquals(executor.getQueue().remainingCapacity(), 0);
+
+      final Task<String> task = RestliUtil.toTask(() -> "never run", "test.admin", RestliPool.ADMIN);
+      _engine.run(task);
+      assertTrue(task.await(5, TimeUnit.SECONDS));
+      assertTrue(task.isFailed());
+      assertEquals(((RestLiServiceException) task.getError()).getStatus(), HttpStatus.S_503_SERVICE_UNAVAILABLE);
+    } finally {
+      release.countDown();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.linkedin.metadata.utils;
+
+import com.datahub.test.BrowsePaths;
+import com.datahub.test.KeyPartEnum;
+import com.datahub.test.TestEntityInfo;
+import com.datahub.test.TestEntityKey;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.metadata.dao.utils.RecordUtils;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpecBuilder;
+import com.linkedin.mxe.GenericAspect;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Tests the capabilities of {@link GenericAspectUtils}
+ */
+public class GenericAspectUtilsTest {
+
+  @Test
+  public void testDeserializeWithAspectSpec() throws Exception {
+    final List<RecordTemplate> aspects = buildAspects();
+    for (RecordTemplate aspect : aspects) {
+      final AspectSpec aspectSpec = new EntitySpecBuilder().buildAspectSpec(aspect.schema());
+      final GenericAspect genericAspect = GenericAspectUtils.serializeAspect(aspect);
+
+      final RecordTemplate fromBytes =
+          GenericAspectUtils.deserializeAspect(genericAspect.getValue(), genericAspect.getContentType(), aspectSpec);
+      assertEquals(fromBytes.getClass(), aspect.getClass());
+      assertEquals(fromBytes, aspect);
+
+      final RecordTemplate fromString = GenericAspectUtils.deserializeAspect(RecordUtils.toJsonString(aspect), aspectSpec);
+      assertEquals(fromString.getClass(), aspect.getClass());
+      assertEquals(fromString, aspect);
+      assertEquals(aspectSpec.getDataTemplateClass(), aspect.getClass());
+    }
+  }
+
+  @Test
+  public void testDeserializeUnsupportedContentType() {
+    final BrowsePaths aspect = new BrowsePaths().setPaths(new StringArray("/prod/kafka"));
+    final AspectSpec aspectSpec = new EntitySpecBuilder().buildAspectSpec(aspect.schema());
+    assertThrows(IllegalArgumentException.class, () -> GenericAspectUtils.deserializeAspect(
+        GenericAspectUtils.serializeAspect(aspect).getValue(), "application/avro", aspectSpec));
+  }
+
+  private List<RecordTemplate> buildAspects() throws Exception {
+    final List<RecordTemplate> aspects = new ArrayList<>();
+    aspects.add(new TestEntityKey().setKeyPart1("part1")
+        .setKeyPart2(Urn.createFromString("urn:li:testEntity2:part2"))
+        .setKeyPart3(KeyPartEnum.VALUE_1));
+    aspects.add(new TestEntityInfo().setTextField("text").setTextArrayField(new StringArray("a", "b")));
+    aspects.add(new BrowsePaths().setPaths(new StringArray("/prod/kafka", "/prod/hive")));
+    return aspects;
+  }
+}